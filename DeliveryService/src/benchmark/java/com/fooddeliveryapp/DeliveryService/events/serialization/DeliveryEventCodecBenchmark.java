@@ -0,0 +1,60 @@
+package com.fooddeliveryapp.DeliveryService.events.serialization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+
+/**
+ * Compares the size and the encode+decode time of the binary envelope with JSON.
+ * Not part of the regular build; run it with mvn test -Pbenchmark
+ * (add -Dbenchmark.rounds=N to change the number of round trips).
+ */
+public class DeliveryEventCodecBenchmark {
+
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 2_000_000);
+    private static final int WARMUP_ROUNDS = ROUNDS / 4;
+
+    private final DeliveryEvent event = new DeliveryEvent(UUID.randomUUID(),
+            Instant.now().truncatedTo(ChronoUnit.MILLIS), UUID.randomUUID(), DeliveryStatus.DELIVERED);
+
+    @DisplayName("Benchmark - Binary Envelope Versus JSON")
+    @Test
+    public void benchmark_Binary_Versus_Json_Round_Trip() {
+        String legacy = "{\"orderId\":\"" + event.getOrderId() + "\",\"status\":\"" + event.getStatus() + "\"}";
+        System.out.printf("payload bytes: binary %d, json %d, legacy json %d%n", DeliveryEventCodec.encode(event).length,
+                DeliveryEventCodec.encodeJson(event).length, legacy.getBytes(StandardCharsets.UTF_8).length);
+
+        double binary = roundTripNanos(DeliveryEventCodec::encode);
+        double json = roundTripNanos(DeliveryEventCodec::encodeJson);
+        System.out.printf("encode+decode over %d round trips: binary %.1f ns, json %.1f ns%n", ROUNDS, binary, json);
+
+        assertTrue(binary < json);
+    }
+
+    // nanoseconds per round trip, after a warm-up so the JIT has compiled both paths
+    private double roundTripNanos(Function<DeliveryEvent, byte[]> encoder) {
+        run(encoder, WARMUP_ROUNDS);
+        long start = System.nanoTime();
+        run(encoder, ROUNDS);
+        return (double) (System.nanoTime() - start) / ROUNDS;
+    }
+
+    private void run(Function<DeliveryEvent, byte[]> encoder, int rounds) {
+        long checksum = 0;
+        for (int i = 0; i < rounds; i++) {
+            checksum += DeliveryEventCodec.decode(encoder.apply(event)).getStatus().ordinal();
+        }
+        // keeps the loop from being optimized away
+        assertEquals((long) rounds * event.getStatus().ordinal(), checksum);
+    }
+}
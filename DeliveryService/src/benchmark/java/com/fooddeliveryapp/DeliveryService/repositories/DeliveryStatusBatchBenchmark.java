@@ -0,0 +1,105 @@
+package com.fooddeliveryapp.DeliveryService.repositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.entities.DeliveryDetails;
+import com.fooddeliveryapp.DeliveryService.entities.OutboxEvent;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+import com.fooddeliveryapp.DeliveryService.outbox.DeliveryOutbox;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryStatusBatchRepository.StatusTransition;
+
+/**
+ * Times the batched status update against the per-entity path.
+ * Not part of the regular build; run it with mvn test -Pbenchmark
+ * (add -Dbenchmark.deliveries=N to change the number of deliveries).
+ * It runs against the in-memory H2 database, so the figures only compare the two paths with each other
+ * and say nothing about throughput against SQL Server.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({ DeliveryStatusBatchRepository.class, DeliveryOutbox.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class DeliveryStatusBatchBenchmark {
+
+    private static final int DELIVERIES = Integer.getInteger("benchmark.deliveries", 1000);
+
+    @Autowired
+    private DeliveryStatusBatchRepository statusBatchRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("Benchmark - Batched Status Update Versus Per-Entity Path On H2")
+    @Test
+    public void benchmark_Batched_Versus_Per_Entity_Status_Update() {
+        List<DeliveryDetails> perEntity = saveInProgress(DELIVERIES);
+        List<DeliveryDetails> batched = saveInProgress(DELIVERIES);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        long perEntityStarted = System.nanoTime();
+        for (DeliveryDetails delivery : perEntity) {
+            transaction.executeWithoutResult(status -> {
+                DeliveryDetails loaded = deliveryRepository.findById(delivery.getDeliveryId()).get();
+                loaded.setDeliveryStatus(DeliveryStatus.DELIVERED);
+                loaded.setDeliveredAt(LocalDateTime.now());
+                deliveryRepository.save(loaded);
+                outboxEventRepository.save(OutboxEvent.of(new DeliveryEvent(loaded.getOrderId(), DeliveryStatus.DELIVERED)));
+            });
+        }
+        long perEntityNanos = System.nanoTime() - perEntityStarted;
+
+        long batchedStarted = System.nanoTime();
+        List<StatusTransition> transitions = new ArrayList<>();
+        for (DeliveryDetails delivery : statusBatchRepository.findAllForTransition(batched.stream().map(DeliveryDetails::getDeliveryId).toList())) {
+            transitions.add(new StatusTransition(delivery.getDeliveryId(), DeliveryStatus.DELIVERED,
+                    new DeliveryEvent(delivery.getOrderId(), DeliveryStatus.DELIVERED)));
+        }
+        boolean[] applied = statusBatchRepository.applyTransitions(transitions, LocalDateTime.now());
+        long batchedNanos = System.nanoTime() - batchedStarted;
+
+        System.out.printf("changed %d deliveries on H2: per-entity %d ms (%d per second), batched %d ms (%d per second)%n",
+                DELIVERIES, perEntityNanos / 1_000_000, DELIVERIES * 1_000_000_000L / perEntityNanos,
+                batchedNanos / 1_000_000, DELIVERIES * 1_000_000_000L / batchedNanos);
+
+        assertEquals(DELIVERIES, applied.length);
+    }
+
+    private List<DeliveryDetails> saveInProgress(int count) {
+        List<DeliveryDetails> deliveries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            deliveries.add(DeliveryDetails.builder()
+                    .orderId(UUID.randomUUID())
+                    .restaurantId(UUID.randomUUID())
+                    .userId("user@gmail.com")
+                    .deliveryStatus(DeliveryStatus.IN_PROGRESS)
+                    .initiatedAt(LocalDateTime.now().minusMinutes(20))
+                    .estimatedDeliveryAt(LocalDateTime.now().plusMinutes(10))
+                    .build());
+        }
+        return deliveryRepository.saveAll(deliveries);
+    }
+}
@@ -0,0 +1,28 @@
+package com.fooddeliveryapp.DeliveryService.batching;
+
+import java.util.UUID;
+
+/**
+ * A delivery waiting in a batch for its route to be planned.
+ *
+ * @param deliveryId      The unique identifier of the delivery.
+ * @param orderId         The order being delivered.
+ * @param restaurantId    The restaurant the order is picked up from.
+ * @param pickupLatitude  Latitude of the restaurant in degrees.
+ * @param pickupLongitude Longitude of the restaurant in degrees.
+ * @param dropoffLatitude  Latitude of the customer in degrees, or null if unknown.
+ * @param dropoffLongitude Longitude of the customer in degrees, or null if unknown.
+ * @param submittedAtNanos When the delivery entered the batch, from {@link System#nanoTime()}.
+ */
+public record BatchedDelivery(UUID deliveryId, UUID orderId, UUID restaurantId,
+                              double pickupLatitude, double pickupLongitude,
+                              Double dropoffLatitude, Double dropoffLongitude,
+                              long submittedAtNanos) {
+
+    /**
+     * @return true if the drop-off location is known, so the delivery can share a route.
+     */
+    public boolean hasDropoff() {
+        return dropoffLatitude != null && dropoffLongitude != null;
+    }
+}
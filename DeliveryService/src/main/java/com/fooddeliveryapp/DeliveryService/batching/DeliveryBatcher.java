@@ -0,0 +1,160 @@
+package com.fooddeliveryapp.DeliveryService.batching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Holds new deliveries for a short window, grouped by restaurant, and turns each group into multi-drop routes.
+ *
+ * The first delivery of a restaurant opens a batch that is planned once the window has passed, or as soon as it
+ * reaches the maximum batch size. Every planned route is published as a {@link DeliveryRoute} application event,
+ * which assigns one courier to the whole route.
+ *
+ * Exposes the time deliveries wait until their route is planned and the number of stops per route as metrics.
+ */
+@Component
+@Log4j2
+public class DeliveryBatcher {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final RoutePlanner routePlanner;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService executor;
+    private final Map<UUID, PendingBatch> pending = new ConcurrentHashMap<>();
+
+    private final Timer formationTimer;
+    private final DistributionSummary stopsSummary;
+
+    @Autowired
+    public DeliveryBatcher(ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry,
+                           @Value("${delivery.batching.window-ms:5000}") long windowMs,
+                           @Value("${delivery.batching.max-batch-size:50}") int maxBatchSize,
+                           @Value("${delivery.batching.max-stops:3}") int maxStops,
+                           @Value("${delivery.batching.max-leg-meters:3000}") double maxLegMeters,
+                           @Value("${delivery.batching.planning-budget-ms:5}") long planningBudgetMs) {
+        this.eventPublisher = eventPublisher;
+        this.routePlanner = new RoutePlanner(maxStops, maxLegMeters, TimeUnit.MILLISECONDS.toNanos(planningBudgetMs));
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "delivery-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.formationTimer = Timer.builder("delivery.batch.formation").register(meterRegistry);
+        this.stopsSummary = DistributionSummary.builder("delivery.route.stops").register(meterRegistry);
+    }
+
+    private static final class PendingBatch {
+        private final List<BatchedDelivery> deliveries = new ArrayList<>();
+        private final AtomicBoolean flushed = new AtomicBoolean();
+        private ScheduledFuture<?> scheduledFlush;
+    }
+
+    /**
+     * @return true if deliveries are batched, false if the window is set to 0.
+     */
+    public boolean isEnabled() {
+        return windowMs > 0;
+    }
+
+    /**
+     * Adds a delivery to the open batch of its restaurant, opening a new batch if there is none.
+     *
+     * @param delivery The delivery to batch.
+     */
+    public void submit(BatchedDelivery delivery) {
+        UUID restaurantId = delivery.restaurantId();
+
+        pending.compute(restaurantId, (id, batch) -> {
+            if (batch == null) {
+                PendingBatch opened = new PendingBatch();
+                opened.scheduledFlush = executor.schedule(() -> flush(id, opened), windowMs, TimeUnit.MILLISECONDS);
+                batch = opened;
+            }
+            batch.deliveries.add(delivery);
+
+            if (batch.deliveries.size() >= maxBatchSize) {
+                PendingBatch full = batch;
+                full.scheduledFlush.cancel(false);
+                executor.execute(() -> flush(id, full));
+                return null;
+            }
+            return batch;
+        });
+    }
+
+    /**
+     * Removes a delivery from its batch if its route has not been planned yet.
+     *
+     * @param restaurantId The restaurant of the delivery.
+     * @param deliveryId   The delivery to remove.
+     */
+    public void cancel(UUID restaurantId, UUID deliveryId) {
+        pending.computeIfPresent(restaurantId, (id, batch) -> {
+            batch.deliveries.removeIf(delivery -> delivery.deliveryId().equals(deliveryId));
+            return batch;
+        });
+    }
+
+    private void flush(UUID restaurantId, PendingBatch batch) {
+        // once removed from the map, no submit or cancel can touch the batch anymore
+        pending.remove(restaurantId, batch);
+        if (!batch.flushed.compareAndSet(false, true) || batch.deliveries.isEmpty()) {
+            return;
+        }
+
+        BatchedDelivery first = batch.deliveries.get(0);
+        List<List<BatchedDelivery>> routes;
+        try {
+            routes = routePlanner.plan(first.pickupLatitude(), first.pickupLongitude(), batch.deliveries);
+        } catch (RuntimeException e) {
+            log.error("Planning routes for restaurant {} failed, dispatching deliveries one by one: {}", restaurantId, e.getMessage());
+            routes = batch.deliveries.stream().map(List::of).toList();
+        }
+
+        long now = System.nanoTime();
+        for (List<BatchedDelivery> stops : routes) {
+            stops.forEach(stop -> formationTimer.record(now - stop.submittedAtNanos(), TimeUnit.NANOSECONDS));
+            stopsSummary.record(stops.size());
+
+            try {
+                eventPublisher.publishEvent(new DeliveryRoute(UUID.randomUUID(), restaurantId,
+                        first.pickupLatitude(), first.pickupLongitude(), stops));
+            } catch (RuntimeException e) {
+                log.error("Dispatching a route of restaurant {} failed: {}", restaurantId, e.getMessage());
+            }
+        }
+        log.info("Planned {} route(s) for {} deliveries of restaurant {}.", routes.size(), batch.deliveries.size(), restaurantId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        if (!pending.isEmpty()) {
+            log.warn("Shutting down with {} unplanned batch(es); their deliveries stay without a courier.", pending.size());
+        }
+    }
+}
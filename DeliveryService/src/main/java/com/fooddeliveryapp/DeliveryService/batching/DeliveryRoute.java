@@ -0,0 +1,18 @@
+package com.fooddeliveryapp.DeliveryService.batching;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A planned multi-drop route: one courier picks up every order at the restaurant and drops them off in the given order.
+ * Published as an application event once a batch has been planned.
+ *
+ * @param routeId         The unique identifier of the route; couriers are assigned to the route under this ID.
+ * @param restaurantId    The restaurant all orders are picked up from.
+ * @param pickupLatitude  Latitude of the restaurant in degrees.
+ * @param pickupLongitude Longitude of the restaurant in degrees.
+ * @param stops           The deliveries in drop-off order.
+ */
+public record DeliveryRoute(UUID routeId, UUID restaurantId, double pickupLatitude, double pickupLongitude,
+                            List<BatchedDelivery> stops) {
+}
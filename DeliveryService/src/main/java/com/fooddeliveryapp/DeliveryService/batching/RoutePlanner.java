@@ -0,0 +1,171 @@
+package com.fooddeliveryapp.DeliveryService.batching;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fooddeliveryapp.DeliveryService.geo.GeoUtils;
+
+/**
+ * Splits the deliveries of one restaurant into multi-drop routes.
+ *
+ * The drop-offs are first ordered into a single path starting at the restaurant with the nearest-neighbour heuristic,
+ * and the path is then improved with 2-opt moves until no move shortens it or the compute budget is spent. The path is
+ * finally cut into routes of at most the maximum number of stops, also cutting wherever the next drop-off is farther
+ * than the maximum leg, so deliveries to different parts of town are not merged. Deliveries without a drop-off
+ * location get a route of their own.
+ */
+public class RoutePlanner {
+
+    private final int maxStops;
+    private final double maxLegMeters;
+    private final long budgetNanos;
+
+    /**
+     * @param maxStops     The maximum number of drop-offs per route.
+     * @param maxLegMeters The maximum distance between two consecutive drop-offs of a route.
+     * @param budgetNanos  The time the 2-opt improvement may take for one batch.
+     */
+    public RoutePlanner(int maxStops, double maxLegMeters, long budgetNanos) {
+        this.maxStops = maxStops;
+        this.maxLegMeters = maxLegMeters;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Plans the routes for a batch of deliveries from one restaurant.
+     *
+     * @param pickupLatitude  Latitude of the restaurant in degrees.
+     * @param pickupLongitude Longitude of the restaurant in degrees.
+     * @param deliveries      The deliveries of the batch.
+     * @return The routes, each listing its deliveries in drop-off order.
+     */
+    public List<List<BatchedDelivery>> plan(double pickupLatitude, double pickupLongitude, List<BatchedDelivery> deliveries) {
+        long deadline = System.nanoTime() + budgetNanos;
+        List<List<BatchedDelivery>> routes = new ArrayList<>();
+        List<BatchedDelivery> located = new ArrayList<>();
+
+        for (BatchedDelivery delivery : deliveries) {
+            if (delivery.hasDropoff()) {
+                located.add(delivery);
+            } else {
+                routes.add(List.of(delivery));
+            }
+        }
+        if (located.isEmpty()) {
+            return routes;
+        }
+
+        double[][] distances = distances(pickupLatitude, pickupLongitude, located);
+        int[] path = nearestNeighbourPath(distances);
+        improve(path, distances, deadline);
+
+        List<BatchedDelivery> route = new ArrayList<>();
+        for (int i = 1; i < path.length; i++) {
+            boolean legTooLong = !route.isEmpty() && distances[path[i - 1]][path[i]] > maxLegMeters;
+            if (route.size() == maxStops || legTooLong) {
+                routes.add(route);
+                route = new ArrayList<>();
+            }
+            route.add(located.get(path[i] - 1));
+        }
+        routes.add(route);
+        return routes;
+    }
+
+    /**
+     * Calculates the length of an open path through the given points.
+     *
+     * @param path      Indexes into the distance matrix, starting with the restaurant at index 0.
+     * @param distances The distance matrix.
+     * @return The length in meters.
+     */
+    static double length(int[] path, double[][] distances) {
+        double length = 0;
+        for (int i = 1; i < path.length; i++) {
+            length += distances[path[i - 1]][path[i]];
+        }
+        return length;
+    }
+
+    static double[][] distances(double pickupLatitude, double pickupLongitude, List<BatchedDelivery> located) {
+        int n = located.size() + 1;
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        latitudes[0] = pickupLatitude;
+        longitudes[0] = pickupLongitude;
+        for (int i = 1; i < n; i++) {
+            latitudes[i] = located.get(i - 1).dropoffLatitude();
+            longitudes[i] = located.get(i - 1).dropoffLongitude();
+        }
+
+        double[][] distances = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double distance = GeoUtils.distanceMeters(latitudes[i], longitudes[i], latitudes[j], longitudes[j]);
+                distances[i][j] = distance;
+                distances[j][i] = distance;
+            }
+        }
+        return distances;
+    }
+
+    static int[] nearestNeighbourPath(double[][] distances) {
+        int n = distances.length;
+        int[] path = new int[n];
+        boolean[] visited = new boolean[n];
+        visited[0] = true;
+
+        for (int i = 1; i < n; i++) {
+            int previous = path[i - 1];
+            int next = -1;
+            for (int candidate = 1; candidate < n; candidate++) {
+                if (!visited[candidate] && (next == -1 || distances[previous][candidate] < distances[previous][next])) {
+                    next = candidate;
+                }
+            }
+            path[i] = next;
+            visited[next] = true;
+        }
+        return path;
+    }
+
+    /**
+     * Applies improving 2-opt moves to an open path that starts at index 0, until none is left or the deadline passes.
+     *
+     * @return true if the path is 2-opt optimal, false if the budget ran out first.
+     */
+    static boolean improve(int[] path, double[][] distances, long deadline) {
+        int last = path.length - 1;
+        boolean improved = true;
+
+        while (improved) {
+            improved = false;
+            for (int i = 1; i < last; i++) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                for (int j = i + 1; j <= last; j++) {
+                    int a = path[i - 1];
+                    int b = path[i];
+                    int c = path[j];
+                    // the path is open, so reversing up to the last stop only replaces one edge
+                    double removed = distances[a][b] + (j < last ? distances[c][path[j + 1]] : 0);
+                    double added = distances[a][c] + (j < last ? distances[b][path[j + 1]] : 0);
+                    if (added < removed - 1e-6) {
+                        reverse(path, i, j);
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void reverse(int[] path, int from, int to) {
+        while (from < to) {
+            int tmp = path[from];
+            path[from++] = path[to];
+            path[to--] = tmp;
+        }
+    }
+}
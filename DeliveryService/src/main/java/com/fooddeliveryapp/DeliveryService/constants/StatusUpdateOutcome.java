@@ -0,0 +1,12 @@
+package com.fooddeliveryapp.DeliveryService.constants;
+
+/**
+ * Represents the outcome of one status change in a bulk status update.
+ */
+public enum StatusUpdateOutcome {
+	UPDATED,
+	NOT_FOUND,
+	NOT_IN_PROGRESS,
+	INVALID_STATUS,
+	DUPLICATE
+}
@@ -0,0 +1,79 @@
+package com.fooddeliveryapp.DeliveryService.controllers;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fooddeliveryapp.DeliveryService.models.CourierPositionRequest;
+import com.fooddeliveryapp.DeliveryService.models.CourierResponse;
+import com.fooddeliveryapp.DeliveryService.services.ICourierService;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+@RestController
+@RequestMapping("/couriers")
+public class CourierController {
+    @Autowired
+    private ICourierService courierService;
+    
+    /**
+     * Endpoint for couriers to report their current position.
+     * 
+     * @param courierId The unique identifier of the courier.
+     * @param positionRequest The request body containing the current position of the courier.
+     * @return A ResponseEntity with HTTP status code 200 (OK) once the position has been recorded.
+     */
+    @PutMapping("/{courierId}/position")
+    public ResponseEntity<Void> updatePosition(@PathVariable UUID courierId,
+                                               @RequestBody @Valid CourierPositionRequest positionRequest) {
+        courierService.updatePosition(courierId, positionRequest);
+        
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+    
+    /**
+     * Endpoint for couriers to stop receiving new deliveries.
+     * 
+     * @param courierId The unique identifier of the courier.
+     * @return A ResponseEntity with HTTP status code 200 (OK) once the courier has been taken offline.
+     */
+    @DeleteMapping("/{courierId}")
+    public ResponseEntity<Void> goOffline(@PathVariable UUID courierId) {
+        courierService.goOffline(courierId);
+        
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+    
+    /**
+     * Endpoint to find the available couriers closest to a location, e.g. a restaurant.
+     * 
+     * @param latitude Latitude of the location in degrees.
+     * @param longitude Longitude of the location in degrees.
+     * @param limit The maximum number of couriers to return (1-50, default 5).
+     * @return A ResponseEntity containing the closest available couriers and HTTP status code 200 (OK).
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<List<CourierResponse>> getNearestCouriers(
+            @RequestParam @DecimalMin("-90.0") @DecimalMax("90.0") double latitude,
+            @RequestParam @DecimalMin("-180.0") @DecimalMax("180.0") double longitude,
+            @RequestParam(defaultValue = "5") @Min(1) @Max(50) int limit) {
+        List<CourierResponse> couriers = courierService.findNearestAvailable(latitude, longitude, limit);
+        
+        return new ResponseEntity<>(couriers, HttpStatus.OK);
+    }
+}
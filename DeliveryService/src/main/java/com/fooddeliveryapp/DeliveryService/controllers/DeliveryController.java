@@ -6,12 +6,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fooddeliveryapp.DeliveryService.models.BulkStatusUpdateRequest;
+import com.fooddeliveryapp.DeliveryService.models.BulkStatusUpdateResponse;
 import com.fooddeliveryapp.DeliveryService.models.DeliveryRequest;
 import com.fooddeliveryapp.DeliveryService.models.DeliveryResponse;
 import com.fooddeliveryapp.DeliveryService.services.DeliveryService;
@@ -49,4 +52,18 @@ public class DeliveryController {
         
         return new ResponseEntity<>(HttpStatus.OK);
     }
+    
+    /**
+     * Endpoint to change the status of many deliveries at once.
+     * 
+     * @param updateRequest The request body containing the new status of each delivery.
+     * @return A ResponseEntity containing the result of every change (BulkStatusUpdateResponse) and HTTP status code 200 (OK);
+     *         changes that could not be applied are reported per delivery.
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusUpdateResponse> updateStatuses(@RequestBody @Valid BulkStatusUpdateRequest updateRequest) {
+        BulkStatusUpdateResponse updateResponse = deliveryService.updateStatuses(updateRequest);
+        
+        return new ResponseEntity<>(updateResponse, HttpStatus.OK);
+    }
 }
\ No newline at end of file
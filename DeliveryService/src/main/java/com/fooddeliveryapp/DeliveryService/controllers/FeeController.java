@@ -0,0 +1,36 @@
+package com.fooddeliveryapp.DeliveryService.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fooddeliveryapp.DeliveryService.models.FeeQuoteRequest;
+import com.fooddeliveryapp.DeliveryService.models.FeeQuoteResponse;
+import com.fooddeliveryapp.DeliveryService.services.IFeeService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/fees")
+public class FeeController {
+    @Autowired
+    private IFeeService feeService;
+    
+    /**
+     * Endpoint to quote the delivery fee of a new order.
+     * The order counts towards the demand in the zone of its delivery address.
+     * 
+     * @param feeQuoteRequest The request body containing the restaurant and delivery address of the order.
+     * @return A ResponseEntity containing the quoted fee (FeeQuoteResponse) and HTTP status code 200 (OK).
+     */
+    @PostMapping("/quote")
+    public ResponseEntity<FeeQuoteResponse> quoteFee(@RequestBody @Valid FeeQuoteRequest feeQuoteRequest) {
+        FeeQuoteResponse feeQuote = feeService.quoteFee(feeQuoteRequest);
+        
+        return new ResponseEntity<>(feeQuote, HttpStatus.OK);
+    }
+}
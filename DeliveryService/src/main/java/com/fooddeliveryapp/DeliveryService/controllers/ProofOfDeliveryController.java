@@ -0,0 +1,171 @@
+package com.fooddeliveryapp.DeliveryService.controllers;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fooddeliveryapp.DeliveryService.models.ProofUploadRequest;
+import com.fooddeliveryapp.DeliveryService.models.ProofUploadResponse;
+import com.fooddeliveryapp.DeliveryService.proof.ByteRange;
+import com.fooddeliveryapp.DeliveryService.proof.ProofFile;
+import com.fooddeliveryapp.DeliveryService.services.IProofOfDeliveryService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/deliveries/{deliveryId}/proof")
+public class ProofOfDeliveryController {
+	// request attributes of Tomcat's sendfile support, which copies the file to the socket in the kernel
+	private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+	
+    @Autowired
+    private IProofOfDeliveryService proofService;
+    
+    /**
+     * Endpoint for couriers to start uploading a proof-of-delivery photo.
+     * 
+     * @param deliveryId The unique identifier of the delivery.
+     * @param uploadRequest The request body containing the size and type of the photo.
+     * @return A ResponseEntity containing the new upload (ProofUploadResponse) and HTTP status code 201 (Created).
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<ProofUploadResponse> startUpload(@PathVariable UUID deliveryId,
+                                                           @RequestBody @Valid ProofUploadRequest uploadRequest) {
+        ProofUploadResponse uploadResponse = proofService.startUpload(deliveryId, uploadRequest);
+        
+        return new ResponseEntity<>(uploadResponse, HttpStatus.CREATED);
+    }
+    
+    /**
+     * Endpoint to get the progress of an upload, used to resume it after a broken connection.
+     * 
+     * @param deliveryId The unique identifier of the delivery.
+     * @param uploadId The unique identifier of the upload.
+     * @return A ResponseEntity containing the upload (ProofUploadResponse) and HTTP status code 200 (OK) if successful.
+     */
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<ProofUploadResponse> getUpload(@PathVariable UUID deliveryId, @PathVariable UUID uploadId) {
+        ProofUploadResponse uploadResponse = proofService.getUpload(deliveryId, uploadId);
+        
+        return new ResponseEntity<>(uploadResponse, HttpStatus.OK);
+    }
+    
+    /**
+     * Endpoint to upload a chunk of the photo.
+     * The raw bytes are sent as the request body, and the Content-Range header tells where they belong,
+     * for example "bytes 0-65535/1048576". The chunk has to start where the upload left off.
+     * 
+     * @param deliveryId The unique identifier of the delivery.
+     * @param uploadId The unique identifier of the upload.
+     * @param contentRange The Content-Range header of the chunk.
+     * @param request The request whose body is streamed to storage.
+     * @return A ResponseEntity containing the upload (ProofUploadResponse) and HTTP status code 200 (OK) if successful,
+     *         or 409 (Conflict) if the chunk does not start where the upload left off.
+     * @throws IOException If the request body cannot be read.
+     */
+    @PutMapping("/uploads/{uploadId}")
+    public ResponseEntity<ProofUploadResponse> uploadChunk(@PathVariable UUID deliveryId, @PathVariable UUID uploadId,
+                                                           @RequestHeader(value = HttpHeaders.CONTENT_RANGE, required = false) String contentRange,
+                                                           HttpServletRequest request) throws IOException {
+        ProofUploadResponse uploadResponse = proofService.uploadChunk(deliveryId, uploadId, contentRange,
+                Channels.newChannel(request.getInputStream()));
+        
+        return new ResponseEntity<>(uploadResponse, HttpStatus.OK);
+    }
+    
+    /**
+     * Endpoint to download the proof-of-delivery photo of a delivery.
+     * Supports single byte ranges and conditional requests; the photo never changes for a given ETag.
+     * 
+     * @param deliveryId The unique identifier of the delivery.
+     * @param rangeHeader The optional Range header.
+     * @param request The request.
+     * @param response The response the photo is written to, with HTTP status code 200 (OK), 206 (Partial Content),
+     *                 304 (Not Modified) or 416 (Range Not Satisfiable).
+     * @throws IOException If the photo cannot be written.
+     */
+    @GetMapping
+    public void downloadProof(@PathVariable UUID deliveryId,
+                              @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+                              HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ProofFile proof = proofService.getProof(deliveryId);
+        String etag = "\"" + proof.sha256() + "\"";
+        
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable");
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        
+        ByteRange range;
+        try {
+            range = ByteRange.parseRange(rangeHeader, proof.sizeBytes());
+        } catch (IllegalStateException e) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + proof.sizeBytes());
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            return;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && ifRange != null && !ifRange.equals(etag)) {
+            range = null;
+        }
+        
+        if (range == null) {
+            range = new ByteRange(0, proof.sizeBytes() - 1);
+            response.setStatus(HttpStatus.OK.value());
+        } else {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + proof.sizeBytes());
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+        }
+        response.setContentType(proof.contentType());
+        response.setContentLengthLong(range.length());
+        
+        send(proof, range, request, response);
+    }
+    
+    private static void send(ProofFile proof, ByteRange range, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, proof.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+        
+        try (FileChannel channel = FileChannel.open(proof.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+}
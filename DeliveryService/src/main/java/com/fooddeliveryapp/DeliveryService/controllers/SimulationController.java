@@ -0,0 +1,39 @@
+package com.fooddeliveryapp.DeliveryService.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fooddeliveryapp.DeliveryService.models.SimulationReport;
+import com.fooddeliveryapp.DeliveryService.models.SimulationRequest;
+import com.fooddeliveryapp.DeliveryService.services.ISimulationService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/simulations")
+@ConditionalOnProperty(prefix = "delivery.simulation.fleet", name = "enabled", havingValue = "true")
+public class SimulationController {
+    @Autowired
+    private ISimulationService simulationService;
+    
+    /**
+     * Endpoint to run a courier fleet simulation for capacity testing.
+     * The simulation runs on a virtual clock, so hours of simulated time complete within the request.
+     * 
+     * @param simulationRequest The request body containing the parameters of the run.
+     * @return A ResponseEntity containing the summary of the run (SimulationReport) and HTTP status code 200 (OK) if successful,
+     *         or 409 (Conflict) if another simulation is running.
+     */
+    @PostMapping
+    public ResponseEntity<SimulationReport> runSimulation(@RequestBody @Valid SimulationRequest simulationRequest) {
+        SimulationReport simulationReport = simulationService.runSimulation(simulationRequest);
+        
+        return new ResponseEntity<>(simulationReport, HttpStatus.OK);
+    }
+}
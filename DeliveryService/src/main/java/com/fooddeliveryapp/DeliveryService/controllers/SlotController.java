@@ -0,0 +1,79 @@
+package com.fooddeliveryapp.DeliveryService.controllers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fooddeliveryapp.DeliveryService.models.SlotBookingRequest;
+import com.fooddeliveryapp.DeliveryService.models.SlotBookingResponse;
+import com.fooddeliveryapp.DeliveryService.models.SlotResponse;
+import com.fooddeliveryapp.DeliveryService.services.ISlotService;
+import com.fooddeliveryapp.DeliveryService.slots.SlotForwarder;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+
+@RestController
+@RequestMapping("/slots")
+public class SlotController {
+    @Autowired
+    private ISlotService slotService;
+    
+    /**
+     * Endpoint to list the delivery time slots of a day that can still be booked at a delivery address.
+     * 
+     * @param latitude Latitude of the delivery address.
+     * @param longitude Longitude of the delivery address.
+     * @param date The day.
+     * @return A ResponseEntity containing the slots (List<SlotResponse>) and HTTP status code 200 (OK).
+     */
+    @GetMapping
+    public ResponseEntity<List<SlotResponse>> getSlots(
+            @RequestParam @DecimalMin("-90.0") @DecimalMax("90.0") double latitude,
+            @RequestParam @DecimalMin("-180.0") @DecimalMax("180.0") double longitude,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        List<SlotResponse> slots = slotService.listSlots(latitude, longitude, date);
+        
+        return new ResponseEntity<>(slots, HttpStatus.OK);
+    }
+    
+    /**
+     * Endpoint to book a delivery time slot at a delivery address.
+     * The slot is booked for the authenticated customer; forwarded bookings carry the customer's token.
+     * 
+     * @param slotBookingRequest The request body containing the delivery address and slot.
+     * @param authentication The authenticated customer.
+     * @param authorization The Authorization header, passed along if another instance books the slot.
+     * @param forwarded Set by instances forwarding a booking.
+     * @return A ResponseEntity containing the reservation (SlotBookingResponse) and HTTP status code 200 (OK).
+     */
+    @PreAuthorize("hasAuthority('Customer')")
+    @PostMapping("/bookings")
+    public ResponseEntity<SlotBookingResponse> bookSlot(@RequestBody @Valid SlotBookingRequest slotBookingRequest,
+            Authentication authentication,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestHeader(value = SlotForwarder.FORWARDED_HEADER, defaultValue = "false") boolean forwarded) {
+        Jwt jwt = (Jwt) authentication.getPrincipal();
+        String userId = jwt.getClaimAsString("sub");
+        
+        SlotBookingResponse reservation = slotService.bookSlot(slotBookingRequest, userId, authorization, forwarded);
+        
+        return new ResponseEntity<>(reservation, HttpStatus.OK);
+    }
+}
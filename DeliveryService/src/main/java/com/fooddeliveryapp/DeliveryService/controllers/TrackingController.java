@@ -0,0 +1,89 @@
+package com.fooddeliveryapp.DeliveryService.controllers;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fooddeliveryapp.DeliveryService.models.LocationPingBatchRequest;
+import com.fooddeliveryapp.DeliveryService.models.TrackingResponse;
+import com.fooddeliveryapp.DeliveryService.services.ITrackingService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/tracking")
+public class TrackingController {
+    @Autowired
+    private ITrackingService trackingService;
+    
+    /**
+     * Endpoint for couriers to upload a batch of GPS pings.
+     * 
+     * @param courierId The unique identifier of the courier.
+     * @param batchRequest The request body containing the pings collected since the last upload.
+     * @return A ResponseEntity with HTTP status code 202 (Accepted) if all pings were queued,
+     *         or 429 (Too Many Requests) if some were dropped and the batch should be sent again later,
+     *         or 403 (Forbidden) if the courier is not assigned to the delivery.
+     */
+    @PostMapping("/couriers/{courierId}/pings")
+    public ResponseEntity<Void> ingestPings(@PathVariable UUID courierId,
+                                            @RequestBody @Valid LocationPingBatchRequest batchRequest) {
+        int accepted = trackingService.ingest(courierId, batchRequest);
+        
+        return new ResponseEntity<>(accepted == batchRequest.getPings().size() ? HttpStatus.ACCEPTED : HttpStatus.TOO_MANY_REQUESTS);
+    }
+    
+    /**
+     * Endpoint to get the current position and route of a delivery.
+     * Customers may only track their own deliveries; internal callers may track any.
+     * 
+     * @param deliveryId The unique identifier of the delivery.
+     * @param authentication The authenticated caller.
+     * @return A ResponseEntity containing the tracking details (TrackingResponse) and HTTP status code 200 (OK) if successful.
+     */
+    @GetMapping("/deliveries/{deliveryId}")
+    public ResponseEntity<TrackingResponse> getTracking(@PathVariable UUID deliveryId, Authentication authentication) {
+        TrackingResponse trackingResponse = trackingService.getTracking(deliveryId, customerOf(authentication));
+        
+        return new ResponseEntity<>(trackingResponse, HttpStatus.OK);
+    }
+    
+    /**
+     * Endpoint for customers to follow a delivery live.
+     * Streams "position" events while the delivery is in progress and a final "completed" event when it is delivered.
+     * Customers may only follow their own deliveries; internal callers may follow any.
+     * 
+     * @param deliveryId The unique identifier of the delivery.
+     * @param authentication The authenticated caller.
+     * @return A server-sent event stream of positions.
+     */
+    @GetMapping(value = "/deliveries/{deliveryId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPositions(@PathVariable UUID deliveryId, Authentication authentication) {
+        return trackingService.subscribe(deliveryId, customerOf(authentication));
+    }
+    
+    /**
+     * @return The user ID of the calling customer, or null for internal callers.
+     */
+    private String customerOf(Authentication authentication) {
+        boolean internal = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "SCOPE_internal".equals(authority.getAuthority()));
+        if (internal) {
+            return null;
+        }
+        Jwt jwt = (Jwt) authentication.getPrincipal();
+        return jwt.getClaimAsString("sub");
+    }
+}
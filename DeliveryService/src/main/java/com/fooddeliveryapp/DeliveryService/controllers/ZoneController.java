@@ -0,0 +1,97 @@
+package com.fooddeliveryapp.DeliveryService.controllers;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fooddeliveryapp.DeliveryService.models.DeliveryZoneRequest;
+import com.fooddeliveryapp.DeliveryService.models.DeliveryZoneResponse;
+import com.fooddeliveryapp.DeliveryService.models.ZoneEligibilityResponse;
+import com.fooddeliveryapp.DeliveryService.services.IZoneService;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+@RestController
+@RequestMapping("/zones")
+public class ZoneController {
+    @Autowired
+    private IZoneService zoneService;
+    
+    /**
+     * Endpoint to replace the delivery zones of a restaurant.
+     * An empty list removes the restrictions, so the restaurant delivers everywhere.
+     * 
+     * @param restaurantId The unique identifier of the restaurant.
+     * @param zoneRequests The request body containing the new zones of the restaurant.
+     * @return A ResponseEntity containing the stored zones and HTTP status code 200 (OK),
+     *         or 400 (Bad Request) if a zone boundary is not a valid polygon.
+     */
+    @PutMapping("/restaurants/{restaurantId}")
+    public ResponseEntity<List<DeliveryZoneResponse>> replaceZones(@PathVariable UUID restaurantId,
+            @RequestBody @NotNull @Size(max = 100) List<@Valid DeliveryZoneRequest> zoneRequests) {
+        List<DeliveryZoneResponse> zones = zoneService.replaceZones(restaurantId, zoneRequests);
+        
+        return new ResponseEntity<>(zones, HttpStatus.OK);
+    }
+    
+    /**
+     * Endpoint to retrieve the delivery zones of a restaurant.
+     * 
+     * @param restaurantId The unique identifier of the restaurant.
+     * @return A ResponseEntity containing the zones of the restaurant and HTTP status code 200 (OK).
+     */
+    @GetMapping("/restaurants/{restaurantId}")
+    public ResponseEntity<List<DeliveryZoneResponse>> getZones(@PathVariable UUID restaurantId) {
+        List<DeliveryZoneResponse> zones = zoneService.getZones(restaurantId);
+        
+        return new ResponseEntity<>(zones, HttpStatus.OK);
+    }
+    
+    /**
+     * Endpoint to check whether a restaurant delivers to an address, e.g. while validating an order.
+     * The check is answered from memory.
+     * 
+     * @param restaurantId The unique identifier of the restaurant.
+     * @param latitude Latitude of the delivery address in degrees.
+     * @param longitude Longitude of the delivery address in degrees.
+     * @return A ResponseEntity containing the eligibility of the address and HTTP status code 200 (OK).
+     */
+    @GetMapping("/eligibility")
+    public ResponseEntity<ZoneEligibilityResponse> checkEligibility(@RequestParam UUID restaurantId,
+            @RequestParam @DecimalMin("-90.0") @DecimalMax("90.0") double latitude,
+            @RequestParam @DecimalMin("-180.0") @DecimalMax("180.0") double longitude) {
+        ZoneEligibilityResponse eligibility = zoneService.checkEligibility(restaurantId, latitude, longitude);
+        
+        return new ResponseEntity<>(eligibility, HttpStatus.OK);
+    }
+    
+    /**
+     * Endpoint to find the restaurants with a delivery zone containing an address.
+     * 
+     * @param latitude Latitude of the delivery address in degrees.
+     * @param longitude Longitude of the delivery address in degrees.
+     * @return A ResponseEntity containing the IDs of the restaurants and HTTP status code 200 (OK).
+     */
+    @GetMapping("/restaurants")
+    public ResponseEntity<List<UUID>> findRestaurantsDeliveringTo(
+            @RequestParam @DecimalMin("-90.0") @DecimalMax("90.0") double latitude,
+            @RequestParam @DecimalMin("-180.0") @DecimalMax("180.0") double longitude) {
+        List<UUID> restaurantIds = zoneService.findRestaurantsDeliveringTo(latitude, longitude);
+        
+        return new ResponseEntity<>(restaurantIds, HttpStatus.OK);
+    }
+}
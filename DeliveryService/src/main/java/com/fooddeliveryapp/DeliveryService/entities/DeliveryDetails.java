@@ -52,4 +52,26 @@ public class DeliveryDetails {
 
 	    @Column(name = "delivered_at", nullable = true)
 	    private LocalDateTime deliveredAt;
+
+	    @Column(name = "estimated_delivery_at", nullable = true)
+	    private LocalDateTime estimatedDeliveryAt;
+
+	    @Column(name = "courier_id", nullable = true)
+	    private UUID courierId;
+
+	    @Column(name = "route_id", nullable = true)
+	    private UUID routeId;
+
+	    // the photo itself is kept in the proof store, keyed by its hash
+	    @Column(name = "proof_sha256", nullable = true, length = 64)
+	    private String proofSha256;
+
+	    @Column(name = "proof_content_type", nullable = true)
+	    private String proofContentType;
+
+	    @Column(name = "proof_size_bytes", nullable = true)
+	    private Long proofSizeBytes;
+
+	    @Column(name = "proof_uploaded_at", nullable = true)
+	    private LocalDateTime proofUploadedAt;
 }
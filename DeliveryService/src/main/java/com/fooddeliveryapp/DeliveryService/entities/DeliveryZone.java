@@ -0,0 +1,48 @@
+package com.fooddeliveryapp.DeliveryService.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents an area a restaurant delivers to.
+ * A restaurant may have several zones; restaurants without zones deliver everywhere.
+ */
+@Entity
+@Table(indexes = @Index(name = "ix_delivery_zone_restaurant", columnList = "restaurant_id"))
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeliveryZone {
+	@Id
+	@GeneratedValue(strategy = GenerationType.AUTO)
+	@Column(name = "zone_id")
+	private UUID zoneId;
+
+	@Column(name = "restaurant_id", nullable = false)
+	private UUID restaurantId;
+
+	@Column(name = "name", nullable = false, length = 100)
+	private String name;
+
+	// the polygon as "latitude longitude" pairs separated by commas, see GeoPolygon#format
+	@Lob
+	@Column(name = "boundary", nullable = false)
+	private String boundary;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+}
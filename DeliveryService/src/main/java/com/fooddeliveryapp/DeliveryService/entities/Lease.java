@@ -0,0 +1,36 @@
+package com.fooddeliveryapp.DeliveryService.entities;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a time-limited lease on a singleton background job or a share of the work, such as the outbox relay
+ * or a slot partition. Only the instance holding an unexpired lease does the work; the holder renews the lease while
+ * it is working. The epoch grows whenever the lease changes hands, so writes can be fenced against a former holder.
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class Lease {
+	@Id
+	@Column(name = "lease_name", length = 100)
+	private String leaseName;
+
+	@Column(name = "owner", nullable = true, length = 200)
+	private String owner;
+
+	@Column(name = "lease_until", nullable = false)
+	private Instant leaseUntil;
+
+	@Column(name = "epoch", nullable = false)
+	private Long epoch;
+}
@@ -0,0 +1,77 @@
+package com.fooddeliveryapp.DeliveryService.entities;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a delivery event waiting to be published to Kafka.
+ * Rows are written in the same transaction as the delivery status change they describe,
+ * and are marked as sent by the outbox relay once the broker acknowledged them.
+ */
+@Entity
+@Table(indexes = @Index(name = "ix_outbox_event_unsent", columnList = "sent_at, outbox_id"))
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class OutboxEvent {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_id")
+	private Long outboxId;
+
+	@Column(name = "event_id", nullable = false)
+	private UUID eventId;
+
+	@Column(name = "order_id", nullable = false)
+	private UUID orderId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "delivery_status", nullable = false)
+	private DeliveryStatus deliveryStatus;
+
+	@Column(name = "event_time", nullable = false)
+	private Instant eventTime;
+
+	@Column(name = "sent_at", nullable = true)
+	private Instant sentAt;
+
+	/**
+	 * Creates an unsent outbox row for a delivery event.
+	 * 
+	 * @param event The event to publish.
+	 * @return The outbox row.
+	 */
+	public static OutboxEvent of(DeliveryEvent event) {
+		return OutboxEvent.builder()
+				.eventId(event.getEventId())
+				.orderId(event.getOrderId())
+				.deliveryStatus(event.getStatus())
+				.eventTime(event.getEventTime())
+				.build();
+	}
+
+	/**
+	 * @return The delivery event this row describes.
+	 */
+	public DeliveryEvent toEvent() {
+		return new DeliveryEvent(eventId, eventTime, orderId, deliveryStatus);
+	}
+}
@@ -0,0 +1,55 @@
+package com.fooddeliveryapp.DeliveryService.entities;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a booked delivery time slot.
+ * Reservations are counted against the capacity of their zone and slot in memory and written here in batches;
+ * the counters are rebuilt from this table when an instance takes over a partition of the zones.
+ * A reservation carries the epoch of the partition lease it was booked under, and is only written while that lease
+ * has not changed hands since.
+ */
+@Entity
+@Table(indexes = @Index(name = "ix_slot_reservation_partition", columnList = "partition_id, slot_start"))
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SlotReservation {
+	// assigned when the slot is booked, before the row is written
+	@Id
+	@Column(name = "reservation_id")
+	private UUID reservationId;
+
+	@Column(name = "zone_key", nullable = false)
+	private Long zoneKey;
+
+	@Column(name = "partition_id", nullable = false)
+	private Integer partitionId;
+
+	@Column(name = "slot_start", nullable = false)
+	private LocalDateTime slotStart;
+
+	@Column(name = "order_id", nullable = true)
+	private UUID orderId;
+
+	@Column(name = "user_id", nullable = false)
+	private String userId;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "lease_epoch", nullable = false)
+	private Long leaseEpoch;
+}
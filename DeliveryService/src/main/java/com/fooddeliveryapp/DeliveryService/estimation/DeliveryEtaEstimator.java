@@ -0,0 +1,146 @@
+package com.fooddeliveryapp.DeliveryService.estimation;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Predicts delivery durations from exponentially decayed statistics of completed deliveries.
+ *
+ * Keeps a decayed mean duration per restaurant and per hour of the day in primitive arrays, so both recording a
+ * completed delivery and estimating a new one are O(1) and never touch the database. The estimate is the restaurant's
+ * mean scaled by how much slower or faster the hour of day is than average; restaurants without samples fall back to
+ * the hourly mean, and with no samples at all the configured default duration is used.
+ *
+ * Restaurants are mapped to array slots on their first completed delivery. Once all slots are taken, further
+ * restaurants are estimated from the hourly statistics only. Statistics are kept in memory and rebuilt from
+ * new deliveries after a restart.
+ */
+@Component
+public class DeliveryEtaEstimator {
+
+    private static final int HOURS = 24;
+
+    private final double alpha;
+    private final double defaultSeconds;
+    private final int warmUpSamples;
+
+    private final Map<UUID, Integer> restaurantSlots = new ConcurrentHashMap<>();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final double[] restaurantMeanSeconds;
+    private final int[] restaurantSamples;
+    private final double[] hourMeanSeconds = new double[HOURS];
+    private final int[] hourSamples = new int[HOURS];
+    private double globalMeanSeconds;
+    private long globalSamples;
+
+    private final DistributionSummary lateSummary;
+    private final DistributionSummary earlySummary;
+
+    @Autowired
+    public DeliveryEtaEstimator(MeterRegistry meterRegistry,
+                                @Value("${delivery.eta.decay:0.1}") double alpha,
+                                @Value("${delivery.eta.max-restaurants:10000}") int maxRestaurants,
+                                @Value("${delivery.eta.warm-up-samples:5}") int warmUpSamples,
+                                @Value("${delivery.simulation.duration-seconds:10}") double defaultSeconds) {
+        this.alpha = alpha;
+        this.defaultSeconds = defaultSeconds;
+        this.warmUpSamples = warmUpSamples;
+        this.restaurantMeanSeconds = new double[maxRestaurants];
+        this.restaurantSamples = new int[maxRestaurants];
+
+        this.lateSummary = DistributionSummary.builder("delivery.eta.error").baseUnit("seconds")
+                .tag("direction", "late").register(meterRegistry);
+        this.earlySummary = DistributionSummary.builder("delivery.eta.error").baseUnit("seconds")
+                .tag("direction", "early").register(meterRegistry);
+    }
+
+    /**
+     * Estimates how long a delivery from a restaurant takes.
+     *
+     * @param restaurantId The restaurant the order is delivered from.
+     * @param hourOfDay    The hour of the day (0-23) the delivery was initiated in.
+     * @return The predicted delivery duration.
+     */
+    public Duration estimate(UUID restaurantId, int hourOfDay) {
+        // reads are not synchronized; a concurrent update at worst yields an estimate one sample out of date
+        double global = globalMeanSeconds;
+        if (globalSamples == 0) {
+            return toDuration(defaultSeconds);
+        }
+
+        double hourly = hourSamples[hourOfDay] >= warmUpSamples ? hourMeanSeconds[hourOfDay] : global;
+        Integer slot = restaurantSlots.get(restaurantId);
+        if (slot == null || restaurantSamples[slot] < warmUpSamples) {
+            return toDuration(hourly);
+        }
+
+        return toDuration(restaurantMeanSeconds[slot] * hourly / global);
+    }
+
+    /**
+     * Records the duration of a completed delivery.
+     *
+     * @param restaurantId The restaurant the order was delivered from.
+     * @param hourOfDay    The hour of the day (0-23) the delivery was initiated in.
+     * @param actual       How long the delivery took.
+     * @param predicted    The duration that was predicted when the delivery was initiated, or null if unknown.
+     */
+    public void record(UUID restaurantId, int hourOfDay, Duration actual, Duration predicted) {
+        double seconds = actual.toMillis() / 1000.0;
+        Integer slot = slotOf(restaurantId);
+
+        synchronized (this) {
+            globalMeanSeconds = decay(globalMeanSeconds, globalSamples, seconds);
+            globalSamples++;
+            hourMeanSeconds[hourOfDay] = decay(hourMeanSeconds[hourOfDay], hourSamples[hourOfDay], seconds);
+            hourSamples[hourOfDay] = saturatedIncrement(hourSamples[hourOfDay]);
+            if (slot != null) {
+                restaurantMeanSeconds[slot] = decay(restaurantMeanSeconds[slot], restaurantSamples[slot], seconds);
+                restaurantSamples[slot] = saturatedIncrement(restaurantSamples[slot]);
+            }
+        }
+
+        if (predicted != null) {
+            double errorSeconds = (actual.toMillis() - predicted.toMillis()) / 1000.0;
+            (errorSeconds >= 0 ? lateSummary : earlySummary).record(Math.abs(errorSeconds));
+        }
+    }
+
+    private double decay(double mean, long samples, double value) {
+        // a plain average over the first samples keeps early estimates from being dominated by the zero start value
+        double weight = Math.max(alpha, 1.0 / (samples + 1));
+        return mean + weight * (value - mean);
+    }
+
+    private Integer slotOf(UUID restaurantId) {
+        if (restaurantId == null) {
+            return null;
+        }
+        Integer slot = restaurantSlots.get(restaurantId);
+        if (slot != null || nextSlot.get() >= restaurantSamples.length) {
+            return slot;
+        }
+        return restaurantSlots.computeIfAbsent(restaurantId, id -> {
+            int next = nextSlot.getAndIncrement();
+            return next < restaurantSamples.length ? next : null;
+        });
+    }
+
+    private static int saturatedIncrement(int value) {
+        return value == Integer.MAX_VALUE ? value : value + 1;
+    }
+
+    private static Duration toDuration(double seconds) {
+        return Duration.ofMillis(Math.round(seconds * 1000));
+    }
+}
@@ -1,5 +1,6 @@
 package com.fooddeliveryapp.DeliveryService.events;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
@@ -11,11 +12,18 @@ import lombok.NoArgsConstructor;
 /**
  * Represents an event related to a delivery.
  * This event is used to communicate the delivery status of a delivery between Delivery and order services.
+ * Every event carries its own ID and creation time so consumers can de-duplicate and order redeliveries.
  */
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class DeliveryEvent {
+    private UUID eventId;
+    private Instant eventTime;
     private UUID orderId;
     private DeliveryStatus status;
+
+    public DeliveryEvent(UUID orderId, DeliveryStatus status) {
+        this(UUID.randomUUID(), Instant.now(), orderId, status);
+    }
 }
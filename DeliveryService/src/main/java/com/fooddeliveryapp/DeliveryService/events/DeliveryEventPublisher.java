@@ -0,0 +1,182 @@
+package com.fooddeliveryapp.DeliveryService.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Publishes delivery events to the delivery-topic.
+ *
+ * Records are keyed by order ID so every event of an order lands on the same partition in order.
+ * Sends are asynchronous and completion callbacks record metrics. Failed sends are retried only by the
+ * idempotent producer itself, within delivery.timeout.ms: it resends the same record with the same sequence
+ * number, so the broker drops duplicates and keeps the events of an order in order. Sending a failed event
+ * again from here would be a new record that could land twice or behind later events of the same order.
+ * The number of events that are queued or in flight is bounded by a semaphore, so a slow or unavailable
+ * broker makes callers wait (and eventually get rejected) instead of growing the heap.
+ *
+ * Batches of events that must keep their order, such as those of the outbox relay, are sent with
+ * {@link #publishInOrder(List, long)}. Events that are not meant for the consumers of the delivery-topic, such as
+ * those of fleet simulations, are sent to their own topic with {@link #publish(String, DeliveryEvent)}.
+ */
+@Component
+@Log4j2
+public class DeliveryEventPublisher {
+
+    private final KafkaTemplate<String, DeliveryEvent> kafkaTemplate;
+    private final String topic;
+    private final Semaphore sendPermits;
+    private final long enqueueTimeoutMs;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Timer publishTimer;
+
+    @Autowired
+    public DeliveryEventPublisher(KafkaTemplate<String, DeliveryEvent> kafkaTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${delivery.events.topic:delivery-topic}") String topic,
+                                  @Value("${delivery.events.max-in-flight:10000}") int maxInFlight,
+                                  @Value("${delivery.events.enqueue-timeout-ms:5000}") long enqueueTimeoutMs) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.sendPermits = new Semaphore(maxInFlight);
+        this.enqueueTimeoutMs = enqueueTimeoutMs;
+
+        this.publishedCounter = Counter.builder("delivery.events.sent").tag("result", "success").register(meterRegistry);
+        this.failedCounter = Counter.builder("delivery.events.sent").tag("result", "failure").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("delivery.events.sent").tag("result", "rejected").register(meterRegistry);
+        this.publishTimer = Timer.builder("delivery.events.send.latency").register(meterRegistry);
+        Gauge.builder("delivery.events.in.flight", sendPermits, permits -> maxInFlight - permits.availablePermits())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publishes the event asynchronously.
+     * Blocks for at most the configured enqueue timeout when the send buffer is full.
+     *
+     * @param event The event to publish.
+     * @return A future completed with the send result once the broker acknowledged the record,
+     *         or completed exceptionally once the producer gave up on it or the buffer stayed full.
+     */
+    public CompletableFuture<SendResult<String, DeliveryEvent>> publish(DeliveryEvent event) {
+        return publish(topic, event);
+    }
+
+    /**
+     * Publishes the event asynchronously to the given topic instead of the delivery-topic.
+     * Blocks for at most the configured enqueue timeout when the send buffer is full.
+     *
+     * @param topic The topic to publish to.
+     * @param event The event to publish.
+     * @return A future completed with the send result once the broker acknowledged the record,
+     *         or completed exceptionally once the producer gave up on it or the buffer stayed full.
+     */
+    public CompletableFuture<SendResult<String, DeliveryEvent>> publish(String topic, DeliveryEvent event) {
+        CompletableFuture<SendResult<String, DeliveryEvent>> result = new CompletableFuture<>();
+
+        try {
+            if (!sendPermits.tryAcquire(enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejectedCounter.increment();
+                log.error("Delivery event send buffer is full, rejecting event for order {}", event.getOrderId());
+                result.completeExceptionally(new IllegalStateException("Delivery event send buffer is full"));
+                return result;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<SendResult<String, DeliveryEvent>> sendFuture;
+        try {
+            sendFuture = kafkaTemplate.send(topic, keyOf(event), event);
+        } catch (RuntimeException e) {
+            // serialization errors and a full producer buffer are thrown synchronously
+            sendFuture = CompletableFuture.failedFuture(e);
+        }
+
+        sendFuture.whenComplete((sendResult, ex) -> {
+            sendPermits.release();
+            if (ex == null) {
+                publishedCounter.increment();
+                publishTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                result.complete(sendResult);
+            } else {
+                failedCounter.increment();
+                log.error("Sending delivery event for order {} failed: {}", event.getOrderId(), ex.getMessage());
+                result.completeExceptionally(ex);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Sends a batch of events and waits for the broker to acknowledge them.
+     * Failed events are not sent again here: the producer has already retried them, and the caller sends
+     * everything after the first failure again later.
+     *
+     * @param events    The events to send, in order.
+     * @param timeoutMs How long to wait for all acknowledgements.
+     * @return The number of leading events that were acknowledged; events after the first failure may or may not
+     *         have been published.
+     */
+    public int publishInOrder(List<DeliveryEvent> events, long timeoutMs) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        List<CompletableFuture<SendResult<String, DeliveryEvent>>> futures = new ArrayList<>(events.size());
+
+        for (DeliveryEvent event : events) {
+            try {
+                futures.add(kafkaTemplate.send(topic, keyOf(event), event));
+            } catch (RuntimeException e) {
+                futures.add(CompletableFuture.failedFuture(e));
+                break;
+            }
+        }
+
+        int acknowledged = 0;
+        for (CompletableFuture<SendResult<String, DeliveryEvent>> future : futures) {
+            try {
+                future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                acknowledged++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                failedCounter.increment();
+                log.error("Sending delivery event batch failed after {} of {} events: {}",
+                        acknowledged, events.size(), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                break;
+            }
+        }
+
+        publishedCounter.increment(acknowledged);
+        if (acknowledged > 0) {
+            publishTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        return acknowledged;
+    }
+
+    private static String keyOf(DeliveryEvent event) {
+        return event.getOrderId() != null ? event.getOrderId().toString() : null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.fooddeliveryapp.DeliveryService.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents an event published when a delivery is still in progress after its SLA deadline.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SlaBreachEvent {
+	private UUID eventId;
+	private UUID deliveryId;
+	private UUID orderId;
+	private UUID restaurantId;
+	private Instant deadline;
+	private Instant detectedAt;
+}
@@ -0,0 +1,167 @@
+package com.fooddeliveryapp.DeliveryService.events.serialization;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+
+/**
+ * Encodes and decodes delivery events exchanged on the delivery-topic.
+ *
+ * The binary envelope is a fixed-size record (big-endian):
+ * <pre>
+ *  magic (1) | schema version (1) | event ID (16) | event time in epoch millis (8) | order ID (16) | status code (1)
+ * </pre>
+ * Schema versions act as a local stand-in for a schema registry: every version this class knows how to read
+ * is listed in {@link #decode(byte[])}, and writers always use {@link #CURRENT_SCHEMA_VERSION}.
+ *
+ * Legacy JSON payloads (written before the binary envelope was introduced) are still accepted when decoding,
+ * and JSON can still be produced, so producers and consumers can be rolled out independently.
+ */
+public final class DeliveryEventCodec {
+
+    public static final byte MAGIC = (byte) 0xDE;
+    public static final byte CURRENT_SCHEMA_VERSION = 1;
+
+    private static final int V1_LENGTH = 1 + 1 + 16 + 8 + 16 + 1;
+
+    private static final ObjectMapper JSON = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private DeliveryEventCodec() {
+    }
+
+    /**
+     * Encodes the event into the current binary envelope.
+     *
+     * @param event The event to encode.
+     * @return The encoded bytes.
+     */
+    public static byte[] encode(DeliveryEvent event) {
+        ByteBuffer buffer = ByteBuffer.allocate(V1_LENGTH);
+        buffer.put(MAGIC);
+        buffer.put(CURRENT_SCHEMA_VERSION);
+        putUuid(buffer, event.getEventId());
+        buffer.putLong(event.getEventTime() != null ? event.getEventTime().toEpochMilli() : 0L);
+        putUuid(buffer, event.getOrderId());
+        buffer.put(statusCode(event.getStatus()));
+        return buffer.array();
+    }
+
+    /**
+     * Encodes the event as a JSON document, the format used before the binary envelope.
+     *
+     * @param event The event to encode.
+     * @return The UTF-8 JSON bytes.
+     */
+    public static byte[] encodeJson(DeliveryEvent event) {
+        try {
+            return JSON.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new SerializationException("Error serializing delivery event to JSON", e);
+        }
+    }
+
+    /**
+     * Decodes a delivery event written either as a binary envelope or as a legacy JSON document.
+     *
+     * @param data The raw record value.
+     * @return The decoded event, or null if the record value is null.
+     * @throws SerializationException if the payload is corrupt or uses an unknown schema version.
+     */
+    public static DeliveryEvent decode(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length > 0 && data[0] == '{') {
+            return decodeJson(data);
+        }
+        if (data.length < 2 || data[0] != MAGIC) {
+            throw new SerializationException("Unrecognized delivery event payload");
+        }
+
+        byte version = data[1];
+        switch (version) {
+            case 1:
+                return decodeV1(data);
+            default:
+                throw new SerializationException("Unsupported delivery event schema version: " + version);
+        }
+    }
+
+    private static DeliveryEvent decodeV1(byte[] data) {
+        if (data.length != V1_LENGTH) {
+            throw new SerializationException("Corrupt delivery event payload, length: " + data.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data, 2, data.length - 2);
+        UUID eventId = getUuid(buffer);
+        long eventTime = buffer.getLong();
+        UUID orderId = getUuid(buffer);
+        DeliveryStatus status = statusFromCode(buffer.get());
+        return new DeliveryEvent(eventId, eventTime != 0L ? Instant.ofEpochMilli(eventTime) : null, orderId, status);
+    }
+
+    private static DeliveryEvent decodeJson(byte[] data) {
+        try {
+            return JSON.readValue(data, DeliveryEvent.class);
+        } catch (IOException e) {
+            throw new SerializationException("Error deserializing delivery event from JSON", e);
+        }
+    }
+
+    // status codes are part of the wire format, so they are pinned explicitly instead of relying on ordinals
+    private static byte statusCode(DeliveryStatus status) {
+        if (status == null) {
+            return 0;
+        }
+        switch (status) {
+            case IN_PROGRESS:
+                return 1;
+            case DELIVERED:
+                return 2;
+            case FAILED:
+                return 3;
+            default:
+                throw new SerializationException("Unsupported delivery status: " + status);
+        }
+    }
+
+    private static DeliveryStatus statusFromCode(byte code) {
+        switch (code) {
+            case 0:
+                return null;
+            case 1:
+                return DeliveryStatus.IN_PROGRESS;
+            case 2:
+                return DeliveryStatus.DELIVERED;
+            case 3:
+                return DeliveryStatus.FAILED;
+            default:
+                throw new SerializationException("Unknown delivery status code: " + code);
+        }
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid != null ? uuid.getMostSignificantBits() : 0L);
+        buffer.putLong(uuid != null ? uuid.getLeastSignificantBits() : 0L);
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        long most = buffer.getLong();
+        long least = buffer.getLong();
+        return most == 0L && least == 0L ? null : new UUID(most, least);
+    }
+}
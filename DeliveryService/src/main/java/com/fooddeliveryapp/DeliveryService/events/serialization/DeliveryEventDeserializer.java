@@ -0,0 +1,17 @@
+package com.fooddeliveryapp.DeliveryService.events.serialization;
+
+import org.apache.kafka.common.serialization.Deserializer;
+
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+
+/**
+ * Kafka deserializer for delivery events.
+ * Accepts both the binary envelope and the legacy JSON format.
+ */
+public class DeliveryEventDeserializer implements Deserializer<DeliveryEvent> {
+
+    @Override
+    public DeliveryEvent deserialize(String topic, byte[] data) {
+        return DeliveryEventCodec.decode(data);
+    }
+}
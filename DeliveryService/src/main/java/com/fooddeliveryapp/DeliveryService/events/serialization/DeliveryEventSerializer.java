@@ -0,0 +1,33 @@
+package com.fooddeliveryapp.DeliveryService.events.serialization;
+
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+
+/**
+ * Kafka serializer for delivery events.
+ * Writes the binary envelope by default. Setting the producer property {@value #FORMAT_CONFIG} to "json"
+ * keeps writing the legacy JSON format while consumers are still being upgraded.
+ */
+public class DeliveryEventSerializer implements Serializer<DeliveryEvent> {
+
+    public static final String FORMAT_CONFIG = "delivery.event.format";
+
+    private boolean json;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object format = configs.get(FORMAT_CONFIG);
+        json = format != null && "json".equalsIgnoreCase(format.toString());
+    }
+
+    @Override
+    public byte[] serialize(String topic, DeliveryEvent event) {
+        if (event == null) {
+            return null;
+        }
+        return json ? DeliveryEventCodec.encodeJson(event) : DeliveryEventCodec.encode(event);
+    }
+}
@@ -0,0 +1,20 @@
+package com.fooddeliveryapp.DeliveryService.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when the boundary of a delivery zone is not a valid polygon.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidDeliveryZoneException extends IllegalArgumentException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	public InvalidDeliveryZoneException(String message) {
+		super(message);
+	}
+}
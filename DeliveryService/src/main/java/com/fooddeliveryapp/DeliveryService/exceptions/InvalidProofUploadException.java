@@ -0,0 +1,20 @@
+package com.fooddeliveryapp.DeliveryService.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a proof-of-delivery upload or one of its chunks is malformed.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidProofUploadException extends IllegalArgumentException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	public InvalidProofUploadException(String message) {
+		super(message);
+	}
+}
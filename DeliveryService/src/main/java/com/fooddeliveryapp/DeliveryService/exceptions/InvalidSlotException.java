@@ -0,0 +1,20 @@
+package com.fooddeliveryapp.DeliveryService.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a delivery time slot does not exist or can no longer be booked.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSlotException extends IllegalArgumentException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	public InvalidSlotException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,21 @@
+package com.fooddeliveryapp.DeliveryService.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a chunk does not continue a proof-of-delivery upload where it left off.
+ * The client should read the upload status and resume from the returned offset.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ProofUploadConflictException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	public ProofUploadConflictException(String message) {
+		super(message);
+	}
+}
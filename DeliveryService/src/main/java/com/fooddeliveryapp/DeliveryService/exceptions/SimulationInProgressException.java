@@ -0,0 +1,20 @@
+package com.fooddeliveryapp.DeliveryService.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a fleet simulation is requested while another one is still running.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class SimulationInProgressException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	public SimulationInProgressException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,20 @@
+package com.fooddeliveryapp.DeliveryService.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a delivery time slot has no capacity left in the zone of the delivery address.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class SlotFullException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	public SlotFullException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,21 @@
+package com.fooddeliveryapp.DeliveryService.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when no instance currently books the slots of a zone, e.g. while its partition changes hands.
+ * The booking can be retried after a few seconds.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class SlotPartitionUnavailableException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	public SlotPartitionUnavailableException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,21 @@
+package com.fooddeliveryapp.DeliveryService.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a courier reports positions for a delivery it is not assigned to,
+ * or a customer asks for the position of someone else's delivery.
+ */
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class TrackingAccessDeniedException extends RuntimeException {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public TrackingAccessDeniedException(String message) {
+		super(message);
+	}
+}
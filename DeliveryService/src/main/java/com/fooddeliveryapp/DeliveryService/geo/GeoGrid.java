@@ -0,0 +1,197 @@
+package com.fooddeliveryapp.DeliveryService.geo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory spatial index that buckets points into fixed-size latitude/longitude cells.
+ *
+ * Moving a point touches at most two cells, and a k-nearest query scans rings of cells around the query point,
+ * stopping as soon as no unvisited cell can contain a closer point than the k-th best found so far.
+ * Lookups are lock-free; callers must serialize updates of the same point.
+ *
+ * @param <T> The type of the point identifiers.
+ */
+public class GeoGrid<T> {
+
+    private final double cellDegrees;
+    private final int maxRings;
+    private final Map<Long, Set<T>> cells = new ConcurrentHashMap<>();
+    private final Map<T, Position> positions = new ConcurrentHashMap<>();
+
+    /**
+     * @param cellDegrees     The size of a cell in degrees; 0.01 is roughly 1.1 km.
+     * @param maxRadiusMeters The largest distance a nearest query searches.
+     */
+    public GeoGrid(double cellDegrees, double maxRadiusMeters) {
+        this.cellDegrees = cellDegrees;
+        this.maxRings = (int) Math.ceil(maxRadiusMeters / (cellDegrees * GeoUtils.METERS_PER_DEGREE)) + 1;
+    }
+
+    /**
+     * Receives the points of the index, see {@link GeoGrid#forEach}.
+     */
+    @FunctionalInterface
+    public interface PointVisitor<T> {
+        void visit(T id, double latitude, double longitude);
+    }
+
+    /**
+     * A point returned by a nearest query together with its distance to the query point.
+     */
+    public record Neighbor<T>(T id, double latitude, double longitude, double distanceMeters) {
+    }
+
+    /**
+     * Inserts a point or moves it to a new position.
+     *
+     * @param id        The point identifier.
+     * @param latitude  Latitude in degrees.
+     * @param longitude Longitude in degrees.
+     */
+    public void put(T id, double latitude, double longitude) {
+        long cell = cellOf(latitude, longitude);
+        Position previous = positions.put(id, new Position(latitude, longitude, cell));
+
+        if (previous != null) {
+            if (previous.cell == cell) {
+                return;
+            }
+            removeFromCell(previous.cell, id);
+        }
+        cells.compute(cell, (key, members) -> {
+            Set<T> updated = members != null ? members : ConcurrentHashMap.newKeySet();
+            updated.add(id);
+            return updated;
+        });
+    }
+
+    /**
+     * Removes a point from the index.
+     *
+     * @param id The point identifier.
+     */
+    public void remove(T id) {
+        Position previous = positions.remove(id);
+        if (previous != null) {
+            removeFromCell(previous.cell, id);
+        }
+    }
+
+    /**
+     * @return The number of indexed points.
+     */
+    public int size() {
+        return positions.size();
+    }
+
+    /**
+     * Visits every indexed point. Points moved or removed concurrently may be visited at either position or not at all.
+     *
+     * @param visitor Receives each point and its position.
+     */
+    public void forEach(PointVisitor<T> visitor) {
+        positions.forEach((id, position) -> visitor.visit(id, position.latitude, position.longitude));
+    }
+
+    /**
+     * Finds the k points closest to a position that match a filter.
+     *
+     * @param latitude  Latitude of the query point in degrees.
+     * @param longitude Longitude of the query point in degrees.
+     * @param k         The maximum number of points to return.
+     * @param filter    Only points matching the filter are returned.
+     * @return Up to k points within the search radius, closest first.
+     */
+    public List<Neighbor<T>> nearest(double latitude, double longitude, int k, Predicate<T> filter) {
+        if (k <= 0) {
+            return new ArrayList<>();
+        }
+
+        int row = GeoUtils.cellIndex(latitude, cellDegrees);
+        int column = GeoUtils.cellIndex(longitude, cellDegrees);
+        double longitudeScale = Math.cos(Math.toRadians(latitude));
+        // the narrowest side of a cell; any point outside ring r is at least r of these away
+        double cellMeters = cellDegrees * GeoUtils.METERS_PER_DEGREE
+                * Math.max(0.01, Math.cos(Math.toRadians(Math.min(89.0, Math.abs(latitude) + cellDegrees))));
+        // candidates ranked by an equirectangular approximation, farthest on top so it can be evicted cheaply
+        PriorityQueue<Candidate<T>> best = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble((Candidate<T> candidate) -> candidate.distanceMeters).reversed());
+
+        for (int ring = 0; ring <= maxRings; ring++) {
+            for (int dy = -ring; dy <= ring; dy++) {
+                boolean edgeRow = dy == -ring || dy == ring;
+                for (int dx = -ring; dx <= ring; dx += edgeRow ? 1 : 2 * ring) {
+                    collect(GeoUtils.cellKey(row + dy, column + dx), latitude, longitude, longitudeScale, k, filter, best);
+                    if (ring == 0) {
+                        break;
+                    }
+                }
+            }
+
+            if (best.size() == k && best.peek().distanceMeters <= ring * cellMeters) {
+                break;
+            }
+        }
+
+        List<Neighbor<T>> found = new ArrayList<>(best.size());
+        for (Candidate<T> candidate : best) {
+            found.add(new Neighbor<>(candidate.id, candidate.position.latitude, candidate.position.longitude,
+                    GeoUtils.distanceMeters(latitude, longitude, candidate.position.latitude, candidate.position.longitude)));
+        }
+        found.sort(Comparator.comparingDouble(Neighbor::distanceMeters));
+        return found;
+    }
+
+    private void collect(long cell, double latitude, double longitude, double longitudeScale, int k,
+                         Predicate<T> filter, PriorityQueue<Candidate<T>> best) {
+        Set<T> members = cells.get(cell);
+        if (members == null) {
+            return;
+        }
+        for (T id : members) {
+            Position position = positions.get(id);
+            if (position == null || position.cell != cell) {
+                continue;
+            }
+
+            double dLat = position.latitude - latitude;
+            double dLon = (position.longitude - longitude) * longitudeScale;
+            double distanceMeters = Math.sqrt(dLat * dLat + dLon * dLon) * GeoUtils.METERS_PER_DEGREE;
+            if (best.size() == k && distanceMeters >= best.peek().distanceMeters) {
+                continue;
+            }
+            if (!filter.test(id)) {
+                continue;
+            }
+
+            best.add(new Candidate<>(id, position, distanceMeters));
+            if (best.size() > k) {
+                best.poll();
+            }
+        }
+    }
+
+    private record Position(double latitude, double longitude, long cell) {
+    }
+
+    private record Candidate<T>(T id, Position position, double distanceMeters) {
+    }
+
+    private void removeFromCell(long cell, T id) {
+        cells.computeIfPresent(cell, (key, members) -> {
+            members.remove(id);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return GeoUtils.cellOf(latitude, longitude, cellDegrees);
+    }
+}
@@ -0,0 +1,173 @@
+package com.fooddeliveryapp.DeliveryService.geo;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Immutable simple polygon on latitude/longitude coordinates, e.g. the area a restaurant delivers to.
+ *
+ * Edges are treated as straight lines in degrees, which is accurate enough for city-sized areas.
+ * Polygons crossing the antimeridian are not supported.
+ */
+public final class GeoPolygon {
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    private GeoPolygon(double[] latitudes, double[] longitudes) {
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+
+        double minLat = Double.POSITIVE_INFINITY, maxLat = Double.NEGATIVE_INFINITY;
+        double minLon = Double.POSITIVE_INFINITY, maxLon = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < latitudes.length; i++) {
+            minLat = Math.min(minLat, latitudes[i]);
+            maxLat = Math.max(maxLat, latitudes[i]);
+            minLon = Math.min(minLon, longitudes[i]);
+            maxLon = Math.max(maxLon, longitudes[i]);
+        }
+        this.minLatitude = minLat;
+        this.maxLatitude = maxLat;
+        this.minLongitude = minLon;
+        this.maxLongitude = maxLon;
+    }
+
+    /**
+     * Creates a polygon from its vertices. The ring is closed implicitly; a repeated first vertex at the end is dropped.
+     *
+     * @param latitudes  Latitudes of the vertices in degrees.
+     * @param longitudes Longitudes of the vertices in degrees, in the same order.
+     * @return The polygon.
+     * @throws IllegalArgumentException if there are fewer than three distinct vertices, a coordinate is invalid
+     *                                  or the polygon spans more than 180 degrees of longitude.
+     */
+    public static GeoPolygon of(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Every vertex needs a latitude and a longitude.");
+        }
+
+        int count = latitudes.length;
+        if (count > 1 && latitudes[0] == latitudes[count - 1] && longitudes[0] == longitudes[count - 1]) {
+            count--;
+        }
+        if (count < 3) {
+            throw new IllegalArgumentException("A polygon needs at least three vertices.");
+        }
+        for (int i = 0; i < count; i++) {
+            if (!GeoUtils.isValid(latitudes[i], longitudes[i])) {
+                throw new IllegalArgumentException("Vertex " + i + " is not a valid position.");
+            }
+        }
+
+        GeoPolygon polygon = new GeoPolygon(Arrays.copyOf(latitudes, count), Arrays.copyOf(longitudes, count));
+        if (polygon.maxLongitude - polygon.minLongitude > 180) {
+            throw new IllegalArgumentException("Polygons crossing the antimeridian are not supported.");
+        }
+        return polygon;
+    }
+
+    /**
+     * Parses a polygon written by {@link #format()}.
+     *
+     * @param text Vertices as "latitude longitude" pairs separated by commas.
+     * @return The polygon.
+     * @throws IllegalArgumentException if the text is not a valid polygon.
+     */
+    public static GeoPolygon parse(String text) {
+        String[] vertices = text.split(",");
+        double[] latitudes = new double[vertices.length];
+        double[] longitudes = new double[vertices.length];
+
+        for (int i = 0; i < vertices.length; i++) {
+            String[] coordinates = vertices[i].trim().split("\\s+");
+            if (coordinates.length != 2) {
+                throw new IllegalArgumentException("Vertex " + i + " is not a latitude/longitude pair.");
+            }
+            latitudes[i] = Double.parseDouble(coordinates[0]);
+            longitudes[i] = Double.parseDouble(coordinates[1]);
+        }
+        return of(latitudes, longitudes);
+    }
+
+    /**
+     * @return The vertices as "latitude longitude" pairs separated by commas.
+     */
+    public String format() {
+        StringBuilder text = new StringBuilder(latitudes.length * 24);
+        for (int i = 0; i < latitudes.length; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(String.format(Locale.ROOT, "%.7f %.7f", latitudes[i], longitudes[i]));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Checks whether a point lies inside the polygon, using the even-odd rule.
+     *
+     * @param latitude  Latitude of the point in degrees.
+     * @param longitude Longitude of the point in degrees.
+     * @return true if the point is inside the polygon.
+     */
+    public boolean contains(double latitude, double longitude) {
+        if (!boundsContain(latitude, longitude)) {
+            return false;
+        }
+
+        // cast a ray towards increasing longitude and count the edges it crosses
+        boolean inside = false;
+        for (int i = 0, j = latitudes.length - 1; i < latitudes.length; j = i++) {
+            if ((latitudes[i] > latitude) != (latitudes[j] > latitude)) {
+                double crossing = longitudes[i] + (latitude - latitudes[i])
+                        * (longitudes[j] - longitudes[i]) / (latitudes[j] - latitudes[i]);
+                if (longitude < crossing) {
+                    inside = !inside;
+                }
+            }
+        }
+        return inside;
+    }
+
+    /**
+     * @param latitude  Latitude of the point in degrees.
+     * @param longitude Longitude of the point in degrees.
+     * @return true if the point lies within the bounding box of the polygon.
+     */
+    public boolean boundsContain(double latitude, double longitude) {
+        return latitude >= minLatitude && latitude <= maxLatitude
+                && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+
+    public int vertexCount() {
+        return latitudes.length;
+    }
+
+    public double latitude(int vertex) {
+        return latitudes[vertex];
+    }
+
+    public double longitude(int vertex) {
+        return longitudes[vertex];
+    }
+
+    public double minLatitude() {
+        return minLatitude;
+    }
+
+    public double maxLatitude() {
+        return maxLatitude;
+    }
+
+    public double minLongitude() {
+        return minLongitude;
+    }
+
+    public double maxLongitude() {
+        return maxLongitude;
+    }
+}
@@ -0,0 +1,81 @@
+package com.fooddeliveryapp.DeliveryService.geo;
+
+/**
+ * Geographic helper functions.
+ */
+public final class GeoUtils {
+
+    /**
+     * Mean radius of the earth in meters.
+     */
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    /**
+     * Length of one degree of latitude in meters.
+     */
+    public static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180.0;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * Calculates the great-circle distance between two points using the haversine formula.
+     *
+     * @param lat1 Latitude of the first point in degrees.
+     * @param lon1 Longitude of the first point in degrees.
+     * @param lat2 Latitude of the second point in degrees.
+     * @param lon2 Longitude of the second point in degrees.
+     * @return The distance in meters.
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLon = Math.sin(dLon / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    /**
+     * Checks that a coordinate pair is a valid WGS84 position.
+     *
+     * @param latitude  Latitude in degrees.
+     * @param longitude Longitude in degrees.
+     * @return true if the latitude is within [-90, 90] and the longitude within [-180, 180].
+     */
+    public static boolean isValid(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
+    /**
+     * Finds the grid cell of a position. Cells are cellDegrees wide in both latitude and longitude.
+     *
+     * @param latitude    Latitude in degrees.
+     * @param longitude   Longitude in degrees.
+     * @param cellDegrees The size of a cell in degrees.
+     * @return The row and column of the cell, packed with {@link #cellKey(int, int)}.
+     */
+    public static long cellOf(double latitude, double longitude, double cellDegrees) {
+        return cellKey(cellIndex(latitude, cellDegrees), cellIndex(longitude, cellDegrees));
+    }
+
+    /**
+     * @param degrees     Latitude or longitude in degrees.
+     * @param cellDegrees The size of a cell in degrees.
+     * @return The row (for a latitude) or column (for a longitude) of the cell containing the coordinate.
+     */
+    public static int cellIndex(double degrees, double cellDegrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    /**
+     * @param row    The row of a cell.
+     * @param column The column of a cell.
+     * @return The row and column packed into one key, the row in the upper 32 bits.
+     */
+    public static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,176 @@
+package com.fooddeliveryapp.DeliveryService.geo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Immutable spatial index of polygons: a bounding-box tree (R-tree) bulk-loaded with the Sort-Tile-Recursive algorithm.
+ *
+ * A point query descends only into nodes whose bounding box contains the point, and runs the exact point-in-polygon
+ * test only for polygons whose own bounding box does, so a lookup costs O(log n) box checks plus a few polygon tests.
+ * The tree is never modified after it is built; changes are made by building a new index and swapping it in,
+ * so it can be read by any number of threads without locking.
+ *
+ * @param <T> The type of the values attached to the polygons.
+ */
+public final class PolygonIndex<T> {
+
+    private static final int NODE_CAPACITY = 16;
+
+    /**
+     * A polygon together with the value it is indexed under.
+     */
+    public record Entry<T>(T value, GeoPolygon polygon) {
+    }
+
+    // entries in leaf order; the boxes of level 0 belong to the entries, every box of level l + 1 covers
+    // NODE_CAPACITY consecutive boxes of level l. Boxes are stored as minLat, maxLat, minLon, maxLon.
+    private final List<Entry<T>> entries;
+    private final double[][] levels;
+
+    /**
+     * Builds an index of the given polygons.
+     *
+     * @param entries The polygons to index.
+     */
+    public PolygonIndex(Collection<Entry<T>> entries) {
+        this.entries = List.copyOf(tile(entries));
+
+        List<double[]> built = new ArrayList<>();
+        double[] level = new double[this.entries.size() * 4];
+        for (int i = 0; i < this.entries.size(); i++) {
+            GeoPolygon polygon = this.entries.get(i).polygon();
+            level[i * 4] = polygon.minLatitude();
+            level[i * 4 + 1] = polygon.maxLatitude();
+            level[i * 4 + 2] = polygon.minLongitude();
+            level[i * 4 + 3] = polygon.maxLongitude();
+        }
+        built.add(level);
+
+        while (level.length / 4 > NODE_CAPACITY) {
+            level = parentsOf(level);
+            built.add(level);
+        }
+        this.levels = built.toArray(new double[0][]);
+    }
+
+    /**
+     * @return An index without polygons.
+     */
+    public static <T> PolygonIndex<T> empty() {
+        return new PolygonIndex<>(List.of());
+    }
+
+    /**
+     * @return The number of indexed polygons.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return The indexed polygons, in no particular order.
+     */
+    public List<Entry<T>> entries() {
+        return entries;
+    }
+
+    /**
+     * Finds a polygon containing a point whose value matches a filter.
+     * The filter is applied before the point-in-polygon test, so it should be cheap.
+     *
+     * @param latitude  Latitude of the point in degrees.
+     * @param longitude Longitude of the point in degrees.
+     * @param filter    Only polygons whose value matches the filter are considered.
+     * @return The value of a matching polygon, or null if there is none.
+     */
+    public T findFirst(double latitude, double longitude, Predicate<T> filter) {
+        List<T> found = new ArrayList<>(1);
+        search(levels.length - 1, 0, latitude, longitude, filter, found, true);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Finds all polygons containing a point.
+     *
+     * @param latitude  Latitude of the point in degrees.
+     * @param longitude Longitude of the point in degrees.
+     * @return The values of the polygons containing the point.
+     */
+    public List<T> findAll(double latitude, double longitude) {
+        List<T> found = new ArrayList<>();
+        search(levels.length - 1, 0, latitude, longitude, value -> true, found, false);
+        return found;
+    }
+
+    // visits the boxes of one node, i.e. NODE_CAPACITY consecutive boxes of a level; returns true once done
+    private boolean search(int level, int node, double latitude, double longitude, Predicate<T> filter,
+                           List<T> found, boolean firstOnly) {
+        double[] boxes = levels[level];
+        int from = level == levels.length - 1 ? 0 : node * NODE_CAPACITY;
+        int to = level == levels.length - 1 ? boxes.length / 4 : Math.min(from + NODE_CAPACITY, boxes.length / 4);
+
+        for (int i = from; i < to; i++) {
+            int box = i * 4;
+            if (latitude < boxes[box] || latitude > boxes[box + 1]
+                    || longitude < boxes[box + 2] || longitude > boxes[box + 3]) {
+                continue;
+            }
+
+            if (level > 0) {
+                if (search(level - 1, i, latitude, longitude, filter, found, firstOnly)) {
+                    return true;
+                }
+                continue;
+            }
+
+            Entry<T> entry = entries.get(i);
+            if (filter.test(entry.value()) && entry.polygon().contains(latitude, longitude)) {
+                found.add(entry.value());
+                if (firstOnly) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static double[] parentsOf(double[] children) {
+        int childCount = children.length / 4;
+        double[] parents = new double[((childCount + NODE_CAPACITY - 1) / NODE_CAPACITY) * 4];
+
+        for (int parent = 0; parent * NODE_CAPACITY < childCount; parent++) {
+            double minLat = Double.POSITIVE_INFINITY, maxLat = Double.NEGATIVE_INFINITY;
+            double minLon = Double.POSITIVE_INFINITY, maxLon = Double.NEGATIVE_INFINITY;
+            for (int child = parent * NODE_CAPACITY; child < Math.min(childCount, (parent + 1) * NODE_CAPACITY); child++) {
+                minLat = Math.min(minLat, children[child * 4]);
+                maxLat = Math.max(maxLat, children[child * 4 + 1]);
+                minLon = Math.min(minLon, children[child * 4 + 2]);
+                maxLon = Math.max(maxLon, children[child * 4 + 3]);
+            }
+            parents[parent * 4] = minLat;
+            parents[parent * 4 + 1] = maxLat;
+            parents[parent * 4 + 2] = minLon;
+            parents[parent * 4 + 3] = maxLon;
+        }
+        return parents;
+    }
+
+    // Sort-Tile-Recursive: cut the polygons into vertical slices by longitude and sort each slice by latitude,
+    // so every run of NODE_CAPACITY consecutive polygons covers a compact tile
+    private static <T> List<Entry<T>> tile(Collection<Entry<T>> entries) {
+        List<Entry<T>> sorted = new ArrayList<>(entries);
+        int leaves = (sorted.size() + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceSize = (int) Math.ceil(Math.sqrt(leaves)) * NODE_CAPACITY;
+
+        sorted.sort(Comparator.comparingDouble(entry -> entry.polygon().minLongitude() + entry.polygon().maxLongitude()));
+        for (int start = 0; start < sorted.size(); start += sliceSize) {
+            sorted.subList(start, Math.min(sorted.size(), start + sliceSize))
+                    .sort(Comparator.comparingDouble(entry -> entry.polygon().minLatitude() + entry.polygon().maxLatitude()));
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,25 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a request model for changing the status of many deliveries at once,
+ * for example when a courier finishes a route or a zone is shut down.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkStatusUpdateRequest {
+	@NotEmpty(message = "Updates cannot be empty.")
+	@Size(max = 1000, message = "At most 1000 deliveries can be updated at once.")
+	private List<@Valid StatusUpdate> updates;
+}
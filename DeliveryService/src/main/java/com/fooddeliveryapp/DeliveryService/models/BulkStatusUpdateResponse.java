@@ -0,0 +1,21 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for a bulk status update.
+ * It contains one result per requested change, in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusUpdateResponse {
+	private int updated;
+	private List<StatusUpdateResult> results;
+}
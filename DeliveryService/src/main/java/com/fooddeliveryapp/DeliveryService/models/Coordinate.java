@@ -0,0 +1,28 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a position on the map, e.g. a vertex of a delivery zone.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class Coordinate {
+	@NotNull(message = "Latitude cannot be null.")
+	@DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90.")
+	@DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90.")
+	private Double latitude;
+
+	@NotNull(message = "Longitude cannot be null.")
+	@DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180.")
+	@DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180.")
+	private Double longitude;
+}
@@ -0,0 +1,24 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for a courier.
+ * This model is used to transfer the live position of a courier
+ * and its distance to the queried location.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourierResponse {
+	private UUID courierId;
+	private double latitude;
+	private double longitude;
+	private double distanceMeters;
+}
@@ -2,6 +2,8 @@ package com.fooddeliveryapp.DeliveryService.models;
 
 import java.util.UUID;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,4 +28,28 @@ public class DeliveryRequest {
     
     @NotNull(message = "Restaurant ID cannot be null.")
     private UUID restaurantId;
+    
+    @DecimalMin(value = "-90.0", message = "Pickup latitude must be between -90 and 90.")
+    @DecimalMax(value = "90.0", message = "Pickup latitude must be between -90 and 90.")
+    private Double pickupLatitude;
+    
+    @DecimalMin(value = "-180.0", message = "Pickup longitude must be between -180 and 180.")
+    @DecimalMax(value = "180.0", message = "Pickup longitude must be between -180 and 180.")
+    private Double pickupLongitude;
+    
+    @DecimalMin(value = "-90.0", message = "Drop-off latitude must be between -90 and 90.")
+    @DecimalMax(value = "90.0", message = "Drop-off latitude must be between -90 and 90.")
+    private Double dropoffLatitude;
+    
+    @DecimalMin(value = "-180.0", message = "Drop-off longitude must be between -180 and 180.")
+    @DecimalMax(value = "180.0", message = "Drop-off longitude must be between -180 and 180.")
+    private Double dropoffLongitude;
+    
+    /**
+     * Keeps existing callers that do not know the pickup location working.
+     * Deliveries without a pickup location are not assigned a courier.
+     */
+    public DeliveryRequest(UUID orderId, String userId, UUID restaurantId) {
+        this(orderId, userId, restaurantId, null, null, null, null);
+    }
 }
@@ -25,4 +25,7 @@ public class DeliveryResponse {
 	private DeliveryStatus deliveryStatus; 
 	private LocalDateTime initiatedAt;
 	private LocalDateTime deliveredAt;
+	private LocalDateTime estimatedDeliveryAt;
+	private UUID courierId;
+	private String proofSha256;
 }
@@ -0,0 +1,29 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a request model for defining an area a restaurant delivers to.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DeliveryZoneRequest {
+	@NotBlank(message = "Zone name cannot be blank.")
+	@Size(max = 100, message = "Zone name cannot be longer than 100 characters.")
+	private String name;
+
+	@NotNull(message = "Zone boundary cannot be null.")
+	@Size(min = 3, max = 1000, message = "Zone boundary must have between 3 and 1000 vertices.")
+	private List<@NotNull(message = "Each vertex must not be null") @Valid Coordinate> boundary;
+}
@@ -0,0 +1,25 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for a delivery zone of a restaurant.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeliveryZoneResponse {
+	private UUID zoneId;
+	private UUID restaurantId;
+	private String name;
+	private List<Coordinate> boundary;
+	private LocalDateTime updatedAt;
+}
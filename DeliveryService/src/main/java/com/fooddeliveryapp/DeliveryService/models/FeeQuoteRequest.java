@@ -0,0 +1,32 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.util.UUID;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a request model for quoting the delivery fee of a new order.
+ * Without a delivery position the base fee is quoted.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FeeQuoteRequest {
+	@NotNull(message = "Restaurant ID cannot be null.")
+	private UUID restaurantId;
+
+	@DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90.")
+	@DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90.")
+	private Double latitude;
+
+	@DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180.")
+	@DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180.")
+	private Double longitude;
+}
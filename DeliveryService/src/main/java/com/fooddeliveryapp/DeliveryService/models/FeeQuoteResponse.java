@@ -0,0 +1,22 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for a delivery fee quote.
+ * The fee is the base fee times the surge multiplier of the zone of the delivery address.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeeQuoteResponse {
+	private double baseFee;
+	private double surgeMultiplier;
+	private double deliveryFee;
+	private long ordersInWindow;
+	private double availableCouriers;
+}
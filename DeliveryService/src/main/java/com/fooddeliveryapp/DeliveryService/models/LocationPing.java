@@ -0,0 +1,33 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.time.Instant;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a single GPS ping sent by a courier's device.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LocationPing {
+	@NotNull(message = "Latitude cannot be null.")
+	@DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90.")
+	@DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90.")
+	private Double latitude;
+
+	@NotNull(message = "Longitude cannot be null.")
+	@DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180.")
+	@DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180.")
+	private Double longitude;
+
+	@NotNull(message = "Recorded at cannot be null.")
+	private Instant recordedAt;
+}
@@ -0,0 +1,28 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a batch of GPS pings a courier's device collected since its last upload.
+ * The delivery ID is set while the courier is on a delivery.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class LocationPingBatchRequest {
+	private UUID deliveryId;
+
+	@NotEmpty(message = "Pings cannot be empty.")
+	@Size(max = 500, message = "A batch can contain at most 500 pings.")
+	private List<@Valid LocationPing> pings;
+}
@@ -0,0 +1,21 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for a position of a courier at a point in time.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PositionResponse {
+	private double latitude;
+	private double longitude;
+	private Instant recordedAt;
+}
@@ -0,0 +1,29 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a request model for starting a proof-of-delivery photo upload.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProofUploadRequest {
+	@NotNull(message = "Total size cannot be null.")
+	@Positive(message = "Total size must be positive.")
+	private Long totalBytes;
+	
+	@NotNull(message = "Content type cannot be null.")
+	@Pattern(regexp = "image/(jpeg|png|webp|heic)", message = "Content type must be image/jpeg, image/png, image/webp or image/heic.")
+	private String contentType;
+	
+	@Pattern(regexp = "[0-9a-fA-F]{64}", message = "SHA-256 must be 64 hexadecimal characters.")
+	private String sha256;
+}
@@ -0,0 +1,25 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for the progress of a proof-of-delivery upload.
+ * The next chunk has to start at receivedBytes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProofUploadResponse {
+	private UUID uploadId;
+	private UUID deliveryId;
+	private long totalBytes;
+	private long receivedBytes;
+	private boolean complete;
+	private String sha256;
+}
@@ -0,0 +1,33 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model summarizing a courier fleet simulation run.
+ * Everything but the wall-clock time is the same for every run with the same request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimulationReport {
+	private long seed;
+	private int couriers;
+	private double simulatedMinutes;
+	private int ordersPlaced;
+	private int delivered;
+	private int failedByCourier;
+	private int expiredWaitingForCourier;
+	private double medianDeliveryMinutes;
+	private double p95DeliveryMinutes;
+	private double maxDeliveryMinutes;
+	private double averageAssignmentWaitMinutes;
+	private double courierUtilization;
+	private int peakWaitingOrders;
+	private long eventsProcessed;
+	private long eventsPublished;
+	private long wallClockMillis;
+}
@@ -0,0 +1,88 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a request model for running a courier fleet simulation.
+ * Every field has a default, so an empty request simulates a four-hour lunch rush.
+ * The center of the simulated area defaults to the center of the simulated courier feed.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SimulationRequest {
+	@Builder.Default
+	private long seed = 42;
+	
+	@Builder.Default
+	@Min(value = 1, message = "At least one courier is needed.")
+	@Max(value = 100000, message = "At most 100000 couriers can be simulated.")
+	private int couriers = 500;
+	
+	@Builder.Default
+	@Min(value = 1, message = "At least one restaurant is needed.")
+	@Max(value = 10000, message = "At most 10000 restaurants can be simulated.")
+	private int restaurants = 200;
+	
+	@Builder.Default
+	@Min(value = 1, message = "Duration must be at least one minute.")
+	@Max(value = 1440, message = "At most 24 hours can be simulated.")
+	private int durationMinutes = 240;
+	
+	@Builder.Default
+	@DecimalMin(value = "0.0", message = "Base order rate cannot be negative.")
+	@DecimalMax(value = "100000.0", message = "Base order rate can be at most 100000 orders per hour.")
+	private double baseOrdersPerHour = 300;
+	
+	@Builder.Default
+	@DecimalMin(value = "0.0", message = "Peak order rate cannot be negative.")
+	@DecimalMax(value = "100000.0", message = "Peak order rate can be at most 100000 orders per hour.")
+	private double peakOrdersPerHour = 2000;
+	
+	@DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90.")
+	@DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90.")
+	private Double centerLatitude;
+	
+	@DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180.")
+	@DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180.")
+	private Double centerLongitude;
+	
+	@Builder.Default
+	@DecimalMin(value = "100.0", message = "Radius must be at least 100 meters.")
+	@DecimalMax(value = "50000.0", message = "Radius can be at most 50 km.")
+	private double radiusMeters = 8000;
+	
+	@Builder.Default
+	@Positive(message = "Courier speed must be positive.")
+	private double speedMetersPerSecond = 6;
+	
+	@Builder.Default
+	@DecimalMin(value = "0.0", message = "Preparation time cannot be negative.")
+	private double meanPrepMinutes = 12;
+	
+	@Builder.Default
+	@Positive(message = "Maximum wait must be positive.")
+	private double maxWaitMinutes = 30;
+	
+	@Builder.Default
+	@DecimalMin(value = "0.0", message = "Courier failure rate must be between 0 and 1.")
+	@DecimalMax(value = "1.0", message = "Courier failure rate must be between 0 and 1.")
+	private double courierFailureRate = 0.01;
+	
+	@Builder.Default
+	@DecimalMin(value = "0.0", message = "Recovery time cannot be negative.")
+	private double courierRecoveryMinutes = 20;
+	
+	// sends the completed and failed deliveries to the simulation topic, not the delivery-topic the Order service reads
+	@Builder.Default
+	private boolean publishEvents = false;
+}
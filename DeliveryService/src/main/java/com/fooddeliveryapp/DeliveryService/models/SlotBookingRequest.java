@@ -0,0 +1,37 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a request model for booking a delivery time slot at a delivery address.
+ * The slot is booked for the user the request is authenticated as.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SlotBookingRequest {
+	private UUID orderId;
+
+	@NotNull(message = "Latitude cannot be null.")
+	@DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90.")
+	@DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90.")
+	private Double latitude;
+
+	@NotNull(message = "Longitude cannot be null.")
+	@DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180.")
+	@DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180.")
+	private Double longitude;
+
+	@NotNull(message = "Slot start cannot be null.")
+	private LocalDateTime slotStart;
+}
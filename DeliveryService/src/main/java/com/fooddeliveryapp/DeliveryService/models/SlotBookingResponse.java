@@ -0,0 +1,24 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for a booked delivery time slot.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlotBookingResponse {
+	private UUID reservationId;
+	private long zoneKey;
+	private LocalDateTime slotStart;
+	private LocalDateTime slotEnd;
+	private int remainingCapacity;
+}
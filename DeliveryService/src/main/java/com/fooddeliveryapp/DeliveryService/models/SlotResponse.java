@@ -0,0 +1,22 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for a delivery time slot and its remaining capacity in one zone.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlotResponse {
+	private LocalDateTime slotStart;
+	private LocalDateTime slotEnd;
+	private int capacity;
+	private int remainingCapacity;
+}
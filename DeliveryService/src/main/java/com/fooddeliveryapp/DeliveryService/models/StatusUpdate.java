@@ -0,0 +1,26 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.util.UUID;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the new status of one delivery in a bulk status update.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StatusUpdate {
+	@NotNull(message = "Delivery ID cannot be null.")
+	private UUID deliveryId;
+	
+	@NotNull(message = "Delivery status cannot be null.")
+	private DeliveryStatus deliveryStatus;
+}
@@ -0,0 +1,24 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.util.UUID;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.constants.StatusUpdateOutcome;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the result of one status change in a bulk status update.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatusUpdateResult {
+	private UUID deliveryId;
+	private DeliveryStatus deliveryStatus;
+	private StatusUpdateOutcome outcome;
+}
@@ -0,0 +1,24 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for the live tracking of a delivery.
+ * It contains the latest known position of the courier and the down-sampled route so far.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrackingResponse {
+	private UUID deliveryId;
+	private UUID courierId;
+	private PositionResponse currentPosition;
+	private List<PositionResponse> route;
+}
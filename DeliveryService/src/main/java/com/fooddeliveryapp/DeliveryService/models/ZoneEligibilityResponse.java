@@ -0,0 +1,23 @@
+package com.fooddeliveryapp.DeliveryService.models;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for checking whether a restaurant delivers to an address.
+ * The zone fields are null if the address is outside every zone or the restaurant has no zones.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ZoneEligibilityResponse {
+	private UUID restaurantId;
+	private boolean eligible;
+	private UUID zoneId;
+	private String zoneName;
+}
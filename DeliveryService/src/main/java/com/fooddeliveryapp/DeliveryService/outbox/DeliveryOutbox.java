@@ -0,0 +1,49 @@
+package com.fooddeliveryapp.DeliveryService.outbox;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.entities.OutboxEvent;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryRepository;
+import com.fooddeliveryapp.DeliveryService.repositories.OutboxEventRepository;
+
+/**
+ * Writes delivery state changes together with the events that announce them.
+ * Both rows are saved in one transaction, so an event is published if and only if its state change was committed,
+ * even if the process dies right after the commit. The {@link OutboxRelay} publishes the events afterwards.
+ */
+@Component
+public class DeliveryOutbox {
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    /**
+     * Changes the status of a delivery that is still in progress and queues an event for publishing in the same
+     * transaction. The status is changed with a conditional update, so when several instances change the same
+     * delivery at once, exactly one of them writes the status and the event.
+     *
+     * @param deliveryId The ID of the delivery.
+     * @param status     The new status.
+     * @param changedAt  The time of the change, stored as the delivery time.
+     * @param event      The event announcing the change.
+     * @return true if the status was changed and the event queued, false if the delivery was no longer in progress.
+     */
+    @Transactional
+    public boolean transitionWithEvent(UUID deliveryId, DeliveryStatus status, LocalDateTime changedAt, DeliveryEvent event) {
+        if (deliveryRepository.updateStatusIfInProgress(deliveryId, status, changedAt) != 1) {
+            return false;
+        }
+        outboxEventRepository.save(OutboxEvent.of(event));
+        return true;
+    }
+}
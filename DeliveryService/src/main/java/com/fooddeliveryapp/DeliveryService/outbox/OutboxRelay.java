@@ -0,0 +1,161 @@
+package com.fooddeliveryapp.DeliveryService.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.DeliveryService.entities.OutboxEvent;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEventPublisher;
+import com.fooddeliveryapp.DeliveryService.repositories.OutboxEventRepository;
+import com.fooddeliveryapp.DeliveryService.repositories.LeaseRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Publishes outbox events to the delivery-topic.
+ *
+ * Every poll reads the oldest unsent events in the order they were written, sends them as one ordered batch and marks
+ * the acknowledged prefix of the batch as sent with a single update. Events after a failure stay unsent and are sent
+ * again, in order, by the next poll.
+ *
+ * Only one instance relays at a time: the relay holds a lease row in the database, taken and renewed with a
+ * conditional update, and skips polling while another instance holds it. A batch has to finish well within the
+ * lease duration, so a lease only changes hands while its previous holder is idle or gone. An instance that stalls
+ * for longer than the lease may still publish a batch twice; consumers can recognize repeats by the event ID.
+ *
+ * Exposes how long events waited in the outbox and how many were relayed as metrics.
+ */
+@Component
+@Log4j2
+public class OutboxRelay {
+
+    static final String LEASE_NAME = "delivery-outbox-relay";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final LeaseRepository leaseRepository;
+    private final DeliveryEventPublisher deliveryEventPublisher;
+    private final String owner;
+    private final Duration leaseDuration;
+    private final long sendTimeoutMs;
+    private final Duration retention;
+
+    private final AtomicInteger leader = new AtomicInteger();
+    private boolean leaseCreated;
+    private final Timer lagTimer;
+    private final Counter relayedCounter;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       LeaseRepository leaseRepository,
+                       DeliveryEventPublisher deliveryEventPublisher,
+                       MeterRegistry meterRegistry,
+                       @Value("${spring.application.name:delivery-service}") String applicationName,
+                       @Value("${delivery.outbox.lease-seconds:30}") long leaseSeconds,
+                       @Value("${delivery.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+                       @Value("${delivery.outbox.retention-hours:168}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.leaseRepository = leaseRepository;
+        this.deliveryEventPublisher = deliveryEventPublisher;
+        this.owner = applicationName + "-" + UUID.randomUUID();
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.retention = Duration.ofHours(retentionHours);
+
+        this.lagTimer = Timer.builder("delivery.outbox.relay.lag").register(meterRegistry);
+        this.relayedCounter = Counter.builder("delivery.outbox.relayed").register(meterRegistry);
+        Gauge.builder("delivery.outbox.relay.leader", leader, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * Relays one batch of unsent events if this instance holds the relay lease.
+     *
+     * @return The number of events marked as sent.
+     */
+    @Scheduled(fixedDelayString = "${delivery.outbox.poll-interval-ms:200}")
+    public int relay() {
+        if (!acquireLease()) {
+            return 0;
+        }
+
+        List<OutboxEvent> batch = outboxEventRepository.findTop500BySentAtIsNullOrderByOutboxId();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<DeliveryEvent> events = batch.stream().map(OutboxEvent::toEvent).toList();
+        int acknowledged = deliveryEventPublisher.publishInOrder(events, sendTimeoutMs);
+        if (acknowledged == 0) {
+            return 0;
+        }
+
+        List<OutboxEvent> sent = batch.subList(0, acknowledged);
+        Instant sentAt = Instant.now();
+        outboxEventRepository.markSent(sent.stream().map(OutboxEvent::getOutboxId).toList(), sentAt);
+
+        for (OutboxEvent event : sent) {
+            lagTimer.record(Math.max(0L, Duration.between(event.getEventTime(), sentAt).toMillis()), TimeUnit.MILLISECONDS);
+        }
+        relayedCounter.increment(acknowledged);
+        return acknowledged;
+    }
+
+    /**
+     * Deletes events that were sent longer ago than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${delivery.outbox.cleanup-interval-ms:3600000}")
+    public void deleteSentEvents() {
+        if (leader.get() == 0) {
+            return;
+        }
+
+        int deleted = outboxEventRepository.deleteSentBefore(Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Deleted {} relayed outbox events.", deleted);
+        }
+    }
+
+    boolean acquireLease() {
+        Instant now = Instant.now();
+        if (!leaseCreated) {
+            try {
+                leaseRepository.createIfMissing(LEASE_NAME, now);
+            } catch (DataIntegrityViolationException e) {
+                // another instance created the lease row at the same time
+            }
+            leaseCreated = true;
+        }
+
+        boolean acquired = leaseRepository.tryAcquire(LEASE_NAME, owner, now, now.plus(leaseDuration)) == 1;
+        if (acquired != (leader.get() == 1)) {
+            log.info(acquired ? "Took over the outbox relay lease." : "Lost the outbox relay lease.");
+        }
+        leader.set(acquired ? 1 : 0);
+        return acquired;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (leader.get() == 1) {
+            try {
+                leaseRepository.release(LEASE_NAME, owner, Instant.now());
+            } catch (RuntimeException e) {
+                log.warn("Releasing the outbox relay lease failed, it expires on its own: {}", e.getMessage());
+            }
+        }
+    }
+}
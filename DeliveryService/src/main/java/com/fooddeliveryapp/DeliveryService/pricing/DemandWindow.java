@@ -0,0 +1,98 @@
+package com.fooddeliveryapp.DeliveryService.pricing;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sliding-window counters of new orders and available couriers in one pricing zone.
+ *
+ * New orders are counted into a {@link LongAdder}, whose striped cells let any number of threads count
+ * without contending on a single memory location. Once per second the aggregator moves the orders counted
+ * since its last run, and the number of couriers available at that moment, into a ring of per-second slots
+ * and publishes the totals of the window together with the resulting fee multiplier.
+ * Only the aggregator thread may call {@link #roll}.
+ */
+public final class DemandWindow {
+
+    /**
+     * The published state of a window: orders and the average number of available couriers over the window,
+     * and the fee multiplier derived from them.
+     */
+    public record Demand(long orders, double availableCouriers, double multiplier) {
+        static final Demand NONE = new Demand(0, 0, 1.0);
+    }
+
+    // never reset, so an increment racing with the aggregator is counted in the next second rather than lost
+    private final LongAdder orders = new LongAdder();
+    private final long[] orderSlots;
+    private final int[] courierSlots;
+    private int cursor;
+    // seconds rolled so far, up to the window length; averages of a young window cover only these
+    private int filledSlots;
+    private long countedOrders;
+    private long orderTotal;
+    private long courierTotal;
+    private int idleSeconds;
+    private volatile Demand demand = Demand.NONE;
+
+    /**
+     * @param windowSeconds The length of the window in seconds.
+     */
+    public DemandWindow(int windowSeconds) {
+        this.orderSlots = new long[windowSeconds];
+        this.courierSlots = new int[windowSeconds];
+    }
+
+    /**
+     * Counts a new order. Lock-free; safe to call from any thread.
+     */
+    public void recordOrder() {
+        orders.increment();
+    }
+
+    /**
+     * @return The demand as of the last aggregation.
+     */
+    public Demand demand() {
+        return demand;
+    }
+
+    /**
+     * Closes the current second: replaces the oldest slot with the orders counted since the last call
+     * and the number of currently available couriers, and publishes the new totals.
+     *
+     * @param availableCouriers The number of couriers available in the zone right now.
+     * @param pricing           Derives the fee multiplier from the orders and the average number of couriers.
+     */
+    public void roll(int availableCouriers, MultiplierFunction pricing) {
+        long counted = orders.sum();
+        long newOrders = counted - countedOrders;
+        countedOrders = counted;
+
+        cursor = (cursor + 1) % orderSlots.length;
+        orderTotal += newOrders - orderSlots[cursor];
+        courierTotal += availableCouriers - courierSlots[cursor];
+        orderSlots[cursor] = newOrders;
+        courierSlots[cursor] = availableCouriers;
+
+        filledSlots = Math.min(filledSlots + 1, orderSlots.length);
+        idleSeconds = newOrders == 0 ? idleSeconds + 1 : 0;
+
+        double averageCouriers = (double) courierTotal / filledSlots;
+        demand = new Demand(orderTotal, averageCouriers, pricing.multiplier(orderTotal, averageCouriers));
+    }
+
+    /**
+     * @return true if no order was counted for a whole window, so the window holds no information anymore.
+     */
+    public boolean isIdle() {
+        return idleSeconds >= orderSlots.length;
+    }
+
+    /**
+     * Derives a fee multiplier from the demand in a window.
+     */
+    @FunctionalInterface
+    public interface MultiplierFunction {
+        double multiplier(long orders, double averageAvailableCouriers);
+    }
+}
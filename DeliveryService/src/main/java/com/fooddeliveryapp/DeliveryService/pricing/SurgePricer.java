@@ -0,0 +1,128 @@
+package com.fooddeliveryapp.DeliveryService.pricing;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.DeliveryService.geo.GeoUtils;
+import com.fooddeliveryapp.DeliveryService.services.ICourierService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Computes surge multipliers for delivery fees from the balance of new orders and available couriers per zone.
+ *
+ * Zones are square grid cells around the delivery address. Every zone that received an order keeps a
+ * {@link DemandWindow}; counting an order is a lock-free increment, and a quote reads the multiplier
+ * published by the last aggregation, so both are O(1) and do not contend with each other.
+ * Once per second the aggregator counts the available couriers per zone and rolls every window forward,
+ * which is where the multipliers are computed. Zones without orders for a whole window are dropped.
+ */
+@Component
+public class SurgePricer {
+
+    /**
+     * The surge state of a zone at the time of a quote.
+     */
+    public record Quote(long zone, long ordersInWindow, double availableCouriers, double multiplier) {
+    }
+
+    private final ICourierService courierService;
+    private final double cellDegrees;
+    private final int windowSeconds;
+    private final double targetOrdersPerCourier;
+    private final double maxMultiplier;
+    private final double multiplierStep;
+    private final Map<Long, DemandWindow> windows = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SurgePricer(ICourierService courierService, MeterRegistry meterRegistry,
+                       @Value("${delivery.fees.surge.cell-degrees:0.02}") double cellDegrees,
+                       @Value("${delivery.fees.surge.window-seconds:600}") int windowSeconds,
+                       @Value("${delivery.fees.surge.target-orders-per-courier:1.0}") double targetOrdersPerCourier,
+                       @Value("${delivery.fees.surge.max-multiplier:2.5}") double maxMultiplier,
+                       @Value("${delivery.fees.surge.multiplier-step:0.1}") double multiplierStep) {
+        this.courierService = courierService;
+        this.cellDegrees = cellDegrees;
+        this.windowSeconds = windowSeconds;
+        this.targetOrdersPerCourier = targetOrdersPerCourier;
+        this.maxMultiplier = maxMultiplier;
+        this.multiplierStep = multiplierStep;
+
+        Gauge.builder("delivery.fees.surge.zones", windows, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Counts a paid order in the zone of its delivery address. Called once the delivery is initiated, not on a quote.
+     *
+     * @param latitude  Latitude of the delivery address in degrees.
+     * @param longitude Longitude of the delivery address in degrees.
+     */
+    public void recordOrder(double latitude, double longitude) {
+        long zone = GeoUtils.cellOf(latitude, longitude, cellDegrees);
+        DemandWindow window = windows.get(zone);
+        if (window == null) {
+            window = windows.computeIfAbsent(zone, key -> new DemandWindow(windowSeconds));
+        }
+        window.recordOrder();
+    }
+
+    /**
+     * Returns the current surge state of the zone of a delivery address.
+     *
+     * @param latitude  Latitude of the delivery address in degrees.
+     * @param longitude Longitude of the delivery address in degrees.
+     * @return The quote; zones without recent orders have a multiplier of 1.
+     */
+    public Quote quote(double latitude, double longitude) {
+        long zone = GeoUtils.cellOf(latitude, longitude, cellDegrees);
+        DemandWindow window = windows.get(zone);
+        DemandWindow.Demand demand = window != null ? window.demand() : DemandWindow.Demand.NONE;
+
+        return new Quote(zone, demand.orders(), demand.availableCouriers(), demand.multiplier());
+    }
+
+    /**
+     * Closes the current second of every zone's window and recomputes the multipliers.
+     * An order counted while its zone is being dropped as idle may be missed; such a zone had no other
+     * order for a whole window, so its multiplier is 1 either way.
+     */
+    @Scheduled(fixedRate = 1000)
+    public void aggregate() {
+        if (windows.isEmpty()) {
+            return;
+        }
+
+        Map<Long, int[]> couriersPerZone = new HashMap<>();
+        courierService.forEachAvailable((courierId, latitude, longitude) -> {
+            long zone = GeoUtils.cellOf(latitude, longitude, cellDegrees);
+            if (windows.containsKey(zone)) {
+                couriersPerZone.computeIfAbsent(zone, key -> new int[1])[0]++;
+            }
+        });
+
+        for (Map.Entry<Long, DemandWindow> entry : windows.entrySet()) {
+            int[] couriers = couriersPerZone.get(entry.getKey());
+            entry.getValue().roll(couriers != null ? couriers[0] : 0, this::multiplierOf);
+        }
+        windows.values().removeIf(DemandWindow::isIdle);
+    }
+
+    /**
+     * Maps the ratio of orders to available couriers in the window onto a multiplier between 1 and the maximum,
+     * in whole steps so the fee does not change with every single order.
+     */
+    double multiplierOf(long orders, double averageAvailableCouriers) {
+        double ordersPerCourier = orders / Math.max(1.0, averageAvailableCouriers);
+        double multiplier = Math.min(maxMultiplier, Math.max(1.0, ordersPerCourier / targetOrdersPerCourier));
+
+        double steps = Math.floor((multiplier - 1.0) / multiplierStep + 1e-9);
+        return Math.round((1.0 + steps * multiplierStep) * 100) / 100.0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.fooddeliveryapp.DeliveryService.proof;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fooddeliveryapp.DeliveryService.exceptions.InvalidProofUploadException;
+
+/**
+ * An inclusive range of bytes, as used by the HTTP Range and Content-Range headers.
+ */
+public record ByteRange(long start, long end) {
+
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+)");
+
+    /**
+     * @return The number of bytes in the range.
+     */
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Parses the Range header of a download.
+     * Only single ranges are served; a header with several ranges, or one that cannot be parsed, is ignored
+     * and the whole file is sent, as the HTTP specification allows.
+     *
+     * @param header The Range header, may be null.
+     * @param size   The size of the file.
+     * @return The requested range, or null to send the whole file.
+     * @throws IllegalStateException if the range lies entirely outside the file.
+     */
+    public static ByteRange parseRange(String header, long size) {
+        if (header == null) {
+            return null;
+        }
+        Matcher matcher = RANGE.matcher(header.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+
+        try {
+            if (matcher.group(1).isEmpty()) {
+                // suffix range: the last n bytes
+                long suffix = Long.parseLong(matcher.group(2));
+                if (suffix == 0 || size == 0) {
+                    throw new IllegalStateException("Range not satisfiable: " + header);
+                }
+                return new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+
+            long start = Long.parseLong(matcher.group(1));
+            long end = matcher.group(2).isEmpty() ? size - 1 : Math.min(Long.parseLong(matcher.group(2)), size - 1);
+            if (start >= size || start > end) {
+                throw new IllegalStateException("Range not satisfiable: " + header);
+            }
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the Content-Range header of an uploaded chunk, for example "bytes 0-65535/1048576".
+     *
+     * @param header        The Content-Range header.
+     * @param expectedTotal The total size announced when the upload was started.
+     * @return The range of the chunk.
+     * @throws InvalidProofUploadException if the header is missing, malformed or does not match the upload.
+     */
+    public static ByteRange parseContentRange(String header, long expectedTotal) {
+        Matcher matcher = header != null ? CONTENT_RANGE.matcher(header.trim()) : null;
+        if (matcher == null || !matcher.matches()) {
+            throw new InvalidProofUploadException("Expected a Content-Range header like 'bytes 0-65535/" + expectedTotal + "'");
+        }
+
+        try {
+            long start = Long.parseLong(matcher.group(1));
+            long end = Long.parseLong(matcher.group(2));
+            long total = Long.parseLong(matcher.group(3));
+            if (total != expectedTotal || start > end || end >= total) {
+                throw new InvalidProofUploadException("Content-Range " + header + " does not fit an upload of " + expectedTotal + " bytes");
+            }
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            throw new InvalidProofUploadException("Content-Range out of range: " + header);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.fooddeliveryapp.DeliveryService.proof;
+
+import java.nio.file.Path;
+
+/**
+ * The stored proof-of-delivery file of a delivery, ready to be served.
+ *
+ * @param path        The location of the file.
+ * @param sizeBytes   The size of the file.
+ * @param contentType The media type of the file.
+ * @param sha256      The hex-encoded SHA-256 hash of the file.
+ */
+public record ProofFile(Path path, long sizeBytes, String contentType, String sha256) {
+}
@@ -0,0 +1,305 @@
+package com.fooddeliveryapp.DeliveryService.proof;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.DeliveryService.exceptions.DeliveryNotFoundException;
+import com.fooddeliveryapp.DeliveryService.exceptions.InvalidProofUploadException;
+import com.fooddeliveryapp.DeliveryService.exceptions.ProofUploadConflictException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Stores proof-of-delivery files on the local file system, outside the delivery database.
+ *
+ * Uploads are written chunk by chunk into a part file: each chunk is streamed from the request body into the file
+ * with {@link FileChannel#transferFrom}, so an image never sits on the heap as a whole. A chunk has to continue
+ * exactly where the previous one ended, which lets a courier on a flaky connection resume an upload instead of
+ * starting over. Once all bytes are in, the file is hashed and moved to a content-addressed location named after
+ * its SHA-256; a file that is already stored is not stored again.
+ *
+ * Uploads in progress are tracked in memory and expire when they see no chunk for a while. Exposes the bytes stored,
+ * the uploads in progress and the number of deduplicated uploads as metrics.
+ */
+@Component
+@Log4j2
+public class ProofStore {
+
+    private static final int HASH_BUFFER_BYTES = 64 * 1024;
+
+    private final Path uploadDirectory;
+    private final Path blobDirectory;
+    private final long maxBytes;
+    private final Duration uploadExpiry;
+    private final Map<UUID, Upload> uploads = new ConcurrentHashMap<>();
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final Counter deduplicatedCounter;
+
+    @Autowired
+    public ProofStore(MeterRegistry meterRegistry,
+                      @Value("${delivery.proof.storage-directory:${java.io.tmpdir}/delivery-proofs}") String storageDirectory,
+                      @Value("${delivery.proof.max-bytes:10485760}") long maxBytes,
+                      @Value("${delivery.proof.upload-expiry-minutes:60}") long uploadExpiryMinutes) {
+        Path root = Paths.get(storageDirectory);
+        this.uploadDirectory = root.resolve("uploads");
+        this.blobDirectory = root.resolve("blobs");
+        this.maxBytes = maxBytes;
+        this.uploadExpiry = Duration.ofMinutes(uploadExpiryMinutes);
+
+        this.deduplicatedCounter = Counter.builder("delivery.proof.deduplicated").register(meterRegistry);
+        Gauge.builder("delivery.proof.storage.bytes", storedBytes, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("delivery.proof.uploads.active", uploads, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Creates the storage directories, removes part files of uploads that were interrupted by a restart
+     * and measures the stored files.
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            Files.createDirectories(uploadDirectory);
+            Files.createDirectories(blobDirectory);
+            try (Stream<Path> parts = Files.list(uploadDirectory)) {
+                parts.forEach(ProofStore::deleteQuietly);
+            }
+            try (Stream<Path> blobs = Files.walk(blobDirectory)) {
+                storedBytes.set(blobs.filter(Files::isRegularFile).mapToLong(ProofStore::sizeOf).sum());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot initialize proof storage in " + blobDirectory.getParent(), e);
+        }
+    }
+
+    /**
+     * Starts a resumable upload.
+     *
+     * @param deliveryId     The delivery the proof belongs to.
+     * @param totalBytes     The size of the file.
+     * @param contentType    The media type of the file.
+     * @param expectedSha256 The hex-encoded SHA-256 of the file, checked once all bytes were received; may be null.
+     * @return The status of the new upload.
+     */
+    public UploadStatus startUpload(UUID deliveryId, long totalBytes, String contentType, String expectedSha256) {
+        if (totalBytes <= 0 || totalBytes > maxBytes) {
+            throw new InvalidProofUploadException("Proof of delivery must be between 1 and " + maxBytes + " bytes");
+        }
+
+        Upload upload = new Upload(UUID.randomUUID(), deliveryId, totalBytes, contentType,
+                expectedSha256 != null ? expectedSha256.toLowerCase() : null);
+        try {
+            Files.createFile(upload.part);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create upload " + upload.uploadId, e);
+        }
+        uploads.put(upload.uploadId, upload);
+        return upload.status();
+    }
+
+    /**
+     * @param uploadId The ID of the upload.
+     * @return The status of the upload.
+     */
+    public UploadStatus getUpload(UUID uploadId) {
+        Upload upload = findUpload(uploadId);
+        synchronized (upload) {
+            return upload.status();
+        }
+    }
+
+    /**
+     * Streams a chunk of the upload from the request body into its part file.
+     * If the body ends before the announced range, the bytes received so far are kept and the upload can be resumed
+     * from there. When the last byte arrives, the file is verified and moved into the content-addressed store.
+     *
+     * @param uploadId The ID of the upload.
+     * @param range    The range of the file the chunk covers; it has to start at the number of bytes received so far.
+     * @param body     The chunk.
+     * @return The status of the upload after the chunk.
+     * @throws ProofUploadConflictException if the chunk does not start where the upload left off.
+     */
+    public UploadStatus append(UUID uploadId, ByteRange range, ReadableByteChannel body) {
+        Upload upload = findUpload(uploadId);
+
+        synchronized (upload) {
+            if (upload.proof != null || !uploads.containsKey(uploadId)) {
+                throw new ProofUploadConflictException("Upload " + uploadId + " is no longer accepting chunks");
+            }
+            if (range.start() != upload.received) {
+                throw new ProofUploadConflictException("Upload " + uploadId + " continues at byte " + upload.received);
+            }
+
+            try (FileChannel channel = FileChannel.open(upload.part, StandardOpenOption.WRITE)) {
+                long position = range.start();
+                long remaining = range.length();
+                while (remaining > 0) {
+                    long transferred = channel.transferFrom(body, position, remaining);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+                upload.received = position;
+            } catch (IOException e) {
+                // the client resumes from whatever made it to disk
+                upload.received = sizeOf(upload.part);
+                throw new UncheckedIOException("Writing chunk of upload " + uploadId + " failed", e);
+            } finally {
+                upload.lastActivity = Instant.now();
+            }
+
+            if (upload.received == upload.totalBytes) {
+                upload.proof = store(upload);
+                uploads.remove(uploadId);
+            }
+            return upload.status();
+        }
+    }
+
+    /**
+     * @param sha256 The hash of a stored proof.
+     * @return The path of the stored proof; the file may not exist.
+     */
+    public Path pathOf(String sha256) {
+        return blobDirectory.resolve(sha256.substring(0, 2)).resolve(sha256);
+    }
+
+    /**
+     * Removes uploads that received no chunk within the expiry time, together with their part files.
+     */
+    @Scheduled(fixedDelayString = "${delivery.proof.cleanup-interval-ms:300000}")
+    public void expireUploads() {
+        Instant cutoff = Instant.now().minus(uploadExpiry);
+
+        for (Upload upload : uploads.values()) {
+            synchronized (upload) {
+                if (upload.lastActivity.isBefore(cutoff) && uploads.remove(upload.uploadId, upload)) {
+                    deleteQuietly(upload.part);
+                    log.info("Proof upload {} of delivery {} expired after {} of {} bytes.",
+                            upload.uploadId, upload.deliveryId, upload.received, upload.totalBytes);
+                }
+            }
+        }
+    }
+
+    private StoredProof store(Upload upload) {
+        String sha256 = sha256Of(upload.part);
+        if (upload.expectedSha256 != null && !upload.expectedSha256.equals(sha256)) {
+            uploads.remove(upload.uploadId);
+            deleteQuietly(upload.part);
+            throw new InvalidProofUploadException("Upload " + upload.uploadId + " does not match the announced SHA-256, start a new upload");
+        }
+
+        Path target = pathOf(sha256);
+        try {
+            Files.createDirectories(target.getParent());
+            // the existence check and the move must not interleave with another upload of the same content
+            synchronized (this) {
+                if (Files.exists(target)) {
+                    Files.delete(upload.part);
+                    deduplicatedCounter.increment();
+                } else {
+                    Files.move(upload.part, target, StandardCopyOption.ATOMIC_MOVE);
+                    storedBytes.addAndGet(upload.totalBytes);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Storing upload " + upload.uploadId + " failed", e);
+        }
+        return new StoredProof(sha256, upload.totalBytes, upload.contentType);
+    }
+
+    private Upload findUpload(UUID uploadId) {
+        Upload upload = uploads.get(uploadId);
+        if (upload == null) {
+            throw new DeliveryNotFoundException("Proof upload not found: " + uploadId);
+        }
+        return upload;
+    }
+
+    static String sha256Of(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_BYTES);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Hashing " + file + " failed", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Cannot delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private final class Upload {
+        private final UUID uploadId;
+        private final UUID deliveryId;
+        private final long totalBytes;
+        private final String contentType;
+        private final String expectedSha256;
+        private final Path part;
+        private long received;
+        private StoredProof proof;
+        private Instant lastActivity = Instant.now();
+
+        private Upload(UUID uploadId, UUID deliveryId, long totalBytes, String contentType, String expectedSha256) {
+            this.uploadId = uploadId;
+            this.deliveryId = deliveryId;
+            this.totalBytes = totalBytes;
+            this.contentType = contentType;
+            this.expectedSha256 = expectedSha256;
+            this.part = uploadDirectory.resolve(uploadId + ".part");
+        }
+
+        private UploadStatus status() {
+            return new UploadStatus(uploadId, deliveryId, totalBytes, received, proof);
+        }
+    }
+}
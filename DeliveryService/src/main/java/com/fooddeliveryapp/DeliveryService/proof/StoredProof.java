@@ -0,0 +1,11 @@
+package com.fooddeliveryapp.DeliveryService.proof;
+
+/**
+ * A proof-of-delivery file in the content-addressed store.
+ *
+ * @param sha256      The hex-encoded SHA-256 hash of the content, which is also its storage key.
+ * @param sizeBytes   The size of the content.
+ * @param contentType The media type of the content.
+ */
+public record StoredProof(String sha256, long sizeBytes, String contentType) {
+}
@@ -0,0 +1,22 @@
+package com.fooddeliveryapp.DeliveryService.proof;
+
+import java.util.UUID;
+
+/**
+ * The progress of a resumable proof-of-delivery upload.
+ *
+ * @param uploadId      The ID of the upload.
+ * @param deliveryId    The delivery the proof belongs to.
+ * @param totalBytes    The size announced when the upload was started.
+ * @param receivedBytes The number of bytes stored so far; the next chunk has to start at this offset.
+ * @param proof         The stored proof once all bytes were received, otherwise null.
+ */
+public record UploadStatus(UUID uploadId, UUID deliveryId, long totalBytes, long receivedBytes, StoredProof proof) {
+
+    /**
+     * @return true if all bytes were received and the proof is stored.
+     */
+    public boolean complete() {
+        return proof != null;
+    }
+}
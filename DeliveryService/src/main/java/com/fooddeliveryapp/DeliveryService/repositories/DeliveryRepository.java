@@ -1,11 +1,18 @@
 package com.fooddeliveryapp.DeliveryService.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
 import com.fooddeliveryapp.DeliveryService.entities.DeliveryDetails;
 
 /**
@@ -26,4 +33,69 @@ public interface DeliveryRepository extends JpaRepository<DeliveryDetails, UUID>
      * @return Optional<DeliveryDetails> containing the delivery details if found, or an empty Optional if not found.
      */
 	Optional<DeliveryDetails> findByOrderId(UUID orderId);
+	
+	/**
+	 * Returns the first page of deliveries with the given status, ordered by delivery ID.
+	 * Used together with {@link #findTop1000ByDeliveryStatusAndDeliveryIdGreaterThanOrderByDeliveryId}
+	 * to walk all deliveries in a status without offset paging.
+	 * 
+	 * @param deliveryStatus The status to look for.
+	 * @return Up to 1000 deliveries in the given status.
+	 */
+	List<DeliveryDetails> findTop1000ByDeliveryStatusOrderByDeliveryId(DeliveryStatus deliveryStatus);
+	
+	/**
+	 * Returns the next page of deliveries with the given status after the given delivery ID.
+	 * 
+	 * @param deliveryStatus The status to look for.
+	 * @param deliveryId The last delivery ID of the previous page.
+	 * @return Up to 1000 deliveries in the given status.
+	 */
+	List<DeliveryDetails> findTop1000ByDeliveryStatusAndDeliveryIdGreaterThanOrderByDeliveryId(DeliveryStatus deliveryStatus, UUID deliveryId);
+	
+	/**
+	 * Returns the deliveries with the given status that were initiated after the given time, oldest first.
+	 * Pass the initiation time of the last delivery of a page to read the next one.
+	 * 
+	 * @param deliveryStatus The status to look for.
+	 * @param initiatedAt Only deliveries initiated after this time are returned.
+	 * @return Up to 1000 deliveries in the given status.
+	 */
+	List<DeliveryDetails> findTop1000ByDeliveryStatusAndInitiatedAtAfterOrderByInitiatedAt(DeliveryStatus deliveryStatus, LocalDateTime initiatedAt);
+	
+	/**
+	 * Returns which of the given deliveries are in the given status, without loading them.
+	 * 
+	 * @param deliveryIds The deliveries to check.
+	 * @param deliveryStatus The status to look for.
+	 * @return The IDs of the given deliveries that are in the status.
+	 */
+	@Query("SELECT d.deliveryId FROM DeliveryDetails d WHERE d.deliveryId IN :deliveryIds AND d.deliveryStatus = :deliveryStatus")
+	List<UUID> findIdsInStatus(@Param("deliveryIds") Collection<UUID> deliveryIds, @Param("deliveryStatus") DeliveryStatus deliveryStatus);
+	
+	/**
+	 * Checks whether a multi-drop route still has deliveries in the given status.
+	 * 
+	 * @param routeId The route to check.
+	 * @param deliveryStatus The status to look for.
+	 * @return true if at least one delivery of the route is in the given status.
+	 */
+	boolean existsByRouteIdAndDeliveryStatus(UUID routeId, DeliveryStatus deliveryStatus);
+	
+	/**
+	 * Changes the status of a delivery, but only while it is still in progress, like the bulk status update does.
+	 * The update count tells whether the change was applied, so of several instances changing the same delivery
+	 * exactly one wins.
+	 * 
+	 * @param deliveryId The delivery to change.
+	 * @param deliveryStatus The new status.
+	 * @param changedAt The time of the change, stored as the delivery time.
+	 * @return 1 if the status was changed, 0 if the delivery does not exist or is no longer in progress.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE DeliveryDetails d SET d.deliveryStatus = :deliveryStatus, d.deliveredAt = :changedAt "
+			+ "WHERE d.deliveryId = :deliveryId "
+			+ "AND d.deliveryStatus = com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus.IN_PROGRESS")
+	int updateStatusIfInProgress(@Param("deliveryId") UUID deliveryId, @Param("deliveryStatus") DeliveryStatus deliveryStatus,
+			@Param("changedAt") LocalDateTime changedAt);
 }
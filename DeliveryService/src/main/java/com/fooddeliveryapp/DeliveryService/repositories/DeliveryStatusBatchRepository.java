@@ -0,0 +1,141 @@
+package com.fooddeliveryapp.DeliveryService.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.entities.DeliveryDetails;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+
+/**
+ * Repository for changing the status of many deliveries at once with plain JDBC.
+ *
+ * Status changes are sent as one JDBC batch of conditional updates instead of loading and merging every entity,
+ * and the matching outbox rows are inserted as a second batch in the same transaction. Each update only applies
+ * to deliveries that are still in progress, so the update counts tell per row whether the change was applied.
+ */
+@Repository
+public class DeliveryStatusBatchRepository {
+
+	// SQL Server accepts at most 2100 parameters per statement
+	static final int MAX_IDS_PER_QUERY = 2000;
+
+	private static final String SELECT_DELIVERIES =
+			"SELECT delivery_id, order_id, restaurant_id, delivery_status, initiated_at, estimated_delivery_at, courier_id, route_id "
+			+ "FROM delivery_details WHERE delivery_id IN (:deliveryIds)";
+
+	private static final String UPDATE_STATUS =
+			"UPDATE delivery_details SET delivery_status = ?, delivered_at = ? "
+			+ "WHERE delivery_id = ? AND delivery_status = 'IN_PROGRESS'";
+
+	private static final String INSERT_OUTBOX_EVENT =
+			"INSERT INTO outbox_event (event_id, order_id, delivery_status, event_time) VALUES (?, ?, ?, ?)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * A status change of one delivery together with the event announcing it.
+	 */
+	public record StatusTransition(UUID deliveryId, DeliveryStatus status, DeliveryEvent event) {
+	}
+
+	@Autowired
+	public DeliveryStatusBatchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Loads the deliveries with the given IDs, with the columns needed to change their status.
+	 * Proof-of-delivery fields and the user ID are not loaded.
+	 * 
+	 * @param deliveryIds The IDs to look up.
+	 * @return The deliveries that exist, in no particular order.
+	 */
+	public List<DeliveryDetails> findAllForTransition(Collection<UUID> deliveryIds) {
+		List<String> ids = deliveryIds.stream().map(UUID::toString).toList();
+		List<DeliveryDetails> deliveries = new ArrayList<>(ids.size());
+
+		for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+			List<String> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_IDS_PER_QUERY));
+			deliveries.addAll(jdbcTemplate.query(SELECT_DELIVERIES, Map.of("deliveryIds", chunk),
+					(rs, rowNum) -> toDelivery(rs)));
+		}
+		return deliveries;
+	}
+
+	/**
+	 * Applies status changes to deliveries that are still in progress and queues their events in the outbox,
+	 * all in one transaction.
+	 * 
+	 * @param transitions The status changes, at most one per delivery.
+	 * @param changedAt The time of the change, stored as the delivery time.
+	 * @return Per transition, in order, whether it was applied; a delivery that is no longer in progress is left
+	 *         untouched and gets no event.
+	 */
+	@Transactional
+	public boolean[] applyTransitions(List<StatusTransition> transitions, LocalDateTime changedAt) {
+		if (transitions.isEmpty()) {
+			return new boolean[0];
+		}
+		
+		Timestamp changedAtTimestamp = Timestamp.valueOf(changedAt);
+		int[] updateCounts = jdbcTemplate.getJdbcOperations().batchUpdate(UPDATE_STATUS, transitions, transitions.size(),
+				(PreparedStatement ps, StatusTransition transition) -> {
+					ps.setString(1, transition.status().name());
+					ps.setTimestamp(2, changedAtTimestamp);
+					ps.setString(3, transition.deliveryId().toString());
+				})[0];
+
+		boolean[] applied = new boolean[transitions.size()];
+		List<DeliveryEvent> events = new ArrayList<>(transitions.size());
+		for (int i = 0; i < transitions.size(); i++) {
+			applied[i] = updateCounts[i] > 0;
+			if (applied[i]) {
+				events.add(transitions.get(i).event());
+			}
+		}
+
+		if (!events.isEmpty()) {
+			jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_OUTBOX_EVENT, events, events.size(),
+					(PreparedStatement ps, DeliveryEvent event) -> {
+						ps.setString(1, event.getEventId().toString());
+						ps.setString(2, event.getOrderId().toString());
+						ps.setString(3, event.getStatus().name());
+						ps.setObject(4, event.getEventTime().atOffset(ZoneOffset.UTC));
+					});
+		}
+		return applied;
+	}
+
+	private static DeliveryDetails toDelivery(ResultSet rs) throws SQLException {
+		Timestamp estimatedDeliveryAt = rs.getTimestamp("estimated_delivery_at");
+		return DeliveryDetails.builder()
+				.deliveryId(uuid(rs.getString("delivery_id")))
+				.orderId(uuid(rs.getString("order_id")))
+				.restaurantId(uuid(rs.getString("restaurant_id")))
+				.deliveryStatus(DeliveryStatus.valueOf(rs.getString("delivery_status")))
+				.initiatedAt(rs.getTimestamp("initiated_at").toLocalDateTime())
+				.estimatedDeliveryAt(estimatedDeliveryAt != null ? estimatedDeliveryAt.toLocalDateTime() : null)
+				.courierId(uuid(rs.getString("courier_id")))
+				.routeId(uuid(rs.getString("route_id")))
+				.build();
+	}
+
+	private static UUID uuid(String value) {
+		return value != null ? UUID.fromString(value) : null;
+	}
+}
@@ -0,0 +1,36 @@
+package com.fooddeliveryapp.DeliveryService.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fooddeliveryapp.DeliveryService.entities.DeliveryZone;
+
+/**
+ * Repository interface for managing the persistence of DeliveryZone entities.
+ */
+@Repository
+public interface DeliveryZoneRepository extends JpaRepository<DeliveryZone, UUID> {
+	/**
+	 * @param restaurantId The unique identifier of the restaurant.
+	 * @return The delivery zones of the restaurant.
+	 */
+	List<DeliveryZone> findByRestaurantId(UUID restaurantId);
+	
+	/**
+	 * Deletes all delivery zones of a restaurant in a single statement.
+	 * 
+	 * @param restaurantId The unique identifier of the restaurant.
+	 * @return The number of deleted zones.
+	 */
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM DeliveryZone z WHERE z.restaurantId = :restaurantId")
+	int deleteByRestaurantId(@Param("restaurantId") UUID restaurantId);
+}
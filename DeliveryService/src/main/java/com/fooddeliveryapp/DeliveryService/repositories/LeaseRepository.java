@@ -0,0 +1,74 @@
+package com.fooddeliveryapp.DeliveryService.repositories;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fooddeliveryapp.DeliveryService.entities.Lease;
+
+/**
+ * Repository interface for managing the persistence of Lease entities.
+ */
+@Repository
+public interface LeaseRepository extends JpaRepository<Lease, String> {
+	/**
+	 * Takes or renews a lease in a single conditional update.
+	 * The update only succeeds if the caller already holds the lease or the current lease has expired,
+	 * so at most one instance holds the lease at any time. Taking over a lease increments its epoch; renewing it does not.
+	 * 
+	 * @param leaseName The name of the lease.
+	 * @param owner The instance asking for the lease.
+	 * @param now The current time.
+	 * @param leaseUntil Until when the lease is held if it is granted.
+	 * @return 1 if the lease was granted, 0 if another instance holds it.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE Lease l SET l.epoch = CASE WHEN l.owner = :owner THEN l.epoch ELSE l.epoch + 1 END, "
+			+ "l.owner = :owner, l.leaseUntil = :leaseUntil "
+			+ "WHERE l.leaseName = :leaseName AND (l.owner = :owner OR l.leaseUntil < :now)")
+	int tryAcquire(@Param("leaseName") String leaseName, @Param("owner") String owner,
+			@Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+	
+	/**
+	 * Reads the epoch of a lease held by the caller.
+	 * 
+	 * @param leaseName The name of the lease.
+	 * @param owner The instance holding the lease.
+	 * @return The epoch, or empty if the caller does not hold the lease.
+	 */
+	@Query("SELECT l.epoch FROM Lease l WHERE l.leaseName = :leaseName AND l.owner = :owner")
+	Optional<Long> findEpoch(@Param("leaseName") String leaseName, @Param("owner") String owner);
+	
+	/**
+	 * Creates the lease row, unheld, unless it already exists.
+	 * 
+	 * @param leaseName The name of the lease.
+	 * @param now The current time.
+	 * @return 1 if the row was created, 0 if it already existed.
+	 */
+	@Modifying
+	@Transactional
+	@Query(value = "INSERT INTO lease (lease_name, owner, lease_until, epoch) SELECT :leaseName, NULL, :now, 0 "
+			+ "WHERE NOT EXISTS (SELECT 1 FROM lease WHERE lease_name = :leaseName)", nativeQuery = true)
+	int createIfMissing(@Param("leaseName") String leaseName, @Param("now") Instant now);
+	
+	/**
+	 * Gives up a lease, so another instance can take it over right away.
+	 * 
+	 * @param leaseName The name of the lease.
+	 * @param owner The instance holding the lease.
+	 * @param now The current time.
+	 * @return 1 if the lease was released, 0 if the caller did not hold it.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE Lease l SET l.owner = NULL, l.leaseUntil = :now WHERE l.leaseName = :leaseName AND l.owner = :owner")
+	int release(@Param("leaseName") String leaseName, @Param("owner") String owner, @Param("now") Instant now);
+}
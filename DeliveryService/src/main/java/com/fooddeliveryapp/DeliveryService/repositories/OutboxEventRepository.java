@@ -0,0 +1,50 @@
+package com.fooddeliveryapp.DeliveryService.repositories;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fooddeliveryapp.DeliveryService.entities.OutboxEvent;
+
+/**
+ * Repository interface for managing the persistence of OutboxEvent entities.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+	/**
+	 * Returns the oldest unsent events in the order they were written.
+	 * 
+	 * @return Up to 500 unsent events.
+	 */
+	List<OutboxEvent> findTop500BySentAtIsNullOrderByOutboxId();
+	
+	/**
+	 * Marks the given events as sent in a single statement.
+	 * 
+	 * @param outboxIds The IDs of the events that were published; at most 2000, the SQL Server parameter limit being 2100.
+	 * @param sentAt When the events were published.
+	 * @return The number of updated rows.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE OutboxEvent o SET o.sentAt = :sentAt WHERE o.outboxId IN :outboxIds")
+	int markSent(@Param("outboxIds") Collection<Long> outboxIds, @Param("sentAt") Instant sentAt);
+	
+	/**
+	 * Deletes events that were sent before the given time.
+	 * 
+	 * @param cutoff Events sent before this time are deleted.
+	 * @return The number of deleted rows.
+	 */
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM OutboxEvent o WHERE o.sentAt < :cutoff")
+	int deleteSentBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,79 @@
+package com.fooddeliveryapp.DeliveryService.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fooddeliveryapp.DeliveryService.entities.SlotReservation;
+import com.fooddeliveryapp.DeliveryService.slots.SlotPartitions;
+
+/**
+ * Repository for writing slot reservations in batches with plain JDBC.
+ * Reservations carry their ID from the moment they are booked, so inserting them needs no lookups.
+ *
+ * Every insert is fenced by the lease of the reservation's partition: the row is only written if the lease is still
+ * in the epoch the reservation was booked in. An instance that lost a partition before writing its queued reservations
+ * can therefore not add them behind the counters the new holder loaded, which would over-book the slots.
+ * The lease row is read with HOLDLOCK, so a takeover waits until the batch is committed and the new holder
+ * counts its reservations.
+ */
+@Repository
+public class SlotReservationBatchRepository {
+
+	private static final String INSERT_RESERVATION =
+			"INSERT INTO slot_reservation (reservation_id, zone_key, partition_id, slot_start, order_id, user_id, created_at, lease_epoch) "
+			+ "SELECT ?, ?, ?, ?, ?, ?, ?, l.epoch FROM lease l WITH (HOLDLOCK) WHERE l.lease_name = ? AND l.epoch = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public SlotReservationBatchRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Inserts reservations as one JDBC batch, all or none.
+	 * Reservations whose partition lease changed hands since they were booked are not inserted.
+	 * 
+	 * @param reservations The reservations to insert.
+	 * @return The reservations that were not inserted because of the fence.
+	 */
+	@Transactional
+	public List<SlotReservation> insertAll(List<SlotReservation> reservations) {
+		List<SlotReservation> fenced = new ArrayList<>();
+		if (reservations.isEmpty()) {
+			return fenced;
+		}
+		
+		int[][] counts = jdbcTemplate.batchUpdate(INSERT_RESERVATION, reservations, reservations.size(),
+				(PreparedStatement ps, SlotReservation reservation) -> {
+					ps.setString(1, reservation.getReservationId().toString());
+					ps.setLong(2, reservation.getZoneKey());
+					ps.setInt(3, reservation.getPartitionId());
+					ps.setTimestamp(4, Timestamp.valueOf(reservation.getSlotStart()));
+					ps.setString(5, reservation.getOrderId() != null ? reservation.getOrderId().toString() : null);
+					ps.setString(6, reservation.getUserId());
+					ps.setTimestamp(7, Timestamp.valueOf(reservation.getCreatedAt()));
+					ps.setString(8, SlotPartitions.leaseName(reservation.getPartitionId()));
+					ps.setLong(9, reservation.getLeaseEpoch());
+				});
+		
+		int index = 0;
+		for (int[] batch : counts) {
+			for (int count : batch) {
+				// a driver that reports Statement.SUCCESS_NO_INFO instead of the count leaves the reservation counted as written
+				if (count == 0) {
+					fenced.add(reservations.get(index));
+				}
+				index++;
+			}
+		}
+		return fenced;
+	}
+}
@@ -0,0 +1,48 @@
+package com.fooddeliveryapp.DeliveryService.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.fooddeliveryapp.DeliveryService.entities.SlotReservation;
+
+/**
+ * Repository interface for reading SlotReservation entities.
+ * Reservations are written in batches by {@link SlotReservationBatchRepository}.
+ */
+@Repository
+public interface SlotReservationRepository extends JpaRepository<SlotReservation, UUID> {
+	/**
+	 * A number of reservations of one zone and slot.
+	 */
+	record SlotCount(Long zoneKey, LocalDateTime slotStart, Long reservations) {
+	}
+	
+	/**
+	 * Counts the reservations per zone and slot of one partition, for rebuilding its capacity counters.
+	 * 
+	 * @param partitionId The partition of the zones.
+	 * @param from Slots starting before this time are skipped.
+	 * @return The number of reservations of every zone and slot with at least one reservation.
+	 */
+	@Query("SELECT new com.fooddeliveryapp.DeliveryService.repositories.SlotReservationRepository$SlotCount(r.zoneKey, r.slotStart, COUNT(r)) "
+			+ "FROM SlotReservation r WHERE r.partitionId = :partitionId AND r.slotStart >= :from GROUP BY r.zoneKey, r.slotStart")
+	List<SlotCount> countByPartitionSince(@Param("partitionId") int partitionId, @Param("from") LocalDateTime from);
+	
+	/**
+	 * Counts the reservations per slot of one zone within a time range.
+	 * 
+	 * @param zoneKey The zone.
+	 * @param from The start of the range, inclusive.
+	 * @param to The end of the range, exclusive.
+	 * @return The number of reservations of every slot with at least one reservation.
+	 */
+	@Query("SELECT new com.fooddeliveryapp.DeliveryService.repositories.SlotReservationRepository$SlotCount(r.zoneKey, r.slotStart, COUNT(r)) "
+			+ "FROM SlotReservation r WHERE r.zoneKey = :zoneKey AND r.slotStart >= :from AND r.slotStart < :to GROUP BY r.zoneKey, r.slotStart")
+	List<SlotCount> countByZoneBetween(@Param("zoneKey") long zoneKey, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
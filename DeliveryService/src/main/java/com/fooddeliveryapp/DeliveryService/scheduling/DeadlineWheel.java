@@ -0,0 +1,154 @@
+package com.fooddeliveryapp.DeliveryService.scheduling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hashed timing wheel that indexes keys by deadline.
+ *
+ * Time is cut into ticks, and every deadline lands in the bucket of its tick modulo the wheel size; deadlines more
+ * than one revolution away simply stay in their bucket until their tick comes round. Adding and removing a key are
+ * O(1) regardless of how many keys are indexed, and advancing the wheel only looks at the buckets of the ticks that
+ * passed.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values attached to the keys.
+ */
+public class DeadlineWheel<K, V> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Map<K, Entry<K, V>>[] buckets;
+    private final Map<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private volatile long lastTick;
+
+    /**
+     * An indexed key together with its deadline.
+     */
+    public record Entry<K, V>(K key, V value, long deadlineMillis, long deadlineTick) {
+    }
+
+    /**
+     * @param tickMillis The resolution of the wheel.
+     * @param wheelSize  The number of buckets, rounded up to a power of two.
+     * @param nowMillis  The current time; deadlines up to this time are considered passed.
+     */
+    @SuppressWarnings("unchecked")
+    public DeadlineWheel(long tickMillis, int wheelSize, long nowMillis) {
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new Map[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new HashMap<>();
+        }
+        this.lastTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * Indexes a key, replacing its previous deadline. Deadlines that have already passed fire on the next advance.
+     *
+     * @param key            The key.
+     * @param value          The value returned with the key when its deadline passes.
+     * @param deadlineMillis The deadline in epoch milliseconds.
+     */
+    public void add(K key, V value, long deadlineMillis) {
+        long tick = Math.max(ceilDiv(deadlineMillis, tickMillis), lastTick + 1);
+        Entry<K, V> entry = new Entry<>(key, value, deadlineMillis, tick);
+
+        Entry<K, V> previous = entries.put(key, entry);
+        if (previous != null) {
+            removeFromBucket(previous);
+        }
+        Map<K, Entry<K, V>> bucket = buckets[(int) (tick & mask)];
+        synchronized (bucket) {
+            bucket.put(key, entry);
+        }
+
+        // the wheel moved past the tick while the entry was being added, so move it to the next tick
+        if (tick <= lastTick && entries.get(key) == entry && removeFromBucket(entry)) {
+            add(key, value, deadlineMillis);
+        }
+    }
+
+    /**
+     * Removes a key from the index.
+     *
+     * @param key The key.
+     * @return The removed entry, or null if the key was not indexed.
+     */
+    public Entry<K, V> remove(K key) {
+        Entry<K, V> entry = entries.remove(key);
+        if (entry != null) {
+            removeFromBucket(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Moves the wheel forward and removes every key whose deadline has passed.
+     * Must not be called concurrently with itself.
+     *
+     * @param nowMillis The current time in epoch milliseconds.
+     * @return The entries whose deadline passed since the last advance.
+     */
+    public List<Entry<K, V>> advance(long nowMillis) {
+        List<Entry<K, V>> expired = new ArrayList<>();
+        long nowTick = nowMillis / tickMillis;
+        long previousTick = lastTick;
+        // published before the buckets are scanned, so entries added behind the scan see that they were passed
+        if (nowTick > previousTick) {
+            lastTick = nowTick;
+        }
+        // after one full revolution every bucket has been visited, so a long pause only costs one pass over the wheel
+        long fromTick = Math.max(previousTick + 1, nowTick - mask);
+
+        for (long tick = fromTick; tick <= nowTick; tick++) {
+            Map<K, Entry<K, V>> bucket = buckets[(int) (tick & mask)];
+            synchronized (bucket) {
+                Iterator<Entry<K, V>> iterator = bucket.values().iterator();
+                while (iterator.hasNext()) {
+                    Entry<K, V> entry = iterator.next();
+                    if (entry.deadlineTick() <= nowTick) {
+                        iterator.remove();
+                        if (entries.remove(entry.key(), entry)) {
+                            expired.add(entry);
+                        }
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Removes every key from the index.
+     */
+    public void clear() {
+        for (K key : entries.keySet()) {
+            remove(key);
+        }
+    }
+
+    /**
+     * @return The number of indexed keys.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private boolean removeFromBucket(Entry<K, V> entry) {
+        Map<K, Entry<K, V>> bucket = buckets[(int) (entry.deadlineTick() & mask)];
+        synchronized (bucket) {
+            return bucket.remove(entry.key(), entry);
+        }
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+}
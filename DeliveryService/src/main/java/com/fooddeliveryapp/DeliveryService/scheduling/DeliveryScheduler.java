@@ -0,0 +1,126 @@
+package com.fooddeliveryapp.DeliveryService.scheduling;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Schedules delayed delivery state transitions on a small, fixed pool of threads.
+ *
+ * Pending transitions are indexed in a {@link DeadlineWheel}, the same timer structure the SLA monitor uses, so
+ * scheduling and cancelling a transition are O(1) however many are pending, and millions of them cost memory rather
+ * than threads. A ticker thread advances the wheel once per tick and hands the due transitions to the worker threads,
+ * so a transition runs within a tick of its due time. At most one transition is pending per delivery; scheduling a
+ * delivery again replaces the previous transition. The scheduler itself keeps no durable state: the DeliveryDetails
+ * table is the source of truth, and pending transitions are rebuilt from it on startup.
+ *
+ * Exposes the number of pending transitions and the lag between a transition's due time and its execution as metrics.
+ */
+@Component
+@Log4j2
+public class DeliveryScheduler {
+
+    private final DeadlineWheel<UUID, Runnable> wheel;
+    private final long tickMillis;
+    private final ScheduledExecutorService ticker;
+    private final ExecutorService workers;
+    private final Timer lagTimer;
+
+    @Autowired
+    public DeliveryScheduler(MeterRegistry meterRegistry,
+                             @Value("${delivery.scheduler.threads:2}") int threads,
+                             @Value("${delivery.scheduler.tick-ms:100}") long tickMillis,
+                             @Value("${delivery.scheduler.wheel-size:4096}") int wheelSize) {
+        this.wheel = new DeadlineWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        this.tickMillis = tickMillis;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "delivery-scheduler-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "delivery-scheduler-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.lagTimer = Timer.builder("delivery.scheduler.lag").register(meterRegistry);
+        Gauge.builder("delivery.scheduler.queue.depth", wheel, DeadlineWheel::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Schedules a transition for a delivery.
+     * Transitions that are already due run on the next tick.
+     *
+     * @param deliveryId The delivery the transition belongs to.
+     * @param dueAt      When the transition should run.
+     * @param transition The transition to run.
+     */
+    public void schedule(UUID deliveryId, Instant dueAt, Runnable transition) {
+        wheel.add(deliveryId, transition, dueAt.toEpochMilli());
+    }
+
+    /**
+     * Cancels the pending transition of a delivery, if there is one.
+     * A transition that is already running is not interrupted.
+     *
+     * @param deliveryId The delivery whose transition should be cancelled.
+     */
+    public void cancel(UUID deliveryId) {
+        wheel.remove(deliveryId);
+    }
+
+    /**
+     * @return The number of transitions waiting to run.
+     */
+    public int pendingCount() {
+        return wheel.size();
+    }
+
+    void tick() {
+        try {
+            for (DeadlineWheel.Entry<UUID, Runnable> entry : wheel.advance(System.currentTimeMillis())) {
+                workers.execute(() -> run(entry));
+            }
+        } catch (RuntimeException e) {
+            log.error("Delivery scheduler tick failed: {}", e.getMessage());
+        }
+    }
+
+    private void run(DeadlineWheel.Entry<UUID, Runnable> entry) {
+        lagTimer.record(Math.max(0L, System.currentTimeMillis() - entry.deadlineMillis()), TimeUnit.MILLISECONDS);
+
+        try {
+            entry.value().run();
+        } catch (RuntimeException e) {
+            log.error("Scheduled transition for delivery {} failed: {}", entry.key(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        workers.shutdownNow();
+    }
+}
@@ -24,7 +24,13 @@ public class WebSecurityConfig {
     public SecurityFilterChain securityWebFilterChain(HttpSecurity http) throws Exception {
         http
             .authorizeHttpRequests(authorizeRequest ->
-                authorizeRequest.requestMatchers("/deliveries/**")
+                authorizeRequest.requestMatchers("/slots/**")
+                				.hasAnyAuthority("Customer", "SCOPE_internal")
+                				.requestMatchers("/tracking/couriers/**")
+                				.hasAnyAuthority("Courier", "SCOPE_internal")
+                				.requestMatchers("/tracking/deliveries/**")
+                				.hasAnyAuthority("Customer", "SCOPE_internal")
+                				.requestMatchers("/deliveries/**", "/couriers/**", "/simulations/**", "/zones/**", "/fees/**")
                 				.hasAuthority("SCOPE_internal")
                 				.anyRequest()
                 				.authenticated())
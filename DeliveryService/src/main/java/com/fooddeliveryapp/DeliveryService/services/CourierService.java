@@ -0,0 +1,194 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fooddeliveryapp.DeliveryService.geo.GeoGrid;
+import com.fooddeliveryapp.DeliveryService.models.CourierPositionRequest;
+import com.fooddeliveryapp.DeliveryService.models.CourierResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.Valid;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Keeps the live positions of couriers in an in-memory grid index and assigns couriers to deliveries.
+ *
+ * Every courier has an assignment slot holding the ID of the order it is delivering, or null while it is available.
+ * A courier is claimed with a compare-and-set on that slot, so two concurrent deliveries can never book the same courier.
+ * Positions are not persisted: couriers report their position again after a restart, and assignments of
+ * deliveries that are still in progress are restored from the database.
+ */
+@Service
+@Log4j2
+public class CourierService implements ICourierService {
+
+	private final GeoGrid<UUID> grid;
+	private final Map<UUID, AtomicReference<UUID>> assignments = new ConcurrentHashMap<>();
+	private final int assignmentCandidates;
+	
+	private final Counter assignedCounter;
+	private final Counter unavailableCounter;
+	private final Timer assignmentTimer;
+
+	@Autowired
+	public CourierService(MeterRegistry meterRegistry,
+	                      @Value("${delivery.couriers.cell-degrees:0.01}") double cellDegrees,
+	                      @Value("${delivery.couriers.search-radius-meters:10000}") double searchRadiusMeters,
+	                      @Value("${delivery.couriers.assignment-candidates:8}") int assignmentCandidates) {
+		this.grid = new GeoGrid<>(cellDegrees, searchRadiusMeters);
+		this.assignmentCandidates = assignmentCandidates;
+		
+		this.assignedCounter = Counter.builder("delivery.couriers.assignments").tag("result", "assigned").register(meterRegistry);
+		this.unavailableCounter = Counter.builder("delivery.couriers.assignments").tag("result", "unavailable").register(meterRegistry);
+		this.assignmentTimer = Timer.builder("delivery.couriers.assignment.latency").register(meterRegistry);
+		Gauge.builder("delivery.couriers.online", grid, GeoGrid::size).register(meterRegistry);
+	}
+
+	/**
+	 * Records the current position of a courier.
+	 * Couriers that were not known before come online as available.
+	 * 
+	 * @param courierId The unique identifier of the courier.
+	 * @param positionRequest The reported position.
+	 */
+	@Override
+	public void updatePosition(UUID courierId, @Valid CourierPositionRequest positionRequest) {
+		AtomicReference<UUID> assignment = assignmentOf(courierId);
+		
+		// the grid expects updates of the same courier to be serialized
+		synchronized (assignment) {
+			grid.put(courierId, positionRequest.getLatitude(), positionRequest.getLongitude());
+		}
+	}
+
+	/**
+	 * Removes a courier from the index, so it is no longer offered for new deliveries.
+	 * A delivery the courier is currently assigned to stays assigned.
+	 * 
+	 * @param courierId The unique identifier of the courier.
+	 */
+	@Override
+	public void goOffline(UUID courierId) {
+		AtomicReference<UUID> assignment = assignments.get(courierId);
+		if (assignment == null) {
+			return;
+		}
+		
+		synchronized (assignment) {
+			grid.remove(courierId);
+		}
+	}
+
+	/**
+	 * Finds the available couriers closest to a location.
+	 * 
+	 * @param latitude Latitude of the location in degrees.
+	 * @param longitude Longitude of the location in degrees.
+	 * @param limit The maximum number of couriers to return.
+	 * @return Up to limit couriers within the search radius, closest first.
+	 */
+	@Override
+	public List<CourierResponse> findNearestAvailable(double latitude, double longitude, int limit) {
+		return grid.nearest(latitude, longitude, limit, this::isAvailable).stream()
+				.map(neighbor -> CourierResponse.builder()
+						.courierId(neighbor.id())
+						.latitude(neighbor.latitude())
+						.longitude(neighbor.longitude())
+						.distanceMeters(neighbor.distanceMeters())
+						.build())
+				.toList();
+	}
+
+	/**
+	 * Visits the position of every available courier.
+	 * 
+	 * @param visitor Receives each available courier and its last reported position.
+	 */
+	@Override
+	public void forEachAvailable(GeoGrid.PointVisitor<UUID> visitor) {
+		grid.forEach((courierId, latitude, longitude) -> {
+			if (isAvailable(courierId)) {
+				visitor.visit(courierId, latitude, longitude);
+			}
+		});
+	}
+
+	/**
+	 * Assigns the closest available courier to an order.
+	 * The closest few candidates are tried in order; a candidate that was claimed by a concurrent assignment
+	 * in the meantime is skipped.
+	 * 
+	 * @param latitude Latitude of the pickup location in degrees.
+	 * @param longitude Longitude of the pickup location in degrees.
+	 * @param orderId The order the courier is assigned to.
+	 * @return The ID of the assigned courier, or an empty Optional if no courier is available nearby.
+	 */
+	@Override
+	public Optional<UUID> assignNearest(double latitude, double longitude, UUID orderId) {
+		long startedAt = System.nanoTime();
+		
+		try {
+			for (GeoGrid.Neighbor<UUID> candidate : grid.nearest(latitude, longitude, assignmentCandidates, this::isAvailable)) {
+				if (assignmentOf(candidate.id()).compareAndSet(null, orderId)) {
+					assignedCounter.increment();
+					log.info("Courier {} assigned to order {} ({} m away).", candidate.id(), orderId, Math.round(candidate.distanceMeters()));
+					return Optional.of(candidate.id());
+				}
+			}
+			
+			unavailableCounter.increment();
+			log.warn("No available courier found for order {}.", orderId);
+			return Optional.empty();
+		} finally {
+			assignmentTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * Makes a courier available again once its delivery is finished.
+	 * Nothing happens if the courier is assigned to a different order.
+	 * 
+	 * @param courierId The unique identifier of the courier.
+	 * @param orderId The order the courier was delivering.
+	 */
+	@Override
+	public void release(UUID courierId, UUID orderId) {
+		AtomicReference<UUID> assignment = assignments.get(courierId);
+		if (assignment != null && assignment.compareAndSet(orderId, null)) {
+			log.info("Courier {} released from order {}.", courierId, orderId);
+		}
+	}
+
+	/**
+	 * Marks a courier as busy with an order after a restart, before the courier reports its position again.
+	 * 
+	 * @param courierId The unique identifier of the courier.
+	 * @param orderId The order the courier is delivering.
+	 */
+	@Override
+	public void restoreAssignment(UUID courierId, UUID orderId) {
+		assignmentOf(courierId).compareAndSet(null, orderId);
+	}
+	
+	private boolean isAvailable(UUID courierId) {
+		AtomicReference<UUID> assignment = assignments.get(courierId);
+		return assignment != null && assignment.get() == null;
+	}
+	
+	private AtomicReference<UUID> assignmentOf(UUID courierId) {
+		return assignments.computeIfAbsent(courierId, id -> new AtomicReference<>());
+	}
+}
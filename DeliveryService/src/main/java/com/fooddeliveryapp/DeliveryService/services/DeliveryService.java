@@ -1,21 +1,49 @@
 package com.fooddeliveryapp.DeliveryService.services;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fooddeliveryapp.DeliveryService.batching.BatchedDelivery;
+import com.fooddeliveryapp.DeliveryService.batching.DeliveryBatcher;
+import com.fooddeliveryapp.DeliveryService.batching.DeliveryRoute;
 import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.constants.StatusUpdateOutcome;
 import com.fooddeliveryapp.DeliveryService.entities.DeliveryDetails;
+import com.fooddeliveryapp.DeliveryService.estimation.DeliveryEtaEstimator;
 import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
 import com.fooddeliveryapp.DeliveryService.exceptions.DeliveryNotFoundException;
+import com.fooddeliveryapp.DeliveryService.models.BulkStatusUpdateRequest;
+import com.fooddeliveryapp.DeliveryService.models.BulkStatusUpdateResponse;
 import com.fooddeliveryapp.DeliveryService.models.DeliveryRequest;
 import com.fooddeliveryapp.DeliveryService.models.DeliveryResponse;
+import com.fooddeliveryapp.DeliveryService.models.StatusUpdate;
+import com.fooddeliveryapp.DeliveryService.models.StatusUpdateResult;
+import com.fooddeliveryapp.DeliveryService.outbox.DeliveryOutbox;
+import com.fooddeliveryapp.DeliveryService.pricing.SurgePricer;
+import com.fooddeliveryapp.DeliveryService.proof.StoredProof;
 import com.fooddeliveryapp.DeliveryService.repositories.DeliveryRepository;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryStatusBatchRepository;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryStatusBatchRepository.StatusTransition;
+import com.fooddeliveryapp.DeliveryService.scheduling.DeliveryScheduler;
+import com.fooddeliveryapp.DeliveryService.sla.SlaMonitor;
 
 import jakarta.validation.Valid;
 import lombok.extern.log4j.Log4j2;
@@ -28,15 +56,46 @@ public class DeliveryService implements IDeliveryService {
     private DeliveryRepository deliveryRepository;
 	
 	@Autowired
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private DeliveryOutbox deliveryOutbox;
 	
 	@Autowired
-    private ObjectMapper objectMapper;
+    private DeliveryStatusBatchRepository statusBatchRepository;
+	
+	@Autowired
+    private DeliveryScheduler deliveryScheduler;
+	
+	@Autowired
+    private ICourierService courierService;
+	
+	@Autowired
+    private DeliveryEtaEstimator etaEstimator;
+	
+	@Autowired
+    private ITrackingService trackingService;
+	
+	@Autowired
+    private DeliveryBatcher deliveryBatcher;
+    
+	@Autowired
+    private SlaMonitor slaMonitor;
+    
+	@Autowired
+    private SurgePricer surgePricer;
+	
+	@Value("${delivery.simulation.duration-seconds:10}")
+    private long deliveryDurationSeconds;
+	
+	@Value("${delivery.scheduler.retry-delay-seconds:30}")
+    private long retryDelaySeconds;
+	
+	// serializes the updates of a delivery: completion, status changes, assigning it to a route and attaching its proof
+	private final ReentrantLock[] deliveryLocks = IntStream.range(0, 256).mapToObj(i -> new ReentrantLock()).toArray(ReentrantLock[]::new);
  
     /**
      * Fetches delivery details by order ID.
      * This method retrieves the delivery information associated with a given order ID from the database.
      * If no delivery details are found for the provided order ID, it throws a RuntimeException.
+     * For deliveries in progress, the estimated delivery time is recalculated from the latest statistics.
      * 
      * @param orderId The unique identifier of the order whose delivery details are to be fetched.
      * @return A DeliveryResponse object containing the details of the delivery.
@@ -56,6 +115,9 @@ public class DeliveryService implements IDeliveryService {
         		.deliveryStatus(deliveryDetails.getDeliveryStatus())
         		.initiatedAt(deliveryDetails.getInitiatedAt())
         		.deliveredAt(deliveryDetails.getDeliveredAt())
+        		.estimatedDeliveryAt(estimateDeliveryAt(deliveryDetails))
+        		.courierId(deliveryDetails.getCourierId())
+        		.proofSha256(deliveryDetails.getProofSha256())
         		.build();
         
         return deliveryResponse;
@@ -64,9 +126,13 @@ public class DeliveryService implements IDeliveryService {
     /**
      * Processes a new delivery request.
      * This method initiates a delivery process by saving the delivery details to the database.
-     * It then simulates a delivery process in a separate thread, where the status is updated to "DELIVERED" after a delay.
-     * If the delivery is successful, an event is sent to a Kafka topic to notify the Order service.
-     * If the delivery fails, the status is updated to "FAILED" and a failure event is sent to Kafka to notify the Order service.
+     * If the request contains the pickup location, a courier is assigned to the delivery: when batching is enabled,
+     * the delivery waits in its restaurant's batch and the courier is assigned to the route it ends up in,
+     * otherwise the closest available courier is assigned right away.
+     * The delivery is monitored for SLA breaches until it is completed.
+     * The order is paid by now, so it counts towards the surge demand of the zone of its drop-off location.
+     * It then schedules the simulated completion of the delivery, where the status is updated to "DELIVERED" after a delay.
+     * When the delivery is completed, an event is sent to a Kafka topic to notify the Order service.
      * 
      * @param deliveryRequest The delivery request containing the necessary information to initiate the delivery.
      */
@@ -74,49 +140,363 @@ public class DeliveryService implements IDeliveryService {
     public void processDelivery(@Valid DeliveryRequest deliveryRequest) {
         log.info("Initiating the delivery process...");
         
+        boolean hasPickup = deliveryRequest.getPickupLatitude() != null && deliveryRequest.getPickupLongitude() != null;
+        boolean batched = hasPickup && deliveryBatcher.isEnabled();
+        
+        UUID courierId = null;
+        if (hasPickup && !batched) {
+            courierId = courierService.assignNearest(deliveryRequest.getPickupLatitude(),
+                    deliveryRequest.getPickupLongitude(), deliveryRequest.getOrderId()).orElse(null);
+        }
+        
+        LocalDateTime initiatedAt = LocalDateTime.now();
+        Duration estimatedDuration = etaEstimator.estimate(deliveryRequest.getRestaurantId(), initiatedAt.getHour());
+        
         DeliveryDetails delivery = DeliveryDetails.builder()
             .orderId(deliveryRequest.getOrderId())
             .restaurantId(deliveryRequest.getRestaurantId())
             .userId(deliveryRequest.getUserId())
             .deliveryStatus(DeliveryStatus.IN_PROGRESS)
-            .initiatedAt(LocalDateTime.now())
+            .initiatedAt(initiatedAt)
+            .estimatedDeliveryAt(initiatedAt.plus(estimatedDuration))
+            .courierId(courierId)
             .build();
-        deliveryRepository.save(delivery);
         
-        // simulating delivery process in a separate thread
-        new Thread(() -> {
+        DeliveryDetails savedDelivery;
+        try {
+            savedDelivery = deliveryRepository.save(delivery);
+        } catch (RuntimeException e) {
+            if (courierId != null) {
+                courierService.release(courierId, deliveryRequest.getOrderId());
+            }
+            throw e;
+        }
+        
+        if (batched) {
+            deliveryBatcher.submit(new BatchedDelivery(savedDelivery.getDeliveryId(), savedDelivery.getOrderId(),
+                    savedDelivery.getRestaurantId(), deliveryRequest.getPickupLatitude(), deliveryRequest.getPickupLongitude(),
+                    deliveryRequest.getDropoffLatitude(), deliveryRequest.getDropoffLongitude(), System.nanoTime()));
+        }
+        if (deliveryRequest.getDropoffLatitude() != null && deliveryRequest.getDropoffLongitude() != null) {
+            surgePricer.recordOrder(deliveryRequest.getDropoffLatitude(), deliveryRequest.getDropoffLongitude());
+        }
+        slaMonitor.register(savedDelivery);
+        scheduleCompletion(savedDelivery);
+    }
+    
+    /**
+     * Assigns one courier to every delivery of a planned route.
+     * The courier is the closest available one to the restaurant. Deliveries of the route that were completed in the
+     * meantime are skipped, and if none is left, the courier is released right away.
+     * 
+     * @param route The planned route.
+     */
+    @EventListener
+    public void assignRoute(DeliveryRoute route) {
+        Optional<UUID> courier = courierService.assignNearest(route.pickupLatitude(), route.pickupLongitude(), route.routeId());
+        if (courier.isEmpty()) {
+            log.warn("No courier available for route {} with {} stop(s).", route.routeId(), route.stops().size());
+            return;
+        }
+        
+        UUID courierId = courier.get();
+        int assigned = 0;
+        try {
+            for (BatchedDelivery stop : route.stops()) {
+                ReentrantLock lock = lockFor(stop.deliveryId());
+                lock.lock();
+                try {
+                    DeliveryDetails delivery = deliveryRepository.findById(stop.deliveryId()).orElse(null);
+                    if (delivery == null || delivery.getDeliveryStatus() != DeliveryStatus.IN_PROGRESS) {
+                        continue;
+                    }
+                    delivery.setCourierId(courierId);
+                    delivery.setRouteId(route.routeId());
+                    deliveryRepository.save(delivery);
+                    assigned++;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } finally {
+            if (assigned == 0) {
+                courierService.release(courierId, route.routeId());
+            }
+        }
+    }
+    
+    /**
+     * Completes a delivery that is still in progress.
+     * The status is updated to "DELIVERED", the delivery duration is fed into the ETA statistics,
+     * SLA monitoring stops, the assigned courier becomes available again, live tracking is closed
+     * and an event for the Order service is written to the outbox in the same transaction as the status change.
+     * The status is changed with an update that only applies while the delivery is still in progress, so when
+     * several instances complete the same delivery, e.g. because each of them resumed it after a restart,
+     * only one of them changes it and writes the event; the others only stop monitoring it themselves.
+     * Deliveries that are no longer in progress are not changed again.
+     * If the delivery cannot be saved, the transition is retried later; the delivery stays "IN_PROGRESS" in the database
+     * in the meantime, so it is also picked up again after a restart.
+     * 
+     * @param deliveryId The ID of the delivery to complete.
+     */
+    public void completeDelivery(UUID deliveryId) {
+        try {
+            DeliveryDetails delivery;
+            boolean completed;
+            ReentrantLock lock = lockFor(deliveryId);
+            lock.lock();
             try {
-                Thread.sleep(10000); 
-                delivery.setDeliveryStatus(DeliveryStatus.DELIVERED);
-                delivery.setDeliveredAt(LocalDateTime.now());
-                deliveryRepository.save(delivery);
+                delivery = deliveryRepository.findById(deliveryId).orElse(null);
+                if (delivery == null) {
+                    return;
+                }
                 
-                log.info("Dispatching delivery event to Order service...");
+                deliveryBatcher.cancel(delivery.getRestaurantId(), deliveryId);
+                LocalDateTime deliveredAt = LocalDateTime.now();
                 
+                // the event is published by the outbox relay once this transaction has committed
                 DeliveryEvent event = new DeliveryEvent(delivery.getOrderId(), DeliveryStatus.DELIVERED);
-                String value = objectMapper.writeValueAsString(event);
-                
-                kafkaTemplate.send("delivery-topic", value);
-                
-                log.info("Delivery event successfully dispatched to Order service.");
-            } catch (InterruptedException e) {
-                log.error("Delivery failed.");
-                delivery.setDeliveryStatus(DeliveryStatus.FAILED);
-                deliveryRepository.save(delivery);
-                
-                DeliveryEvent event = new DeliveryEvent(delivery.getOrderId(), DeliveryStatus.FAILED);
-                try {
-                    String value = objectMapper.writeValueAsString(event);
-                    kafkaTemplate.send("delivery-topic", value);
-                } catch (JsonProcessingException e1) {
-                    log.error("Error serializing the failure event: {}", e1.getMessage());
+                completed = delivery.getDeliveryStatus() == DeliveryStatus.IN_PROGRESS
+                        && deliveryOutbox.transitionWithEvent(deliveryId, DeliveryStatus.DELIVERED, deliveredAt, event);
+                if (completed) {
+                    delivery.setDeliveryStatus(DeliveryStatus.DELIVERED);
+                    delivery.setDeliveredAt(deliveredAt);
                 }
-                
-                Thread.currentThread().interrupt();
-            } catch (JsonProcessingException e) {
-                log.error("Error serializing the event: {}", e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+            
+            if (!completed) {
+                // changed elsewhere, e.g. by another instance that resumed the same delivery
+                stopMonitoring(delivery);
+                return;
             }
-        }).start();
+            afterStatusChange(delivery);
+            
+            log.info("Delivery {} completed, delivery event queued for the Order service.", deliveryId);
+        } catch (RuntimeException e) {
+            log.error("Completing delivery {} failed, retrying in {}s: {}", deliveryId, retryDelaySeconds, e.getMessage());
+            deliveryScheduler.schedule(deliveryId, Instant.now().plusSeconds(retryDelaySeconds), () -> completeDelivery(deliveryId));
+        }
+    }
+    
+    /**
+     * Changes the status of many in-progress deliveries at once.
+     * The deliveries are loaded with one query, the changes are applied as one JDBC batch of conditional updates and
+     * their events are written to the outbox as a second batch in the same transaction; the outbox relay then sends
+     * them to Kafka together. Every change is reported on its own: deliveries that do not exist, are no longer in
+     * progress, are listed twice or would be moved back to "IN_PROGRESS" are skipped without failing the others.
+     * Deliveries that were changed are cleaned up like completed ones: their scheduled completion is cancelled,
+     * SLA monitoring and live tracking stop and their couriers become available again.
+     * 
+     * @param updateRequest The status changes, at most 1000.
+     * @return A BulkStatusUpdateResponse with the number of changed deliveries and one result per requested change.
+     */
+    public BulkStatusUpdateResponse updateStatuses(@Valid BulkStatusUpdateRequest updateRequest) {
+        List<StatusUpdate> updates = updateRequest.getUpdates();
+        StatusUpdateOutcome[] outcomes = new StatusUpdateOutcome[updates.size()];
+        Map<UUID, Integer> candidates = new LinkedHashMap<>();
+        
+        for (int i = 0; i < updates.size(); i++) {
+            StatusUpdate update = updates.get(i);
+            if (update.getDeliveryStatus() == DeliveryStatus.IN_PROGRESS) {
+                outcomes[i] = StatusUpdateOutcome.INVALID_STATUS;
+            } else if (candidates.putIfAbsent(update.getDeliveryId(), i) != null) {
+                outcomes[i] = StatusUpdateOutcome.DUPLICATE;
+            }
+        }
+        
+        List<DeliveryDetails> changed = new ArrayList<>();
+        List<ReentrantLock> locks = lockAll(candidates.keySet());
+        try {
+            Map<UUID, DeliveryDetails> deliveries = statusBatchRepository.findAllForTransition(candidates.keySet()).stream()
+                    .collect(Collectors.toMap(DeliveryDetails::getDeliveryId, Function.identity()));
+            
+            LocalDateTime changedAt = LocalDateTime.now();
+            List<StatusTransition> transitions = new ArrayList<>();
+            List<Integer> transitionIndexes = new ArrayList<>();
+            for (Map.Entry<UUID, Integer> candidate : candidates.entrySet()) {
+                DeliveryDetails delivery = deliveries.get(candidate.getKey());
+                DeliveryStatus status = updates.get(candidate.getValue()).getDeliveryStatus();
+                if (delivery == null) {
+                    outcomes[candidate.getValue()] = StatusUpdateOutcome.NOT_FOUND;
+                } else if (delivery.getDeliveryStatus() != DeliveryStatus.IN_PROGRESS) {
+                    outcomes[candidate.getValue()] = StatusUpdateOutcome.NOT_IN_PROGRESS;
+                } else {
+                    transitions.add(new StatusTransition(delivery.getDeliveryId(), status,
+                            new DeliveryEvent(delivery.getOrderId(), status)));
+                    transitionIndexes.add(candidate.getValue());
+                }
+            }
+            
+            boolean[] applied = statusBatchRepository.applyTransitions(transitions, changedAt);
+            for (int t = 0; t < transitions.size(); t++) {
+                int index = transitionIndexes.get(t);
+                // another instance may have changed the delivery since it was read
+                outcomes[index] = applied[t] ? StatusUpdateOutcome.UPDATED : StatusUpdateOutcome.NOT_IN_PROGRESS;
+                if (applied[t]) {
+                    DeliveryDetails delivery = deliveries.get(transitions.get(t).deliveryId());
+                    delivery.setDeliveryStatus(transitions.get(t).status());
+                    delivery.setDeliveredAt(changedAt);
+                    deliveryBatcher.cancel(delivery.getRestaurantId(), delivery.getDeliveryId());
+                    changed.add(delivery);
+                }
+            }
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+        
+        for (DeliveryDetails delivery : changed) {
+            deliveryScheduler.cancel(delivery.getDeliveryId());
+            afterStatusChange(delivery);
+        }
+        log.info("Bulk status update changed {} of {} deliveries.", changed.size(), updates.size());
+        
+        List<StatusUpdateResult> results = new ArrayList<>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            results.add(new StatusUpdateResult(updates.get(i).getDeliveryId(), updates.get(i).getDeliveryStatus(), outcomes[i]));
+        }
+        return new BulkStatusUpdateResponse(changed.size(), results);
+    }
+    
+    /**
+     * Attaches a stored proof-of-delivery photo to a delivery, replacing the previous one.
+     * Only the hash and metadata of the photo are saved; the photo itself stays in the proof store.
+     * 
+     * @param deliveryId The ID of the delivery.
+     * @param proof The stored proof.
+     * @throws DeliveryNotFoundException if the delivery does not exist
+     */
+    @Override
+    public void attachProof(UUID deliveryId, StoredProof proof) {
+        ReentrantLock lock = lockFor(deliveryId);
+        lock.lock();
+        try {
+            DeliveryDetails delivery = deliveryRepository.findById(deliveryId)
+                    .orElseThrow(() -> new DeliveryNotFoundException("Delivery not found for ID: " + deliveryId));
+            
+            delivery.setProofSha256(proof.sha256());
+            delivery.setProofContentType(proof.contentType());
+            delivery.setProofSizeBytes(proof.sizeBytes());
+            delivery.setProofUploadedAt(LocalDateTime.now());
+            deliveryRepository.save(delivery);
+        } finally {
+            lock.unlock();
+        }
+        log.info("Proof of delivery {} attached to delivery {}.", proof.sha256(), deliveryId);
+    }
+    
+    /**
+     * Re-schedules every delivery that is still in progress after a restart.
+     * Deliveries whose completion time has already passed are completed right away.
+     * Their couriers are marked as busy again, so they are not offered to new deliveries,
+     * and they are monitored for SLA breaches again.
+     * Deliveries are read in pages of 1000 so the number of in-flight deliveries does not bound the heap.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInProgressDeliveries() {
+        int resumed = 0;
+        List<DeliveryDetails> page = deliveryRepository.findTop1000ByDeliveryStatusOrderByDeliveryId(DeliveryStatus.IN_PROGRESS);
+        
+        while (!page.isEmpty()) {
+            for (DeliveryDetails delivery : page) {
+                if (delivery.getCourierId() != null) {
+                    courierService.restoreAssignment(delivery.getCourierId(), assignmentIdOf(delivery));
+                }
+                slaMonitor.register(delivery);
+                scheduleCompletion(delivery);
+            }
+            resumed += page.size();
+            
+            UUID lastDeliveryId = page.get(page.size() - 1).getDeliveryId();
+            page = deliveryRepository.findTop1000ByDeliveryStatusAndDeliveryIdGreaterThanOrderByDeliveryId(DeliveryStatus.IN_PROGRESS, lastDeliveryId);
+        }
+        
+        log.info("Resumed {} in-progress deliveries.", resumed);
+    }
+    
+    /**
+     * Cleans up after a delivery left "IN_PROGRESS": feeds a completed delivery's duration into the ETA statistics,
+     * stops SLA monitoring and live tracking and releases the courier.
+     */
+    private void afterStatusChange(DeliveryDetails delivery) {
+        if (delivery.getDeliveryStatus() == DeliveryStatus.DELIVERED) {
+            etaEstimator.record(delivery.getRestaurantId(), delivery.getInitiatedAt().getHour(),
+                    Duration.between(delivery.getInitiatedAt(), delivery.getDeliveredAt()),
+                    delivery.getEstimatedDeliveryAt() != null ? Duration.between(delivery.getInitiatedAt(), delivery.getEstimatedDeliveryAt()) : null);
+        }
+        
+        stopMonitoring(delivery);
+    }
+    
+    // stops SLA monitoring and live tracking of a delivery on this instance and releases its courier
+    private void stopMonitoring(DeliveryDetails delivery) {
+        slaMonitor.deregister(delivery.getDeliveryId());
+        releaseCourier(delivery);
+        trackingService.completeTracking(delivery.getDeliveryId());
+    }
+    
+    // takes the locks of all given deliveries in index order, so concurrent callers cannot deadlock
+    private List<ReentrantLock> lockAll(Iterable<UUID> deliveryIds) {
+        boolean[] needed = new boolean[deliveryLocks.length];
+        for (UUID deliveryId : deliveryIds) {
+            needed[lockIndexOf(deliveryId)] = true;
+        }
+        
+        List<ReentrantLock> locks = new ArrayList<>();
+        for (int i = 0; i < needed.length; i++) {
+            if (needed[i]) {
+                deliveryLocks[i].lock();
+                locks.add(deliveryLocks[i]);
+            }
+        }
+        return locks;
+    }
+    
+    private void releaseCourier(DeliveryDetails delivery) {
+        if (delivery.getCourierId() == null) {
+            return;
+        }
+        // the courier of a multi-drop route is only free once its last stop is delivered
+        if (delivery.getRouteId() != null
+                && deliveryRepository.existsByRouteIdAndDeliveryStatus(delivery.getRouteId(), DeliveryStatus.IN_PROGRESS)) {
+            return;
+        }
+        courierService.release(delivery.getCourierId(), assignmentIdOf(delivery));
+    }
+    
+    private static UUID assignmentIdOf(DeliveryDetails delivery) {
+        return delivery.getRouteId() != null ? delivery.getRouteId() : delivery.getOrderId();
+    }
+    
+    private ReentrantLock lockFor(UUID deliveryId) {
+        return deliveryLocks[lockIndexOf(deliveryId)];
+    }
+    
+    private int lockIndexOf(UUID deliveryId) {
+        return Math.floorMod(deliveryId.hashCode(), deliveryLocks.length);
+    }
+    
+    private LocalDateTime estimateDeliveryAt(DeliveryDetails delivery) {
+        if (delivery.getDeliveryStatus() != DeliveryStatus.IN_PROGRESS || delivery.getInitiatedAt() == null) {
+            return delivery.getEstimatedDeliveryAt();
+        }
+        
+        LocalDateTime estimatedDeliveryAt = delivery.getInitiatedAt()
+                .plus(etaEstimator.estimate(delivery.getRestaurantId(), delivery.getInitiatedAt().getHour()));
+        LocalDateTime now = LocalDateTime.now();
+        
+        // a late delivery is expected any moment rather than in the past
+        return estimatedDeliveryAt.isBefore(now) ? now : estimatedDeliveryAt;
+    }
+    
+    private void scheduleCompletion(DeliveryDetails delivery) {
+        UUID deliveryId = delivery.getDeliveryId();
+        Instant dueAt = delivery.getInitiatedAt()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .plusSeconds(deliveryDurationSeconds);
+        
+        deliveryScheduler.schedule(deliveryId, dueAt, () -> completeDelivery(deliveryId));
     }
 }
-
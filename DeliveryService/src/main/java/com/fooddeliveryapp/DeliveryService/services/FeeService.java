@@ -0,0 +1,57 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fooddeliveryapp.DeliveryService.models.FeeQuoteRequest;
+import com.fooddeliveryapp.DeliveryService.models.FeeQuoteResponse;
+import com.fooddeliveryapp.DeliveryService.pricing.SurgePricer;
+
+import jakarta.validation.Valid;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Service class responsible for quoting delivery fees.
+ * Quoting does not count as demand: a customer may ask for a fee and never pay, so orders are only counted
+ * once their delivery is initiated.
+ */
+@Service
+@Log4j2
+public class FeeService implements IFeeService {
+
+	@Autowired
+	private SurgePricer surgePricer;
+	
+	@Value("${delivery.fees.base-fee:2.5}")
+	private double baseFee;
+
+	/**
+	 * Quotes the delivery fee of a new order: the base fee times the surge multiplier of the zone
+	 * of the delivery address. Without a delivery address the base fee is quoted.
+	 * 
+	 * @param feeQuoteRequest The restaurant and delivery address of the order.
+	 * @return The quoted fee and how it was derived.
+	 */
+	@Override
+	public FeeQuoteResponse quoteFee(@Valid FeeQuoteRequest feeQuoteRequest) {
+		if (feeQuoteRequest.getLatitude() == null || feeQuoteRequest.getLongitude() == null) {
+			return new FeeQuoteResponse(baseFee, 1.0, baseFee, 0, 0);
+		}
+		
+		SurgePricer.Quote quote = surgePricer.quote(feeQuoteRequest.getLatitude(), feeQuoteRequest.getLongitude());
+		
+		if (quote.multiplier() > 1.0) {
+			log.debug("Surge x{} for an order of restaurant {}: {} orders and {} couriers in the window.",
+					quote.multiplier(), feeQuoteRequest.getRestaurantId(), quote.ordersInWindow(), quote.availableCouriers());
+		}
+		
+		return FeeQuoteResponse.builder()
+				.baseFee(baseFee)
+				.surgeMultiplier(quote.multiplier())
+				.deliveryFee(Math.round(baseFee * quote.multiplier() * 100) / 100.0)
+				.ordersInWindow(quote.ordersInWindow())
+				.availableCouriers(quote.availableCouriers())
+				.build();
+	}
+}
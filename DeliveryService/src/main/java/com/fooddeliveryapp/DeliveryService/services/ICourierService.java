@@ -0,0 +1,31 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.fooddeliveryapp.DeliveryService.geo.GeoGrid;
+import com.fooddeliveryapp.DeliveryService.models.CourierPositionRequest;
+import com.fooddeliveryapp.DeliveryService.models.CourierResponse;
+
+import jakarta.validation.Valid;
+
+/**
+ * Interface for the Courier service that defines the operations
+ * related to tracking couriers and assigning them to deliveries.
+ */
+public interface ICourierService {
+	void updatePosition(UUID courierId, @Valid CourierPositionRequest positionRequest);
+	
+	void goOffline(UUID courierId);
+	
+	List<CourierResponse> findNearestAvailable(double latitude, double longitude, int limit);
+	
+	void forEachAvailable(GeoGrid.PointVisitor<UUID> visitor);
+	
+	Optional<UUID> assignNearest(double latitude, double longitude, UUID orderId);
+	
+	void release(UUID courierId, UUID orderId);
+	
+	void restoreAssignment(UUID courierId, UUID orderId);
+}
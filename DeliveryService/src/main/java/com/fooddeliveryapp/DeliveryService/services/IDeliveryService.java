@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import com.fooddeliveryapp.DeliveryService.models.DeliveryRequest;
 import com.fooddeliveryapp.DeliveryService.models.DeliveryResponse;
+import com.fooddeliveryapp.DeliveryService.proof.StoredProof;
 
 import jakarta.validation.Valid;
 
@@ -16,4 +17,6 @@ public interface IDeliveryService {
 	DeliveryResponse getDeliveryByOrderId(UUID orderId);
 	
 	void processDelivery(@Valid DeliveryRequest deliveryRequest);
+	
+	void attachProof(UUID deliveryId, StoredProof proof);
 }
@@ -0,0 +1,14 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import com.fooddeliveryapp.DeliveryService.models.FeeQuoteRequest;
+import com.fooddeliveryapp.DeliveryService.models.FeeQuoteResponse;
+
+import jakarta.validation.Valid;
+
+/**
+ * Interface for the Fee service that defines the operations
+ * related to pricing deliveries.
+ */
+public interface IFeeService {
+	FeeQuoteResponse quoteFee(@Valid FeeQuoteRequest feeQuoteRequest);
+}
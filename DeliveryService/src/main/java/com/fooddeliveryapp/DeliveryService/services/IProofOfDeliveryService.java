@@ -0,0 +1,24 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import java.nio.channels.ReadableByteChannel;
+import java.util.UUID;
+
+import com.fooddeliveryapp.DeliveryService.models.ProofUploadRequest;
+import com.fooddeliveryapp.DeliveryService.models.ProofUploadResponse;
+import com.fooddeliveryapp.DeliveryService.proof.ProofFile;
+
+import jakarta.validation.Valid;
+
+/**
+ * Interface for the Proof of Delivery service that defines the operations
+ * related to uploading and serving proof-of-delivery photos.
+ */
+public interface IProofOfDeliveryService {
+	ProofUploadResponse startUpload(UUID deliveryId, @Valid ProofUploadRequest uploadRequest);
+	
+	ProofUploadResponse getUpload(UUID deliveryId, UUID uploadId);
+	
+	ProofUploadResponse uploadChunk(UUID deliveryId, UUID uploadId, String contentRange, ReadableByteChannel body);
+	
+	ProofFile getProof(UUID deliveryId);
+}
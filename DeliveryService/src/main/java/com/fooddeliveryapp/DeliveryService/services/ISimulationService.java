@@ -0,0 +1,14 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import com.fooddeliveryapp.DeliveryService.models.SimulationReport;
+import com.fooddeliveryapp.DeliveryService.models.SimulationRequest;
+
+import jakarta.validation.Valid;
+
+/**
+ * Interface for the Simulation service that defines the operations
+ * related to running courier fleet simulations for capacity testing.
+ */
+public interface ISimulationService {
+	SimulationReport runSimulation(@Valid SimulationRequest simulationRequest);
+}
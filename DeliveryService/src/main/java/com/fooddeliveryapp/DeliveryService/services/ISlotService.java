@@ -0,0 +1,19 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fooddeliveryapp.DeliveryService.models.SlotBookingRequest;
+import com.fooddeliveryapp.DeliveryService.models.SlotBookingResponse;
+import com.fooddeliveryapp.DeliveryService.models.SlotResponse;
+
+import jakarta.validation.Valid;
+
+/**
+ * Interface for the Slot service that defines the operations
+ * related to booking delivery time slots.
+ */
+public interface ISlotService {
+	List<SlotResponse> listSlots(double latitude, double longitude, LocalDate date);
+	SlotBookingResponse bookSlot(@Valid SlotBookingRequest slotBookingRequest, String userId, String authorization, boolean forwarded);
+}
@@ -0,0 +1,24 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import java.util.UUID;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fooddeliveryapp.DeliveryService.models.LocationPingBatchRequest;
+import com.fooddeliveryapp.DeliveryService.models.TrackingResponse;
+
+import jakarta.validation.Valid;
+
+/**
+ * Interface for the Tracking service that defines the operations
+ * related to ingesting courier locations and tracking deliveries live.
+ */
+public interface ITrackingService {
+	int ingest(UUID courierId, @Valid LocationPingBatchRequest batchRequest);
+	
+	TrackingResponse getTracking(UUID deliveryId, String customerId);
+	
+	SseEmitter subscribe(UUID deliveryId, String customerId);
+	
+	void completeTracking(UUID deliveryId);
+}
@@ -0,0 +1,24 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.fooddeliveryapp.DeliveryService.models.DeliveryZoneRequest;
+import com.fooddeliveryapp.DeliveryService.models.DeliveryZoneResponse;
+import com.fooddeliveryapp.DeliveryService.models.ZoneEligibilityResponse;
+
+import jakarta.validation.Valid;
+
+/**
+ * Interface for the Zone service that defines the operations
+ * related to the areas restaurants deliver to.
+ */
+public interface IZoneService {
+	List<DeliveryZoneResponse> replaceZones(UUID restaurantId, List<@Valid DeliveryZoneRequest> zoneRequests);
+	
+	List<DeliveryZoneResponse> getZones(UUID restaurantId);
+	
+	ZoneEligibilityResponse checkEligibility(UUID restaurantId, double latitude, double longitude);
+	
+	List<UUID> findRestaurantsDeliveringTo(double latitude, double longitude);
+}
@@ -0,0 +1,138 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.fooddeliveryapp.DeliveryService.entities.DeliveryDetails;
+import com.fooddeliveryapp.DeliveryService.exceptions.DeliveryNotFoundException;
+import com.fooddeliveryapp.DeliveryService.models.ProofUploadRequest;
+import com.fooddeliveryapp.DeliveryService.models.ProofUploadResponse;
+import com.fooddeliveryapp.DeliveryService.proof.ByteRange;
+import com.fooddeliveryapp.DeliveryService.proof.ProofFile;
+import com.fooddeliveryapp.DeliveryService.proof.ProofStore;
+import com.fooddeliveryapp.DeliveryService.proof.UploadStatus;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryRepository;
+
+import jakarta.validation.Valid;
+import lombok.extern.log4j.Log4j2;
+
+@Service
+@Log4j2
+public class ProofOfDeliveryService implements IProofOfDeliveryService {
+
+	@Autowired
+    private DeliveryRepository deliveryRepository;
+	
+	@Autowired
+    private IDeliveryService deliveryService;
+	
+	@Autowired
+    private ProofStore proofStore;
+	
+	/**
+     * Starts a resumable upload of a proof-of-delivery photo.
+     * 
+     * @param deliveryId The ID of the delivery the photo belongs to.
+     * @param uploadRequest The size and type of the photo, and optionally its SHA-256 to verify the upload against.
+     * @return The new upload; the first chunk starts at byte 0.
+     * @throws DeliveryNotFoundException if the delivery does not exist
+     */
+	@Override
+	public ProofUploadResponse startUpload(UUID deliveryId, @Valid ProofUploadRequest uploadRequest) {
+		if (!deliveryRepository.existsById(deliveryId)) {
+			throw new DeliveryNotFoundException("Delivery not found for ID: " + deliveryId);
+		}
+		
+		UploadStatus status = proofStore.startUpload(deliveryId, uploadRequest.getTotalBytes(),
+				uploadRequest.getContentType(), uploadRequest.getSha256());
+		log.info("Proof upload {} of {} bytes started for delivery {}.", status.uploadId(), status.totalBytes(), deliveryId);
+		
+		return toResponse(status);
+	}
+	
+	/**
+     * Fetches the progress of an upload, so an interrupted upload can be resumed.
+     * 
+     * @param deliveryId The ID of the delivery.
+     * @param uploadId The ID of the upload.
+     * @return The upload, including the offset the next chunk has to start at.
+     * @throws DeliveryNotFoundException if the upload does not exist, has expired or belongs to another delivery
+     */
+	@Override
+	public ProofUploadResponse getUpload(UUID deliveryId, UUID uploadId) {
+		return toResponse(findUpload(deliveryId, uploadId));
+	}
+	
+	/**
+     * Stores a chunk of an upload.
+     * When the last chunk arrives, the photo is moved into the proof store and attached to the delivery.
+     * 
+     * @param deliveryId The ID of the delivery.
+     * @param uploadId The ID of the upload.
+     * @param contentRange The Content-Range header of the chunk, for example "bytes 0-65535/1048576".
+     * @param body The chunk.
+     * @return The upload after the chunk.
+     * @throws DeliveryNotFoundException if the upload does not exist, has expired or belongs to another delivery
+     */
+	@Override
+	public ProofUploadResponse uploadChunk(UUID deliveryId, UUID uploadId, String contentRange, ReadableByteChannel body) {
+		UploadStatus upload = findUpload(deliveryId, uploadId);
+		ByteRange range = ByteRange.parseContentRange(contentRange, upload.totalBytes());
+		
+		UploadStatus status = proofStore.append(uploadId, range, body);
+		if (status.complete()) {
+			deliveryService.attachProof(deliveryId, status.proof());
+		}
+		
+		return toResponse(status);
+	}
+	
+	/**
+     * Fetches the proof-of-delivery photo of a delivery.
+     * 
+     * @param deliveryId The ID of the delivery.
+     * @return The stored photo.
+     * @throws DeliveryNotFoundException if the delivery does not exist or has no proof of delivery
+     */
+	@Override
+	public ProofFile getProof(UUID deliveryId) {
+		DeliveryDetails delivery = deliveryRepository.findById(deliveryId)
+				.orElseThrow(() -> new DeliveryNotFoundException("Delivery not found for ID: " + deliveryId));
+		
+		if (delivery.getProofSha256() == null) {
+			throw new DeliveryNotFoundException("No proof of delivery for delivery ID: " + deliveryId);
+		}
+		
+		Path path = proofStore.pathOf(delivery.getProofSha256());
+		if (!Files.isRegularFile(path)) {
+			log.error("Proof of delivery {} of delivery {} is missing from the proof store.", delivery.getProofSha256(), deliveryId);
+			throw new DeliveryNotFoundException("No proof of delivery for delivery ID: " + deliveryId);
+		}
+		
+		return new ProofFile(path, delivery.getProofSizeBytes(), delivery.getProofContentType(), delivery.getProofSha256());
+	}
+	
+	private UploadStatus findUpload(UUID deliveryId, UUID uploadId) {
+		UploadStatus status = proofStore.getUpload(uploadId);
+		if (!status.deliveryId().equals(deliveryId)) {
+			throw new DeliveryNotFoundException("Proof upload not found: " + uploadId);
+		}
+		return status;
+	}
+	
+	private static ProofUploadResponse toResponse(UploadStatus status) {
+		return ProofUploadResponse.builder()
+				.uploadId(status.uploadId())
+				.deliveryId(status.deliveryId())
+				.totalBytes(status.totalBytes())
+				.receivedBytes(status.receivedBytes())
+				.complete(status.complete())
+				.sha256(status.complete() ? status.proof().sha256() : null)
+				.build();
+	}
+}
@@ -0,0 +1,134 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEventPublisher;
+import com.fooddeliveryapp.DeliveryService.exceptions.SimulationInProgressException;
+import com.fooddeliveryapp.DeliveryService.models.SimulationReport;
+import com.fooddeliveryapp.DeliveryService.models.SimulationRequest;
+import com.fooddeliveryapp.DeliveryService.simulation.FleetSimulation;
+
+import jakarta.validation.Valid;
+import lombok.extern.log4j.Log4j2;
+
+@Service
+@ConditionalOnProperty(prefix = "delivery.simulation.fleet", name = "enabled", havingValue = "true")
+@Log4j2
+public class SimulationService implements ISimulationService {
+
+	@Autowired
+    private DeliveryEventPublisher deliveryEventPublisher;
+	
+	@Value("${delivery.simulation.fleet.topic:delivery-simulation-topic}")
+    private String simulationTopic;
+	
+	@Value("${delivery.couriers.simulation.center-latitude:44.8125}")
+    private double defaultCenterLatitude;
+	
+	@Value("${delivery.couriers.simulation.center-longitude:20.4612}")
+    private double defaultCenterLongitude;
+	
+	// a run keeps a core busy, so only one runs at a time
+	private final AtomicBoolean running = new AtomicBoolean();
+	
+	/**
+     * Runs a courier fleet simulation on a virtual clock and summarizes its outcome.
+     * The run does not touch the database or the live courier index. If requested, every completed or failed
+     * simulated delivery is published to the simulation topic with its simulated time. The events are kept off the
+     * delivery-topic, because their order IDs do not exist in the Order service.
+     * 
+     * @param simulationRequest The parameters of the run.
+     * @return A SimulationReport with the order counts, delivery times and courier utilization of the run.
+     * @throws SimulationInProgressException if another simulation is running
+     */
+	@Override
+	public SimulationReport runSimulation(@Valid SimulationRequest simulationRequest) {
+		if (!running.compareAndSet(false, true)) {
+			throw new SimulationInProgressException("Another fleet simulation is still running.");
+		}
+		
+		try {
+			FleetSimulation.Settings settings = settingsOf(simulationRequest);
+			AtomicLong published = new AtomicLong();
+			Consumer<DeliveryEvent> eventSink = simulationRequest.isPublishEvents()
+					? event -> {
+						deliveryEventPublisher.publish(simulationTopic, event);
+						published.incrementAndGet();
+					}
+					: event -> { };
+			
+			log.info("Running fleet simulation with {} couriers for {} simulated minutes (seed {}).",
+					settings.couriers(), settings.durationMinutes(), settings.seed());
+			long startedAt = System.nanoTime();
+			FleetSimulation.Result result = new FleetSimulation(settings, Instant.now(), eventSink).run();
+			long wallClockMillis = (System.nanoTime() - startedAt) / 1_000_000;
+			
+			SimulationReport report = toReport(settings, result, published.get(), wallClockMillis);
+			log.info("Fleet simulation finished in {} ms: {} orders, {} delivered, {} failed by couriers, {} expired.",
+					wallClockMillis, report.getOrdersPlaced(), report.getDelivered(), report.getFailedByCourier(),
+					report.getExpiredWaitingForCourier());
+			return report;
+		} finally {
+			running.set(false);
+		}
+	}
+	
+	private FleetSimulation.Settings settingsOf(SimulationRequest request) {
+		return new FleetSimulation.Settings(request.getSeed(), request.getCouriers(), request.getRestaurants(),
+				request.getDurationMinutes(), request.getBaseOrdersPerHour(),
+				// the rate never drops below the base rate
+				Math.max(request.getBaseOrdersPerHour(), request.getPeakOrdersPerHour()),
+				request.getCenterLatitude() != null ? request.getCenterLatitude() : defaultCenterLatitude,
+				request.getCenterLongitude() != null ? request.getCenterLongitude() : defaultCenterLongitude,
+				request.getRadiusMeters(), request.getSpeedMetersPerSecond(), request.getMeanPrepMinutes(),
+				request.getMaxWaitMinutes(), request.getCourierFailureRate(), request.getCourierRecoveryMinutes());
+	}
+	
+	static SimulationReport toReport(FleetSimulation.Settings settings, FleetSimulation.Result result,
+			long eventsPublished, long wallClockMillis) {
+		long[] deliveryMillis = result.deliveryMillis().clone();
+		Arrays.sort(deliveryMillis);
+		int assignedOrders = result.ordersPlaced() - result.expiredWaiting();
+		
+		return SimulationReport.builder()
+				.seed(settings.seed())
+				.couriers(settings.couriers())
+				.simulatedMinutes(minutes(result.simulatedMillis()))
+				.ordersPlaced(result.ordersPlaced())
+				.delivered(result.delivered())
+				.failedByCourier(result.failedByCourier())
+				.expiredWaitingForCourier(result.expiredWaiting())
+				.medianDeliveryMinutes(minutes(percentile(deliveryMillis, 0.5)))
+				.p95DeliveryMinutes(minutes(percentile(deliveryMillis, 0.95)))
+				.maxDeliveryMinutes(minutes(deliveryMillis.length > 0 ? deliveryMillis[deliveryMillis.length - 1] : 0))
+				.averageAssignmentWaitMinutes(assignedOrders > 0 ? minutes(result.totalAssignmentWaitMillis() / assignedOrders) : 0)
+				.courierUtilization(result.simulatedMillis() > 0
+						? (double) result.busyCourierMillis() / ((double) settings.couriers() * result.simulatedMillis()) : 0)
+				.peakWaitingOrders(result.peakWaitingOrders())
+				.eventsProcessed(result.eventsProcessed())
+				.eventsPublished(eventsPublished)
+				.wallClockMillis(wallClockMillis)
+				.build();
+	}
+	
+	private static long percentile(long[] sorted, double quantile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+	}
+	
+	private static double minutes(long millis) {
+		return Math.round(millis / 600.0) / 100.0;
+	}
+}
@@ -0,0 +1,199 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fooddeliveryapp.DeliveryService.entities.SlotReservation;
+import com.fooddeliveryapp.DeliveryService.exceptions.InvalidSlotException;
+import com.fooddeliveryapp.DeliveryService.geo.GeoUtils;
+import com.fooddeliveryapp.DeliveryService.exceptions.SlotFullException;
+import com.fooddeliveryapp.DeliveryService.exceptions.SlotPartitionUnavailableException;
+import com.fooddeliveryapp.DeliveryService.models.SlotBookingRequest;
+import com.fooddeliveryapp.DeliveryService.models.SlotBookingResponse;
+import com.fooddeliveryapp.DeliveryService.models.SlotResponse;
+import com.fooddeliveryapp.DeliveryService.repositories.SlotReservationRepository;
+import com.fooddeliveryapp.DeliveryService.slots.ReservationWriter;
+import com.fooddeliveryapp.DeliveryService.slots.SlotForwarder;
+import com.fooddeliveryapp.DeliveryService.slots.SlotInventory;
+import com.fooddeliveryapp.DeliveryService.slots.SlotPartitions;
+
+import jakarta.validation.Valid;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Service class responsible for listing and booking delivery time slots.
+ *
+ * Every zone, a grid cell around the delivery address, has the same courier capacity per slot. Bookings are
+ * counted against it in memory by the instance that books the zone's partition and written to the database
+ * in batches; bookings reaching another instance are forwarded to it.
+ */
+@Service
+@Log4j2
+public class SlotService implements ISlotService {
+
+	@Autowired
+	private SlotInventory slotInventory;
+	
+	@Autowired
+	private SlotPartitions slotPartitions;
+	
+	@Autowired
+	private ReservationWriter reservationWriter;
+	
+	@Autowired
+	private SlotForwarder slotForwarder;
+	
+	@Autowired
+	private SlotReservationRepository slotReservationRepository;
+	
+	@Value("${delivery.slots.capacity:20}")
+	private int capacity;
+	
+	@Value("${delivery.slots.length-minutes:15}")
+	private int lengthMinutes;
+	
+	@Value("${delivery.slots.lead-minutes:30}")
+	private int leadMinutes;
+	
+	@Value("${delivery.slots.horizon-days:7}")
+	private int horizonDays;
+	
+	@Value("${delivery.slots.cell-degrees:0.05}")
+	private double cellDegrees;
+
+	/**
+	 * Lists the slots of a day that can still be booked at a delivery address, with their remaining capacity.
+	 * 
+	 * @param latitude Latitude of the delivery address.
+	 * @param longitude Longitude of the delivery address.
+	 * @param date The day.
+	 * @return The bookable slots of the day, in order.
+	 */
+	@Override
+	public List<SlotResponse> listSlots(double latitude, double longitude, LocalDate date) {
+		long zone = GeoUtils.cellOf(latitude, longitude, cellDegrees);
+		LocalDateTime first = firstBookableSlot();
+		LocalDateTime last = LocalDateTime.now().plusDays(horizonDays);
+		
+		LocalDateTime from = date.atStartOfDay().isAfter(first) ? date.atStartOfDay() : first;
+		LocalDateTime to = date.plusDays(1).atStartOfDay().isBefore(last) ? date.plusDays(1).atStartOfDay() : last;
+		if (!from.isBefore(to)) {
+			return List.of();
+		}
+		
+		boolean owned = slotPartitions.isOwned(slotInventory.partitionOf(zone));
+		Map<LocalDateTime, Integer> booked = new HashMap<>();
+		if (!owned) {
+			// another instance counts the bookings; the stored reservations lag it by at most a write interval
+			for (SlotReservationRepository.SlotCount count : slotReservationRepository.countByZoneBetween(zone, from, to)) {
+				booked.put(count.slotStart(), count.reservations().intValue());
+			}
+		}
+		
+		List<SlotResponse> slots = new ArrayList<>();
+		for (LocalDateTime slotStart = from; slotStart.isBefore(to); slotStart = slotStart.plusMinutes(lengthMinutes)) {
+			int bookedCount = owned
+					? slotInventory.bookedCount(new SlotInventory.SlotKey(zone, slotStart))
+					: booked.getOrDefault(slotStart, 0);
+			slots.add(new SlotResponse(slotStart, slotStart.plusMinutes(lengthMinutes), capacity, Math.max(0, capacity - bookedCount)));
+		}
+		return slots;
+	}
+
+	/**
+	 * Books a slot at a delivery address. The slot's capacity is claimed in memory without touching the database;
+	 * the reservation is written shortly after. Bookings of zones booked by another instance are forwarded to it.
+	 * 
+	 * @param slotBookingRequest The booking.
+	 * @param userId The user the slot is booked for, taken from the token of the request.
+	 * @param authorization The Authorization header of the request, passed along when the booking is forwarded.
+	 * @param forwarded Whether the booking was forwarded by another instance.
+	 * @return The reservation.
+	 * @throws InvalidSlotException if the slot does not exist or can no longer be booked.
+	 * @throws SlotFullException if the slot has no capacity left in the zone.
+	 * @throws SlotPartitionUnavailableException if no instance can book the zone right now.
+	 */
+	@Override
+	public SlotBookingResponse bookSlot(@Valid SlotBookingRequest slotBookingRequest, String userId, String authorization, boolean forwarded) {
+		LocalDateTime slotStart = slotBookingRequest.getSlotStart();
+		validateSlot(slotStart);
+		
+		long zone = GeoUtils.cellOf(slotBookingRequest.getLatitude(), slotBookingRequest.getLongitude(), cellDegrees);
+		int partition = slotInventory.partitionOf(zone);
+		
+		SlotBookingResponse reservation = slotPartitions.bookIfOwned(partition, () -> reserve(slotBookingRequest, userId, zone, partition));
+		if (reservation != null) {
+			return reservation;
+		}
+		
+		String ownerUrl = slotPartitions.ownerUrl(partition);
+		if (forwarded || ownerUrl == null || ownerUrl.equals(slotPartitions.baseUrl())) {
+			throw new SlotPartitionUnavailableException("Slots of this area cannot be booked right now, please try again shortly.");
+		}
+		
+		log.debug("Forwarding a booking of slot partition {} to {}.", partition, ownerUrl);
+		return slotForwarder.forward(ownerUrl, slotBookingRequest, authorization);
+	}
+	
+	private SlotBookingResponse reserve(SlotBookingRequest slotBookingRequest, String userId, long zone, int partition) {
+		SlotInventory.SlotKey slot = new SlotInventory.SlotKey(zone, slotBookingRequest.getSlotStart());
+		if (!slotInventory.tryReserve(slot, capacity)) {
+			throw new SlotFullException("The slot " + slot.slotStart() + " is fully booked.");
+		}
+		
+		SlotReservation reservation = SlotReservation.builder()
+				.reservationId(UUID.randomUUID())
+				.zoneKey(zone)
+				.partitionId(partition)
+				.slotStart(slot.slotStart())
+				.orderId(slotBookingRequest.getOrderId())
+				.userId(userId)
+				.createdAt(LocalDateTime.now())
+				.leaseEpoch(slotPartitions.epochOf(partition))
+				.build();
+		
+		if (!reservationWriter.enqueue(reservation)) {
+			slotInventory.cancel(slot);
+			throw new SlotPartitionUnavailableException("Too many bookings are waiting to be saved, please try again shortly.");
+		}
+		
+		return SlotBookingResponse.builder()
+				.reservationId(reservation.getReservationId())
+				.zoneKey(zone)
+				.slotStart(slot.slotStart())
+				.slotEnd(slot.slotStart().plusMinutes(lengthMinutes))
+				.remainingCapacity(Math.max(0, capacity - slotInventory.bookedCount(slot)))
+				.build();
+	}
+	
+	private void validateSlot(LocalDateTime slotStart) {
+		if (slotStart.getSecond() != 0 || slotStart.getNano() != 0
+				|| (slotStart.getHour() * 60 + slotStart.getMinute()) % lengthMinutes != 0) {
+			throw new InvalidSlotException("Slots start every " + lengthMinutes + " minutes.");
+		}
+		if (slotStart.isBefore(firstBookableSlot())) {
+			throw new InvalidSlotException("Slots have to be booked at least " + leadMinutes + " minutes ahead.");
+		}
+		if (slotStart.isAfter(LocalDateTime.now().plusDays(horizonDays))) {
+			throw new InvalidSlotException("Slots can be booked at most " + horizonDays + " days ahead.");
+		}
+	}
+	
+	// the first slot starting at least the lead time from now
+	private LocalDateTime firstBookableSlot() {
+		LocalDateTime earliest = LocalDateTime.now().plusMinutes(leadMinutes);
+		LocalDateTime slot = earliest.truncatedTo(ChronoUnit.HOURS)
+				.plusMinutes((earliest.getMinute() / lengthMinutes) * (long) lengthMinutes);
+		return slot.isBefore(earliest) ? slot.plusMinutes(lengthMinutes) : slot;
+	}
+}
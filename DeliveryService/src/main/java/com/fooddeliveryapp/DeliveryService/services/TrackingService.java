@@ -0,0 +1,450 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.entities.DeliveryDetails;
+import com.fooddeliveryapp.DeliveryService.exceptions.DeliveryNotFoundException;
+import com.fooddeliveryapp.DeliveryService.exceptions.TrackingAccessDeniedException;
+import com.fooddeliveryapp.DeliveryService.models.CourierPositionRequest;
+import com.fooddeliveryapp.DeliveryService.models.LocationPing;
+import com.fooddeliveryapp.DeliveryService.models.LocationPingBatchRequest;
+import com.fooddeliveryapp.DeliveryService.models.PositionResponse;
+import com.fooddeliveryapp.DeliveryService.models.TrackingResponse;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryRepository;
+import com.fooddeliveryapp.DeliveryService.tracking.PingRingBuffer;
+import com.fooddeliveryapp.DeliveryService.tracking.PositionHistory;
+import com.fooddeliveryapp.DeliveryService.tracking.TrackedPosition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Valid;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Ingests courier location pings and keeps the live position of every delivery in memory.
+ *
+ * Request threads only put pings into a lock-free ring buffer with preallocated slots and return; pings that do not
+ * fit are dropped and the caller is told so. A single drainer thread applies the buffered pings in batches: it updates
+ * the latest position per delivery, appends to the down-sampled route of the delivery and moves the courier in the
+ * courier index once per batch. Because there is one writer, readers of the latest positions never block.
+ * Positions are never written to the database.
+ *
+ * Only the courier assigned to a delivery may report positions for it, and only the delivery's customer may follow
+ * it. The courier and customer of a delivery are read from the database once and then kept for as long as the
+ * delivery is tracked, so the checks do not cost a query per batch.
+ *
+ * Customers follow a delivery over server-sent events. Changed positions are pushed at most once per push interval,
+ * so the stream rate does not depend on how often couriers report. Deliveries that received no pings for the idle
+ * timeout are evicted, and the number of tracked deliveries is capped, so memory stays flat. Pings for a delivery that
+ * are still buffered when it is completed are discarded instead of tracking it again.
+ */
+@Service
+@Log4j2
+public class TrackingService implements ITrackingService {
+
+	private final ICourierService courierService;
+	private final DeliveryRepository deliveryRepository;
+	private final PingRingBuffer<TrackedPosition> buffer;
+	private final int drainBatchSize;
+	private final int historyCapacity;
+	private final long historyMinIntervalMs;
+	private final double historyMinDistanceMeters;
+	private final int maxTrackedDeliveries;
+	private final long pushIntervalMs;
+	private final long idleTimeoutMs;
+	private final long streamTimeoutMs;
+
+	private final Map<UUID, TrackedPosition> latestByDelivery = new ConcurrentHashMap<>();
+	private final Map<UUID, PositionHistory> histories = new ConcurrentHashMap<>();
+	private final Map<UUID, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+	private final Set<UUID> changedDeliveries = ConcurrentHashMap.newKeySet();
+	// completed deliveries and when they were completed, kept for the idle timeout so late pings do not track them again
+	private final Map<UUID, Long> completedDeliveries = new ConcurrentHashMap<>();
+	private final Map<UUID, DeliveryParties> partiesByDelivery = new ConcurrentHashMap<>();
+
+	private final Thread drainer;
+	private final ScheduledExecutorService pushExecutor;
+	private volatile boolean running = true;
+
+	private final Counter acceptedCounter;
+	private final Counter droppedCounter;
+	private final Counter untrackedCounter;
+
+	@Autowired
+	public TrackingService(ICourierService courierService,
+	                       DeliveryRepository deliveryRepository,
+	                       MeterRegistry meterRegistry,
+	                       @Value("${delivery.tracking.buffer-capacity:65536}") int bufferCapacity,
+	                       @Value("${delivery.tracking.drain-batch-size:1024}") int drainBatchSize,
+	                       @Value("${delivery.tracking.history.capacity:256}") int historyCapacity,
+	                       @Value("${delivery.tracking.history.min-interval-ms:10000}") long historyMinIntervalMs,
+	                       @Value("${delivery.tracking.history.min-distance-meters:25}") double historyMinDistanceMeters,
+	                       @Value("${delivery.tracking.max-tracked-deliveries:100000}") int maxTrackedDeliveries,
+	                       @Value("${delivery.tracking.push-interval-ms:1000}") long pushIntervalMs,
+	                       @Value("${delivery.tracking.idle-timeout-ms:1800000}") long idleTimeoutMs,
+	                       @Value("${delivery.tracking.stream-timeout-ms:1800000}") long streamTimeoutMs) {
+		this.courierService = courierService;
+		this.deliveryRepository = deliveryRepository;
+		this.buffer = new PingRingBuffer<>(bufferCapacity);
+		this.drainBatchSize = drainBatchSize;
+		this.historyCapacity = historyCapacity;
+		this.historyMinIntervalMs = historyMinIntervalMs;
+		this.historyMinDistanceMeters = historyMinDistanceMeters;
+		this.maxTrackedDeliveries = maxTrackedDeliveries;
+		this.pushIntervalMs = pushIntervalMs;
+		this.idleTimeoutMs = idleTimeoutMs;
+		this.streamTimeoutMs = streamTimeoutMs;
+
+		this.drainer = new Thread(this::drain, "location-ping-drainer");
+		this.drainer.setDaemon(true);
+		this.pushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "location-push");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		this.acceptedCounter = Counter.builder("delivery.tracking.pings").tag("result", "accepted").register(meterRegistry);
+		this.droppedCounter = Counter.builder("delivery.tracking.pings").tag("result", "dropped").register(meterRegistry);
+		this.untrackedCounter = Counter.builder("delivery.tracking.pings").tag("result", "untracked").register(meterRegistry);
+		Gauge.builder("delivery.tracking.buffer.depth", buffer, PingRingBuffer::size).register(meterRegistry);
+		Gauge.builder("delivery.tracking.deliveries", latestByDelivery, Map::size).register(meterRegistry);
+		Gauge.builder("delivery.tracking.streams", subscribers,
+				streams -> streams.values().stream().mapToInt(List::size).sum()).register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		drainer.start();
+		pushExecutor.scheduleWithFixedDelay(this::pushChangedPositions, pushIntervalMs, pushIntervalMs, TimeUnit.MILLISECONDS);
+		pushExecutor.scheduleWithFixedDelay(this::evictIdleDeliveries, 1, 1, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Queues a batch of pings from a courier.
+	 * Pings that do not fit into the buffer are dropped. Sending a batch again is harmless, because pings that are
+	 * not newer than the latest known position of a delivery are ignored.
+	 * 
+	 * @param courierId The courier that sent the pings.
+	 * @param batchRequest The batch of pings.
+	 * @return The number of pings that were accepted.
+	 * @throws TrackingAccessDeniedException if the courier is not assigned to the delivery of the batch.
+	 */
+	@Override
+	public int ingest(UUID courierId, @Valid LocationPingBatchRequest batchRequest) {
+		UUID deliveryId = batchRequest.getDeliveryId();
+		if (deliveryId != null && !isAssigned(courierId, deliveryId)) {
+			log.error("Courier {} is not assigned to delivery {}, rejecting its pings.", courierId, deliveryId);
+			throw new TrackingAccessDeniedException("Courier " + courierId + " is not assigned to Delivery ID: " + deliveryId);
+		}
+		
+		long receivedAt = System.currentTimeMillis();
+		int accepted = 0;
+		for (LocationPing ping : batchRequest.getPings()) {
+			if (buffer.offer(new TrackedPosition(courierId, deliveryId,
+					ping.getLatitude(), ping.getLongitude(), ping.getRecordedAt().toEpochMilli(), receivedAt))) {
+				accepted++;
+			}
+		}
+		if (accepted > 0) {
+			// the drainer may be parked on an empty buffer
+			LockSupport.unpark(drainer);
+		}
+		
+		acceptedCounter.increment(accepted);
+		if (accepted < batchRequest.getPings().size()) {
+			droppedCounter.increment(batchRequest.getPings().size() - accepted);
+		}
+		return accepted;
+	}
+
+	/**
+	 * Fetches the latest position and the route so far of a delivery.
+	 * 
+	 * @param deliveryId The unique identifier of the delivery.
+	 * @param customerId The customer asking, or null for internal callers, who may follow any delivery.
+	 * @return A TrackingResponse object containing the current position and the down-sampled route.
+	 * @throws DeliveryNotFoundException if no position has been reported for the delivery.
+	 * @throws TrackingAccessDeniedException if the delivery belongs to another customer.
+	 */
+	@Override
+	public TrackingResponse getTracking(UUID deliveryId, String customerId) {
+		checkCustomer(deliveryId, customerId);
+		
+		TrackedPosition latest = latestByDelivery.get(deliveryId);
+		if (latest == null) {
+			log.error("No tracking data found for delivery with an ID of " + deliveryId);
+			throw new DeliveryNotFoundException("No tracking data found for Delivery ID: " + deliveryId);
+		}
+		
+		List<PositionResponse> route = new ArrayList<>();
+		PositionHistory history = histories.get(deliveryId);
+		if (history != null) {
+			for (double[] point : history.snapshot()) {
+				route.add(new PositionResponse(point[0], point[1], Instant.ofEpochMilli((long) point[2])));
+			}
+		}
+		
+		return TrackingResponse.builder()
+				.deliveryId(deliveryId)
+				.courierId(latest.courierId())
+				.currentPosition(toResponse(latest))
+				.route(route)
+				.build();
+	}
+
+	/**
+	 * Opens a server-sent event stream that pushes the position of a delivery whenever it changes.
+	 * The current position, if known, is sent right away.
+	 * 
+	 * @param deliveryId The unique identifier of the delivery.
+	 * @param customerId The customer asking, or null for internal callers, who may follow any delivery.
+	 * @return The emitter the positions are sent to.
+	 * @throws TrackingAccessDeniedException if the delivery belongs to another customer.
+	 */
+	@Override
+	public SseEmitter subscribe(UUID deliveryId, String customerId) {
+		checkCustomer(deliveryId, customerId);
+		
+		SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+		List<SseEmitter> emitters = subscribers.computeIfAbsent(deliveryId, id -> new CopyOnWriteArrayList<>());
+		emitters.add(emitter);
+		
+		Runnable unsubscribe = () -> removeSubscriber(deliveryId, emitter);
+		emitter.onCompletion(unsubscribe);
+		emitter.onTimeout(unsubscribe);
+		emitter.onError(error -> unsubscribe.run());
+		
+		TrackedPosition latest = latestByDelivery.get(deliveryId);
+		if (latest != null) {
+			send(deliveryId, emitter, latest);
+		}
+		return emitter;
+	}
+
+	/**
+	 * Stops tracking a delivery once it is finished.
+	 * Open streams receive a final "completed" event and are closed, and the in-memory state of the delivery is dropped.
+	 * Pings for the delivery that arrive afterwards are ignored.
+	 * 
+	 * @param deliveryId The unique identifier of the delivery.
+	 */
+	@Override
+	public void completeTracking(UUID deliveryId) {
+		List<SseEmitter> emitters = subscribers.remove(deliveryId);
+		if (emitters != null) {
+			for (SseEmitter emitter : emitters) {
+				try {
+					emitter.send(SseEmitter.event().name("completed").data(deliveryId));
+					emitter.complete();
+				} catch (IOException | IllegalStateException e) {
+					emitter.completeWithError(e);
+				}
+			}
+		}
+		
+		completedDeliveries.put(deliveryId, System.currentTimeMillis());
+		partiesByDelivery.remove(deliveryId);
+		latestByDelivery.remove(deliveryId);
+		histories.remove(deliveryId);
+		changedDeliveries.remove(deliveryId);
+	}
+	
+	private void drain() {
+		List<TrackedPosition> batch = new ArrayList<>(drainBatchSize);
+		
+		while (running) {
+			try {
+				TrackedPosition position;
+				while (batch.size() < drainBatchSize && (position = buffer.poll()) != null) {
+					batch.add(position);
+				}
+				if (batch.isEmpty()) {
+					LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+					continue;
+				}
+				apply(batch);
+			} catch (RuntimeException e) {
+				log.error("Applying location pings failed: {}", e.getMessage());
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+	
+	/**
+	 * Applies a batch of pings. Only called from the drainer thread.
+	 */
+	void apply(List<TrackedPosition> batch) {
+		Map<UUID, TrackedPosition> latestByCourier = new HashMap<>();
+		
+		for (TrackedPosition position : batch) {
+			latestByCourier.merge(position.courierId(), position, TrackingService::newer);
+			
+			UUID deliveryId = position.deliveryId();
+			if (deliveryId == null || completedDeliveries.containsKey(deliveryId)) {
+				continue;
+			}
+			
+			TrackedPosition current = latestByDelivery.get(deliveryId);
+			if (current == null && latestByDelivery.size() >= maxTrackedDeliveries) {
+				untrackedCounter.increment();
+				continue;
+			}
+			if (current == null || position.recordedAtMillis() > current.recordedAtMillis()) {
+				latestByDelivery.put(deliveryId, position);
+				changedDeliveries.add(deliveryId);
+			}
+			histories.computeIfAbsent(deliveryId, id -> new PositionHistory(historyCapacity, historyMinIntervalMs, historyMinDistanceMeters))
+					.add(position.latitude(), position.longitude(), position.recordedAtMillis());
+		}
+		
+		for (TrackedPosition position : latestByCourier.values()) {
+			courierService.updatePosition(position.courierId(), new CourierPositionRequest(position.latitude(), position.longitude()));
+		}
+	}
+	
+	private void pushChangedPositions() {
+		Iterator<UUID> changed = changedDeliveries.iterator();
+		while (changed.hasNext()) {
+			UUID deliveryId = changed.next();
+			changed.remove();
+			
+			List<SseEmitter> emitters = subscribers.get(deliveryId);
+			TrackedPosition latest = latestByDelivery.get(deliveryId);
+			if (emitters == null || latest == null) {
+				continue;
+			}
+			for (SseEmitter emitter : emitters) {
+				send(deliveryId, emitter, latest);
+			}
+		}
+	}
+	
+	private void evictIdleDeliveries() {
+		evictIdleDeliveries(System.currentTimeMillis());
+	}
+	
+	/**
+	 * Drops deliveries that received no pings for the idle timeout, judged by when the pings arrived rather than
+	 * by the device clocks, and forgets deliveries completed longer ago than the idle timeout.
+	 */
+	void evictIdleDeliveries(long now) {
+		long cutoff = now - idleTimeoutMs;
+		latestByDelivery.forEach((deliveryId, latest) -> {
+			if (latest.receivedAtMillis() < cutoff && !subscribers.containsKey(deliveryId)) {
+				latestByDelivery.remove(deliveryId, latest);
+				histories.remove(deliveryId);
+			}
+		});
+		completedDeliveries.values().removeIf(completedAt -> completedAt < cutoff);
+		partiesByDelivery.forEach((deliveryId, parties) -> {
+			if (parties.loadedAtMillis() < cutoff && !latestByDelivery.containsKey(deliveryId) && !subscribers.containsKey(deliveryId)) {
+				partiesByDelivery.remove(deliveryId, parties);
+			}
+		});
+	}
+	
+	/**
+	 * A courier that is not the known courier of the delivery may have been assigned since it was loaded,
+	 * so the delivery is read again before the courier is turned away.
+	 */
+	private boolean isAssigned(UUID courierId, UUID deliveryId) {
+		if (completedDeliveries.containsKey(deliveryId)) {
+			return false;
+		}
+		DeliveryParties parties = partiesByDelivery.get(deliveryId);
+		if (parties == null || !courierId.equals(parties.courierId())) {
+			parties = loadParties(deliveryId);
+		}
+		return parties != null && parties.inProgress() && courierId.equals(parties.courierId());
+	}
+	
+	private void checkCustomer(UUID deliveryId, String customerId) {
+		if (customerId == null) {
+			return;
+		}
+		DeliveryParties parties = partiesByDelivery.get(deliveryId);
+		if (parties == null) {
+			parties = loadParties(deliveryId);
+		}
+		if (parties == null) {
+			log.error("Delivery with an ID of {} not found.", deliveryId);
+			throw new DeliveryNotFoundException("Delivery with an ID of " + deliveryId + " not found.");
+		}
+		if (!customerId.equals(parties.userId())) {
+			log.error("Delivery {} does not belong to the requesting customer.", deliveryId);
+			throw new TrackingAccessDeniedException("Delivery ID " + deliveryId + " belongs to another customer.");
+		}
+	}
+	
+	private DeliveryParties loadParties(UUID deliveryId) {
+		Optional<DeliveryDetails> delivery = deliveryRepository.findById(deliveryId);
+		if (delivery.isEmpty()) {
+			return null;
+		}
+		DeliveryParties parties = new DeliveryParties(delivery.get().getCourierId(), delivery.get().getUserId(),
+				delivery.get().getDeliveryStatus() == DeliveryStatus.IN_PROGRESS, System.currentTimeMillis());
+		partiesByDelivery.put(deliveryId, parties);
+		return parties;
+	}
+	
+	private void send(UUID deliveryId, SseEmitter emitter, TrackedPosition position) {
+		try {
+			emitter.send(SseEmitter.event().name("position").data(toResponse(position)));
+		} catch (IOException | IllegalStateException e) {
+			removeSubscriber(deliveryId, emitter);
+		}
+	}
+	
+	private void removeSubscriber(UUID deliveryId, SseEmitter emitter) {
+		subscribers.computeIfPresent(deliveryId, (id, emitters) -> {
+			emitters.remove(emitter);
+			return emitters.isEmpty() ? null : emitters;
+		});
+	}
+	
+	private static TrackedPosition newer(TrackedPosition a, TrackedPosition b) {
+		return b.recordedAtMillis() > a.recordedAtMillis() ? b : a;
+	}
+	
+	private static PositionResponse toResponse(TrackedPosition position) {
+		return new PositionResponse(position.latitude(), position.longitude(), Instant.ofEpochMilli(position.recordedAtMillis()));
+	}
+
+	/**
+	 * The courier and the customer of a delivery, as read from the database.
+	 */
+	private record DeliveryParties(UUID courierId, String userId, boolean inProgress, long loadedAtMillis) {
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		drainer.interrupt();
+		pushExecutor.shutdownNow();
+	}
+}
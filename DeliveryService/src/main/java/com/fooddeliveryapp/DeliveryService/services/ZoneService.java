@@ -0,0 +1,254 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fooddeliveryapp.DeliveryService.entities.DeliveryZone;
+import com.fooddeliveryapp.DeliveryService.exceptions.InvalidDeliveryZoneException;
+import com.fooddeliveryapp.DeliveryService.geo.GeoPolygon;
+import com.fooddeliveryapp.DeliveryService.geo.PolygonIndex;
+import com.fooddeliveryapp.DeliveryService.models.Coordinate;
+import com.fooddeliveryapp.DeliveryService.models.DeliveryZoneRequest;
+import com.fooddeliveryapp.DeliveryService.models.DeliveryZoneResponse;
+import com.fooddeliveryapp.DeliveryService.models.ZoneEligibilityResponse;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryZoneRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.Valid;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Keeps the delivery zones of all restaurants in an in-memory polygon index, so checking whether
+ * a restaurant delivers to an address never touches the database.
+ *
+ * The index is immutable and published through an atomic reference: a zone update builds a new index
+ * next to the current one and swaps it in once the update is committed. Readers keep using the index
+ * they started with and never wait for an update. Zones changed on other instances are picked up
+ * by a periodic reload from the database.
+ */
+@Service
+@Log4j2
+public class ZoneService implements IZoneService {
+
+	/**
+	 * A zone as stored in the index.
+	 */
+	record IndexedZone(UUID zoneId, UUID restaurantId, String name) {
+	}
+	
+	// restaurants with at least one zone; all others deliver everywhere
+	private record ZoneSnapshot(PolygonIndex<IndexedZone> index, Set<UUID> restrictedRestaurants) {
+	}
+	
+	private final DeliveryZoneRepository zoneRepository;
+	private final AtomicReference<ZoneSnapshot> snapshot = new AtomicReference<>(new ZoneSnapshot(PolygonIndex.empty(), Set.of()));
+	// serializes the writers of the snapshot; readers never take it
+	private final Object updateLock = new Object();
+	
+	private final Timer eligibilityTimer;
+
+	@Autowired
+	public ZoneService(DeliveryZoneRepository zoneRepository, MeterRegistry meterRegistry) {
+		this.zoneRepository = zoneRepository;
+		
+		this.eligibilityTimer = Timer.builder("delivery.zones.eligibility.latency").register(meterRegistry);
+		Gauge.builder("delivery.zones.indexed", snapshot, current -> current.get().index().size()).register(meterRegistry);
+	}
+
+	/**
+	 * Replaces all delivery zones of a restaurant.
+	 * An empty list removes the restrictions, so the restaurant delivers everywhere again.
+	 * 
+	 * @param restaurantId The unique identifier of the restaurant.
+	 * @param zoneRequests The new zones of the restaurant.
+	 * @return The stored zones.
+	 * @throws InvalidDeliveryZoneException if a zone boundary is not a valid polygon.
+	 */
+	@Override
+	@Transactional
+	public List<DeliveryZoneResponse> replaceZones(UUID restaurantId, List<@Valid DeliveryZoneRequest> zoneRequests) {
+		List<GeoPolygon> polygons = zoneRequests.stream().map(this::toPolygon).toList();
+		
+		zoneRepository.deleteByRestaurantId(restaurantId);
+		
+		LocalDateTime now = LocalDateTime.now();
+		List<DeliveryZone> zones = new ArrayList<>(zoneRequests.size());
+		for (int i = 0; i < zoneRequests.size(); i++) {
+			zones.add(DeliveryZone.builder()
+					.restaurantId(restaurantId)
+					.name(zoneRequests.get(i).getName())
+					.boundary(polygons.get(i).format())
+					.updatedAt(now)
+					.build());
+		}
+		List<DeliveryZone> saved = zoneRepository.saveAll(zones);
+		
+		List<PolygonIndex.Entry<IndexedZone>> entries = new ArrayList<>(saved.size());
+		List<DeliveryZoneResponse> responses = new ArrayList<>(saved.size());
+		for (int i = 0; i < saved.size(); i++) {
+			entries.add(new PolygonIndex.Entry<>(indexedZoneOf(saved.get(i)), polygons.get(i)));
+			responses.add(toResponse(saved.get(i), polygons.get(i)));
+		}
+		
+		// readers must not see zones that could still be rolled back
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					publishZones(restaurantId, entries);
+				}
+			});
+		} else {
+			publishZones(restaurantId, entries);
+		}
+		
+		log.info("Replaced the delivery zones of restaurant {} with {} zones.", restaurantId, saved.size());
+		
+		return responses;
+	}
+
+	/**
+	 * @param restaurantId The unique identifier of the restaurant.
+	 * @return The stored delivery zones of the restaurant.
+	 */
+	@Override
+	public List<DeliveryZoneResponse> getZones(UUID restaurantId) {
+		return zoneRepository.findByRestaurantId(restaurantId).stream()
+				.map(zone -> toResponse(zone, GeoPolygon.parse(zone.getBoundary())))
+				.toList();
+	}
+
+	/**
+	 * Checks whether a restaurant delivers to a position.
+	 * Restaurants without delivery zones deliver everywhere.
+	 * 
+	 * @param restaurantId The unique identifier of the restaurant.
+	 * @param latitude Latitude of the delivery address in degrees.
+	 * @param longitude Longitude of the delivery address in degrees.
+	 * @return Whether the address is eligible and, if it is, the zone it lies in.
+	 */
+	@Override
+	public ZoneEligibilityResponse checkEligibility(UUID restaurantId, double latitude, double longitude) {
+		long start = System.nanoTime();
+		ZoneSnapshot current = snapshot.get();
+		
+		ZoneEligibilityResponse eligibility;
+		if (!current.restrictedRestaurants().contains(restaurantId)) {
+			eligibility = new ZoneEligibilityResponse(restaurantId, true, null, null);
+		} else {
+			IndexedZone zone = current.index().findFirst(latitude, longitude, candidate -> candidate.restaurantId().equals(restaurantId));
+			eligibility = zone != null
+					? new ZoneEligibilityResponse(restaurantId, true, zone.zoneId(), zone.name())
+					: new ZoneEligibilityResponse(restaurantId, false, null, null);
+		}
+		
+		eligibilityTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return eligibility;
+	}
+
+	/**
+	 * Finds the restaurants with a delivery zone containing a position.
+	 * Restaurants without delivery zones are not included.
+	 * 
+	 * @param latitude Latitude of the delivery address in degrees.
+	 * @param longitude Longitude of the delivery address in degrees.
+	 * @return The unique identifiers of the restaurants.
+	 */
+	@Override
+	public List<UUID> findRestaurantsDeliveringTo(double latitude, double longitude) {
+		return snapshot.get().index().findAll(latitude, longitude).stream()
+				.map(IndexedZone::restaurantId)
+				.distinct()
+				.toList();
+	}
+	
+	/**
+	 * Rebuilds the index from the database, picking up zones changed on other instances.
+	 * Runs right after startup and then periodically.
+	 */
+	@Scheduled(fixedDelayString = "${delivery.zones.refresh-interval-ms:60000}")
+	public void reloadZones() {
+		synchronized (updateLock) {
+			List<PolygonIndex.Entry<IndexedZone>> entries = new ArrayList<>();
+			for (DeliveryZone zone : zoneRepository.findAll()) {
+				try {
+					entries.add(new PolygonIndex.Entry<>(indexedZoneOf(zone), GeoPolygon.parse(zone.getBoundary())));
+				} catch (IllegalArgumentException ex) {
+					log.error("Delivery zone {} has an invalid boundary and is ignored. Error: {}", zone.getZoneId(), ex.getMessage());
+				}
+			}
+			snapshot.set(snapshotOf(entries));
+		}
+	}
+	
+	// copy-on-write: the entries of the other restaurants are carried over into the new index
+	private void publishZones(UUID restaurantId, List<PolygonIndex.Entry<IndexedZone>> zones) {
+		synchronized (updateLock) {
+			List<PolygonIndex.Entry<IndexedZone>> entries = new ArrayList<>(zones);
+			for (PolygonIndex.Entry<IndexedZone> entry : snapshot.get().index().entries()) {
+				if (!entry.value().restaurantId().equals(restaurantId)) {
+					entries.add(entry);
+				}
+			}
+			snapshot.set(snapshotOf(entries));
+		}
+	}
+	
+	private static ZoneSnapshot snapshotOf(List<PolygonIndex.Entry<IndexedZone>> entries) {
+		Set<UUID> restrictedRestaurants = new HashSet<>();
+		for (PolygonIndex.Entry<IndexedZone> entry : entries) {
+			restrictedRestaurants.add(entry.value().restaurantId());
+		}
+		return new ZoneSnapshot(new PolygonIndex<>(entries), Set.copyOf(restrictedRestaurants));
+	}
+	
+	private GeoPolygon toPolygon(DeliveryZoneRequest zoneRequest) {
+		List<Coordinate> boundary = zoneRequest.getBoundary();
+		double[] latitudes = new double[boundary.size()];
+		double[] longitudes = new double[boundary.size()];
+		for (int i = 0; i < boundary.size(); i++) {
+			latitudes[i] = boundary.get(i).getLatitude();
+			longitudes[i] = boundary.get(i).getLongitude();
+		}
+		
+		try {
+			return GeoPolygon.of(latitudes, longitudes);
+		} catch (IllegalArgumentException ex) {
+			throw new InvalidDeliveryZoneException("Zone " + zoneRequest.getName() + " is invalid: " + ex.getMessage());
+		}
+	}
+	
+	private static IndexedZone indexedZoneOf(DeliveryZone zone) {
+		return new IndexedZone(zone.getZoneId(), zone.getRestaurantId(), zone.getName());
+	}
+	
+	private static DeliveryZoneResponse toResponse(DeliveryZone zone, GeoPolygon polygon) {
+		List<Coordinate> boundary = new ArrayList<>(polygon.vertexCount());
+		for (int i = 0; i < polygon.vertexCount(); i++) {
+			boundary.add(new Coordinate(polygon.latitude(i), polygon.longitude(i)));
+		}
+		
+		return DeliveryZoneResponse.builder()
+				.zoneId(zone.getZoneId())
+				.restaurantId(zone.getRestaurantId())
+				.name(zone.getName())
+				.boundary(boundary)
+				.updatedAt(zone.getUpdatedAt())
+				.build();
+	}
+}
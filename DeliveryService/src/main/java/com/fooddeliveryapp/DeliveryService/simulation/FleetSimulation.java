@@ -0,0 +1,343 @@
+package com.fooddeliveryapp.DeliveryService.simulation;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+import com.fooddeliveryapp.DeliveryService.geo.GeoGrid;
+import com.fooddeliveryapp.DeliveryService.geo.GeoUtils;
+
+/**
+ * Discrete-event simulation of a courier fleet during a lunch rush.
+ *
+ * Nothing sleeps: events wait in a priority queue ordered by virtual time, and the clock jumps straight to the next
+ * one, so hours of simulated time take as long as processing their events does. Orders arrive as a Poisson process
+ * whose rate rises to a peak in the middle of the run. Each order is assigned the closest idle courier, who rides
+ * to the restaurant, waits for the food, rides to the customer and becomes idle there. Orders that find no idle
+ * courier wait in line and fail when they have waited too long; couriers may also drop out during a delivery, failing
+ * it and going offline for a while.
+ *
+ * Deliveries move from IN_PROGRESS to DELIVERED or FAILED, and every completed or failed delivery is handed to the
+ * event sink with its virtual time. All randomness comes from generators seeded with the run's seed, so the same
+ * settings always produce the same run. Instances are single-use and not thread-safe.
+ */
+public class FleetSimulation {
+
+    private static final double GRID_CELL_DEGREES = 0.01;
+
+    /**
+     * The parameters of a run.
+     *
+     * @param seed                  Seed of the random generators.
+     * @param couriers              Number of couriers.
+     * @param restaurants           Number of restaurants.
+     * @param durationMinutes       Simulated duration; no orders are placed after it, but started deliveries finish.
+     * @param baseOrdersPerHour     Order rate at the start and end of the run.
+     * @param peakOrdersPerHour     Order rate at the peak in the middle of the run.
+     * @param centerLatitude        Center of the simulated area.
+     * @param centerLongitude       Center of the simulated area.
+     * @param radiusMeters          Radius of the simulated area.
+     * @param speedMetersPerSecond  Average courier speed.
+     * @param meanPrepMinutes       Average time restaurants need to prepare an order.
+     * @param maxWaitMinutes        How long an order waits for a courier before it fails.
+     * @param courierFailureRate    Probability that a courier drops out during a delivery.
+     * @param courierRecoveryMinutes How long a courier who dropped out stays offline.
+     */
+    public record Settings(long seed, int couriers, int restaurants, int durationMinutes,
+                           double baseOrdersPerHour, double peakOrdersPerHour,
+                           double centerLatitude, double centerLongitude, double radiusMeters,
+                           double speedMetersPerSecond, double meanPrepMinutes, double maxWaitMinutes,
+                           double courierFailureRate, double courierRecoveryMinutes) {
+    }
+
+    /**
+     * The outcome of a run.
+     */
+    public record Result(int ordersPlaced, int delivered, int failedByCourier, int expiredWaiting,
+                         long[] deliveryMillis, long totalAssignmentWaitMillis, long busyCourierMillis,
+                         long simulatedMillis, int peakWaitingOrders, long eventsProcessed) {
+    }
+
+    private enum Type { ORDER_PLACED, AT_RESTAURANT, PICKED_UP, DELIVERED, COURIER_FAILED, COURIER_BACK, ORDER_EXPIRED }
+
+    private record Event(long time, long sequence, Type type, int order, int courier) implements Comparable<Event> {
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final Settings settings;
+    private final Instant startTime;
+    private final Consumer<DeliveryEvent> eventSink;
+    private final Random random;
+    private final Random idRandom;
+    private final PriorityQueue<Event> events = new PriorityQueue<>();
+    private final GeoGrid<Integer> idleCouriers;
+    private final Deque<Integer> waitingOrders = new ArrayDeque<>();
+    private final double metersPerDegreeLongitude;
+
+    private final double[] courierLatitudes;
+    private final double[] courierLongitudes;
+    private final long[] courierBusySince;
+    private final double[] restaurantLatitudes;
+    private final double[] restaurantLongitudes;
+
+    // order state, grown as orders arrive
+    private int orderCount;
+    private UUID[] orderIds = new UUID[1024];
+    private int[] orderRestaurants = new int[1024];
+    private double[] dropoffLatitudes = new double[1024];
+    private double[] dropoffLongitudes = new double[1024];
+    private long[] placedAt = new long[1024];
+    private long[] readyAt = new long[1024];
+    private DeliveryStatus[] statuses = new DeliveryStatus[1024];
+    private boolean[] assigned = new boolean[1024];
+
+    private long now;
+    private long sequence;
+    private int delivered;
+    private int failedByCourier;
+    private int expiredWaiting;
+    private long totalAssignmentWaitMillis;
+    private long busyCourierMillis;
+    private int peakWaitingOrders;
+    private long eventsProcessed;
+    private long[] deliveryMillis = new long[1024];
+
+    /**
+     * @param settings  The parameters of the run.
+     * @param startTime The wall-clock time virtual time zero corresponds to; used for event times.
+     * @param eventSink Receives an event for every delivery that is completed or failed.
+     */
+    public FleetSimulation(Settings settings, Instant startTime, Consumer<DeliveryEvent> eventSink) {
+        this.settings = settings;
+        this.startTime = startTime;
+        this.eventSink = eventSink;
+        this.random = new Random(settings.seed());
+        this.idRandom = new Random(~settings.seed());
+        this.idleCouriers = new GeoGrid<>(GRID_CELL_DEGREES, 2 * settings.radiusMeters());
+        this.metersPerDegreeLongitude = GeoUtils.METERS_PER_DEGREE * Math.cos(Math.toRadians(settings.centerLatitude()));
+
+        this.courierLatitudes = new double[settings.couriers()];
+        this.courierLongitudes = new double[settings.couriers()];
+        this.courierBusySince = new long[settings.couriers()];
+        for (int courier = 0; courier < settings.couriers(); courier++) {
+            double[] point = randomPoint();
+            courierLatitudes[courier] = point[0];
+            courierLongitudes[courier] = point[1];
+            idleCouriers.put(courier, point[0], point[1]);
+        }
+
+        this.restaurantLatitudes = new double[settings.restaurants()];
+        this.restaurantLongitudes = new double[settings.restaurants()];
+        for (int restaurant = 0; restaurant < settings.restaurants(); restaurant++) {
+            double[] point = randomPoint();
+            restaurantLatitudes[restaurant] = point[0];
+            restaurantLongitudes[restaurant] = point[1];
+        }
+    }
+
+    /**
+     * Runs the simulation until every placed order is delivered or failed.
+     *
+     * @return The outcome of the run.
+     */
+    public Result run() {
+        long endOfOrders = settings.durationMinutes() * 60_000L;
+        scheduleNextOrder(0, endOfOrders);
+
+        Event event;
+        while ((event = events.poll()) != null) {
+            now = event.time();
+            eventsProcessed++;
+            switch (event.type()) {
+                case ORDER_PLACED -> {
+                    placeOrder();
+                    scheduleNextOrder(now, endOfOrders);
+                }
+                case AT_RESTAURANT -> schedule(Math.max(now, readyAt[event.order()]), Type.PICKED_UP, event.order(), event.courier());
+                case PICKED_UP -> schedule(now + travelMillis(restaurantLatitudes[orderRestaurants[event.order()]],
+                        restaurantLongitudes[orderRestaurants[event.order()]], dropoffLatitudes[event.order()],
+                        dropoffLongitudes[event.order()]), Type.DELIVERED, event.order(), event.courier());
+                case DELIVERED -> completeDelivery(event.order(), event.courier());
+                case COURIER_FAILED -> failDelivery(event.order(), event.courier());
+                case COURIER_BACK -> courierIdle(event.courier());
+                case ORDER_EXPIRED -> expireOrder(event.order());
+            }
+        }
+
+        return new Result(orderCount, delivered, failedByCourier, expiredWaiting, Arrays.copyOf(deliveryMillis, delivered),
+                totalAssignmentWaitMillis, busyCourierMillis, now, peakWaitingOrders, eventsProcessed);
+    }
+
+    private void scheduleNextOrder(long from, long endOfOrders) {
+        double peakRatePerMilli = settings.peakOrdersPerHour() / 3_600_000.0;
+        if (peakRatePerMilli <= 0) {
+            return;
+        }
+
+        // thinning: draw arrivals at the peak rate and keep each with the ratio of the current rate to the peak
+        long time = from;
+        while (true) {
+            time += (long) Math.ceil(-Math.log(1.0 - random.nextDouble()) / peakRatePerMilli);
+            if (time >= endOfOrders) {
+                return;
+            }
+            if (random.nextDouble() * settings.peakOrdersPerHour() <= ordersPerHourAt(time, endOfOrders)) {
+                schedule(time, Type.ORDER_PLACED, -1, -1);
+                return;
+            }
+        }
+    }
+
+    private double ordersPerHourAt(long time, long endOfOrders) {
+        double middle = endOfOrders / 2.0;
+        double width = endOfOrders / 6.0;
+        double peakShare = Math.exp(-Math.pow(time - middle, 2) / (2 * width * width));
+        return settings.baseOrdersPerHour() + (settings.peakOrdersPerHour() - settings.baseOrdersPerHour()) * peakShare;
+    }
+
+    private void placeOrder() {
+        int order = newOrder();
+        int restaurant = random.nextInt(settings.restaurants());
+        double[] dropoff = randomPoint();
+
+        orderRestaurants[order] = restaurant;
+        dropoffLatitudes[order] = dropoff[0];
+        dropoffLongitudes[order] = dropoff[1];
+        placedAt[order] = now;
+        // exponentially distributed preparation time
+        readyAt[order] = now + (long) (-Math.log(1.0 - random.nextDouble()) * settings.meanPrepMinutes() * 60_000);
+        statuses[order] = DeliveryStatus.IN_PROGRESS;
+
+        // during the rush every courier may be busy, which would make the search scan the whole area for nothing
+        List<GeoGrid.Neighbor<Integer>> nearest = idleCouriers.size() == 0 ? List.of()
+                : idleCouriers.nearest(restaurantLatitudes[restaurant], restaurantLongitudes[restaurant], 1, courier -> true);
+        if (nearest.isEmpty()) {
+            waitingOrders.addLast(order);
+            peakWaitingOrders = Math.max(peakWaitingOrders, waitingOrders.size());
+            schedule(now + (long) (settings.maxWaitMinutes() * 60_000), Type.ORDER_EXPIRED, order, -1);
+        } else {
+            assign(order, nearest.get(0).id());
+        }
+    }
+
+    private void assign(int order, int courier) {
+        idleCouriers.remove(courier);
+        assigned[order] = true;
+        courierBusySince[courier] = now;
+        totalAssignmentWaitMillis += now - placedAt[order];
+
+        int restaurant = orderRestaurants[order];
+        long atRestaurant = now + travelMillis(courierLatitudes[courier], courierLongitudes[courier],
+                restaurantLatitudes[restaurant], restaurantLongitudes[restaurant]);
+
+        if (random.nextDouble() < settings.courierFailureRate()) {
+            // the courier drops out somewhere between accepting the order and reaching the restaurant
+            long failsAt = now + (long) ((atRestaurant - now) * random.nextDouble());
+            schedule(failsAt, Type.COURIER_FAILED, order, courier);
+        } else {
+            schedule(atRestaurant, Type.AT_RESTAURANT, order, courier);
+        }
+    }
+
+    private void completeDelivery(int order, int courier) {
+        statuses[order] = DeliveryStatus.DELIVERED;
+        if (delivered == deliveryMillis.length) {
+            deliveryMillis = Arrays.copyOf(deliveryMillis, delivered * 2);
+        }
+        deliveryMillis[delivered++] = now - placedAt[order];
+        publish(order);
+
+        courierLatitudes[courier] = dropoffLatitudes[order];
+        courierLongitudes[courier] = dropoffLongitudes[order];
+        courierIdle(courier);
+    }
+
+    private void failDelivery(int order, int courier) {
+        statuses[order] = DeliveryStatus.FAILED;
+        failedByCourier++;
+        publish(order);
+
+        busyCourierMillis += now - courierBusySince[courier];
+        schedule(now + (long) (settings.courierRecoveryMinutes() * 60_000), Type.COURIER_BACK, -1, courier);
+        // marks the courier as returning, so the busy time is not counted twice
+        courierBusySince[courier] = -1;
+    }
+
+    private void expireOrder(int order) {
+        if (assigned[order] || statuses[order] != DeliveryStatus.IN_PROGRESS) {
+            return;
+        }
+        statuses[order] = DeliveryStatus.FAILED;
+        expiredWaiting++;
+        publish(order);
+    }
+
+    private void courierIdle(int courier) {
+        if (courierBusySince[courier] >= 0) {
+            busyCourierMillis += now - courierBusySince[courier];
+        }
+
+        // orders that expired while waiting are skipped
+        Integer order;
+        while ((order = waitingOrders.pollFirst()) != null) {
+            if (statuses[order] == DeliveryStatus.IN_PROGRESS) {
+                assign(order, courier);
+                return;
+            }
+        }
+        idleCouriers.put(courier, courierLatitudes[courier], courierLongitudes[courier]);
+    }
+
+    private void publish(int order) {
+        eventSink.accept(new DeliveryEvent(new UUID(idRandom.nextLong(), idRandom.nextLong()),
+                startTime.plusMillis(now), orderIds[order], statuses[order]));
+    }
+
+    private long travelMillis(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double meters = GeoUtils.distanceMeters(fromLatitude, fromLongitude, toLatitude, toLongitude);
+        // traffic and detours: log-normally distributed around the straight-line time, plus a minute to park
+        double factor = Math.exp(0.25 * random.nextGaussian()) * 1.3;
+        return 60_000 + (long) (meters / settings.speedMetersPerSecond() * 1000 * factor);
+    }
+
+    private double[] randomPoint() {
+        double distance = settings.radiusMeters() * Math.sqrt(random.nextDouble());
+        double bearing = random.nextDouble() * 2 * Math.PI;
+        return new double[] {
+                settings.centerLatitude() + Math.cos(bearing) * distance / GeoUtils.METERS_PER_DEGREE,
+                settings.centerLongitude() + Math.sin(bearing) * distance / metersPerDegreeLongitude
+        };
+    }
+
+    private int newOrder() {
+        if (orderCount == orderIds.length) {
+            int capacity = orderCount * 2;
+            orderIds = Arrays.copyOf(orderIds, capacity);
+            orderRestaurants = Arrays.copyOf(orderRestaurants, capacity);
+            dropoffLatitudes = Arrays.copyOf(dropoffLatitudes, capacity);
+            dropoffLongitudes = Arrays.copyOf(dropoffLongitudes, capacity);
+            placedAt = Arrays.copyOf(placedAt, capacity);
+            readyAt = Arrays.copyOf(readyAt, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            assigned = Arrays.copyOf(assigned, capacity);
+        }
+        orderIds[orderCount] = new UUID(idRandom.nextLong(), idRandom.nextLong());
+        return orderCount++;
+    }
+
+    private void schedule(long time, Type type, int order, int courier) {
+        events.add(new Event(time, sequence++, type, order, courier));
+    }
+}
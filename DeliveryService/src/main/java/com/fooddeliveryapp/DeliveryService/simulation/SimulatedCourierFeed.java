@@ -0,0 +1,132 @@
+package com.fooddeliveryapp.DeliveryService.simulation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.DeliveryService.geo.GeoUtils;
+import com.fooddeliveryapp.DeliveryService.models.CourierPositionRequest;
+import com.fooddeliveryapp.DeliveryService.services.ICourierService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Local stand-in for the courier apps: moves a fixed fleet of couriers around a center point and reports their
+ * positions to the courier service, so assignment can be tried out without real devices.
+ *
+ * Couriers walk randomly within the configured radius. Courier IDs are derived from their index, and the walk is
+ * driven by a seeded random generator, so every run produces the same fleet and the same movements.
+ * Enabled with delivery.couriers.simulation.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(prefix = "delivery.couriers.simulation", name = "enabled", havingValue = "true")
+@Log4j2
+public class SimulatedCourierFeed {
+
+    private final ICourierService courierService;
+    private final UUID[] courierIds;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double centerLatitude;
+    private final double centerLongitude;
+    private final double radiusMeters;
+    private final double stepMeters;
+    private final long intervalMs;
+    private final Random random;
+    private final ScheduledExecutorService executor;
+
+    @Autowired
+    public SimulatedCourierFeed(ICourierService courierService,
+                                @Value("${delivery.couriers.simulation.count:200}") int count,
+                                @Value("${delivery.couriers.simulation.center-latitude:44.8125}") double centerLatitude,
+                                @Value("${delivery.couriers.simulation.center-longitude:20.4612}") double centerLongitude,
+                                @Value("${delivery.couriers.simulation.radius-meters:5000}") double radiusMeters,
+                                @Value("${delivery.couriers.simulation.speed-meters-per-second:8}") double speedMetersPerSecond,
+                                @Value("${delivery.couriers.simulation.interval-ms:1000}") long intervalMs,
+                                @Value("${delivery.couriers.simulation.seed:42}") long seed) {
+        this.courierService = courierService;
+        this.courierIds = new UUID[count];
+        this.latitudes = new double[count];
+        this.longitudes = new double[count];
+        this.centerLatitude = centerLatitude;
+        this.centerLongitude = centerLongitude;
+        this.radiusMeters = radiusMeters;
+        this.stepMeters = speedMetersPerSecond * intervalMs / 1000.0;
+        this.intervalMs = intervalMs;
+        this.random = new Random(seed);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simulated-courier-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (int i = 0; i < count; i++) {
+            courierIds[i] = courierId(i);
+            double distance = radiusMeters * Math.sqrt(random.nextDouble());
+            double bearing = random.nextDouble() * 2 * Math.PI;
+            latitudes[i] = centerLatitude + Math.cos(bearing) * distance / GeoUtils.METERS_PER_DEGREE;
+            longitudes[i] = centerLongitude + Math.sin(bearing) * distance / metersPerDegreeLongitude();
+        }
+    }
+
+    /**
+     * Derives the ID of a simulated courier from its index.
+     *
+     * @param index The index of the courier in the fleet.
+     * @return The courier ID.
+     */
+    public static UUID courierId(int index) {
+        return UUID.nameUUIDFromBytes(("simulated-courier-" + index).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("Starting simulated courier feed with {} couriers.", courierIds.length);
+        executor.scheduleAtFixedRate(this::tick, 0, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Moves every courier one step and reports the new positions.
+     */
+    void tick() {
+        try {
+            for (int i = 0; i < courierIds.length; i++) {
+                step(i);
+                courierService.updatePosition(courierIds[i], new CourierPositionRequest(latitudes[i], longitudes[i]));
+            }
+        } catch (RuntimeException e) {
+            log.error("Simulated courier feed tick failed: {}", e.getMessage());
+        }
+    }
+
+    private void step(int i) {
+        double bearing = random.nextDouble() * 2 * Math.PI;
+        double latitude = latitudes[i] + Math.cos(bearing) * stepMeters / GeoUtils.METERS_PER_DEGREE;
+        double longitude = longitudes[i] + Math.sin(bearing) * stepMeters / metersPerDegreeLongitude();
+
+        // couriers that would leave the area stay where they are for this step
+        if (GeoUtils.distanceMeters(centerLatitude, centerLongitude, latitude, longitude) <= radiusMeters) {
+            latitudes[i] = latitude;
+            longitudes[i] = longitude;
+        }
+    }
+
+    private double metersPerDegreeLongitude() {
+        return GeoUtils.METERS_PER_DEGREE * Math.cos(Math.toRadians(centerLatitude));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,34 @@
+package com.fooddeliveryapp.DeliveryService.sla;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.DeliveryService.events.SlaBreachEvent;
+
+/**
+ * Actuator endpoint listing the deliveries that are currently past their SLA deadline.
+ * Only the instance that holds the SLA monitor lease lists any; the others return an empty list.
+ */
+@Component
+@Endpoint(id = "slabreaches")
+public class SlaBreachEndpoint {
+
+    private final SlaMonitor slaMonitor;
+
+    @Autowired
+    public SlaBreachEndpoint(SlaMonitor slaMonitor) {
+        this.slaMonitor = slaMonitor;
+    }
+
+    /**
+     * @return The current breaches, the longest overdue first.
+     */
+    @ReadOperation
+    public List<SlaBreachEvent> breaches() {
+        return slaMonitor.getBreaches();
+    }
+}
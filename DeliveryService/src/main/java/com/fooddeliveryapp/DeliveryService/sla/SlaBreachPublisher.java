@@ -0,0 +1,78 @@
+package com.fooddeliveryapp.DeliveryService.sla;
+
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.DeliveryService.events.SlaBreachEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Publishes SLA breach events as JSON to the delivery-sla-breach-topic, keyed by delivery ID.
+ *
+ * Breach events go to operations tooling rather than the Order service, so they do not use the binary delivery event
+ * envelope. The producer shares the broker settings of the application's producer but is owned by this publisher
+ * and not registered as a bean, which keeps the autoconfigured KafkaTemplate for delivery events in place.
+ */
+@Component
+@Log4j2
+public class SlaBreachPublisher {
+
+    private final DefaultKafkaProducerFactory<String, SlaBreachEvent> producerFactory;
+    private final KafkaTemplate<String, SlaBreachEvent> kafkaTemplate;
+    private final String topic;
+    private final Counter failedCounter;
+
+    @Autowired
+    public SlaBreachPublisher(KafkaProperties kafkaProperties,
+                              MeterRegistry meterRegistry,
+                              @Value("${delivery.sla.topic:delivery-sla-breach-topic}") String topic) {
+        Map<String, Object> producerProperties = kafkaProperties.buildProducerProperties(null);
+        JsonSerializer<SlaBreachEvent> valueSerializer = new JsonSerializer<>();
+        valueSerializer.setAddTypeInfo(false);
+
+        this.producerFactory = new DefaultKafkaProducerFactory<>(producerProperties, new StringSerializer(), valueSerializer);
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        this.topic = topic;
+        this.failedCounter = Counter.builder("delivery.sla.breach.events.failed").register(meterRegistry);
+    }
+
+    /**
+     * Publishes a breach event asynchronously.
+     * Failed sends are logged and counted; the breach stays visible on the slabreaches actuator endpoint.
+     *
+     * @param event The breach event.
+     */
+    public void publish(SlaBreachEvent event) {
+        try {
+            kafkaTemplate.send(topic, event.getDeliveryId().toString(), event).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    fail(event, ex);
+                }
+            });
+        } catch (RuntimeException e) {
+            fail(event, e);
+        }
+    }
+
+    private void fail(SlaBreachEvent event, Throwable ex) {
+        failedCounter.increment();
+        log.error("Publishing SLA breach of delivery {} failed: {}", event.getDeliveryId(), ex.getMessage());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        producerFactory.destroy();
+    }
+}
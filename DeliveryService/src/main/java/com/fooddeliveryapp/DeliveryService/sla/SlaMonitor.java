@@ -0,0 +1,330 @@
+package com.fooddeliveryapp.DeliveryService.sla;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.entities.DeliveryDetails;
+import com.fooddeliveryapp.DeliveryService.events.SlaBreachEvent;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryRepository;
+import com.fooddeliveryapp.DeliveryService.repositories.LeaseRepository;
+import com.fooddeliveryapp.DeliveryService.scheduling.DeadlineWheel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Detects deliveries that are still in progress after their SLA deadline.
+ *
+ * Only one instance monitors at a time: the monitor holds a lease row in the database, like the outbox relay, and
+ * stays idle while another instance holds it. When it takes the lease over, it loads every in-progress delivery;
+ * after that it picks up deliveries started on other instances with one query per sync interval. The deadline is the
+ * estimated delivery time plus a grace period.
+ *
+ * Deliveries are indexed by deadline in a {@link DeadlineWheel} that only keeps their IDs, so registering and
+ * completing a delivery are constant-time map operations and a ticker thread finds the passed deadlines once per
+ * tick. A delivery can be completed on any instance, so before a passed deadline is reported as a breach the monitor
+ * checks that the delivery is still in progress, and every sync drops the breaches of deliveries that were completed
+ * elsewhere in the meantime. An instance that stalls for longer than the lease may report a breach twice; consumers
+ * can recognize repeats by the delivery ID.
+ *
+ * Breaches are published to Kafka and kept until their delivery completes, so the current ones can be read from the
+ * slabreaches actuator endpoint of the monitoring instance. Exposes the number of monitored and breached deliveries
+ * as metrics.
+ */
+@Component
+@Log4j2
+public class SlaMonitor {
+
+    static final String LEASE_NAME = "delivery-sla-monitor";
+
+    // SQL Server accepts at most 2100 parameters per statement
+    private static final int IDS_PER_QUERY = 1000;
+
+    /**
+     * The IDs of a monitored delivery that go into its breach event.
+     */
+    record MonitoredDelivery(UUID orderId, UUID restaurantId) {
+    }
+
+    private final SlaBreachPublisher breachPublisher;
+    private final DeliveryRepository deliveryRepository;
+    private final LeaseRepository leaseRepository;
+    private final String owner;
+    private final Duration leaseDuration;
+    private final long syncIntervalMillis;
+    private final Duration grace;
+    private final Duration defaultDuration;
+    private final long tickMillis;
+    private final DeadlineWheel<UUID, MonitoredDelivery> wheel;
+    private final Map<UUID, SlaBreachEvent> breaches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService ticker;
+    private final Counter breachCounter;
+
+    private final AtomicInteger leader = new AtomicInteger();
+    private boolean leaseCreated;
+    private long nextSyncAt;
+    private LocalDateTime syncedFrom;
+
+    @Autowired
+    public SlaMonitor(SlaBreachPublisher breachPublisher,
+                      DeliveryRepository deliveryRepository,
+                      LeaseRepository leaseRepository,
+                      MeterRegistry meterRegistry,
+                      @Value("${spring.application.name:delivery-service}") String applicationName,
+                      @Value("${delivery.sla.lease-seconds:30}") long leaseSeconds,
+                      @Value("${delivery.sla.sync-interval-ms:10000}") long syncIntervalMillis,
+                      @Value("${delivery.sla.grace-seconds:600}") long graceSeconds,
+                      @Value("${delivery.sla.default-duration-seconds:2700}") long defaultDurationSeconds,
+                      @Value("${delivery.sla.tick-ms:1000}") long tickMillis,
+                      @Value("${delivery.sla.wheel-size:4096}") int wheelSize) {
+        this.breachPublisher = breachPublisher;
+        this.deliveryRepository = deliveryRepository;
+        this.leaseRepository = leaseRepository;
+        this.owner = applicationName + "-" + UUID.randomUUID();
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.grace = Duration.ofSeconds(graceSeconds);
+        this.defaultDuration = Duration.ofSeconds(defaultDurationSeconds);
+        this.tickMillis = tickMillis;
+        this.wheel = new DeadlineWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "delivery-sla-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.breachCounter = Counter.builder("delivery.sla.breaches").register(meterRegistry);
+        Gauge.builder("delivery.sla.monitored", wheel, DeadlineWheel::size).register(meterRegistry);
+        Gauge.builder("delivery.sla.breached", breaches, Map::size).register(meterRegistry);
+        Gauge.builder("delivery.sla.monitor.leader", leader, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts monitoring a delivery, replacing its previous deadline.
+     * Ignored unless this instance is the monitoring one; the monitoring instance picks it up on its next sync.
+     *
+     * @param delivery The in-progress delivery.
+     */
+    public void register(DeliveryDetails delivery) {
+        if (leader.get() == 1) {
+            monitor(delivery);
+        }
+    }
+
+    /**
+     * Stops monitoring a delivery and clears its breach, if there is one.
+     *
+     * @param deliveryId The ID of the delivery.
+     */
+    public void deregister(UUID deliveryId) {
+        wheel.remove(deliveryId);
+        breaches.remove(deliveryId);
+    }
+
+    /**
+     * @return The current breaches, the longest overdue first. Empty unless this instance is the monitoring one.
+     */
+    public List<SlaBreachEvent> getBreaches() {
+        return breaches.values().stream()
+                .sorted(Comparator.comparing(SlaBreachEvent::getDeadline))
+                .toList();
+    }
+
+    void tick() {
+        try {
+            tick(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.error("SLA tick failed: {}", e.getMessage());
+        }
+    }
+
+    void tick(long nowMillis) {
+        if (nowMillis >= nextSyncAt) {
+            nextSyncAt = nowMillis + syncIntervalMillis;
+            sync(nowMillis);
+        }
+        if (leader.get() == 1) {
+            detectBreaches(nowMillis);
+        }
+    }
+
+    private void sync(long nowMillis) {
+        boolean wasLeader = leader.get() == 1;
+        if (!acquireLease(Instant.ofEpochMilli(nowMillis))) {
+            if (wasLeader) {
+                wheel.clear();
+                breaches.clear();
+            }
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault());
+        if (wasLeader) {
+            monitorStartedSince(syncedFrom);
+            clearCompletedBreaches();
+        } else {
+            wheel.clear();
+            breaches.clear();
+            monitorAllInProgress();
+        }
+        // deliveries committed late or stamped by an instance whose clock lags behind are picked up by the next sync
+        syncedFrom = now.minus(leaseDuration);
+    }
+
+    private void monitorAllInProgress() {
+        int monitored = 0;
+        List<DeliveryDetails> page = deliveryRepository.findTop1000ByDeliveryStatusOrderByDeliveryId(DeliveryStatus.IN_PROGRESS);
+
+        while (!page.isEmpty()) {
+            page.forEach(this::monitor);
+            monitored += page.size();
+
+            UUID lastDeliveryId = page.get(page.size() - 1).getDeliveryId();
+            page = deliveryRepository.findTop1000ByDeliveryStatusAndDeliveryIdGreaterThanOrderByDeliveryId(DeliveryStatus.IN_PROGRESS, lastDeliveryId);
+        }
+
+        log.info("Monitoring {} in-progress deliveries for SLA breaches.", monitored);
+    }
+
+    private void monitorStartedSince(LocalDateTime initiatedAfter) {
+        List<DeliveryDetails> page;
+        do {
+            page = deliveryRepository.findTop1000ByDeliveryStatusAndInitiatedAtAfterOrderByInitiatedAt(DeliveryStatus.IN_PROGRESS, initiatedAfter);
+            page.forEach(this::monitor);
+            if (!page.isEmpty()) {
+                initiatedAfter = page.get(page.size() - 1).getInitiatedAt();
+            }
+        } while (page.size() == 1000);
+    }
+
+    private void clearCompletedBreaches() {
+        if (breaches.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> inProgress = inProgressOf(new ArrayList<>(breaches.keySet()));
+        breaches.keySet().removeIf(deliveryId -> !inProgress.contains(deliveryId));
+    }
+
+    private void detectBreaches(long nowMillis) {
+        List<DeadlineWheel.Entry<UUID, MonitoredDelivery>> due = wheel.advance(nowMillis);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Set<UUID> inProgress;
+        try {
+            inProgress = inProgressOf(due.stream().map(DeadlineWheel.Entry::key).toList());
+        } catch (RuntimeException e) {
+            // put the deadlines back, so they are checked again on the next tick
+            due.forEach(entry -> wheel.add(entry.key(), entry.value(), entry.deadlineMillis()));
+            throw e;
+        }
+
+        Instant detectedAt = Instant.ofEpochMilli(nowMillis);
+        for (DeadlineWheel.Entry<UUID, MonitoredDelivery> entry : due) {
+            if (!inProgress.contains(entry.key())) {
+                continue;
+            }
+
+            SlaBreachEvent event = SlaBreachEvent.builder()
+                    .eventId(UUID.randomUUID())
+                    .deliveryId(entry.key())
+                    .orderId(entry.value().orderId())
+                    .restaurantId(entry.value().restaurantId())
+                    .deadline(Instant.ofEpochMilli(entry.deadlineMillis()))
+                    .detectedAt(detectedAt)
+                    .build();
+
+            breaches.put(entry.key(), event);
+            breachCounter.increment();
+            log.warn("Delivery {} breached its SLA deadline {}.", entry.key(), event.getDeadline());
+            breachPublisher.publish(event);
+        }
+    }
+
+    private void monitor(DeliveryDetails delivery) {
+        // a breached delivery stays in the breach list until it completes, it is not reported again
+        if (!breaches.containsKey(delivery.getDeliveryId())) {
+            wheel.add(delivery.getDeliveryId(), new MonitoredDelivery(delivery.getOrderId(), delivery.getRestaurantId()),
+                    deadlineOf(delivery).toEpochMilli());
+        }
+    }
+
+    private Set<UUID> inProgressOf(List<UUID> deliveryIds) {
+        Set<UUID> inProgress = new HashSet<>();
+        for (int from = 0; from < deliveryIds.size(); from += IDS_PER_QUERY) {
+            Collection<UUID> chunk = deliveryIds.subList(from, Math.min(from + IDS_PER_QUERY, deliveryIds.size()));
+            inProgress.addAll(deliveryRepository.findIdsInStatus(chunk, DeliveryStatus.IN_PROGRESS));
+        }
+        return inProgress;
+    }
+
+    private Instant deadlineOf(DeliveryDetails delivery) {
+        LocalDateTime expectedAt = delivery.getEstimatedDeliveryAt() != null
+                ? delivery.getEstimatedDeliveryAt()
+                : delivery.getInitiatedAt().plus(defaultDuration);
+
+        return expectedAt.atZone(ZoneId.systemDefault()).toInstant().plus(grace);
+    }
+
+    boolean acquireLease(Instant now) {
+        if (!leaseCreated) {
+            try {
+                leaseRepository.createIfMissing(LEASE_NAME, now);
+            } catch (DataIntegrityViolationException e) {
+                // another instance created the lease row at the same time
+            }
+            leaseCreated = true;
+        }
+
+        boolean acquired = leaseRepository.tryAcquire(LEASE_NAME, owner, now, now.plus(leaseDuration)) == 1;
+        if (acquired != (leader.get() == 1)) {
+            log.info(acquired ? "Took over the SLA monitor lease." : "Lost the SLA monitor lease.");
+        }
+        leader.set(acquired ? 1 : 0);
+        return acquired;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        if (leader.get() == 1) {
+            try {
+                leaseRepository.release(LEASE_NAME, owner, Instant.now());
+            } catch (RuntimeException e) {
+                log.warn("Releasing the SLA monitor lease failed, it expires on its own: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.fooddeliveryapp.DeliveryService.slots;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.DeliveryService.entities.SlotReservation;
+import com.fooddeliveryapp.DeliveryService.repositories.SlotReservationBatchRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Writes slot reservations to the database behind the bookings, in batches.
+ *
+ * Booking a slot only queues its reservation; the queue is written as JDBC batches at a short interval, on a thread
+ * of its own so other scheduled jobs cannot hold up the writes. A batch that fails is kept and written again before
+ * anything else. Reservations still queued when the instance stops are written on shutdown, and before a partition
+ * is handed to another instance. Reservations of a partition that changed hands before they were written are
+ * rejected by the write and counted in delivery.slots.reservations.fenced.
+ */
+@Component
+@Log4j2
+public class ReservationWriter {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final SlotReservationBatchRepository batchRepository;
+    private final BlockingQueue<SlotReservation> queue;
+    // only touched while holding the flush lock
+    private final List<SlotReservation> failed = new ArrayList<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter writtenCounter;
+    private final Counter fencedCounter;
+    private final long writeIntervalMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "slot-reservation-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public ReservationWriter(SlotReservationBatchRepository batchRepository, MeterRegistry meterRegistry,
+                             @Value("${delivery.slots.write-queue-capacity:100000}") int queueCapacity,
+                             @Value("${delivery.slots.write-interval-ms:100}") long writeIntervalMillis) {
+        this.batchRepository = batchRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writeIntervalMillis = writeIntervalMillis;
+
+        this.writtenCounter = Counter.builder("delivery.slots.reservations.written").register(meterRegistry);
+        this.fencedCounter = Counter.builder("delivery.slots.reservations.fenced").register(meterRegistry);
+        Gauge.builder("delivery.slots.reservations.queued", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, writeIntervalMillis, writeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues a reservation for writing.
+     *
+     * @param reservation The reservation.
+     * @return false if the queue is full.
+     */
+    public boolean enqueue(SlotReservation reservation) {
+        return queue.offer(reservation);
+    }
+
+    /**
+     * Writes all queued reservations.
+     *
+     * @return true if nothing is left to write, false if a batch failed and will be retried.
+     */
+    public boolean flush() {
+        flushLock.lock();
+        try {
+            while (true) {
+                if (failed.isEmpty()) {
+                    queue.drainTo(failed, BATCH_SIZE);
+                    if (failed.isEmpty()) {
+                        return true;
+                    }
+                }
+
+                List<SlotReservation> fenced;
+                try {
+                    fenced = batchRepository.insertAll(failed);
+                } catch (RuntimeException e) {
+                    // also keeps the scheduled writes going, which stop for good once a run throws
+                    log.error("Writing {} slot reservations failed, retrying. Error: {}", failed.size(), e.getMessage());
+                    return false;
+                }
+                for (SlotReservation reservation : fenced) {
+                    log.error("Slot reservation {} of order {} was not written, partition {} changed hands before it was saved.",
+                            reservation.getReservationId(), reservation.getOrderId(), reservation.getPartitionId());
+                }
+                fencedCounter.increment(fenced.size());
+                writtenCounter.increment(failed.size() - fenced.size());
+                failed.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        if (!flush()) {
+            log.error("Slot reservations could not be written before shutdown.");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.fooddeliveryapp.DeliveryService.slots;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import com.fooddeliveryapp.DeliveryService.exceptions.InvalidSlotException;
+import com.fooddeliveryapp.DeliveryService.exceptions.SlotFullException;
+import com.fooddeliveryapp.DeliveryService.exceptions.SlotPartitionUnavailableException;
+import com.fooddeliveryapp.DeliveryService.models.SlotBookingRequest;
+import com.fooddeliveryapp.DeliveryService.models.SlotBookingResponse;
+
+/**
+ * Forwards bookings of slots this instance does not book to the instance that does.
+ * The caller's token is passed along, so the other instance authorizes the booking the same way.
+ */
+@Component
+public class SlotForwarder {
+
+    public static final String FORWARDED_HEADER = "X-Slot-Forwarded";
+
+    private final RestClient restClient;
+
+    public SlotForwarder(@Value("${delivery.slots.forward-timeout-ms:2000}") int timeoutMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofMillis(timeoutMs));
+        requestFactory.setReadTimeout(Duration.ofMillis(timeoutMs));
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+    }
+
+    /**
+     * Books a slot on another instance.
+     *
+     * @param ownerUrl      Base URL of the instance booking the slot's partition.
+     * @param request       The booking.
+     * @param authorization The Authorization header of the original request.
+     * @return The booked reservation.
+     */
+    public SlotBookingResponse forward(String ownerUrl, SlotBookingRequest request, String authorization) {
+        try {
+            return restClient.post()
+                    .uri(ownerUrl + "/slots/bookings")
+                    .header(HttpHeaders.AUTHORIZATION, authorization)
+                    .header(FORWARDED_HEADER, "true")
+                    .body(request)
+                    .retrieve()
+                    .body(SlotBookingResponse.class);
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.CONFLICT) {
+                throw new SlotFullException("The slot " + request.getSlotStart() + " is fully booked.");
+            }
+            if (e.getStatusCode() == HttpStatus.BAD_REQUEST) {
+                throw new InvalidSlotException("The slot " + request.getSlotStart() + " cannot be booked.");
+            }
+            throw new SlotPartitionUnavailableException("Booking the slot failed on " + ownerUrl + ": " + e.getStatusCode());
+        } catch (RestClientException e) {
+            throw new SlotPartitionUnavailableException("Booking the slot failed on " + ownerUrl + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.fooddeliveryapp.DeliveryService.slots;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.DeliveryService.repositories.SlotReservationRepository;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * In-memory capacity counters of delivery time slots, one per zone and slot.
+ *
+ * A booking claims capacity with a compare-and-set on the slot's counter, so concurrent bookings of the same slot
+ * never lock and can never exceed its capacity. Counters only exist for the partitions this instance owns: they are
+ * rebuilt from the stored reservations when a partition is taken over and dropped when it is handed off.
+ */
+@Component
+@Log4j2
+public class SlotInventory {
+
+    /**
+     * A slot of one zone.
+     */
+    public record SlotKey(long zone, LocalDateTime slotStart) {
+    }
+
+    private final SlotReservationRepository reservationRepository;
+    private final int partitions;
+    private final Map<SlotKey, AtomicInteger> booked = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SlotInventory(SlotReservationRepository reservationRepository,
+                         @Value("${delivery.slots.partitions:16}") int partitions) {
+        this.reservationRepository = reservationRepository;
+        this.partitions = partitions;
+    }
+
+    /**
+     * @return The number of partitions the zones are spread over.
+     */
+    public int partitions() {
+        return partitions;
+    }
+
+    /**
+     * @param zone The zone.
+     * @return The partition the zone belongs to.
+     */
+    public int partitionOf(long zone) {
+        // spread neighbouring cells over the partitions, so a busy area is not owned by a single instance
+        return Math.floorMod(Long.hashCode(zone * 0x9E3779B97F4A7C15L), partitions);
+    }
+
+    /**
+     * Claims one unit of capacity of a slot. Lock-free.
+     *
+     * @param slot     The slot.
+     * @param capacity The capacity of the slot.
+     * @return true if the slot had capacity left, false if it is full.
+     */
+    public boolean tryReserve(SlotKey slot, int capacity) {
+        AtomicInteger counter = booked.computeIfAbsent(slot, key -> new AtomicInteger());
+        while (true) {
+            int current = counter.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives back capacity claimed by a booking that could not be completed.
+     *
+     * @param slot The slot.
+     */
+    public void cancel(SlotKey slot) {
+        AtomicInteger counter = booked.get(slot);
+        if (counter != null) {
+            counter.updateAndGet(current -> Math.max(0, current - 1));
+        }
+    }
+
+    /**
+     * @param slot The slot.
+     * @return The number of reservations of the slot.
+     */
+    public int bookedCount(SlotKey slot) {
+        AtomicInteger counter = booked.get(slot);
+        return counter != null ? counter.get() : 0;
+    }
+
+    /**
+     * Rebuilds the counters of a partition from the stored reservations.
+     *
+     * @param partition The partition.
+     * @param from      Slots starting before this time are skipped.
+     */
+    public void load(int partition, LocalDateTime from) {
+        drop(partition);
+        int slots = 0;
+        for (SlotReservationRepository.SlotCount count : reservationRepository.countByPartitionSince(partition, from)) {
+            booked.put(new SlotKey(count.zoneKey(), count.slotStart()), new AtomicInteger(count.reservations().intValue()));
+            slots++;
+        }
+        log.info("Loaded {} booked slots of partition {}.", slots, partition);
+    }
+
+    /**
+     * Forgets the counters of a partition.
+     *
+     * @param partition The partition.
+     */
+    public void drop(int partition) {
+        booked.keySet().removeIf(slot -> partitionOf(slot.zone()) == partition);
+    }
+
+    /**
+     * Forgets the counters of slots that ended more than a day ago.
+     */
+    @Scheduled(fixedDelay = 3_600_000)
+    public void evictPastSlots() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(1);
+        booked.keySet().removeIf(slot -> slot.slotStart().isBefore(cutoff));
+    }
+}
@@ -0,0 +1,329 @@
+package com.fooddeliveryapp.DeliveryService.slots;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.commons.util.InetUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.DeliveryService.repositories.LeaseRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Decides which instance books the slots of which zones.
+ *
+ * The zones are spread over a fixed number of partitions and every partition is booked by exactly one instance:
+ * the one holding its lease row in the database, taken and renewed with the same conditional update as the outbox
+ * relay lease. Every instance holds about its share of the partitions, given the number of registered instances,
+ * and releases partitions above its share so instances that join pick them up.
+ *
+ * An instance books a partition only while its lease is valid for at least the safety margin, so it has stopped
+ * booking well before another instance may take the partition over. A partition is released only after its queued
+ * reservations were written, and a new holder rebuilds its counters from the database before it books. When a lease
+ * is lost, the queued reservations are still written before the partition's counters are dropped.
+ *
+ * The margin alone does not help when the queued reservations cannot be written before the lease expires, e.g. while
+ * the database is unreachable. Every reservation therefore carries the epoch of the lease it was booked under, and
+ * is only written while the lease is still in that epoch, see {@link ReservationWriter}. Leases are renewed on a
+ * thread of their own, so a slow scheduled job elsewhere cannot let them run out.
+ */
+@Component
+@Log4j2
+public class SlotPartitions {
+
+    static final String LEASE_PREFIX = "delivery-slot-partition-";
+
+    private final LeaseRepository leaseRepository;
+    private final SlotInventory inventory;
+    private final ReservationWriter writer;
+    private final IntSupplier instanceCount;
+    private final String baseUrl;
+    private final String owner;
+    private final Duration leaseDuration;
+    private final Duration leaseMargin;
+    private final long rebalanceIntervalMillis;
+    private final ScheduledExecutorService rebalancer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "slot-partition-leases");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // epoch millis until which this instance may book a partition, 0 for partitions it does not hold
+    private final AtomicLongArray bookableUntil;
+    // the epoch of the lease of every partition this instance holds
+    private final AtomicLongArray epochs;
+    // bookings hold the read lock of their partition, handing a partition off takes the write lock
+    private final ReadWriteLock[] handoffLocks;
+    // partitions whose lease this instance holds; only touched by the rebalancing thread and on shutdown
+    private final boolean[] held;
+    private final AtomicInteger ownedCount = new AtomicInteger();
+    private boolean leasesCreated;
+
+    @Autowired
+    public SlotPartitions(LeaseRepository leaseRepository,
+                          SlotInventory inventory,
+                          ReservationWriter writer,
+                          DiscoveryClient discoveryClient,
+                          InetUtils inetUtils,
+                          MeterRegistry meterRegistry,
+                          @Value("${spring.application.name:delivery-service}") String applicationName,
+                          @Value("${server.port:8084}") int port,
+                          @Value("${delivery.slots.lease-seconds:30}") long leaseSeconds,
+                          @Value("${delivery.slots.lease-margin-seconds:10}") long leaseMarginSeconds,
+                          @Value("${delivery.slots.rebalance-interval-ms:5000}") long rebalanceIntervalMillis) {
+        this(leaseRepository, inventory, writer,
+                () -> discoveryClient.getInstances(applicationName).size(),
+                "http://" + inetUtils.findFirstNonLoopbackHostInfo().getIpAddress() + ":" + port,
+                leaseSeconds, leaseMarginSeconds, rebalanceIntervalMillis);
+
+        Gauge.builder("delivery.slots.partitions.owned", ownedCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    SlotPartitions(LeaseRepository leaseRepository, SlotInventory inventory, ReservationWriter writer,
+                   IntSupplier instanceCount, String baseUrl, long leaseSeconds, long leaseMarginSeconds,
+                   long rebalanceIntervalMillis) {
+        this.leaseRepository = leaseRepository;
+        this.inventory = inventory;
+        this.writer = writer;
+        this.instanceCount = instanceCount;
+        this.baseUrl = baseUrl;
+        this.owner = baseUrl + " " + UUID.randomUUID();
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+        this.leaseMargin = Duration.ofSeconds(leaseMarginSeconds);
+        this.rebalanceIntervalMillis = rebalanceIntervalMillis;
+
+        this.bookableUntil = new AtomicLongArray(inventory.partitions());
+        this.epochs = new AtomicLongArray(inventory.partitions());
+        this.held = new boolean[inventory.partitions()];
+        this.handoffLocks = new ReadWriteLock[inventory.partitions()];
+        for (int i = 0; i < handoffLocks.length; i++) {
+            handoffLocks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        rebalancer.scheduleWithFixedDelay(this::rebalance, 0, rebalanceIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param partition The partition.
+     * @return The name of the lease.
+     */
+    public static String leaseName(int partition) {
+        return LEASE_PREFIX + partition;
+    }
+
+    /**
+     * @param partition The partition.
+     * @return true if this instance currently books the partition.
+     */
+    public boolean isOwned(int partition) {
+        return System.currentTimeMillis() < bookableUntil.get(partition);
+    }
+
+    /**
+     * Runs a booking of a partition if this instance books the partition. The partition is not handed off
+     * while the booking runs, so its reservation is queued before the queue is written for the handoff.
+     *
+     * @param partition The partition.
+     * @param booking   The booking.
+     * @return The result of the booking, or null if this instance does not book the partition.
+     */
+    public <T> T bookIfOwned(int partition, Supplier<T> booking) {
+        ReadWriteLock lock = handoffLocks[partition];
+        lock.readLock().lock();
+        try {
+            return isOwned(partition) ? booking.get() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param partition A partition this instance books, called from within {@link #bookIfOwned}.
+     * @return The epoch of the partition's lease, which the reservations booked now are written under.
+     */
+    public long epochOf(int partition) {
+        return epochs.get(partition);
+    }
+
+    /**
+     * @param partition The partition.
+     * @return The base URL of the instance booking the partition, or null if no instance holds it.
+     */
+    public String ownerUrl(int partition) {
+        return leaseRepository.findById(LEASE_PREFIX + partition)
+                .filter(lease -> lease.getOwner() != null && lease.getLeaseUntil().isAfter(Instant.now()))
+                .map(lease -> lease.getOwner().substring(0, lease.getOwner().indexOf(' ')))
+                .orElse(null);
+    }
+
+    /**
+     * @return The base URL other instances forward bookings to.
+     */
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Renews the leases of the partitions this instance holds, hands off partitions above its share
+     * and takes over free partitions up to its share.
+     */
+    public void rebalance() {
+        try {
+            createLeases();
+            int instances = Math.max(1, instanceCount.getAsInt());
+            int share = (held.length + instances - 1) / instances;
+
+            int owned = 0;
+            for (int partition = 0; partition < held.length; partition++) {
+                if (!held[partition]) {
+                    continue;
+                }
+                if (owned >= share) {
+                    handOff(partition);
+                } else if (renew(partition)) {
+                    owned++;
+                }
+            }
+
+            // start at a random partition so instances starting together do not compete for the same leases
+            int start = (int) (Math.random() * held.length);
+            for (int i = 0; i < held.length && owned < share; i++) {
+                int partition = (start + i) % held.length;
+                if (!held[partition] && takeOver(partition)) {
+                    owned++;
+                }
+            }
+            ownedCount.set(owned);
+        } catch (RuntimeException e) {
+            // held partitions stop being booked once their leases run into the margin
+            log.error("Rebalancing slot partitions failed: {}", e.getMessage());
+        }
+    }
+
+    private void createLeases() {
+        if (leasesCreated) {
+            return;
+        }
+        for (int partition = 0; partition < held.length; partition++) {
+            try {
+                leaseRepository.createIfMissing(LEASE_PREFIX + partition, Instant.now());
+            } catch (DataIntegrityViolationException e) {
+                // another instance created the lease row at the same time
+            }
+        }
+        leasesCreated = true;
+    }
+
+    private boolean renew(int partition) {
+        Instant now = Instant.now();
+        if (leaseRepository.tryAcquire(LEASE_PREFIX + partition, owner, now, now.plus(leaseDuration)) == 1) {
+            bookableUntil.set(partition, now.plus(leaseDuration).minus(leaseMargin).toEpochMilli());
+            return true;
+        }
+
+        log.warn("Lost the lease of slot partition {}.", partition);
+        held[partition] = false;
+        stopBooking(partition);
+        if (!writer.flush()) {
+            // the reservations stay queued; once the new holder took over, the fence keeps them from being written
+            log.error("Slot reservations of lost partition {} could not be written yet.", partition);
+        }
+        inventory.drop(partition);
+        return false;
+    }
+
+    private boolean takeOver(int partition) {
+        Instant now = Instant.now();
+        if (leaseRepository.tryAcquire(LEASE_PREFIX + partition, owner, now, now.plus(leaseDuration)) != 1) {
+            return false;
+        }
+        Optional<Long> epoch = leaseRepository.findEpoch(LEASE_PREFIX + partition, owner);
+        if (epoch.isEmpty()) {
+            return false;
+        }
+
+        held[partition] = true;
+        epochs.set(partition, epoch.get());
+        inventory.load(partition, LocalDateTime.now().minusDays(1));
+        bookableUntil.set(partition, now.plus(leaseDuration).minus(leaseMargin).toEpochMilli());
+        log.info("Took over slot partition {}.", partition);
+        return true;
+    }
+
+    private void handOff(int partition) {
+        stopBooking(partition);
+        if (!writer.flush()) {
+            // keep the lease until the reservations are written and try again with the next rebalance
+            Instant now = Instant.now();
+            held[partition] = leaseRepository.tryAcquire(LEASE_PREFIX + partition, owner, now, now.plus(leaseDuration)) == 1;
+            return;
+        }
+
+        leaseRepository.release(LEASE_PREFIX + partition, owner, Instant.now());
+        held[partition] = false;
+        inventory.drop(partition);
+        log.info("Handed off slot partition {}.", partition);
+    }
+
+    // waits for bookings of the partition that are running
+    private void stopBooking(int partition) {
+        ReadWriteLock lock = handoffLocks[partition];
+        lock.writeLock().lock();
+        try {
+            bookableUntil.set(partition, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebalancer.shutdownNow();
+        try {
+            rebalancer.awaitTermination(leaseMargin.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (int partition = 0; partition < held.length; partition++) {
+            stopBooking(partition);
+        }
+        if (!writer.flush()) {
+            // releasing now would let another instance load the partitions without these reservations
+            log.error("Slot reservations could not be written, leaving the slot partition leases to expire.");
+            return;
+        }
+        try {
+            for (int partition = 0; partition < held.length; partition++) {
+                if (held[partition]) {
+                    leaseRepository.release(LEASE_PREFIX + partition, owner, Instant.now());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Releasing the slot partition leases failed, they expire on their own: {}", e.getMessage());
+        }
+    }
+}
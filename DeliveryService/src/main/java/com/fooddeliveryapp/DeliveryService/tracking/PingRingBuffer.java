@@ -0,0 +1,82 @@
+package com.fooddeliveryapp.DeliveryService.tracking;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free ring buffer with many producers and a single consumer.
+ *
+ * The slots are allocated once, so the buffer never grows or allocates nodes however many pings pass through it.
+ * Producers claim a slot by advancing the tail with a compare-and-set and then publish their element into it; the
+ * consumer takes elements in claim order and empties each slot before moving the head past it. A slot that was
+ * claimed but not yet published reads as empty, so the consumer simply picks it up on its next poll.
+ *
+ * @param <E> The type of the elements.
+ */
+public final class PingRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    /**
+     * @param capacity The number of slots, rounded up to a power of two.
+     */
+    public PingRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an element unless the buffer is full. May be called from any thread.
+     *
+     * @param element The element, not null.
+     * @return true if the element was added.
+     */
+    public boolean offer(E element) {
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head >= slots.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+
+        slots.set((int) (claimed & mask), element);
+        return true;
+    }
+
+    /**
+     * Takes the oldest element. Must only be called from the consumer thread.
+     *
+     * @return The element, or null if the buffer is empty.
+     */
+    public E poll() {
+        long current = head;
+        int index = (int) (current & mask);
+        E element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        // emptied before the head moves on, so a producer that sees the free slot finds it empty
+        slots.lazySet(index, null);
+        head = current + 1;
+        return element;
+    }
+
+    /**
+     * @return The number of claimed slots that the consumer has not taken yet.
+     */
+    public int size() {
+        return (int) Math.max(0L, tail.get() - head);
+    }
+
+    /**
+     * @return The number of slots.
+     */
+    public int capacity() {
+        return slots.length();
+    }
+}
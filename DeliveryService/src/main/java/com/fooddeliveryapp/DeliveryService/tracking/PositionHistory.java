@@ -0,0 +1,123 @@
+package com.fooddeliveryapp.DeliveryService.tracking;
+
+import java.util.Arrays;
+
+import com.fooddeliveryapp.DeliveryService.geo.GeoUtils;
+
+/**
+ * Bounded, down-sampled log of the positions of one delivery.
+ *
+ * A position is only kept if enough time has passed or the courier has moved far enough since the last kept one.
+ * Points are stored in parallel primitive arrays, with the time as an offset from the first point (12 bytes per point).
+ * The arrays start small and double as the route grows, so a delivery only pays for the points it has. Once the
+ * capacity is reached, every second point is dropped, halving the resolution of the older part of the route instead
+ * of growing further. The memory used per delivery is therefore bounded no matter how often the courier reports its
+ * position.
+ */
+public final class PositionHistory {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int capacity;
+    private final long minIntervalMillis;
+    private final double minDistanceMeters;
+    private float[] latitudes;
+    private float[] longitudes;
+    private int[] offsetMillis;
+    private long firstRecordedAt;
+    private int size;
+
+    /**
+     * @param capacity          The maximum number of points kept.
+     * @param minIntervalMillis Points closer in time than this to the last kept point are dropped...
+     * @param minDistanceMeters ...unless the courier moved at least this far.
+     */
+    public PositionHistory(int capacity, long minIntervalMillis, double minDistanceMeters) {
+        int initial = Math.min(capacity, INITIAL_CAPACITY);
+        this.capacity = capacity;
+        this.latitudes = new float[initial];
+        this.longitudes = new float[initial];
+        this.offsetMillis = new int[initial];
+        this.minIntervalMillis = minIntervalMillis;
+        this.minDistanceMeters = minDistanceMeters;
+    }
+
+    /**
+     * Adds a position if it differs enough from the last kept one.
+     *
+     * @return true if the position was kept.
+     */
+    public synchronized boolean add(double latitude, double longitude, long recordedAt) {
+        if (size == 0) {
+            firstRecordedAt = recordedAt;
+        } else {
+            int last = size - 1;
+            long lastRecordedAt = recordedAtOf(last);
+            if (recordedAt <= lastRecordedAt) {
+                return false;
+            }
+            if (recordedAt - lastRecordedAt < minIntervalMillis
+                    && GeoUtils.distanceMeters(latitudes[last], longitudes[last], latitude, longitude) < minDistanceMeters) {
+                return false;
+            }
+            // a delivery does not last 24 days; a device clock that jumps that far is not trusted
+            if (recordedAt - firstRecordedAt > Integer.MAX_VALUE) {
+                return false;
+            }
+        }
+
+        if (size == latitudes.length) {
+            if (size < capacity) {
+                grow();
+            } else {
+                compact();
+            }
+        }
+        latitudes[size] = (float) latitude;
+        longitudes[size] = (float) longitude;
+        offsetMillis[size] = (int) (recordedAt - firstRecordedAt);
+        size++;
+        return true;
+    }
+
+    /**
+     * @return The kept positions, oldest first, as {latitude, longitude, recordedAtMillis} triples.
+     */
+    public synchronized double[][] snapshot() {
+        double[][] points = new double[size][];
+        for (int i = 0; i < size; i++) {
+            points[i] = new double[] { latitudes[i], longitudes[i], recordedAtOf(i) };
+        }
+        return points;
+    }
+
+    /**
+     * @return The number of kept positions.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private long recordedAtOf(int index) {
+        return firstRecordedAt + offsetMillis[index];
+    }
+
+    private void grow() {
+        int grown = Math.min(capacity, latitudes.length * 2);
+        latitudes = Arrays.copyOf(latitudes, grown);
+        longitudes = Arrays.copyOf(longitudes, grown);
+        offsetMillis = Arrays.copyOf(offsetMillis, grown);
+    }
+
+    private void compact() {
+        // keep every second point, always including the most recent one
+        int kept = 0;
+        for (int i = size % 2 == 0 ? 1 : 0; i < size; i += 2) {
+            latitudes[kept] = latitudes[i];
+            longitudes[kept] = longitudes[i];
+            offsetMillis[kept] = offsetMillis[i];
+            kept++;
+        }
+        size = kept;
+    }
+}
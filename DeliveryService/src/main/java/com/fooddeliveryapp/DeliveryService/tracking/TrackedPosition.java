@@ -0,0 +1,17 @@
+package com.fooddeliveryapp.DeliveryService.tracking;
+
+import java.util.UUID;
+
+/**
+ * A single position reported by a courier.
+ *
+ * @param courierId      The courier that reported the position.
+ * @param deliveryId     The delivery the courier is working on, or null if it is not on a delivery.
+ * @param latitude       Latitude in degrees.
+ * @param longitude      Longitude in degrees.
+ * @param recordedAtMillis When the position was recorded on the device, in epoch milliseconds.
+ * @param receivedAtMillis When the position was received by this service, in epoch milliseconds.
+ */
+public record TrackedPosition(UUID courierId, UUID deliveryId, double latitude, double longitude, long recordedAtMillis,
+                              long receivedAtMillis) {
+}
@@ -0,0 +1,84 @@
+package com.fooddeliveryapp.DeliveryService.batching;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class DeliveryBatcherTest {
+
+    private final List<DeliveryRoute> routes = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DeliveryBatcher batcher;
+
+    @AfterEach
+    public void tearDown() {
+        batcher.shutdown();
+    }
+
+    @DisplayName("Batch Deliveries - Same Restaurant Merged After Window")
+    @Test
+    public void test_When_Window_Passes_Deliveries_Of_Restaurant_Share_Route() throws InterruptedException {
+        batcher = new DeliveryBatcher(event -> routes.add((DeliveryRoute) event), meterRegistry, 100, 50, 3, 3_000, 5);
+        UUID restaurantId = UUID.randomUUID();
+        UUID otherRestaurantId = UUID.randomUUID();
+
+        batcher.submit(delivery(restaurantId, 44.8135));
+        batcher.submit(delivery(restaurantId, 44.8145));
+        batcher.submit(delivery(otherRestaurantId, 44.8135));
+        assertTrue(routes.isEmpty());
+
+        awaitRoutes(2);
+        assertEquals(2, routes.size());
+        assertTrue(routes.stream().anyMatch(route -> route.restaurantId().equals(restaurantId) && route.stops().size() == 2));
+        assertEquals(3, meterRegistry.get("delivery.batch.formation").timer().count());
+        assertEquals(2, meterRegistry.get("delivery.route.stops").summary().count());
+    }
+
+    @DisplayName("Batch Deliveries - Full Batch Planned Right Away")
+    @Test
+    public void test_When_Batch_Full_Planned_Before_Window() throws InterruptedException {
+        batcher = new DeliveryBatcher(event -> routes.add((DeliveryRoute) event), meterRegistry, 60_000, 2, 3, 3_000, 5);
+        UUID restaurantId = UUID.randomUUID();
+
+        batcher.submit(delivery(restaurantId, 44.8135));
+        batcher.submit(delivery(restaurantId, 44.8145));
+
+        awaitRoutes(1);
+        assertEquals(2, routes.get(0).stops().size());
+    }
+
+    @DisplayName("Cancel Delivery - Removed From Pending Batch")
+    @Test
+    public void test_When_Delivery_Cancelled_Not_Routed() throws InterruptedException {
+        batcher = new DeliveryBatcher(event -> routes.add((DeliveryRoute) event), meterRegistry, 100, 50, 3, 3_000, 5);
+        UUID restaurantId = UUID.randomUUID();
+        BatchedDelivery cancelled = delivery(restaurantId, 44.8135);
+
+        batcher.submit(cancelled);
+        batcher.submit(delivery(restaurantId, 44.8145));
+        batcher.cancel(restaurantId, cancelled.deliveryId());
+
+        awaitRoutes(1);
+        assertEquals(1, routes.get(0).stops().size());
+        assertNotEquals(cancelled, routes.get(0).stops().get(0));
+    }
+
+    private void awaitRoutes(int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && routes.size() < expected; i++) {
+            Thread.sleep(20);
+        }
+    }
+
+    private BatchedDelivery delivery(UUID restaurantId, double dropoffLatitude) {
+        return new BatchedDelivery(UUID.randomUUID(), UUID.randomUUID(), restaurantId,
+                44.8125, 20.4612, dropoffLatitude, 20.4612, System.nanoTime());
+    }
+}
@@ -0,0 +1,77 @@
+package com.fooddeliveryapp.DeliveryService.batching;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+public class RoutePlannerTest {
+
+    private static final double PICKUP_LATITUDE = 44.8125;
+    private static final double PICKUP_LONGITUDE = 20.4612;
+    private final UUID restaurantId = UUID.randomUUID();
+
+    @DisplayName("Plan Routes - Drop-Offs Visited Along The Way")
+    @Test
+    public void test_When_Dropoffs_On_A_Line_Visited_In_Order() {
+        BatchedDelivery far = delivery(44.8125, 20.4912);
+        BatchedDelivery near = delivery(44.8125, 20.4712);
+        BatchedDelivery middle = delivery(44.8125, 20.4812);
+
+        List<List<BatchedDelivery>> routes = new RoutePlanner(3, 10_000, 1_000_000_000L)
+                .plan(PICKUP_LATITUDE, PICKUP_LONGITUDE, List.of(far, near, middle));
+
+        assertEquals(List.of(List.of(near, middle, far)), routes);
+    }
+
+    @DisplayName("Plan Routes - Split By Stops And Leg Length")
+    @Test
+    public void test_When_Too_Many_Or_Distant_Dropoffs_Routes_Split() {
+        List<BatchedDelivery> deliveries = List.of(
+                delivery(44.8135, 20.4612), delivery(44.8145, 20.4612), delivery(44.8155, 20.4612),
+                delivery(44.8165, 20.4612), delivery(44.9125, 20.4612), delivery(PICKUP_LATITUDE, PICKUP_LONGITUDE, null, null));
+
+        List<List<BatchedDelivery>> routes = new RoutePlanner(3, 3_000, 1_000_000_000L)
+                .plan(PICKUP_LATITUDE, PICKUP_LONGITUDE, deliveries);
+
+        assertEquals(4, routes.size());
+        assertEquals(deliveries.size(), routes.stream().mapToInt(List::size).sum());
+        assertTrue(routes.stream().allMatch(route -> route.size() <= 3));
+        assertTrue(routes.contains(List.of(deliveries.get(5))));
+        assertTrue(routes.contains(List.of(deliveries.get(4))));
+    }
+
+    @DisplayName("Improve Path - 2-Opt Never Longer Than Nearest Neighbour")
+    @Test
+    public void test_When_Path_Improved_Not_Longer() {
+        Random random = new Random(3);
+        List<BatchedDelivery> deliveries = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            deliveries.add(delivery(44.78 + random.nextDouble() * 0.06, 20.43 + random.nextDouble() * 0.06));
+        }
+
+        double[][] distances = RoutePlanner.distances(PICKUP_LATITUDE, PICKUP_LONGITUDE, deliveries);
+        int[] path = RoutePlanner.nearestNeighbourPath(distances);
+        double before = RoutePlanner.length(path, distances);
+
+        assertTrue(RoutePlanner.improve(path, distances, System.nanoTime() + 1_000_000_000L));
+        assertTrue(RoutePlanner.length(path, distances) <= before);
+        assertEquals(0, path[0]);
+        assertEquals(41, Arrays.stream(path).distinct().count());
+    }
+
+    private BatchedDelivery delivery(double dropoffLatitude, double dropoffLongitude) {
+        return delivery(PICKUP_LATITUDE, PICKUP_LONGITUDE, dropoffLatitude, dropoffLongitude);
+    }
+
+    private BatchedDelivery delivery(double pickupLatitude, double pickupLongitude, Double dropoffLatitude, Double dropoffLongitude) {
+        return new BatchedDelivery(UUID.randomUUID(), UUID.randomUUID(), restaurantId,
+                pickupLatitude, pickupLongitude, dropoffLatitude, dropoffLongitude, System.nanoTime());
+    }
+}
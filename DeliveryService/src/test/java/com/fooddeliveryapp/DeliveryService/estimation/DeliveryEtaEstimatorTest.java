@@ -0,0 +1,72 @@
+package com.fooddeliveryapp.DeliveryService.estimation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class DeliveryEtaEstimatorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeliveryEtaEstimator estimator;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        estimator = new DeliveryEtaEstimator(meterRegistry, 0.1, 2, 5, 600);
+    }
+
+    @DisplayName("Estimate ETA - Default Duration Without Samples")
+    @Test
+    public void test_When_No_Deliveries_Recorded_Default_Duration() {
+        assertEquals(Duration.ofMinutes(10), estimator.estimate(UUID.randomUUID(), 12));
+    }
+
+    @DisplayName("Estimate ETA - Restaurant Mean Scaled By Hour Of Day")
+    @Test
+    public void test_When_Deliveries_Recorded_Restaurant_And_Hour_Combined() {
+        UUID slowRestaurant = UUID.randomUUID();
+        UUID fastRestaurant = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            estimator.record(slowRestaurant, 12, Duration.ofMinutes(40), null);
+            estimator.record(fastRestaurant, 12, Duration.ofMinutes(20), null);
+        }
+
+        Duration slow = estimator.estimate(slowRestaurant, 12);
+        Duration fast = estimator.estimate(fastRestaurant, 12);
+
+        assertEquals(40, slow.toMinutes());
+        assertEquals(20, fast.toMinutes());
+        assertEquals(30, estimator.estimate(UUID.randomUUID(), 12).toMinutes());
+    }
+
+    @DisplayName("Estimate ETA - Recent Deliveries Weigh More")
+    @Test
+    public void test_When_Durations_Change_Estimate_Follows() {
+        UUID restaurantId = UUID.randomUUID();
+        for (int i = 0; i < 50; i++) {
+            estimator.record(restaurantId, 18, Duration.ofMinutes(20), null);
+        }
+        for (int i = 0; i < 50; i++) {
+            estimator.record(restaurantId, 18, Duration.ofMinutes(40), null);
+        }
+
+        assertTrue(estimator.estimate(restaurantId, 18).toMinutes() >= 39);
+    }
+
+    @DisplayName("Estimation Error - Recorded As Metric")
+    @Test
+    public void test_When_Delivery_Late_Error_Recorded() {
+        estimator.record(UUID.randomUUID(), 9, Duration.ofMinutes(35), Duration.ofMinutes(30));
+        estimator.record(UUID.randomUUID(), 9, Duration.ofMinutes(25), Duration.ofMinutes(30));
+
+        assertEquals(300.0, meterRegistry.get("delivery.eta.error").tag("direction", "late").summary().totalAmount(), 0.001);
+        assertEquals(300.0, meterRegistry.get("delivery.eta.error").tag("direction", "early").summary().totalAmount(), 0.001);
+    }
+}
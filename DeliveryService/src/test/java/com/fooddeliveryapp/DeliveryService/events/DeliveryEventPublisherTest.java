@@ -0,0 +1,110 @@
+package com.fooddeliveryapp.DeliveryService.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class DeliveryEventPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, DeliveryEvent> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeliveryEventPublisher publisher;
+    private DeliveryEvent event;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new DeliveryEventPublisher(kafkaTemplate, meterRegistry, "delivery-topic", 1, 10);
+        event = new DeliveryEvent(UUID.randomUUID(), DeliveryStatus.DELIVERED);
+    }
+
+    @DisplayName("Publish Delivery Event - Success Scenario")
+    @Test
+    public void test_When_Publish_Event_Success() throws Exception {
+        Mockito.when(kafkaTemplate.send("delivery-topic", event.getOrderId().toString(), event))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        publisher.publish(event).get(1, TimeUnit.SECONDS);
+
+        assertEquals(1.0, meterRegistry.get("delivery.events.sent").tag("result", "success").counter().count(), 0.0);
+        assertEquals(0.0, meterRegistry.get("delivery.events.in.flight").gauge().value(), 0.0);
+    }
+
+    @DisplayName("Publish Delivery Event - Other Topic")
+    @Test
+    public void test_When_Publish_Event_To_Other_Topic_Not_Sent_To_Delivery_Topic() throws Exception {
+        Mockito.when(kafkaTemplate.send("delivery-simulation-topic", event.getOrderId().toString(), event))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        publisher.publish("delivery-simulation-topic", event).get(1, TimeUnit.SECONDS);
+
+        Mockito.verify(kafkaTemplate, Mockito.never()).send(Mockito.eq("delivery-topic"), Mockito.any(), Mockito.any());
+    }
+
+    @DisplayName("Publish Delivery Event - Failure Scenario (Not Sent Again)")
+    @Test
+    public void test_When_Publish_Event_Fails_Completes_Exceptionally_Without_Resend() throws Exception {
+        Mockito.when(kafkaTemplate.send("delivery-topic", event.getOrderId().toString(), event))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+
+        CompletableFuture<SendResult<String, DeliveryEvent>> result = publisher.publish(event);
+
+        assertThrows(Exception.class, () -> result.get(1, TimeUnit.SECONDS));
+        // the producer has retried the record already; a second send could duplicate or reorder it
+        Mockito.verify(kafkaTemplate, Mockito.times(1)).send("delivery-topic", event.getOrderId().toString(), event);
+        assertEquals(1.0, meterRegistry.get("delivery.events.sent").tag("result", "failure").counter().count(), 0.0);
+        assertEquals(0.0, meterRegistry.get("delivery.events.in.flight").gauge().value(), 0.0);
+    }
+
+    @DisplayName("Publish Delivery Event - Rejected When Send Buffer Is Full")
+    @Test
+    public void test_When_Send_Buffer_Full_Event_Rejected() {
+        Mockito.when(kafkaTemplate.send("delivery-topic", event.getOrderId().toString(), event))
+                .thenReturn(new CompletableFuture<>());
+
+        publisher.publish(event);
+        CompletableFuture<SendResult<String, DeliveryEvent>> rejected = publisher.publish(event);
+
+        assertTrue(rejected.isCompletedExceptionally());
+        assertEquals(1.0, meterRegistry.get("delivery.events.sent").tag("result", "rejected").counter().count(), 0.0);
+    }
+
+    @DisplayName("Publish Events In Order - Stops At First Failure")
+    @Test
+    public void test_When_Batch_Send_Fails_Acknowledged_Prefix_Returned() {
+        DeliveryEvent second = new DeliveryEvent(UUID.randomUUID(), DeliveryStatus.DELIVERED);
+        DeliveryEvent third = new DeliveryEvent(UUID.randomUUID(), DeliveryStatus.DELIVERED);
+        Mockito.when(kafkaTemplate.send("delivery-topic", event.getOrderId().toString(), event))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+        Mockito.when(kafkaTemplate.send("delivery-topic", second.getOrderId().toString(), second))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+        Mockito.when(kafkaTemplate.send("delivery-topic", third.getOrderId().toString(), third))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        int acknowledged = publisher.publishInOrder(List.of(event, second, third), 1_000);
+
+        assertEquals(1, acknowledged);
+        assertEquals(1.0, meterRegistry.get("delivery.events.sent").tag("result", "success").counter().count(), 0.0);
+        assertEquals(1.0, meterRegistry.get("delivery.events.sent").tag("result", "failure").counter().count(), 0.0);
+    }
+}
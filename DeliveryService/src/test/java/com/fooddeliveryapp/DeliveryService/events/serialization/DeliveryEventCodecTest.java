@@ -0,0 +1,80 @@
+package com.fooddeliveryapp.DeliveryService.events.serialization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+
+public class DeliveryEventCodecTest {
+
+    private final DeliveryEvent event = new DeliveryEvent(UUID.randomUUID(),
+            Instant.now().truncatedTo(ChronoUnit.MILLIS), UUID.randomUUID(), DeliveryStatus.DELIVERED);
+
+    @DisplayName("Binary Envelope - Round Trip")
+    @Test
+    public void test_When_Binary_Event_Decoded_Matches_Original() {
+        byte[] encoded = DeliveryEventCodec.encode(event);
+
+        assertEquals(DeliveryEventCodec.MAGIC, encoded[0]);
+        assertEquals(DeliveryEventCodec.CURRENT_SCHEMA_VERSION, encoded[1]);
+        assertEquals(event, DeliveryEventCodec.decode(encoded));
+    }
+
+    @DisplayName("Binary Envelope - Smaller Than JSON")
+    @Test
+    public void test_When_Binary_Event_Compared_To_Json_Is_Smaller() {
+        byte[] binary = DeliveryEventCodec.encode(event);
+        byte[] json = DeliveryEventCodec.encodeJson(event);
+
+        assertEquals(43, binary.length);
+        assertTrue(binary.length * 2 < json.length);
+    }
+
+    @DisplayName("Legacy JSON - Decoded During Mixed-Format Rollout")
+    @Test
+    public void test_When_Legacy_Json_Event_Decoded_Success() {
+        UUID orderId = UUID.randomUUID();
+        String legacy = "{\"orderId\":\"" + orderId + "\",\"status\":\"FAILED\"}";
+
+        DeliveryEvent decoded = new DeliveryEventDeserializer()
+                .deserialize("delivery-topic", legacy.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(orderId, decoded.getOrderId());
+        assertEquals(DeliveryStatus.FAILED, decoded.getStatus());
+        assertNull(decoded.getEventId());
+    }
+
+    @DisplayName("Serializer - JSON Format For Rollout")
+    @Test
+    public void test_When_Serializer_Configured_For_Json_Writes_Json() {
+        DeliveryEventSerializer serializer = new DeliveryEventSerializer();
+        serializer.configure(Map.of(DeliveryEventSerializer.FORMAT_CONFIG, "json"), false);
+
+        byte[] payload = serializer.serialize("delivery-topic", event);
+
+        assertEquals('{', payload[0]);
+        assertEquals(event, DeliveryEventCodec.decode(payload));
+    }
+
+    @DisplayName("Binary Envelope - Unknown Schema Version")
+    @Test
+    public void test_When_Unknown_Schema_Version_Decoded_Fail() {
+        byte[] encoded = DeliveryEventCodec.encode(event);
+        encoded[1] = 99;
+
+        SerializationException exception = assertThrows(SerializationException.class,
+                () -> DeliveryEventCodec.decode(encoded));
+
+        assertEquals("Unsupported delivery event schema version: 99", exception.getMessage());
+    }
+}
@@ -0,0 +1,72 @@
+package com.fooddeliveryapp.DeliveryService.geo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+public class GeoGridTest {
+
+    @DisplayName("Nearest Query - Matches Brute Force Search")
+    @Test
+    public void test_When_Nearest_Queried_Matches_Brute_Force() {
+        GeoGrid<Integer> grid = new GeoGrid<>(0.01, 50_000);
+        Random random = new Random(7);
+        double[][] points = new double[2000][];
+
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new double[] { 44.7 + random.nextDouble() * 0.2, 20.3 + random.nextDouble() * 0.3 };
+            grid.put(i, points[i][0], points[i][1]);
+        }
+
+        for (int query = 0; query < 50; query++) {
+            double latitude = 44.7 + random.nextDouble() * 0.2;
+            double longitude = 20.3 + random.nextDouble() * 0.3;
+
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < points.length; i++) {
+                if (i % 3 != 0) {
+                    expected.add(i);
+                }
+            }
+            expected.sort(Comparator.comparingDouble(
+                    i -> GeoUtils.distanceMeters(latitude, longitude, points[i][0], points[i][1])));
+
+            List<Integer> actual = grid.nearest(latitude, longitude, 5, i -> i % 3 != 0).stream()
+                    .map(GeoGrid.Neighbor::id)
+                    .toList();
+
+            assertEquals(expected.subList(0, 5), actual);
+        }
+    }
+
+    @DisplayName("Move Point - Old Position No Longer Matches")
+    @Test
+    public void test_When_Point_Moved_Found_At_New_Position() {
+        GeoGrid<String> grid = new GeoGrid<>(0.01, 2_000);
+
+        grid.put("courier", 44.80, 20.40);
+        grid.put("courier", 44.90, 20.60);
+
+        assertTrue(grid.nearest(44.80, 20.40, 1, id -> true).isEmpty());
+        assertEquals("courier", grid.nearest(44.90, 20.60, 1, id -> true).get(0).id());
+        assertEquals(1, grid.size());
+    }
+
+    @DisplayName("Remove Point - No Longer Returned")
+    @Test
+    public void test_When_Point_Removed_Not_Returned() {
+        GeoGrid<String> grid = new GeoGrid<>(0.01, 2_000);
+
+        grid.put("courier", 44.80, 20.40);
+        grid.remove("courier");
+
+        assertTrue(grid.nearest(44.80, 20.40, 1, id -> true).isEmpty());
+        assertEquals(0, grid.size());
+    }
+}
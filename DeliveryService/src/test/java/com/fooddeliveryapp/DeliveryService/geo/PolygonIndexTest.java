@@ -0,0 +1,112 @@
+package com.fooddeliveryapp.DeliveryService.geo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+public class PolygonIndexTest {
+
+    @DisplayName("Point In Polygon - Concave Polygon")
+    @Test
+    public void test_When_Point_Tested_Concave_Polygon_Respected() {
+        // a "U" shape: the notch between the arms is outside although it lies within the bounding box
+        GeoPolygon polygon = GeoPolygon.of(
+                new double[] { 44.80, 44.80, 44.84, 44.84, 44.81, 44.81, 44.84, 44.84 },
+                new double[] { 20.40, 20.46, 20.46, 20.44, 20.44, 20.42, 20.42, 20.40 });
+
+        assertTrue(polygon.contains(44.805, 20.43));
+        assertTrue(polygon.contains(44.83, 20.41));
+        assertTrue(polygon.contains(44.83, 20.45));
+        assertFalse(polygon.contains(44.83, 20.43));
+        assertFalse(polygon.contains(44.85, 20.43));
+    }
+
+    @DisplayName("Parse Polygon - Round Trips And Drops Closing Vertex")
+    @Test
+    public void test_When_Polygon_Formatted_Parses_Back() {
+        GeoPolygon polygon = GeoPolygon.parse("44.80 20.40, 44.80 20.46, 44.84 20.43, 44.80 20.40");
+
+        assertEquals(3, polygon.vertexCount());
+        GeoPolygon parsed = GeoPolygon.parse(polygon.format());
+        assertEquals(3, parsed.vertexCount());
+        assertEquals(44.84, parsed.latitude(2), 1e-9);
+        assertEquals(20.43, parsed.longitude(2), 1e-9);
+    }
+
+    @DisplayName("Create Polygon - Invalid Boundary Rejected")
+    @Test
+    public void test_When_Polygon_Invalid_Rejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> GeoPolygon.of(new double[] { 44.80, 44.81 }, new double[] { 20.40, 20.41 }));
+        assertThrows(IllegalArgumentException.class,
+                () -> GeoPolygon.of(new double[] { 44.80, 44.81, 95.0 }, new double[] { 20.40, 20.41, 20.42 }));
+        assertThrows(IllegalArgumentException.class,
+                () -> GeoPolygon.of(new double[] { 0, 1, 0 }, new double[] { -170, 0, 170 }));
+    }
+
+    @DisplayName("Point Query - Matches Brute Force Search")
+    @Test
+    public void test_When_Point_Queried_Matches_Brute_Force() {
+        Random random = new Random(11);
+        List<PolygonIndex.Entry<Integer>> entries = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            entries.add(new PolygonIndex.Entry<>(i, randomPolygon(random)));
+        }
+        PolygonIndex<Integer> index = new PolygonIndex<>(entries);
+
+        assertEquals(3000, index.size());
+        for (int query = 0; query < 500; query++) {
+            double latitude = 44.6 + random.nextDouble() * 0.4;
+            double longitude = 20.2 + random.nextDouble() * 0.5;
+
+            List<Integer> expected = new ArrayList<>();
+            for (PolygonIndex.Entry<Integer> entry : entries) {
+                if (entry.polygon().contains(latitude, longitude)) {
+                    expected.add(entry.value());
+                }
+            }
+
+            assertEquals(new HashSet<>(expected), new HashSet<>(index.findAll(latitude, longitude)));
+
+            Integer even = index.findFirst(latitude, longitude, value -> value % 2 == 0);
+            if (expected.stream().anyMatch(value -> value % 2 == 0)) {
+                assertTrue(expected.contains(even));
+                assertEquals(0, even % 2);
+            } else {
+                assertNull(even);
+            }
+        }
+    }
+
+    @DisplayName("Empty Index - Finds Nothing")
+    @Test
+    public void test_When_Index_Empty_Finds_Nothing() {
+        PolygonIndex<String> index = PolygonIndex.empty();
+
+        assertTrue(index.findAll(44.8, 20.4).isEmpty());
+        assertNull(index.findFirst(44.8, 20.4, value -> true));
+    }
+
+    // a random star-shaped polygon of a few kilometers around a random center
+    private static GeoPolygon randomPolygon(Random random) {
+        double centerLatitude = 44.6 + random.nextDouble() * 0.4;
+        double centerLongitude = 20.2 + random.nextDouble() * 0.5;
+        int vertices = 3 + random.nextInt(10);
+        double[] latitudes = new double[vertices];
+        double[] longitudes = new double[vertices];
+
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            double radius = 0.005 + random.nextDouble() * 0.03;
+            latitudes[i] = centerLatitude + radius * Math.sin(angle);
+            longitudes[i] = centerLongitude + radius * Math.cos(angle);
+        }
+        return GeoPolygon.of(latitudes, longitudes);
+    }
+}
@@ -0,0 +1,83 @@
+package com.fooddeliveryapp.DeliveryService.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.entities.OutboxEvent;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEventPublisher;
+import com.fooddeliveryapp.DeliveryService.repositories.OutboxEventRepository;
+import com.fooddeliveryapp.DeliveryService.repositories.LeaseRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private LeaseRepository leaseRepository;
+
+    @Mock
+    private DeliveryEventPublisher deliveryEventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxEventRepository, leaseRepository, deliveryEventPublisher, meterRegistry,
+                "delivery-service", 30, 1_000, 168);
+    }
+
+    @DisplayName("Relay Outbox - Acknowledged Events Marked Sent In One Update")
+    @Test
+    public void test_When_Lease_Held_Acknowledged_Events_Marked_Sent() {
+        List<OutboxEvent> batch = List.of(outboxEvent(1L), outboxEvent(2L), outboxEvent(3L));
+        Mockito.when(leaseRepository.tryAcquire(Mockito.eq(OutboxRelay.LEASE_NAME), Mockito.anyString(), Mockito.any(), Mockito.any()))
+                .thenReturn(1);
+        Mockito.when(outboxEventRepository.findTop500BySentAtIsNullOrderByOutboxId()).thenReturn(batch);
+        Mockito.when(deliveryEventPublisher.publishInOrder(Mockito.anyList(), Mockito.eq(1_000L))).thenReturn(2);
+
+        int relayed = relay.relay();
+
+        assertEquals(2, relayed);
+        Mockito.verify(deliveryEventPublisher).publishInOrder(Mockito.argThat(events ->
+                events.size() == 3 && events.get(0).getEventId().equals(batch.get(0).getEventId())), Mockito.eq(1_000L));
+        Mockito.verify(outboxEventRepository, Mockito.times(1)).markSent(Mockito.eq(List.of(1L, 2L)), Mockito.any(Instant.class));
+        assertEquals(2.0, meterRegistry.get("delivery.outbox.relayed").counter().count(), 0.0);
+        assertEquals(1.0, meterRegistry.get("delivery.outbox.relay.leader").gauge().value(), 0.0);
+    }
+
+    @DisplayName("Relay Outbox - Skipped While Another Instance Holds The Lease")
+    @Test
+    public void test_When_Lease_Held_By_Other_Instance_Nothing_Relayed() {
+        Mockito.when(leaseRepository.tryAcquire(Mockito.eq(OutboxRelay.LEASE_NAME), Mockito.anyString(), Mockito.any(), Mockito.any()))
+                .thenReturn(0);
+
+        int relayed = relay.relay();
+
+        assertEquals(0, relayed);
+        Mockito.verifyNoInteractions(outboxEventRepository, deliveryEventPublisher);
+        assertEquals(0.0, meterRegistry.get("delivery.outbox.relay.leader").gauge().value(), 0.0);
+    }
+
+    private OutboxEvent outboxEvent(long outboxId) {
+        return new OutboxEvent(outboxId, UUID.randomUUID(), UUID.randomUUID(), DeliveryStatus.DELIVERED,
+                Instant.now().minusSeconds(1), null);
+    }
+}
@@ -0,0 +1,136 @@
+package com.fooddeliveryapp.DeliveryService.pricing;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.mockito.Mockito;
+
+import com.fooddeliveryapp.DeliveryService.geo.GeoGrid;
+import com.fooddeliveryapp.DeliveryService.services.ICourierService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SurgePricerTest {
+
+    private static final double LATITUDE = 44.8125;
+    private static final double LONGITUDE = 20.4612;
+
+    private ICourierService courierService;
+    private int availableCouriers;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        courierService = Mockito.mock(ICourierService.class);
+        Mockito.doAnswer(invocation -> {
+            GeoGrid.PointVisitor<UUID> visitor = invocation.getArgument(0);
+            for (int i = 0; i < availableCouriers; i++) {
+                visitor.visit(UUID.randomUUID(), LATITUDE + 0.001, LONGITUDE);
+            }
+            // a courier in another zone does not count
+            visitor.visit(UUID.randomUUID(), LATITUDE + 1, LONGITUDE);
+            return null;
+        }).when(courierService).forEachAvailable(Mockito.any());
+    }
+
+    @DisplayName("Quote - Surge When Orders Outnumber Couriers")
+    @Test
+    public void test_When_Orders_Outnumber_Couriers_Surge() {
+        SurgePricer pricer = pricer(10);
+        availableCouriers = 3;
+
+        pricer.recordOrder(LATITUDE, LONGITUDE);
+        pricer.aggregate();
+        assertEquals(1.0, pricer.quote(LATITUDE, LONGITUDE).multiplier(), 0.0);
+
+        for (int i = 0; i < 5; i++) {
+            pricer.recordOrder(LATITUDE, LONGITUDE);
+        }
+        pricer.aggregate();
+
+        SurgePricer.Quote quote = pricer.quote(LATITUDE, LONGITUDE);
+        assertEquals(6, quote.ordersInWindow());
+        assertEquals(3.0, quote.availableCouriers(), 1e-9);
+        assertEquals(2.0, quote.multiplier(), 0.0);
+        // another zone is not affected
+        assertEquals(1.0, pricer.quote(LATITUDE + 1, LONGITUDE).multiplier(), 0.0);
+    }
+
+    @DisplayName("Quote - Surge Ends Once Orders Leave The Window")
+    @Test
+    public void test_When_Window_Passes_Surge_Ends() {
+        SurgePricer pricer = pricer(10);
+        availableCouriers = 1;
+
+        for (int i = 0; i < 10; i++) {
+            pricer.recordOrder(LATITUDE, LONGITUDE);
+        }
+        pricer.aggregate();
+        assertEquals(2.5, pricer.quote(LATITUDE, LONGITUDE).multiplier(), 0.0);
+
+        for (int second = 0; second < 9; second++) {
+            pricer.aggregate();
+        }
+        assertEquals(2.5, pricer.quote(LATITUDE, LONGITUDE).multiplier(), 0.0);
+
+        pricer.aggregate();
+        SurgePricer.Quote quote = pricer.quote(LATITUDE, LONGITUDE);
+        assertEquals(0, quote.ordersInWindow());
+        assertEquals(1.0, quote.multiplier(), 0.0);
+    }
+
+    @DisplayName("Multiplier - Rounded Down To Whole Steps")
+    @Test
+    public void test_When_Multiplier_Computed_Rounded_To_Steps() {
+        SurgePricer pricer = pricer(10);
+
+        assertEquals(1.0, pricer.multiplierOf(3, 4), 0.0);
+        assertEquals(1.2, pricer.multiplierOf(5, 4), 0.0);
+        assertEquals(1.3, pricer.multiplierOf(13, 10), 0.0);
+        assertEquals(2.5, pricer.multiplierOf(7, 0), 0.0);
+    }
+
+    @DisplayName("Record Orders - No Order Lost Under Concurrent Aggregation")
+    @Test
+    public void test_When_Orders_Recorded_Concurrently_All_Counted() throws Exception {
+        SurgePricer pricer = pricer(600);
+        availableCouriers = 10;
+        ExecutorService threads = Executors.newFixedThreadPool(8);
+        List<Future<?>> writers = new ArrayList<>();
+
+        for (int thread = 0; thread < 8; thread++) {
+            writers.add(threads.submit(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    pricer.recordOrder(LATITUDE, LONGITUDE);
+                }
+            }));
+        }
+        while (writers.stream().anyMatch(writer -> !writer.isDone())) {
+            pricer.aggregate();
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        pricer.aggregate();
+        threads.shutdown();
+        assertTrue(threads.awaitTermination(10, TimeUnit.SECONDS));
+
+        SurgePricer.Quote quote = pricer.quote(LATITUDE, LONGITUDE);
+        assertEquals(800_000, quote.ordersInWindow());
+        assertEquals(2.5, quote.multiplier(), 0.0);
+    }
+
+    private SurgePricer pricer(int windowSeconds) {
+        return new SurgePricer(courierService, new SimpleMeterRegistry(), 0.02, windowSeconds, 1.0, 2.5, 0.1);
+    }
+}
@@ -0,0 +1,53 @@
+package com.fooddeliveryapp.DeliveryService.proof;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import com.fooddeliveryapp.DeliveryService.exceptions.InvalidProofUploadException;
+
+public class ByteRangeTest {
+
+    @DisplayName("Parse Range - Bounded, Open-Ended And Suffix Ranges")
+    @Test
+    public void test_When_Single_Range_Parsed_Clamped_To_File() {
+        assertEquals(new ByteRange(0, 99), ByteRange.parseRange("bytes=0-99", 1000));
+        assertEquals(new ByteRange(900, 999), ByteRange.parseRange("bytes=900-", 1000));
+        assertEquals(new ByteRange(900, 999), ByteRange.parseRange("bytes=900-5000", 1000));
+        assertEquals(new ByteRange(800, 999), ByteRange.parseRange("bytes=-200", 1000));
+        assertEquals(new ByteRange(0, 999), ByteRange.parseRange("bytes=-5000", 1000));
+    }
+
+    @DisplayName("Parse Range - Missing Or Multiple Ranges Serve Whole File")
+    @Test
+    public void test_When_Range_Missing_Or_Multiple_Whole_File_Served() {
+        assertNull(ByteRange.parseRange(null, 1000));
+        assertNull(ByteRange.parseRange("bytes=0-10,20-30", 1000));
+        assertNull(ByteRange.parseRange("items=0-10", 1000));
+    }
+
+    @DisplayName("Parse Range - Range Outside File")
+    @Test
+    public void test_When_Range_Outside_File_Not_Satisfiable() {
+        assertThrows(IllegalStateException.class, () -> ByteRange.parseRange("bytes=1000-", 1000));
+        assertThrows(IllegalStateException.class, () -> ByteRange.parseRange("bytes=-0", 1000));
+    }
+
+    @DisplayName("Parse Content-Range - Chunk Of Upload")
+    @Test
+    public void test_When_Content_Range_Parsed_Success() {
+        ByteRange range = ByteRange.parseContentRange("bytes 65536-131071/200000", 200000);
+
+        assertEquals(65536, range.start());
+        assertEquals(65536, range.length());
+    }
+
+    @DisplayName("Parse Content-Range - Mismatching Or Malformed Header")
+    @Test
+    public void test_When_Content_Range_Invalid_Fail() {
+        assertThrows(InvalidProofUploadException.class, () -> ByteRange.parseContentRange(null, 100));
+        assertThrows(InvalidProofUploadException.class, () -> ByteRange.parseContentRange("bytes 0-99/200", 100));
+        assertThrows(InvalidProofUploadException.class, () -> ByteRange.parseContentRange("bytes 50-100/100", 100));
+    }
+}
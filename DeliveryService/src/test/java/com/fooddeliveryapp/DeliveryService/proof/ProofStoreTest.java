@@ -0,0 +1,122 @@
+package com.fooddeliveryapp.DeliveryService.proof;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fooddeliveryapp.DeliveryService.exceptions.InvalidProofUploadException;
+import com.fooddeliveryapp.DeliveryService.exceptions.ProofUploadConflictException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ProofStoreTest {
+
+    @TempDir
+    Path folder;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProofStore proofStore;
+    private byte[] photo;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        proofStore = new ProofStore(meterRegistry, folder.toAbsolutePath().toString(), 1024 * 1024, 60);
+        proofStore.init();
+
+        photo = new byte[200_000];
+        new Random(7).nextBytes(photo);
+    }
+
+    @DisplayName("Upload Proof - Chunks Stored Under Content Hash")
+    @Test
+    public void test_When_All_Chunks_Uploaded_Proof_Stored() throws Exception {
+        UploadStatus upload = proofStore.startUpload(UUID.randomUUID(), photo.length, "image/jpeg", null);
+
+        UploadStatus first = proofStore.append(upload.uploadId(), new ByteRange(0, 65535), chunk(0, 65536));
+        assertEquals(65536, first.receivedBytes());
+        assertFalse(first.complete());
+
+        UploadStatus last = proofStore.append(upload.uploadId(), new ByteRange(65536, photo.length - 1),
+                chunk(65536, photo.length));
+
+        assertTrue(last.complete());
+        assertEquals(sha256(photo), last.proof().sha256());
+        assertArrayEquals(photo, Files.readAllBytes(proofStore.pathOf(last.proof().sha256())));
+        assertEquals(photo.length, meterRegistry.get("delivery.proof.storage.bytes").gauge().value(), 0.0);
+    }
+
+    @DisplayName("Upload Proof - Interrupted Chunk Resumed From Received Offset")
+    @Test
+    public void test_When_Chunk_Interrupted_Upload_Resumes() {
+        UploadStatus upload = proofStore.startUpload(UUID.randomUUID(), photo.length, "image/jpeg", null);
+
+        // the connection drops after 1000 of the announced bytes
+        UploadStatus interrupted = proofStore.append(upload.uploadId(), new ByteRange(0, photo.length - 1), chunk(0, 1000));
+        assertEquals(1000, interrupted.receivedBytes());
+
+        assertThrows(ProofUploadConflictException.class,
+                () -> proofStore.append(upload.uploadId(), new ByteRange(0, photo.length - 1), chunk(0, photo.length)));
+
+        UploadStatus resumed = proofStore.append(upload.uploadId(), new ByteRange(1000, photo.length - 1),
+                chunk(1000, photo.length));
+        assertTrue(resumed.complete());
+        assertEquals(sha256(photo), resumed.proof().sha256());
+    }
+
+    @DisplayName("Upload Proof - Identical Photo Stored Once")
+    @Test
+    public void test_When_Same_Photo_Uploaded_Twice_Deduplicated() {
+        for (int i = 0; i < 2; i++) {
+            UploadStatus upload = proofStore.startUpload(UUID.randomUUID(), photo.length, "image/jpeg", null);
+            proofStore.append(upload.uploadId(), new ByteRange(0, photo.length - 1), chunk(0, photo.length));
+        }
+
+        assertEquals(1.0, meterRegistry.get("delivery.proof.deduplicated").counter().count(), 0.0);
+        assertEquals(photo.length, meterRegistry.get("delivery.proof.storage.bytes").gauge().value(), 0.0);
+        assertEquals(0.0, meterRegistry.get("delivery.proof.uploads.active").gauge().value(), 0.0);
+    }
+
+    @DisplayName("Upload Proof - Announced Hash Mismatch")
+    @Test
+    public void test_When_Content_Does_Not_Match_Announced_Hash_Fail() {
+        UploadStatus upload = proofStore.startUpload(UUID.randomUUID(), photo.length, "image/jpeg", "00".repeat(32));
+
+        assertThrows(InvalidProofUploadException.class,
+                () -> proofStore.append(upload.uploadId(), new ByteRange(0, photo.length - 1), chunk(0, photo.length)));
+        assertEquals(0.0, meterRegistry.get("delivery.proof.storage.bytes").gauge().value(), 0.0);
+    }
+
+    @DisplayName("Start Upload - Photo Too Large")
+    @Test
+    public void test_When_Photo_Too_Large_Fail() {
+        assertThrows(InvalidProofUploadException.class,
+                () -> proofStore.startUpload(UUID.randomUUID(), 2 * 1024 * 1024, "image/jpeg", null));
+    }
+
+    private ReadableByteChannel chunk(int from, int to) {
+        return Channels.newChannel(new ByteArrayInputStream(Arrays.copyOfRange(photo, from, to)));
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
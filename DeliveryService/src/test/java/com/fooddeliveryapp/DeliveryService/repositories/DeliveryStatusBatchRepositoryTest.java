@@ -0,0 +1,156 @@
+package com.fooddeliveryapp.DeliveryService.repositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.entities.DeliveryDetails;
+import com.fooddeliveryapp.DeliveryService.entities.OutboxEvent;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+import com.fooddeliveryapp.DeliveryService.outbox.DeliveryOutbox;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryStatusBatchRepository.StatusTransition;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({ DeliveryStatusBatchRepository.class, DeliveryOutbox.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class DeliveryStatusBatchRepositoryTest {
+
+    @Autowired
+    private DeliveryStatusBatchRepository statusBatchRepository;
+
+    @Autowired
+    private DeliveryRepository deliveryRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private DeliveryOutbox deliveryOutbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("Apply Transitions - Only In-Progress Deliveries Change")
+    @Test
+    public void test_When_Transitions_Applied_Per_Row_Results_Reported() {
+        DeliveryDetails inProgress = deliveryRepository.save(delivery(DeliveryStatus.IN_PROGRESS));
+        DeliveryDetails delivered = deliveryRepository.save(delivery(DeliveryStatus.DELIVERED));
+        long outboxBefore = outboxEventRepository.count();
+
+        List<DeliveryDetails> loaded = statusBatchRepository.findAllForTransition(
+                List.of(inProgress.getDeliveryId(), delivered.getDeliveryId(), UUID.randomUUID()));
+        boolean[] applied = statusBatchRepository.applyTransitions(List.of(
+                transition(inProgress, DeliveryStatus.FAILED),
+                transition(delivered, DeliveryStatus.FAILED)), LocalDateTime.now());
+
+        assertEquals(2, loaded.size());
+        assertTrue(applied[0]);
+        assertFalse(applied[1]);
+        assertEquals(DeliveryStatus.FAILED, deliveryRepository.findById(inProgress.getDeliveryId()).get().getDeliveryStatus());
+        assertEquals(DeliveryStatus.DELIVERED, deliveryRepository.findById(delivered.getDeliveryId()).get().getDeliveryStatus());
+
+        List<OutboxEvent> outbox = outboxEventRepository.findAll();
+        assertEquals(outboxBefore + 1, outbox.size());
+        assertEquals(inProgress.getOrderId(), outbox.get(outbox.size() - 1).getOrderId());
+        assertEquals(DeliveryStatus.FAILED, outbox.get(outbox.size() - 1).getDeliveryStatus());
+    }
+
+    @DisplayName("Transition With Event - Completed Twice, One Event")
+    @Test
+    public void test_When_Delivery_Completed_Twice_Only_First_Writes_Event() {
+        DeliveryDetails inProgress = deliveryRepository.save(delivery(DeliveryStatus.IN_PROGRESS));
+        long outboxBefore = outboxEventRepository.count();
+
+        // two instances that both read the delivery while it was in progress
+        boolean first = deliveryOutbox.transitionWithEvent(inProgress.getDeliveryId(), DeliveryStatus.DELIVERED,
+                LocalDateTime.now(), new DeliveryEvent(inProgress.getOrderId(), DeliveryStatus.DELIVERED));
+        boolean second = deliveryOutbox.transitionWithEvent(inProgress.getDeliveryId(), DeliveryStatus.DELIVERED,
+                LocalDateTime.now(), new DeliveryEvent(inProgress.getOrderId(), DeliveryStatus.DELIVERED));
+
+        assertTrue(first);
+        assertFalse(second);
+        DeliveryDetails delivered = deliveryRepository.findById(inProgress.getDeliveryId()).get();
+        assertEquals(DeliveryStatus.DELIVERED, delivered.getDeliveryStatus());
+        assertNotNull(delivered.getDeliveredAt());
+        assertEquals(outboxBefore + 1, outboxEventRepository.count());
+    }
+
+    @DisplayName("Apply Transitions - Batched Path Matches Per-Entity Path")
+    @Test
+    public void test_When_Many_Deliveries_Change_Batch_Matches_Per_Entity_Path() {
+        int count = 50;
+        List<DeliveryDetails> perEntity = saveInProgress(count);
+        List<DeliveryDetails> batched = saveInProgress(count);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long outboxBefore = outboxEventRepository.count();
+
+        // the existing path: load and merge every delivery and save its outbox row, one transaction per delivery
+        for (DeliveryDetails delivery : perEntity) {
+            transaction.executeWithoutResult(status -> {
+                DeliveryDetails loaded = deliveryRepository.findById(delivery.getDeliveryId()).get();
+                loaded.setDeliveryStatus(DeliveryStatus.DELIVERED);
+                loaded.setDeliveredAt(LocalDateTime.now());
+                deliveryRepository.save(loaded);
+                outboxEventRepository.save(OutboxEvent.of(new DeliveryEvent(loaded.getOrderId(), DeliveryStatus.DELIVERED)));
+            });
+        }
+        long perEntityEvents = outboxEventRepository.count() - outboxBefore;
+
+        List<StatusTransition> transitions = new ArrayList<>();
+        for (DeliveryDetails delivery : statusBatchRepository.findAllForTransition(batched.stream().map(DeliveryDetails::getDeliveryId).toList())) {
+            transitions.add(transition(delivery, DeliveryStatus.DELIVERED));
+        }
+        boolean[] applied = statusBatchRepository.applyTransitions(transitions, LocalDateTime.now());
+        long batchedEvents = outboxEventRepository.count() - outboxBefore - perEntityEvents;
+
+        assertEquals(count, applied.length);
+        for (boolean row : applied) {
+            assertTrue(row);
+        }
+        assertEquals(perEntityEvents, batchedEvents);
+        for (List<DeliveryDetails> deliveries : List.of(perEntity, batched)) {
+            assertTrue(deliveryRepository.findAllById(deliveries.stream().map(DeliveryDetails::getDeliveryId).toList()).stream()
+                    .allMatch(delivery -> delivery.getDeliveryStatus() == DeliveryStatus.DELIVERED && delivery.getDeliveredAt() != null));
+        }
+    }
+
+    private List<DeliveryDetails> saveInProgress(int count) {
+        List<DeliveryDetails> deliveries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            deliveries.add(delivery(DeliveryStatus.IN_PROGRESS));
+        }
+        return deliveryRepository.saveAll(deliveries);
+    }
+
+    private static StatusTransition transition(DeliveryDetails delivery, DeliveryStatus status) {
+        return new StatusTransition(delivery.getDeliveryId(), status, new DeliveryEvent(delivery.getOrderId(), status));
+    }
+
+    private static DeliveryDetails delivery(DeliveryStatus status) {
+        return DeliveryDetails.builder()
+                .orderId(UUID.randomUUID())
+                .restaurantId(UUID.randomUUID())
+                .userId("user@gmail.com")
+                .deliveryStatus(status)
+                .initiatedAt(LocalDateTime.now().minusMinutes(20))
+                .estimatedDeliveryAt(LocalDateTime.now().plusMinutes(10))
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.fooddeliveryapp.DeliveryService.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+public class DeadlineWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    private final DeadlineWheel<String, String> wheel = new DeadlineWheel<>(1000, 16, START);
+
+    @DisplayName("Advance Wheel - Key Expires Once Its Deadline Passed")
+    @Test
+    public void test_When_Deadline_Passed_Key_Expires() {
+        wheel.add("a", "value", START + 2500);
+
+        assertTrue(wheel.advance(START + 2000).isEmpty());
+        List<DeadlineWheel.Entry<String, String>> expired = wheel.advance(START + 3000);
+
+        assertEquals(1, expired.size());
+        assertEquals("value", expired.get(0).value());
+        assertEquals(START + 2500, expired.get(0).deadlineMillis());
+        assertEquals(0, wheel.size());
+    }
+
+    @DisplayName("Advance Wheel - Deadline Beyond One Revolution")
+    @Test
+    public void test_When_Deadline_Beyond_Wheel_Size_Expires_On_Time() {
+        wheel.add("a", "value", START + 40_000);
+
+        for (long now = START + 1000; now < START + 40_000; now += 1000) {
+            assertTrue(wheel.advance(now).isEmpty());
+        }
+
+        assertEquals(1, wheel.advance(START + 40_000).size());
+    }
+
+    @DisplayName("Advance Wheel - Long Pause Expires Everything Overdue")
+    @Test
+    public void test_When_Advanced_After_Long_Pause_All_Overdue_Keys_Expire() {
+        for (int i = 0; i < 100; i++) {
+            wheel.add("key-" + i, "value", START + 1000L * i);
+        }
+
+        assertEquals(60, wheel.advance(START + 59_000).size());
+        assertEquals(40, wheel.size());
+    }
+
+    @DisplayName("Add Key - Past Deadline Expires On Next Advance")
+    @Test
+    public void test_When_Deadline_Already_Passed_Expires_On_Next_Advance() {
+        wheel.advance(START + 5000);
+
+        wheel.add("a", "value", START);
+
+        assertEquals(1, wheel.advance(START + 6000).size());
+    }
+
+    @DisplayName("Remove And Replace Key - Only Latest Deadline Counts")
+    @Test
+    public void test_When_Key_Removed_Or_Replaced_Old_Deadline_Ignored() {
+        wheel.add("a", "first", START + 1000);
+        wheel.add("a", "second", START + 5000);
+        wheel.add("b", "value", START + 1000);
+        assertNotNull(wheel.remove("b"));
+
+        assertTrue(wheel.advance(START + 4000).isEmpty());
+        List<DeadlineWheel.Entry<String, String>> expired = wheel.advance(START + 5000);
+
+        assertEquals(1, expired.size());
+        assertEquals("second", expired.get(0).value());
+        assertNull(wheel.remove("a"));
+    }
+
+    @DisplayName("Clear Wheel - No Key Expires Afterwards")
+    @Test
+    public void test_When_Cleared_No_Key_Expires() {
+        wheel.add("a", "value", START + 1000);
+        wheel.add("b", "value", START + 40_000);
+
+        wheel.clear();
+
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.advance(START + 60_000).isEmpty());
+    }
+}
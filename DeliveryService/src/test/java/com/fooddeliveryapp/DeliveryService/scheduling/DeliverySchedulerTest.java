@@ -0,0 +1,76 @@
+package com.fooddeliveryapp.DeliveryService.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class DeliverySchedulerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DeliveryScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new DeliveryScheduler(meterRegistry, 1, 10, 64);
+        scheduler.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @DisplayName("Schedule Transition - Due Transition Runs")
+    @Test
+    public void test_When_Transition_Due_Runs() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        scheduler.schedule(UUID.randomUUID(), Instant.now().minusSeconds(5), latch::countDown);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get("delivery.scheduler.lag").timer().count());
+    }
+
+    @DisplayName("Schedule Transition - Rescheduling Replaces Pending Transition")
+    @Test
+    public void test_When_Delivery_Rescheduled_Only_Latest_Transition_Runs() throws InterruptedException {
+        UUID deliveryId = UUID.randomUUID();
+        AtomicInteger first = new AtomicInteger();
+        CountDownLatch second = new CountDownLatch(1);
+
+        scheduler.schedule(deliveryId, Instant.now().plusMillis(200), first::incrementAndGet);
+        scheduler.schedule(deliveryId, Instant.now().plusMillis(50), second::countDown);
+
+        assertTrue(second.await(1, TimeUnit.SECONDS));
+        Thread.sleep(300);
+        assertEquals(0, first.get());
+        assertEquals(0, scheduler.pendingCount());
+    }
+
+    @DisplayName("Cancel Transition - Cancelled Transition Never Runs")
+    @Test
+    public void test_When_Transition_Cancelled_Never_Runs() throws InterruptedException {
+        UUID deliveryId = UUID.randomUUID();
+        AtomicInteger runs = new AtomicInteger();
+
+        scheduler.schedule(deliveryId, Instant.now().plusMillis(100), runs::incrementAndGet);
+        assertEquals(1.0, meterRegistry.get("delivery.scheduler.queue.depth").gauge().value(), 0.0);
+        scheduler.cancel(deliveryId);
+
+        Thread.sleep(300);
+        assertEquals(0, runs.get());
+        assertEquals(0, scheduler.pendingCount());
+    }
+}
@@ -0,0 +1,108 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import com.fooddeliveryapp.DeliveryService.models.CourierPositionRequest;
+import com.fooddeliveryapp.DeliveryService.models.CourierResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CourierServiceTest {
+
+    private CourierService courierService;
+
+    @BeforeEach
+    public void setUp() {
+        courierService = new CourierService(new SimpleMeterRegistry(), 0.01, 10_000, 8);
+    }
+
+    @DisplayName("Find Nearest Couriers - Closest First")
+    @Test
+    public void test_When_Find_Nearest_Couriers_Closest_First() {
+        UUID near = UUID.randomUUID();
+        UUID far = UUID.randomUUID();
+        courierService.updatePosition(far, new CourierPositionRequest(44.830, 20.470));
+        courierService.updatePosition(near, new CourierPositionRequest(44.813, 20.462));
+
+        List<CourierResponse> couriers = courierService.findNearestAvailable(44.8125, 20.4612, 5);
+
+        assertEquals(2, couriers.size());
+        assertEquals(near, couriers.get(0).getCourierId());
+        assertEquals(far, couriers.get(1).getCourierId());
+        assertTrue(couriers.get(0).getDistanceMeters() < couriers.get(1).getDistanceMeters());
+    }
+
+    @DisplayName("Assign Courier - Assigned Courier No Longer Available")
+    @Test
+    public void test_When_Courier_Assigned_Not_Available_Until_Released() {
+        UUID courierId = UUID.randomUUID();
+        UUID orderId = UUID.randomUUID();
+        courierService.updatePosition(courierId, new CourierPositionRequest(44.8125, 20.4612));
+
+        assertEquals(Optional.of(courierId), courierService.assignNearest(44.8125, 20.4612, orderId));
+        assertTrue(courierService.findNearestAvailable(44.8125, 20.4612, 5).isEmpty());
+        assertEquals(Optional.empty(), courierService.assignNearest(44.8125, 20.4612, UUID.randomUUID()));
+
+        courierService.release(courierId, orderId);
+
+        assertEquals(1, courierService.findNearestAvailable(44.8125, 20.4612, 5).size());
+    }
+
+    @DisplayName("Assign Courier - No Double-Booking Under Concurrent Assignments")
+    @Test
+    public void test_When_Concurrent_Assignments_Each_Courier_Booked_Once() throws InterruptedException {
+        int couriers = 20;
+        int orders = 200;
+        for (int i = 0; i < couriers; i++) {
+            courierService.updatePosition(UUID.randomUUID(), new CourierPositionRequest(44.8125 + i * 0.0005, 20.4612));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<UUID> assigned = ConcurrentHashMap.newKeySet();
+        AtomicInteger assignments = new AtomicInteger();
+
+        for (int i = 0; i < orders; i++) {
+            executor.submit(() -> {
+                start.await();
+                courierService.assignNearest(44.8125, 20.4612, UUID.randomUUID()).ifPresent(courierId -> {
+                    assignments.incrementAndGet();
+                    assigned.add(courierId);
+                });
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(assigned.size(), assignments.get());
+        assertTrue(assignments.get() <= couriers);
+    }
+
+    @DisplayName("Restore Assignment - Courier Busy After Restart")
+    @Test
+    public void test_When_Assignment_Restored_Courier_Not_Available() {
+        UUID courierId = UUID.randomUUID();
+
+        courierService.restoreAssignment(courierId, UUID.randomUUID());
+        courierService.updatePosition(courierId, new CourierPositionRequest(44.8125, 20.4612));
+
+        assertTrue(courierService.findNearestAvailable(44.8125, 20.4612, 5).isEmpty());
+    }
+}
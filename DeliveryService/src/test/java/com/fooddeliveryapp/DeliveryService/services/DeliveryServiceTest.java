@@ -1,36 +1,81 @@
 package com.fooddeliveryapp.DeliveryService.services;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fooddeliveryapp.DeliveryService.batching.BatchedDelivery;
+import com.fooddeliveryapp.DeliveryService.batching.DeliveryBatcher;
+import com.fooddeliveryapp.DeliveryService.batching.DeliveryRoute;
 import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.constants.StatusUpdateOutcome;
 import com.fooddeliveryapp.DeliveryService.entities.DeliveryDetails;
-import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+import com.fooddeliveryapp.DeliveryService.estimation.DeliveryEtaEstimator;
 import com.fooddeliveryapp.DeliveryService.exceptions.DeliveryNotFoundException;
+import com.fooddeliveryapp.DeliveryService.models.BulkStatusUpdateRequest;
+import com.fooddeliveryapp.DeliveryService.models.BulkStatusUpdateResponse;
+import com.fooddeliveryapp.DeliveryService.models.CourierPositionRequest;
 import com.fooddeliveryapp.DeliveryService.models.DeliveryRequest;
 import com.fooddeliveryapp.DeliveryService.models.DeliveryResponse;
+import com.fooddeliveryapp.DeliveryService.models.StatusUpdate;
+import com.fooddeliveryapp.DeliveryService.outbox.DeliveryOutbox;
+import com.fooddeliveryapp.DeliveryService.pricing.SurgePricer;
 import com.fooddeliveryapp.DeliveryService.repositories.DeliveryRepository;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryStatusBatchRepository;
+import com.fooddeliveryapp.DeliveryService.scheduling.DeliveryScheduler;
+import com.fooddeliveryapp.DeliveryService.sla.SlaMonitor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-import org.junit.Before;
-import org.junit.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.runner.RunWith;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
-import org.springframework.test.context.junit4.SpringRunner;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
-import static org.junit.Assert.*;
+import static org.junit.jupiter.api.Assertions.*;
 
-@RunWith(SpringRunner.class)
+@ExtendWith(MockitoExtension.class)
 public class DeliveryServiceTest {
 
     @Mock
     private DeliveryRepository deliveryRepository;
     
     @Mock
-    private ObjectMapper objectMapper;
+    private DeliveryOutbox deliveryOutbox;
+    
+    @Mock
+    private DeliveryStatusBatchRepository statusBatchRepository;
+    
+    @Mock
+    private DeliveryScheduler deliveryScheduler;
+    
+    @Mock
+    private ICourierService courierService;
+    
+    @Mock
+    private DeliveryEtaEstimator etaEstimator;
+    
+    @Mock
+    private ITrackingService trackingService;
+    
+    @Mock
+    private DeliveryBatcher deliveryBatcher;
+    
+    @Mock
+    private SlaMonitor slaMonitor;
+    
+    @Mock
+    private SurgePricer surgePricer;
     
     @InjectMocks
     private DeliveryService deliveryService;
@@ -38,7 +83,7 @@ public class DeliveryServiceTest {
     private UUID orderId;
     private DeliveryDetails deliveryDetails;
 
-    @Before
+    @BeforeEach
     public void setUp() {
         orderId = UUID.randomUUID();
         deliveryDetails = new DeliveryDetails();
@@ -49,6 +94,8 @@ public class DeliveryServiceTest {
         deliveryDetails.setDeliveryStatus(DeliveryStatus.IN_PROGRESS);
         deliveryDetails.setInitiatedAt(LocalDateTime.now());
         deliveryDetails.setDeliveredAt(LocalDateTime.now().plusDays(1));
+        
+        Mockito.lenient().when(etaEstimator.estimate(Mockito.any(), Mockito.anyInt())).thenReturn(Duration.ofMinutes(30));
     }
 
     @DisplayName("Get Delivery Details By Order ID - Success Scenario")
@@ -65,6 +112,16 @@ public class DeliveryServiceTest {
         assertEquals(deliveryDetails.getDeliveredAt(), deliveryResponse.getDeliveredAt());
     }
 
+    @DisplayName("Get Delivery Details By Order ID - ETA Of Delivery In Progress")
+    @Test
+    public void test_When_Get_Delivery_In_Progress_ETA_Estimated() {
+        Mockito.when(deliveryRepository.findByOrderId(orderId)).thenReturn(Optional.of(deliveryDetails));
+        
+        DeliveryResponse deliveryResponse = deliveryService.getDeliveryByOrderId(orderId);
+
+        assertEquals(deliveryDetails.getInitiatedAt().plusMinutes(30), deliveryResponse.getEstimatedDeliveryAt());
+    }
+
     @DisplayName("Get Delivery by Order ID - Failure Scenario")
     @Test
     public void test_When_Get_Delivery_By_OrderId_Delivery_Not_Found() {
@@ -80,42 +137,277 @@ public class DeliveryServiceTest {
 
     @DisplayName("Process Delivery - Success Scenario")
     @Test
-    public void test_When_Process_Delivery_Success() throws JsonProcessingException {
+    public void test_When_Process_Delivery_Success() {
         DeliveryRequest deliveryRequest = new DeliveryRequest(UUID.randomUUID(), "user@gmail.com", UUID.randomUUID());
         
         Mockito.when(deliveryRepository.save(Mockito.any(DeliveryDetails.class))).thenReturn(deliveryDetails);  
-        Mockito.when(objectMapper.writeValueAsString(Mockito.any(DeliveryEvent.class))).thenReturn("{}");
 
         deliveryService.processDelivery(deliveryRequest);
         
         Mockito.verify(deliveryRepository, Mockito.times(1)).save(Mockito.any(DeliveryDetails.class));
     }
 
-    @DisplayName("Process Delivery - Failure Scenario (JsonProcessingException)")
+    @DisplayName("Process Delivery - Completion Scheduled")
     @Test
-    public void test_When_Process_Delivery_JsonProcessingException() throws JsonProcessingException {
+    public void test_When_Process_Delivery_Completion_Scheduled() {
         DeliveryRequest deliveryRequest = new DeliveryRequest(UUID.randomUUID(), "user@gmail.com", UUID.randomUUID());
-        
+
         Mockito.when(deliveryRepository.save(Mockito.any(DeliveryDetails.class))).thenReturn(deliveryDetails);
-        Mockito.when(objectMapper.writeValueAsString(Mockito.any(DeliveryEvent.class))).thenThrow(new JsonProcessingException("Error") {});
 
         deliveryService.processDelivery(deliveryRequest);
 
-        Mockito.verify(deliveryRepository, Mockito.times(1)).save(Mockito.any(DeliveryDetails.class));
+        Mockito.verify(deliveryScheduler, Mockito.times(1))
+                .schedule(Mockito.eq(deliveryDetails.getDeliveryId()), Mockito.any(Instant.class), Mockito.any(Runnable.class));
+        Mockito.verify(slaMonitor, Mockito.times(1)).register(deliveryDetails);
     }
 
-    @DisplayName("Process Delivery - Failure Scenario (InterruptedException)")
+    @DisplayName("Process Delivery - Demand Recorded In Drop-Off Zone")
     @Test
-    public void test_When_Process_Delivery_InterruptedException() throws JsonProcessingException, InterruptedException {
-    	DeliveryRequest deliveryRequest = new DeliveryRequest(UUID.randomUUID(), "user@gmail.com", UUID.randomUUID());
+    public void test_When_Process_Delivery_Demand_Recorded() throws Exception {
+        DeliveryRequest deliveryRequest = fromOrderService(orderId, deliveryDetails.getRestaurantId(), 44.8200, 20.4700);
 
         Mockito.when(deliveryRepository.save(Mockito.any(DeliveryDetails.class))).thenReturn(deliveryDetails);
-        Mockito.when(objectMapper.writeValueAsString(Mockito.any(DeliveryEvent.class))).thenReturn("{}");
 
-        Thread.sleep(100);
+        deliveryService.processDelivery(deliveryRequest);
+
+        Mockito.verify(surgePricer, Mockito.times(1)).recordOrder(44.8200, 20.4700);
+    }
+
+    @DisplayName("Process Delivery - Demand Not Recorded When Save Fails")
+    @Test
+    public void test_When_Process_Delivery_Save_Fails_Demand_Not_Recorded() throws Exception {
+        DeliveryRequest deliveryRequest = fromOrderService(orderId, deliveryDetails.getRestaurantId(), 44.8200, 20.4700);
+
+        Mockito.when(deliveryRepository.save(Mockito.any(DeliveryDetails.class))).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> deliveryService.processDelivery(deliveryRequest));
+
+        Mockito.verifyNoInteractions(surgePricer);
+    }
+
+    @DisplayName("Process Delivery - Nearest Courier Assigned")
+    @Test
+    public void test_When_Process_Delivery_With_Pickup_Location_Courier_Assigned() {
+        UUID courierId = UUID.randomUUID();
+        DeliveryRequest deliveryRequest = DeliveryRequest.builder()
+                .orderId(orderId)
+                .userId("user@gmail.com")
+                .restaurantId(UUID.randomUUID())
+                .pickupLatitude(44.8125)
+                .pickupLongitude(20.4612)
+                .build();
+
+        Mockito.when(courierService.assignNearest(44.8125, 20.4612, orderId)).thenReturn(Optional.of(courierId));
+        Mockito.when(deliveryRepository.save(Mockito.any(DeliveryDetails.class))).thenReturn(deliveryDetails);
 
         deliveryService.processDelivery(deliveryRequest);
 
-        Mockito.verify(deliveryRepository, Mockito.times(1)).save(Mockito.any(DeliveryDetails.class));
+        Mockito.verify(deliveryRepository, Mockito.times(1)).save(Mockito.argThat(delivery -> courierId.equals(delivery.getCourierId())));
+    }
+
+    @DisplayName("Process Delivery - Order Created Delivery Assigned Nearest Courier")
+    @Test
+    public void test_When_Order_Created_Delivery_Nearest_Courier_Assigned() throws Exception {
+        CourierService couriers = new CourierService(new SimpleMeterRegistry(), 0.01, 10_000, 8);
+        UUID nearCourier = UUID.randomUUID();
+        UUID farCourier = UUID.randomUUID();
+        couriers.updatePosition(nearCourier, new CourierPositionRequest(44.8130, 20.4615));
+        couriers.updatePosition(farCourier, new CourierPositionRequest(44.7800, 20.5200));
+        ReflectionTestUtils.setField(deliveryService, "courierService", couriers);
+
+        DeliveryRequest deliveryRequest = fromOrderService(orderId, deliveryDetails.getRestaurantId(), 44.8200, 20.4700);
+
+        Mockito.when(deliveryRepository.save(Mockito.any(DeliveryDetails.class))).thenReturn(deliveryDetails);
+
+        deliveryService.processDelivery(deliveryRequest);
+
+        Mockito.verify(deliveryRepository, Mockito.times(1)).save(Mockito.argThat(delivery -> nearCourier.equals(delivery.getCourierId())));
+    }
+
+    @DisplayName("Process Delivery - Delivery Batched")
+    @Test
+    public void test_When_Process_Delivery_With_Batching_Delivery_Submitted() {
+        DeliveryRequest deliveryRequest = DeliveryRequest.builder()
+                .orderId(orderId)
+                .userId("user@gmail.com")
+                .restaurantId(deliveryDetails.getRestaurantId())
+                .pickupLatitude(44.8125)
+                .pickupLongitude(20.4612)
+                .dropoffLatitude(44.8200)
+                .dropoffLongitude(20.4700)
+                .build();
+
+        Mockito.when(deliveryBatcher.isEnabled()).thenReturn(true);
+        Mockito.when(deliveryRepository.save(Mockito.any(DeliveryDetails.class))).thenReturn(deliveryDetails);
+
+        deliveryService.processDelivery(deliveryRequest);
+
+        Mockito.verifyNoInteractions(courierService);
+        Mockito.verify(deliveryBatcher, Mockito.times(1)).submit(Mockito.argThat(delivery ->
+                delivery.deliveryId().equals(deliveryDetails.getDeliveryId()) && delivery.dropoffLatitude() == 44.8200));
+    }
+
+    @DisplayName("Process Delivery - Order Created Deliveries Batched Into One Route")
+    @Test
+    public void test_When_Order_Created_Deliveries_Batched_Into_One_Route() throws Exception {
+        BlockingQueue<DeliveryRoute> routes = new LinkedBlockingQueue<>();
+        DeliveryBatcher batcher = new DeliveryBatcher(event -> routes.add((DeliveryRoute) event), new SimpleMeterRegistry(),
+                60_000, 2, 3, 3000, 5);
+        ReflectionTestUtils.setField(deliveryService, "deliveryBatcher", batcher);
+
+        UUID restaurantId = deliveryDetails.getRestaurantId();
+        Mockito.when(deliveryRepository.save(Mockito.any(DeliveryDetails.class))).thenAnswer(invocation -> {
+            DeliveryDetails delivery = invocation.getArgument(0);
+            delivery.setDeliveryId(UUID.randomUUID());
+            return delivery;
+        });
+
+        try {
+            deliveryService.processDelivery(fromOrderService(UUID.randomUUID(), restaurantId, 44.8200, 20.4700));
+            deliveryService.processDelivery(fromOrderService(UUID.randomUUID(), restaurantId, 44.8210, 20.4720));
+
+            DeliveryRoute route = routes.poll(5, TimeUnit.SECONDS);
+
+            assertNotNull(route);
+            assertEquals(restaurantId, route.restaurantId());
+            assertEquals(2, route.stops().size());
+            Mockito.verifyNoInteractions(courierService);
+        } finally {
+            batcher.shutdown();
+        }
+    }
+
+    @DisplayName("Assign Route - One Courier For All Stops")
+    @Test
+    public void test_When_Route_Planned_Courier_Assigned_To_Every_Stop() {
+        UUID courierId = UUID.randomUUID();
+        DeliveryDetails secondDelivery = DeliveryDetails.builder()
+                .deliveryId(UUID.randomUUID())
+                .orderId(UUID.randomUUID())
+                .deliveryStatus(DeliveryStatus.IN_PROGRESS)
+                .build();
+        DeliveryRoute route = new DeliveryRoute(UUID.randomUUID(), deliveryDetails.getRestaurantId(), 44.8125, 20.4612, List.of(
+                new BatchedDelivery(deliveryDetails.getDeliveryId(), orderId, deliveryDetails.getRestaurantId(), 44.8125, 20.4612, 44.82, 20.47, 0),
+                new BatchedDelivery(secondDelivery.getDeliveryId(), secondDelivery.getOrderId(), deliveryDetails.getRestaurantId(), 44.8125, 20.4612, 44.83, 20.47, 0)));
+
+        Mockito.when(courierService.assignNearest(44.8125, 20.4612, route.routeId())).thenReturn(Optional.of(courierId));
+        Mockito.when(deliveryRepository.findById(deliveryDetails.getDeliveryId())).thenReturn(Optional.of(deliveryDetails));
+        Mockito.when(deliveryRepository.findById(secondDelivery.getDeliveryId())).thenReturn(Optional.of(secondDelivery));
+
+        deliveryService.assignRoute(route);
+
+        assertEquals(courierId, deliveryDetails.getCourierId());
+        assertEquals(courierId, secondDelivery.getCourierId());
+        assertEquals(route.routeId(), secondDelivery.getRouteId());
+        Mockito.verify(courierService, Mockito.never()).release(Mockito.any(), Mockito.any());
+    }
+
+    @DisplayName("Complete Delivery - Success Scenario")
+    @Test
+    public void test_When_Complete_Delivery_Success() {
+        Mockito.when(deliveryRepository.findById(deliveryDetails.getDeliveryId())).thenReturn(Optional.of(deliveryDetails));
+        Mockito.when(deliveryOutbox.transitionWithEvent(Mockito.eq(deliveryDetails.getDeliveryId()), Mockito.eq(DeliveryStatus.DELIVERED),
+                Mockito.any(LocalDateTime.class), Mockito.any())).thenReturn(true);
+
+        deliveryService.completeDelivery(deliveryDetails.getDeliveryId());
+
+        assertEquals(DeliveryStatus.DELIVERED, deliveryDetails.getDeliveryStatus());
+        Mockito.verify(courierService, Mockito.never()).release(Mockito.any(), Mockito.any());
+        Mockito.verify(trackingService, Mockito.times(1)).completeTracking(deliveryDetails.getDeliveryId());
+        Mockito.verify(slaMonitor, Mockito.times(1)).deregister(deliveryDetails.getDeliveryId());
+        Mockito.verify(etaEstimator, Mockito.times(1)).record(Mockito.eq(deliveryDetails.getRestaurantId()),
+                Mockito.anyInt(), Mockito.any(Duration.class), Mockito.isNull());
+        Mockito.verify(deliveryOutbox, Mockito.times(1)).transitionWithEvent(Mockito.eq(deliveryDetails.getDeliveryId()),
+                Mockito.eq(DeliveryStatus.DELIVERED), Mockito.eq(deliveryDetails.getDeliveredAt()), Mockito.argThat(event ->
+                event.getOrderId().equals(orderId) && event.getStatus() == DeliveryStatus.DELIVERED));
+    }
+
+    @DisplayName("Complete Delivery - Completed By Another Instance In The Meantime")
+    @Test
+    public void test_When_Complete_Delivery_Raced_By_Other_Instance_No_Second_Event() {
+        Mockito.when(deliveryRepository.findById(deliveryDetails.getDeliveryId())).thenReturn(Optional.of(deliveryDetails));
+        // the conditional update finds the delivery no longer in progress
+        Mockito.when(deliveryOutbox.transitionWithEvent(Mockito.eq(deliveryDetails.getDeliveryId()), Mockito.eq(DeliveryStatus.DELIVERED),
+                Mockito.any(LocalDateTime.class), Mockito.any())).thenReturn(false);
+
+        deliveryService.completeDelivery(deliveryDetails.getDeliveryId());
+
+        assertEquals(DeliveryStatus.IN_PROGRESS, deliveryDetails.getDeliveryStatus());
+        Mockito.verify(etaEstimator, Mockito.never()).record(Mockito.any(), Mockito.anyInt(), Mockito.any(), Mockito.any());
+        Mockito.verify(slaMonitor, Mockito.times(1)).deregister(deliveryDetails.getDeliveryId());
+        Mockito.verify(trackingService, Mockito.times(1)).completeTracking(deliveryDetails.getDeliveryId());
+        Mockito.verify(deliveryScheduler, Mockito.never()).schedule(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @DisplayName("Complete Delivery - Already Completed")
+    @Test
+    public void test_When_Complete_Delivery_Already_Delivered_Nothing_Changes() {
+        deliveryDetails.setDeliveryStatus(DeliveryStatus.DELIVERED);
+        Mockito.when(deliveryRepository.findById(deliveryDetails.getDeliveryId())).thenReturn(Optional.of(deliveryDetails));
+
+        deliveryService.completeDelivery(deliveryDetails.getDeliveryId());
+
+        Mockito.verify(deliveryRepository, Mockito.never()).save(Mockito.any(DeliveryDetails.class));
+        Mockito.verifyNoInteractions(deliveryOutbox);
+    }
+
+    @DisplayName("Resume In-Progress Deliveries After Restart")
+    @Test
+    public void test_When_Resume_In_Progress_Deliveries_All_Scheduled() {
+        Mockito.when(deliveryRepository.findTop1000ByDeliveryStatusOrderByDeliveryId(DeliveryStatus.IN_PROGRESS))
+                .thenReturn(List.of(deliveryDetails));
+        Mockito.when(deliveryRepository.findTop1000ByDeliveryStatusAndDeliveryIdGreaterThanOrderByDeliveryId(
+                DeliveryStatus.IN_PROGRESS, deliveryDetails.getDeliveryId())).thenReturn(List.of());
+
+        deliveryService.resumeInProgressDeliveries();
+
+        Mockito.verify(deliveryScheduler, Mockito.times(1))
+                .schedule(Mockito.eq(deliveryDetails.getDeliveryId()), Mockito.any(Instant.class), Mockito.any(Runnable.class));
+    }
+
+    @DisplayName("Bulk Status Update - Per-Row Results")
+    @Test
+    public void test_When_Bulk_Status_Update_Each_Row_Reported() {
+        DeliveryDetails alreadyDelivered = DeliveryDetails.builder()
+                .deliveryId(UUID.randomUUID())
+                .orderId(UUID.randomUUID())
+                .deliveryStatus(DeliveryStatus.DELIVERED)
+                .build();
+        UUID missingId = UUID.randomUUID();
+        BulkStatusUpdateRequest updateRequest = new BulkStatusUpdateRequest(List.of(
+                new StatusUpdate(deliveryDetails.getDeliveryId(), DeliveryStatus.FAILED),
+                new StatusUpdate(alreadyDelivered.getDeliveryId(), DeliveryStatus.FAILED),
+                new StatusUpdate(missingId, DeliveryStatus.DELIVERED),
+                new StatusUpdate(deliveryDetails.getDeliveryId(), DeliveryStatus.DELIVERED),
+                new StatusUpdate(UUID.randomUUID(), DeliveryStatus.IN_PROGRESS)));
+
+        Mockito.when(statusBatchRepository.findAllForTransition(Mockito.anyCollection()))
+                .thenReturn(List.of(deliveryDetails, alreadyDelivered));
+        Mockito.when(statusBatchRepository.applyTransitions(Mockito.argThat(transitions -> transitions.size() == 1
+                && transitions.get(0).event().getOrderId().equals(orderId)
+                && transitions.get(0).event().getStatus() == DeliveryStatus.FAILED), Mockito.any(LocalDateTime.class)))
+                .thenReturn(new boolean[] { true });
+
+        BulkStatusUpdateResponse updateResponse = deliveryService.updateStatuses(updateRequest);
+
+        assertEquals(1, updateResponse.getUpdated());
+        assertEquals(List.of(StatusUpdateOutcome.UPDATED, StatusUpdateOutcome.NOT_IN_PROGRESS, StatusUpdateOutcome.NOT_FOUND,
+                StatusUpdateOutcome.DUPLICATE, StatusUpdateOutcome.INVALID_STATUS),
+                updateResponse.getResults().stream().map(result -> result.getOutcome()).toList());
+        Mockito.verify(deliveryScheduler, Mockito.times(1)).cancel(deliveryDetails.getDeliveryId());
+        Mockito.verify(slaMonitor, Mockito.times(1)).deregister(deliveryDetails.getDeliveryId());
+        Mockito.verify(trackingService, Mockito.times(1)).completeTracking(deliveryDetails.getDeliveryId());
+        Mockito.verify(etaEstimator, Mockito.never()).record(Mockito.any(), Mockito.anyInt(), Mockito.any(), Mockito.any());
+    }
+
+    /**
+     * Reads a delivery request the way it arrives from the Order service: the restaurant's location as pickup
+     * and the order's delivery location as drop-off.
+     */
+    private static DeliveryRequest fromOrderService(UUID orderId, UUID restaurantId, double dropoffLatitude, double dropoffLongitude) throws Exception {
+        String body = "{\"orderId\":\"" + orderId + "\",\"userId\":\"user@gmail.com\",\"restaurantId\":\"" + restaurantId + "\","
+                + "\"pickupLatitude\":44.8125,\"pickupLongitude\":20.4612,"
+                + "\"dropoffLatitude\":" + dropoffLatitude + ",\"dropoffLongitude\":" + dropoffLongitude + "}";
+        return new ObjectMapper().readValue(body, DeliveryRequest.class);
     }
 }
@@ -0,0 +1,160 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.entities.DeliveryDetails;
+import com.fooddeliveryapp.DeliveryService.exceptions.DeliveryNotFoundException;
+import com.fooddeliveryapp.DeliveryService.exceptions.TrackingAccessDeniedException;
+import com.fooddeliveryapp.DeliveryService.models.CourierPositionRequest;
+import com.fooddeliveryapp.DeliveryService.models.LocationPing;
+import com.fooddeliveryapp.DeliveryService.models.LocationPingBatchRequest;
+import com.fooddeliveryapp.DeliveryService.models.TrackingResponse;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryRepository;
+import com.fooddeliveryapp.DeliveryService.tracking.TrackedPosition;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class TrackingServiceTest {
+
+    @Mock
+    private ICourierService courierService;
+
+    @Mock
+    private DeliveryRepository deliveryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrackingService trackingService;
+    private UUID courierId;
+    private UUID deliveryId;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        trackingService = new TrackingService(courierService, deliveryRepository, meterRegistry, 4, 1024, 16, 10_000, 25, 100, 1_000, 60_000, 60_000);
+        courierId = UUID.randomUUID();
+        deliveryId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        trackingService.shutdown();
+    }
+
+    @DisplayName("Apply Pings - Latest Position Kept Per Delivery")
+    @Test
+    public void test_When_Pings_Applied_Latest_Position_Returned() {
+        trackingService.apply(List.of(
+                new TrackedPosition(courierId, deliveryId, 44.80, 20.40, 1_000, 1_000),
+                new TrackedPosition(courierId, deliveryId, 44.82, 20.42, 3_000, 3_000),
+                new TrackedPosition(courierId, deliveryId, 44.81, 20.41, 2_000, 2_000)));
+
+        TrackingResponse trackingResponse = trackingService.getTracking(deliveryId, null);
+
+        assertEquals(courierId, trackingResponse.getCourierId());
+        assertEquals(44.82, trackingResponse.getCurrentPosition().getLatitude(), 0.0);
+        assertEquals(Instant.ofEpochMilli(3_000), trackingResponse.getCurrentPosition().getRecordedAt());
+        assertEquals(2, trackingResponse.getRoute().size());
+        Mockito.verify(courierService, Mockito.times(1)).updatePosition(courierId, new CourierPositionRequest(44.82, 20.42));
+    }
+
+    @DisplayName("Ingest Pings - Dropped When Buffer Full")
+    @Test
+    public void test_When_Buffer_Full_Pings_Dropped() {
+        List<LocationPing> pings = List.of(
+                new LocationPing(44.80, 20.40, Instant.ofEpochMilli(1)),
+                new LocationPing(44.80, 20.40, Instant.ofEpochMilli(2)),
+                new LocationPing(44.80, 20.40, Instant.ofEpochMilli(3)),
+                new LocationPing(44.80, 20.40, Instant.ofEpochMilli(4)),
+                new LocationPing(44.80, 20.40, Instant.ofEpochMilli(5)));
+        stubDelivery(courierId, "user@gmail.com");
+
+        int accepted = trackingService.ingest(courierId, new LocationPingBatchRequest(deliveryId, pings));
+
+        assertEquals(4, accepted);
+        assertEquals(1.0, meterRegistry.get("delivery.tracking.pings").tag("result", "dropped").counter().count(), 0.0);
+    }
+
+    @DisplayName("Complete Tracking - State Dropped")
+    @Test
+    public void test_When_Tracking_Completed_Not_Found() {
+        trackingService.apply(List.of(new TrackedPosition(courierId, deliveryId, 44.80, 20.40, 1_000, 1_000)));
+
+        trackingService.completeTracking(deliveryId);
+
+        assertThrows(DeliveryNotFoundException.class, () -> trackingService.getTracking(deliveryId, null));
+    }
+
+    @DisplayName("Complete Tracking - Late Pings Ignored")
+    @Test
+    public void test_When_Pings_Applied_After_Completion_Not_Tracked() {
+        trackingService.apply(List.of(new TrackedPosition(courierId, deliveryId, 44.80, 20.40, 1_000, 1_000)));
+        trackingService.completeTracking(deliveryId);
+
+        trackingService.apply(List.of(new TrackedPosition(courierId, deliveryId, 44.81, 20.41, 2_000, 2_000)));
+
+        assertThrows(DeliveryNotFoundException.class, () -> trackingService.getTracking(deliveryId, null));
+        Mockito.verify(courierService, Mockito.times(1)).updatePosition(courierId, new CourierPositionRequest(44.81, 20.41));
+    }
+
+    @DisplayName("Evict Idle Deliveries - Judged By Receive Time")
+    @Test
+    public void test_When_Device_Clock_Behind_Delivery_Not_Evicted() {
+        UUID idleDeliveryId = UUID.randomUUID();
+        trackingService.apply(List.of(
+                new TrackedPosition(courierId, deliveryId, 44.80, 20.40, 1_000, 100_000),
+                new TrackedPosition(courierId, idleDeliveryId, 44.80, 20.40, 1_000, 1_000)));
+
+        trackingService.evictIdleDeliveries(120_000);
+
+        assertEquals(deliveryId, trackingService.getTracking(deliveryId, null).getDeliveryId());
+        assertThrows(DeliveryNotFoundException.class, () -> trackingService.getTracking(idleDeliveryId, null));
+    }
+
+    @DisplayName("Ingest Pings - Rejected From Courier Not Assigned To Delivery")
+    @Test
+    public void test_When_Courier_Not_Assigned_Pings_Rejected() {
+        stubDelivery(UUID.randomUUID(), "user@gmail.com");
+        LocationPingBatchRequest batchRequest = new LocationPingBatchRequest(deliveryId,
+                List.of(new LocationPing(44.80, 20.40, Instant.ofEpochMilli(1))));
+
+        assertThrows(TrackingAccessDeniedException.class, () -> trackingService.ingest(courierId, batchRequest));
+        assertEquals(0.0, meterRegistry.get("delivery.tracking.pings").tag("result", "accepted").counter().count(), 0.0);
+    }
+
+    @DisplayName("Get Tracking - Only For The Delivery's Customer")
+    @Test
+    public void test_When_Other_Customer_Asks_Access_Denied() {
+        stubDelivery(courierId, "user@gmail.com");
+        trackingService.apply(List.of(new TrackedPosition(courierId, deliveryId, 44.80, 20.40, 1_000, 1_000)));
+
+        assertEquals(deliveryId, trackingService.getTracking(deliveryId, "user@gmail.com").getDeliveryId());
+        assertThrows(TrackingAccessDeniedException.class, () -> trackingService.getTracking(deliveryId, "other@gmail.com"));
+        assertThrows(TrackingAccessDeniedException.class, () -> trackingService.subscribe(deliveryId, "other@gmail.com"));
+        Mockito.verify(deliveryRepository, Mockito.times(1)).findById(deliveryId);
+    }
+
+    private void stubDelivery(UUID assignedCourierId, String userId) {
+        Mockito.when(deliveryRepository.findById(deliveryId)).thenReturn(Optional.of(DeliveryDetails.builder()
+                .deliveryId(deliveryId)
+                .courierId(assignedCourierId)
+                .userId(userId)
+                .deliveryStatus(DeliveryStatus.IN_PROGRESS)
+                .build()));
+    }
+}
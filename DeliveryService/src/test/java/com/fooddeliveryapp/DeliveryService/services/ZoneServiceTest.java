@@ -0,0 +1,145 @@
+package com.fooddeliveryapp.DeliveryService.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.mockito.Mockito;
+
+import com.fooddeliveryapp.DeliveryService.entities.DeliveryZone;
+import com.fooddeliveryapp.DeliveryService.exceptions.InvalidDeliveryZoneException;
+import com.fooddeliveryapp.DeliveryService.models.Coordinate;
+import com.fooddeliveryapp.DeliveryService.models.DeliveryZoneRequest;
+import com.fooddeliveryapp.DeliveryService.models.ZoneEligibilityResponse;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryZoneRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ZoneServiceTest {
+
+    private DeliveryZoneRepository zoneRepository;
+    private ZoneService zoneService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        zoneRepository = Mockito.mock(DeliveryZoneRepository.class);
+        Mockito.when(zoneRepository.saveAll(Mockito.anyList())).thenAnswer(invocation -> {
+            List<DeliveryZone> zones = invocation.getArgument(0);
+            zones.forEach(zone -> zone.setZoneId(UUID.randomUUID()));
+            return zones;
+        });
+        zoneService = new ZoneService(zoneRepository, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("Check Eligibility - Restaurant Without Zones Delivers Everywhere")
+    @Test
+    public void test_When_Restaurant_Has_No_Zones_Eligible() {
+        ZoneEligibilityResponse eligibility = zoneService.checkEligibility(UUID.randomUUID(), 44.8, 20.4);
+
+        assertTrue(eligibility.isEligible());
+        assertNull(eligibility.getZoneId());
+    }
+
+    @DisplayName("Check Eligibility - Inside And Outside The Zone")
+    @Test
+    public void test_When_Address_Checked_Zone_Respected() {
+        UUID restaurantId = UUID.randomUUID();
+        UUID otherRestaurantId = UUID.randomUUID();
+        zoneService.replaceZones(restaurantId, List.of(square("Center", 44.80, 20.44, 0.02)));
+        zoneService.replaceZones(otherRestaurantId, List.of(square("North", 44.90, 20.44, 0.02)));
+
+        ZoneEligibilityResponse inside = zoneService.checkEligibility(restaurantId, 44.81, 20.45);
+        assertTrue(inside.isEligible());
+        assertEquals("Center", inside.getZoneName());
+
+        assertFalse(zoneService.checkEligibility(restaurantId, 44.91, 20.45).isEligible());
+        assertEquals(List.of(otherRestaurantId), zoneService.findRestaurantsDeliveringTo(44.91, 20.45));
+    }
+
+    @DisplayName("Replace Zones - Other Restaurants Keep Their Zones")
+    @Test
+    public void test_When_Zones_Replaced_Only_Restaurant_Changed() {
+        UUID restaurantId = UUID.randomUUID();
+        UUID otherRestaurantId = UUID.randomUUID();
+        zoneService.replaceZones(restaurantId, List.of(square("Center", 44.80, 20.44, 0.02)));
+        zoneService.replaceZones(otherRestaurantId, List.of(square("Center", 44.80, 20.44, 0.02)));
+
+        zoneService.replaceZones(restaurantId, List.of(square("North", 44.90, 20.44, 0.02)));
+        assertFalse(zoneService.checkEligibility(restaurantId, 44.81, 20.45).isEligible());
+        assertTrue(zoneService.checkEligibility(restaurantId, 44.91, 20.45).isEligible());
+        assertTrue(zoneService.checkEligibility(otherRestaurantId, 44.81, 20.45).isEligible());
+
+        // an empty list lifts the restrictions
+        zoneService.replaceZones(restaurantId, List.of());
+        ZoneEligibilityResponse unrestricted = zoneService.checkEligibility(restaurantId, 10.0, 10.0);
+        assertTrue(unrestricted.isEligible());
+        assertNull(unrestricted.getZoneId());
+        Mockito.verify(zoneRepository, Mockito.times(3)).deleteByRestaurantId(restaurantId);
+    }
+
+    @DisplayName("Replace Zones - Invalid Boundary Rejected Before Storing")
+    @Test
+    public void test_When_Zone_Invalid_Nothing_Stored() {
+        DeliveryZoneRequest crossing = new DeliveryZoneRequest("Pacific",
+                List.of(new Coordinate(0.0, -170.0), new Coordinate(1.0, 0.0), new Coordinate(0.0, 170.0)));
+
+        assertThrows(InvalidDeliveryZoneException.class,
+                () -> zoneService.replaceZones(UUID.randomUUID(), List.of(crossing)));
+        Mockito.verifyNoInteractions(zoneRepository);
+    }
+
+    @DisplayName("Replace Zones - Readers Never See A Partial Update")
+    @Test
+    public void test_When_Zones_Swapped_Readers_See_Old_Or_New() throws Exception {
+        UUID restaurantId = UUID.randomUUID();
+        List<DeliveryZoneRequest> zones = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            zones.add(square("Zone " + i, 44.0 + i * 0.01, 20.0, 0.004));
+        }
+        zoneService.replaceZones(restaurantId, zones);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        List<Future<Long>> checks = new ArrayList<>();
+        for (int reader = 0; reader < 2; reader++) {
+            checks.add(readers.submit(() -> {
+                long count = 0;
+                while (running.get()) {
+                    // the point lies in both versions of the zones, so every check must succeed
+                    assertTrue(zoneService.checkEligibility(restaurantId, 44.0, 20.0).isEligible());
+                    count++;
+                }
+                return count;
+            }));
+        }
+
+        for (int update = 0; update < 50; update++) {
+            zoneService.replaceZones(restaurantId, update % 2 == 0 ? List.of(square("Big", 44.0, 20.0, 0.5)) : zones);
+        }
+        running.set(false);
+        readers.shutdown();
+        assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+        for (Future<Long> check : checks) {
+            assertTrue(check.get() > 0);
+        }
+    }
+
+    private static DeliveryZoneRequest square(String name, double latitude, double longitude, double halfSize) {
+        return new DeliveryZoneRequest(name, List.of(
+                new Coordinate(latitude - halfSize, longitude - halfSize),
+                new Coordinate(latitude - halfSize, longitude + halfSize),
+                new Coordinate(latitude + halfSize, longitude + halfSize),
+                new Coordinate(latitude + halfSize, longitude - halfSize)));
+    }
+}
@@ -0,0 +1,76 @@
+package com.fooddeliveryapp.DeliveryService.simulation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.events.DeliveryEvent;
+
+public class FleetSimulationTest {
+
+    private static final Instant START = Instant.parse("2026-01-15T10:00:00Z");
+
+    @DisplayName("Run Simulation - Same Seed Gives Same Run")
+    @Test
+    public void test_When_Run_Twice_With_Same_Seed_Results_And_Events_Identical() {
+        List<DeliveryEvent> firstEvents = new ArrayList<>();
+        List<DeliveryEvent> secondEvents = new ArrayList<>();
+
+        FleetSimulation.Result first = new FleetSimulation(settings(7, 200, 240, 0.02), START, firstEvents::add).run();
+        FleetSimulation.Result second = new FleetSimulation(settings(7, 200, 240, 0.02), START, secondEvents::add).run();
+
+        assertEquals(first.ordersPlaced(), second.ordersPlaced());
+        assertArrayEquals(first.deliveryMillis(), second.deliveryMillis());
+        assertEquals(first.busyCourierMillis(), second.busyCourierMillis());
+        assertEquals(firstEvents, secondEvents);
+    }
+
+    @DisplayName("Run Simulation - Different Seeds Give Different Runs")
+    @Test
+    public void test_When_Run_With_Other_Seed_Results_Differ() {
+        FleetSimulation.Result first = new FleetSimulation(settings(7, 200, 120, 0.02), START, event -> { }).run();
+        FleetSimulation.Result second = new FleetSimulation(settings(8, 200, 120, 0.02), START, event -> { }).run();
+
+        assertNotEquals(first.ordersPlaced() + "/" + first.busyCourierMillis(),
+                second.ordersPlaced() + "/" + second.busyCourierMillis());
+    }
+
+    @DisplayName("Run Simulation - Every Order Ends Delivered Or Failed")
+    @Test
+    public void test_When_Run_Finishes_Every_Order_Has_Final_Status() {
+        List<DeliveryEvent> events = new ArrayList<>();
+
+        FleetSimulation.Result result = new FleetSimulation(settings(1, 50, 240, 0.05), START, events::add).run();
+
+        assertTrue(result.ordersPlaced() > 1000);
+        assertTrue(result.failedByCourier() > 0);
+        assertTrue(result.expiredWaiting() > 0);
+        assertEquals(result.ordersPlaced(), result.delivered() + result.failedByCourier() + result.expiredWaiting());
+        assertEquals(result.ordersPlaced(), events.size());
+        assertEquals(result.delivered(), events.stream().filter(event -> event.getStatus() == DeliveryStatus.DELIVERED).count());
+        assertTrue(events.stream().allMatch(event -> !event.getEventTime().isBefore(START)));
+    }
+
+    @DisplayName("Run Simulation - Hours Of Rush In Seconds")
+    @Test
+    public void test_When_Large_Fleet_Simulated_Completes_Quickly() {
+        long startedAt = System.nanoTime();
+
+        FleetSimulation.Result result = new FleetSimulation(settings(3, 5000, 480, 0.01), START, event -> { }).run();
+
+        assertTrue(result.ordersPlaced() > 20000);
+        assertTrue(result.simulatedMillis() >= 480 * 60_000L);
+        assertTrue((System.nanoTime() - startedAt) / 1_000_000 < 10_000);
+    }
+
+    private static FleetSimulation.Settings settings(long seed, int couriers, int durationMinutes, double failureRate) {
+        return new FleetSimulation.Settings(seed, couriers, 300, durationMinutes, 1000, 8000,
+                44.8125, 20.4612, 8000, 6, 12, 30, failureRate, 20);
+    }
+}
@@ -0,0 +1,189 @@
+package com.fooddeliveryapp.DeliveryService.sla;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.mockito.Mockito;
+
+import com.fooddeliveryapp.DeliveryService.constants.DeliveryStatus;
+import com.fooddeliveryapp.DeliveryService.entities.DeliveryDetails;
+import com.fooddeliveryapp.DeliveryService.events.SlaBreachEvent;
+import com.fooddeliveryapp.DeliveryService.repositories.DeliveryRepository;
+import com.fooddeliveryapp.DeliveryService.repositories.LeaseRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SlaMonitorTest {
+
+    private static final long SYNC_INTERVAL_MS = 10_000;
+
+    private SlaBreachPublisher breachPublisher;
+    private DeliveryRepository deliveryRepository;
+    private LeaseRepository leaseRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private SlaMonitor slaMonitor;
+    private long start;
+
+    @BeforeEach
+    public void setUp() {
+        breachPublisher = Mockito.mock(SlaBreachPublisher.class);
+        deliveryRepository = Mockito.mock(DeliveryRepository.class);
+        leaseRepository = Mockito.mock(LeaseRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        slaMonitor = new SlaMonitor(breachPublisher, deliveryRepository, leaseRepository, meterRegistry,
+                "delivery-service", 30, SYNC_INTERVAL_MS, 600, 2700, 1000, 64);
+        start = System.currentTimeMillis();
+
+        Mockito.when(leaseRepository.tryAcquire(Mockito.eq(SlaMonitor.LEASE_NAME), Mockito.anyString(), Mockito.any(), Mockito.any()))
+                .thenReturn(1);
+        // every delivery that is asked about is still in progress
+        Mockito.when(deliveryRepository.findIdsInStatus(Mockito.anyCollection(), Mockito.eq(DeliveryStatus.IN_PROGRESS)))
+                .thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<UUID>>getArgument(0)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        slaMonitor.shutdown();
+    }
+
+    @DisplayName("Monitor Delivery - Breach Detected After Grace Period")
+    @Test
+    public void test_When_Delivery_Past_Deadline_Breach_Published() {
+        LocalDateTime estimatedDeliveryAt = LocalDateTime.now();
+        DeliveryDetails delivery = delivery(estimatedDeliveryAt);
+        long deadline = estimatedDeliveryAt.atZone(ZoneId.systemDefault()).toInstant().plusSeconds(600).toEpochMilli();
+        slaMonitor.tick(start);
+
+        slaMonitor.register(delivery);
+        slaMonitor.tick(deadline - 1000);
+        Mockito.verifyNoInteractions(breachPublisher);
+
+        slaMonitor.tick(deadline + 1000);
+
+        Mockito.verify(breachPublisher, Mockito.times(1)).publish(Mockito.argThat(event ->
+                event.getDeliveryId().equals(delivery.getDeliveryId()) && event.getOrderId().equals(delivery.getOrderId())));
+        SlaBreachEvent breach = slaMonitor.getBreaches().get(0);
+        assertEquals(deadline, breach.getDeadline().toEpochMilli());
+        assertEquals(1.0, meterRegistry.get("delivery.sla.breaches").counter().count(), 0.0);
+        assertEquals(0.0, meterRegistry.get("delivery.sla.monitored").gauge().value(), 0.0);
+    }
+
+    @DisplayName("Monitor Delivery - Completed Delivery Never Breaches")
+    @Test
+    public void test_When_Delivery_Deregistered_No_Breach() {
+        DeliveryDetails delivery = delivery(LocalDateTime.now());
+        slaMonitor.tick(start);
+
+        slaMonitor.register(delivery);
+        slaMonitor.deregister(delivery.getDeliveryId());
+        slaMonitor.tick(start + 3_600_000);
+
+        Mockito.verifyNoInteractions(breachPublisher);
+        assertTrue(slaMonitor.getBreaches().isEmpty());
+    }
+
+    @DisplayName("Monitor Delivery - Breach Cleared When Delivery Completes")
+    @Test
+    public void test_When_Breached_Delivery_Completed_Breach_Cleared() {
+        DeliveryDetails delivery = delivery(LocalDateTime.now().minusHours(1));
+        slaMonitor.tick(start);
+
+        slaMonitor.register(delivery);
+        slaMonitor.tick(start + 1000);
+        assertEquals(1, slaMonitor.getBreaches().size());
+
+        slaMonitor.deregister(delivery.getDeliveryId());
+
+        assertTrue(slaMonitor.getBreaches().isEmpty());
+        assertEquals(0.0, meterRegistry.get("delivery.sla.breached").gauge().value(), 0.0);
+    }
+
+    @DisplayName("Monitor Delivery - Delivery Completed On Another Instance Not Reported")
+    @Test
+    public void test_When_Delivery_Completed_Elsewhere_No_Breach() {
+        DeliveryDetails delivery = delivery(LocalDateTime.now().minusHours(1));
+        slaMonitor.tick(start);
+        slaMonitor.register(delivery);
+
+        Mockito.when(deliveryRepository.findIdsInStatus(Mockito.anyCollection(), Mockito.eq(DeliveryStatus.IN_PROGRESS)))
+                .thenReturn(List.of());
+        slaMonitor.tick(start + 1000);
+
+        Mockito.verifyNoInteractions(breachPublisher);
+        assertTrue(slaMonitor.getBreaches().isEmpty());
+        assertEquals(0.0, meterRegistry.get("delivery.sla.monitored").gauge().value(), 0.0);
+    }
+
+    @DisplayName("Monitor Delivery - Breach Cleared On Sync When Completed On Another Instance")
+    @Test
+    public void test_When_Breached_Delivery_Completed_Elsewhere_Breach_Cleared_On_Sync() {
+        DeliveryDetails delivery = delivery(LocalDateTime.now().minusHours(1));
+        slaMonitor.tick(start);
+        slaMonitor.register(delivery);
+        slaMonitor.tick(start + 1000);
+        assertEquals(1, slaMonitor.getBreaches().size());
+
+        Mockito.when(deliveryRepository.findIdsInStatus(Mockito.anyCollection(), Mockito.eq(DeliveryStatus.IN_PROGRESS)))
+                .thenReturn(List.of());
+        slaMonitor.tick(start + SYNC_INTERVAL_MS);
+
+        assertTrue(slaMonitor.getBreaches().isEmpty());
+    }
+
+    @DisplayName("Monitor Delivery - Deliveries Loaded On Takeover And Picked Up On Sync")
+    @Test
+    public void test_When_Lease_Taken_Over_In_Progress_Deliveries_Monitored() {
+        DeliveryDetails resumed = delivery(LocalDateTime.now().minusHours(1));
+        DeliveryDetails startedElsewhere = delivery(LocalDateTime.now().minusHours(1));
+        Mockito.when(deliveryRepository.findTop1000ByDeliveryStatusOrderByDeliveryId(DeliveryStatus.IN_PROGRESS))
+                .thenReturn(List.of(resumed));
+        Mockito.when(deliveryRepository.findTop1000ByDeliveryStatusAndInitiatedAtAfterOrderByInitiatedAt(
+                Mockito.eq(DeliveryStatus.IN_PROGRESS), Mockito.any())).thenReturn(List.of(startedElsewhere));
+
+        slaMonitor.tick(start);
+        slaMonitor.tick(start + 1000);
+        assertEquals(List.of(resumed.getDeliveryId()), slaMonitor.getBreaches().stream().map(SlaBreachEvent::getDeliveryId).toList());
+
+        slaMonitor.tick(start + SYNC_INTERVAL_MS);
+
+        assertEquals(2, slaMonitor.getBreaches().size());
+        Mockito.verify(breachPublisher, Mockito.times(2)).publish(Mockito.any());
+        assertEquals(1.0, meterRegistry.get("delivery.sla.monitor.leader").gauge().value(), 0.0);
+    }
+
+    @DisplayName("Monitor Delivery - Instance Without The Lease Does Not Monitor")
+    @Test
+    public void test_When_Lease_Held_Elsewhere_Nothing_Monitored() {
+        Mockito.when(leaseRepository.tryAcquire(Mockito.eq(SlaMonitor.LEASE_NAME), Mockito.anyString(), Mockito.any(), Mockito.any()))
+                .thenReturn(0);
+        slaMonitor.tick(start);
+
+        slaMonitor.register(delivery(LocalDateTime.now().minusHours(1)));
+        slaMonitor.tick(start + 1000);
+
+        Mockito.verifyNoInteractions(breachPublisher);
+        Mockito.verify(deliveryRepository, Mockito.never()).findTop1000ByDeliveryStatusOrderByDeliveryId(Mockito.any());
+        assertEquals(0.0, meterRegistry.get("delivery.sla.monitored").gauge().value(), 0.0);
+    }
+
+    private static DeliveryDetails delivery(LocalDateTime estimatedDeliveryAt) {
+        return DeliveryDetails.builder()
+                .deliveryId(UUID.randomUUID())
+                .orderId(UUID.randomUUID())
+                .restaurantId(UUID.randomUUID())
+                .deliveryStatus(DeliveryStatus.IN_PROGRESS)
+                .initiatedAt(estimatedDeliveryAt.minusMinutes(30))
+                .estimatedDeliveryAt(estimatedDeliveryAt)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.fooddeliveryapp.DeliveryService.slots;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.fooddeliveryapp.DeliveryService.entities.SlotReservation;
+import com.fooddeliveryapp.DeliveryService.repositories.SlotReservationBatchRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class ReservationWriterTest {
+
+    @Mock
+    private SlotReservationBatchRepository batchRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new ReservationWriter(batchRepository, meterRegistry, 100, 100);
+    }
+
+    @DisplayName("Flush - Failed Batch Kept And Written Again")
+    @Test
+    public void test_When_Batch_Fails_Written_Again_On_Next_Flush() {
+        SlotReservation reservation = reservation(1L);
+        Mockito.when(batchRepository.insertAll(List.of(reservation)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(List.of());
+        writer.enqueue(reservation);
+
+        assertFalse(writer.flush());
+        assertTrue(writer.flush());
+
+        Mockito.verify(batchRepository, Mockito.times(2)).insertAll(Mockito.anyList());
+        assertEquals(1.0, meterRegistry.get("delivery.slots.reservations.written").counter().count(), 0.0);
+    }
+
+    @DisplayName("Flush - Fenced Reservations Counted, Not Retried")
+    @Test
+    public void test_When_Partition_Changed_Hands_Reservation_Fenced() {
+        SlotReservation current = reservation(2L);
+        SlotReservation stale = reservation(1L);
+        Mockito.when(batchRepository.insertAll(List.of(current, stale))).thenReturn(List.of(stale));
+        writer.enqueue(current);
+        writer.enqueue(stale);
+
+        assertTrue(writer.flush());
+        assertTrue(writer.flush());
+
+        Mockito.verify(batchRepository, Mockito.times(1)).insertAll(Mockito.anyList());
+        assertEquals(1.0, meterRegistry.get("delivery.slots.reservations.written").counter().count(), 0.0);
+        assertEquals(1.0, meterRegistry.get("delivery.slots.reservations.fenced").counter().count(), 0.0);
+    }
+
+    private static SlotReservation reservation(long leaseEpoch) {
+        return SlotReservation.builder()
+                .reservationId(UUID.randomUUID())
+                .zoneKey(42L)
+                .partitionId(3)
+                .slotStart(LocalDateTime.now().plusHours(1))
+                .userId("user@gmail.com")
+                .createdAt(LocalDateTime.now())
+                .leaseEpoch(leaseEpoch)
+                .build();
+    }
+}
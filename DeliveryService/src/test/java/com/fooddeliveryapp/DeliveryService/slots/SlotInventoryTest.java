@@ -0,0 +1,83 @@
+package com.fooddeliveryapp.DeliveryService.slots;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.mockito.Mockito;
+
+import com.fooddeliveryapp.DeliveryService.repositories.SlotReservationRepository;
+
+public class SlotInventoryTest {
+
+    private static final LocalDateTime SLOT = LocalDateTime.of(2030, 1, 1, 12, 30);
+
+    @DisplayName("Reserve - Concurrent Bookings Never Exceed Capacity")
+    @Test
+    public void test_When_Booking_Concurrently_Capacity_Not_Exceeded() throws Exception {
+        SlotInventory inventory = new SlotInventory(Mockito.mock(SlotReservationRepository.class), 16);
+        SlotInventory.SlotKey slot = new SlotInventory.SlotKey(42L, SLOT);
+        int capacity = 20;
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < 8; thread++) {
+                Callable<Integer> booker = () -> {
+                    start.await();
+                    int booked = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (inventory.tryReserve(slot, capacity)) {
+                            booked++;
+                        }
+                    }
+                    return booked;
+                };
+                results.add(executor.submit(booker));
+            }
+            start.countDown();
+
+            int booked = 0;
+            for (Future<Integer> result : results) {
+                booked += result.get();
+            }
+            assertEquals(capacity, booked);
+            assertEquals(capacity, inventory.bookedCount(slot));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("Load - Counters Rebuilt From Stored Reservations")
+    @Test
+    public void test_When_Partition_Loaded_Counters_Rebuilt() {
+        SlotReservationRepository repository = Mockito.mock(SlotReservationRepository.class);
+        SlotInventory inventory = new SlotInventory(repository, 16);
+        SlotInventory.SlotKey slot = new SlotInventory.SlotKey(42L, SLOT);
+        int partition = inventory.partitionOf(42L);
+
+        Mockito.when(repository.countByPartitionSince(Mockito.eq(partition), Mockito.any()))
+                .thenReturn(List.of(new SlotReservationRepository.SlotCount(42L, SLOT, 19L)));
+        inventory.load(partition, SLOT.minusDays(1));
+
+        assertEquals(19, inventory.bookedCount(slot));
+        assertTrue(inventory.tryReserve(slot, 20));
+        assertFalse(inventory.tryReserve(slot, 20));
+
+        inventory.cancel(slot);
+        assertEquals(19, inventory.bookedCount(slot));
+
+        inventory.drop(partition);
+        assertEquals(0, inventory.bookedCount(slot));
+    }
+}
@@ -0,0 +1,159 @@
+package com.fooddeliveryapp.DeliveryService.slots;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import com.fooddeliveryapp.DeliveryService.entities.Lease;
+import com.fooddeliveryapp.DeliveryService.repositories.LeaseRepository;
+import com.fooddeliveryapp.DeliveryService.repositories.SlotReservationRepository;
+
+public class SlotPartitionsTest {
+
+    private static final int PARTITIONS = 16;
+
+    // the lease table, shared by all instances
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final AtomicInteger instances = new AtomicInteger(1);
+    private LeaseRepository leaseRepository;
+    private ReservationWriter writer;
+
+    @BeforeEach
+    public void setUp() {
+        leaseRepository = Mockito.mock(LeaseRepository.class);
+        Mockito.when(leaseRepository.createIfMissing(Mockito.anyString(), Mockito.any())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            return leases.putIfAbsent(name, new Lease(name, null, invocation.getArgument(1), 0L)) == null ? 1 : 0;
+        });
+        Mockito.when(leaseRepository.tryAcquire(Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            Lease lease = leases.get(invocation.getArgument(0));
+            String owner = invocation.getArgument(1);
+            Instant now = invocation.getArgument(2);
+            synchronized (lease) {
+                if (!owner.equals(lease.getOwner()) && !lease.getLeaseUntil().isBefore(now)) {
+                    return 0;
+                }
+                if (!owner.equals(lease.getOwner())) {
+                    lease.setEpoch(lease.getEpoch() + 1);
+                }
+                lease.setOwner(owner);
+                lease.setLeaseUntil(invocation.getArgument(3));
+                return 1;
+            }
+        });
+        Mockito.when(leaseRepository.release(Mockito.anyString(), Mockito.anyString(), Mockito.any())).thenAnswer(invocation -> {
+            Lease lease = leases.get(invocation.getArgument(0));
+            synchronized (lease) {
+                if (!invocation.getArgument(1).equals(lease.getOwner())) {
+                    return 0;
+                }
+                lease.setOwner(null);
+                lease.setLeaseUntil(invocation.getArgument(2));
+                return 1;
+            }
+        });
+        Mockito.when(leaseRepository.findEpoch(Mockito.anyString(), Mockito.anyString())).thenAnswer(invocation -> {
+            Lease lease = leases.get(invocation.getArgument(0));
+            return invocation.getArgument(1).equals(lease.getOwner()) ? Optional.of(lease.getEpoch()) : Optional.empty();
+        });
+        Mockito.when(leaseRepository.findById(Mockito.anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(leases.get(invocation.getArgument(0))));
+
+        writer = Mockito.mock(ReservationWriter.class);
+        Mockito.when(writer.flush()).thenReturn(true);
+    }
+
+    @DisplayName("Rebalance - Instances Split Partitions Without Overlap")
+    @Test
+    public void test_When_Instance_Joins_Partitions_Split_Without_Overlap() {
+        SlotPartitions first = partitions("http://first:8084");
+        first.rebalance();
+        assertEquals(PARTITIONS, ownedBy(first));
+
+        instances.set(2);
+        SlotPartitions second = partitions("http://second:8084");
+        second.rebalance();
+        assertEquals(0, ownedBy(second));
+
+        first.rebalance();
+        second.rebalance();
+        assertEquals(PARTITIONS / 2, ownedBy(first));
+        assertEquals(PARTITIONS / 2, ownedBy(second));
+
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            assertNotEquals(first.isOwned(partition), second.isOwned(partition));
+            String owner = first.isOwned(partition) ? "http://first:8084" : "http://second:8084";
+            assertEquals(owner, first.ownerUrl(partition));
+        }
+        // reservations were written before the partitions changed hands
+        Mockito.verify(writer, Mockito.atLeastOnce()).flush();
+    }
+
+    @DisplayName("Rebalance - Expired Partitions Taken Over")
+    @Test
+    public void test_When_Lease_Expires_Partition_Taken_Over() {
+        SlotPartitions first = partitions("http://first:8084");
+        first.rebalance();
+        assertEquals("booked", first.bookIfOwned(3, () -> "booked"));
+        long firstEpoch = first.epochOf(3);
+
+        // the first instance stalls until its leases expire
+        leases.values().forEach(lease -> lease.setLeaseUntil(Instant.now().minusSeconds(1)));
+        SlotPartitions second = partitions("http://second:8084");
+        second.rebalance();
+        assertEquals(PARTITIONS, ownedBy(second));
+        // reservations the first instance still has queued no longer pass the fence
+        assertTrue(second.epochOf(3) > firstEpoch);
+
+        first.rebalance();
+        assertEquals(0, ownedBy(first));
+        assertNull(first.bookIfOwned(3, () -> "booked"));
+    }
+
+    @DisplayName("Rebalance - Reservations Written Before Lost Partition Dropped")
+    @Test
+    public void test_When_Lease_Lost_Reservations_Written_Before_Counters_Dropped() {
+        SlotInventory inventory = Mockito.spy(inventory());
+        SlotPartitions first = new SlotPartitions(leaseRepository, inventory, writer, instances::get, "http://first:8084", 30, 10, 5_000);
+        first.rebalance();
+
+        leases.values().forEach(lease -> lease.setLeaseUntil(Instant.now().minusSeconds(1)));
+        partitions("http://second:8084").rebalance();
+        first.rebalance();
+
+        InOrder inOrder = Mockito.inOrder(writer, inventory);
+        inOrder.verify(writer).flush();
+        inOrder.verify(inventory).drop(Mockito.anyInt());
+    }
+
+    private SlotPartitions partitions(String baseUrl) {
+        return new SlotPartitions(leaseRepository, inventory(), writer, instances::get, baseUrl, 30, 10, 5_000);
+    }
+
+    private static SlotInventory inventory() {
+        SlotReservationRepository reservationRepository = Mockito.mock(SlotReservationRepository.class);
+        Mockito.when(reservationRepository.countByPartitionSince(Mockito.anyInt(), Mockito.any())).thenReturn(List.of());
+        return new SlotInventory(reservationRepository, PARTITIONS);
+    }
+
+    private static int ownedBy(SlotPartitions partitions) {
+        int owned = 0;
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            if (partitions.isOwned(partition)) {
+                owned++;
+            }
+        }
+        return owned;
+    }
+}
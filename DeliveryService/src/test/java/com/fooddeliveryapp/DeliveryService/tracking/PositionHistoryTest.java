@@ -0,0 +1,40 @@
+package com.fooddeliveryapp.DeliveryService.tracking;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+public class PositionHistoryTest {
+
+    @DisplayName("Add Position - Close Pings Down-Sampled")
+    @Test
+    public void test_When_Pings_Close_In_Time_And_Space_Dropped() {
+        PositionHistory history = new PositionHistory(16, 10_000, 25);
+
+        assertTrue(history.add(44.8000, 20.4000, 0));
+        assertFalse(history.add(44.8000, 20.4001, 2_000));
+        assertTrue(history.add(44.8000, 20.4001, 10_000));
+        assertTrue(history.add(44.8010, 20.4001, 11_000));
+        assertFalse(history.add(44.8020, 20.4001, 11_000));
+
+        assertEquals(3, history.size());
+    }
+
+    @DisplayName("Add Position - Memory Stays Bounded")
+    @Test
+    public void test_When_History_Full_Thinned_Out_And_Latest_Kept() {
+        PositionHistory history = new PositionHistory(8, 0, 0);
+
+        for (int i = 1; i <= 1000; i++) {
+            history.add(44.8, 20.4, i);
+        }
+
+        double[][] points = history.snapshot();
+        assertTrue(points.length <= 8);
+        assertEquals(1000.0, points[points.length - 1][2], 0.0);
+        for (int i = 1; i < points.length; i++) {
+            assertTrue(points[i][2] > points[i - 1][2]);
+        }
+    }
+}
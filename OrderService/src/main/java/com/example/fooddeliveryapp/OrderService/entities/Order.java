@@ -46,6 +46,10 @@ public class Order {
 	
 	@Column(name = "total_price", nullable = false)
     private Double totalPrice;
+	
+	// included in the total price; null for orders placed before delivery fees were charged
+	@Column(name = "delivery_fee", nullable = true)
+	private Double deliveryFee;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
@@ -56,4 +60,9 @@ public class Order {
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> orderItems;
+    
+    public Order(UUID orderId, String userId, UUID restaurantId, Double totalPrice, OrderStatus status,
+    		LocalDateTime timestamp, List<OrderItem> orderItems) {
+    	this(orderId, userId, restaurantId, totalPrice, null, status, timestamp, orderItems);
+    }
 }
@@ -0,0 +1,35 @@
+package com.example.fooddeliveryapp.OrderService.events;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents an event about a paid order, with the dishes in it.
+ * This event is used to tell the Restaurant service which dishes are being ordered, e.g. to rank the dishes of a menu.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderEvent {
+    private UUID eventId;
+    private Instant eventTime;
+    private UUID orderId;
+    private UUID restaurantId;
+    private List<Item> items;
+
+    /**
+     * A dish in the order and how many of it were ordered.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Item {
+        private UUID dishId;
+        private int quantity;
+    }
+}
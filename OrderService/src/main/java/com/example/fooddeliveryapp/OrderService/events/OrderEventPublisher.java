@@ -0,0 +1,57 @@
+package com.example.fooddeliveryapp.OrderService.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.fooddeliveryapp.OrderService.entities.Order;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Publishes order events to the order-topic, keyed by restaurant ID so the events of a restaurant stay in order.
+ *
+ * Sends are asynchronous and best effort: the events only feed statistics such as the most ordered dishes,
+ * so a send that fails is logged and dropped, and never fails the order.
+ */
+@Component
+@Log4j2
+public class OrderEventPublisher {
+
+    private final KafkaTemplate<String, OrderEvent> kafkaTemplate;
+    private final String topic;
+
+    @Autowired
+    public OrderEventPublisher(KafkaTemplate<String, OrderEvent> kafkaTemplate,
+                               @Value("${order.events.topic:order-topic}") String topic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+    }
+
+    /**
+     * Publishes that an order has been paid.
+     *
+     * @param order The paid order, with its items.
+     */
+    public void publishPaid(Order order) {
+        OrderEvent event = new OrderEvent(UUID.randomUUID(), Instant.now(), order.getOrderId(), order.getRestaurantId(),
+                order.getOrderItems().stream()
+                        .map(item -> new OrderEvent.Item(item.getDishId(), item.getQuantity()))
+                        .toList());
+
+        try {
+            kafkaTemplate.send(topic, order.getRestaurantId().toString(), event).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    log.warn("Sending order event for order {} failed: {}", order.getOrderId(), ex.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            // serialization errors and a full producer buffer are thrown synchronously
+            log.warn("Sending order event for order {} failed: {}", order.getOrderId(), e.getMessage());
+        }
+    }
+}
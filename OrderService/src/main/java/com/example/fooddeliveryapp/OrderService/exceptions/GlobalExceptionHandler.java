@@ -10,6 +10,7 @@ import org.springframework.web.method.annotation.HandlerMethodValidationExceptio
 
 import com.example.fooddeliveryapp.OrderService.external.exceptions.DishNotAvailableException;
 import com.example.fooddeliveryapp.OrderService.external.exceptions.DishNotFoundException;
+import com.example.fooddeliveryapp.OrderService.external.exceptions.OutsideDeliveryZoneException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -76,6 +77,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles OutsideDeliveryZoneException and returns an appropriate response.
+     *
+     * @param ex The exception object
+     * @return A ResponseEntity with error message and 400 status code
+     */
+    @ExceptionHandler(OutsideDeliveryZoneException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Map<String, String>> handleOutsideDeliveryZone(OutsideDeliveryZoneException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Handles validation errors and returns a response with status 400.
      *
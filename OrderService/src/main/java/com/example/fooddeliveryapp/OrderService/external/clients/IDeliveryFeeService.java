@@ -0,0 +1,23 @@
+package com.example.fooddeliveryapp.OrderService.external.clients;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import com.example.fooddeliveryapp.OrderService.external.fallbacks.DeliveryFeeServiceFallback;
+import com.example.fooddeliveryapp.OrderService.external.models.FeeQuoteRequest;
+import com.example.fooddeliveryapp.OrderService.external.models.FeeQuoteResponse;
+
+/**
+ * Feign client interface for the delivery fees of the Delivery Service.
+ * It is used to quote the delivery fee, including surge pricing, of a new order.
+ * 
+ * If the Delivery Service is unavailable or an error occurs during the request,
+ * the fallback is triggered and the configured fallback fee is charged.
+ */
+@FeignClient(name = "DELIVERY-SERVICE/fees", fallback = DeliveryFeeServiceFallback.class)
+public interface IDeliveryFeeService {
+	@PostMapping("/quote")
+	ResponseEntity<FeeQuoteResponse> quoteFee(@RequestBody FeeQuoteRequest feeQuoteRequest);
+}
@@ -0,0 +1,25 @@
+package com.example.fooddeliveryapp.OrderService.external.clients;
+
+import java.util.UUID;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.example.fooddeliveryapp.OrderService.external.fallbacks.DeliveryZoneServiceFallback;
+import com.example.fooddeliveryapp.OrderService.external.models.ZoneEligibilityResponse;
+
+/**
+ * Feign client interface for the delivery zones of the Delivery Service.
+ * It is used to check whether a restaurant delivers to an address before an order is paid.
+ * 
+ * If the Delivery Service is unavailable or an error occurs during the request,
+ * the fallback is triggered and the check is skipped.
+ */
+@FeignClient(name = "DELIVERY-SERVICE/zones", fallback = DeliveryZoneServiceFallback.class)
+public interface IDeliveryZoneService {
+	@GetMapping("/eligibility")
+	ResponseEntity<ZoneEligibilityResponse> checkEligibility(@RequestParam UUID restaurantId,
+			@RequestParam double latitude, @RequestParam double longitude);
+}
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 
 import com.example.fooddeliveryapp.OrderService.external.fallbacks.RestaurantServiceFallback;
 import com.example.fooddeliveryapp.OrderService.external.models.DishResponse;
+import com.example.fooddeliveryapp.OrderService.external.models.RestaurantResponse;
 
 
 /**
@@ -24,4 +25,7 @@ import com.example.fooddeliveryapp.OrderService.external.models.DishResponse;
 public interface IRestaurantService {
 	@GetMapping("/dishes/{dishId}")
     ResponseEntity<DishResponse> getDishById(@PathVariable UUID dishId);
+	
+	@GetMapping("/{restaurantId}")
+	ResponseEntity<RestaurantResponse> getRestaurantById(@PathVariable UUID restaurantId);
 }
@@ -1,5 +1,6 @@
 package com.example.fooddeliveryapp.OrderService.external.events;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import com.example.fooddeliveryapp.OrderService.external.constants.DeliveryStatus;
@@ -11,11 +12,14 @@ import lombok.NoArgsConstructor;
 /**
  * Represents an event related to a delivery.
  * This event is used to communicate the delivery status of a delivery between Delivery and order services.
+ * Events written in the legacy JSON format carry no event ID or event time.
  */
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class DeliveryEvent {
+    private UUID eventId;
+    private Instant eventTime;
     private UUID orderId;
     private DeliveryStatus status;
 }
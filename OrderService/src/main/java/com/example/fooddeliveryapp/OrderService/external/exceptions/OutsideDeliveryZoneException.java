@@ -0,0 +1,12 @@
+package com.example.fooddeliveryapp.OrderService.external.exceptions;
+
+public class OutsideDeliveryZoneException extends IllegalStateException {
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public OutsideDeliveryZoneException(String message) {
+        super(message);
+    }
+}
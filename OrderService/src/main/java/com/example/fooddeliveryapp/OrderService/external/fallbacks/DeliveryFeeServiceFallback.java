@@ -0,0 +1,36 @@
+package com.example.fooddeliveryapp.OrderService.external.fallbacks;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.example.fooddeliveryapp.OrderService.external.clients.IDeliveryFeeService;
+import com.example.fooddeliveryapp.OrderService.external.models.FeeQuoteRequest;
+import com.example.fooddeliveryapp.OrderService.external.models.FeeQuoteResponse;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fallback implementation of the IDeliveryFeeService interface.
+ * This class is invoked when the Delivery Service is unavailable or encounters an error
+ * while quoting a delivery fee via Feign.
+ */
+@Component
+@Log4j2
+public class DeliveryFeeServiceFallback implements IDeliveryFeeService {
+
+	/**
+     * Fallback method for quoteFee.
+     * This method is triggered when the Delivery Service cannot be reached or encounters an error.
+     * It logs the error and returns an HTTP 503 status with no body.
+     * 
+     * @param feeQuoteRequest The restaurant and delivery address of the order.
+     * @return A ResponseEntity with a 503 status and no body, indicating service unavailability.
+     */
+	@Override
+	public ResponseEntity<FeeQuoteResponse> quoteFee(FeeQuoteRequest feeQuoteRequest) {
+		log.error("Fallback triggered for quoteFee");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(null);
+	}
+}
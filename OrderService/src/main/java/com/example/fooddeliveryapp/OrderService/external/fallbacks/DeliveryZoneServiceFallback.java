@@ -0,0 +1,39 @@
+package com.example.fooddeliveryapp.OrderService.external.fallbacks;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.example.fooddeliveryapp.OrderService.external.clients.IDeliveryZoneService;
+import com.example.fooddeliveryapp.OrderService.external.models.ZoneEligibilityResponse;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fallback implementation of the IDeliveryZoneService interface.
+ * This class is invoked when the Delivery Service is unavailable or encounters an error
+ * while checking a delivery address via Feign.
+ */
+@Component
+@Log4j2
+public class DeliveryZoneServiceFallback implements IDeliveryZoneService {
+
+	/**
+     * Fallback method for checkEligibility.
+     * This method is triggered when the Delivery Service cannot be reached or encounters an error.
+     * It logs the error and returns an HTTP 503 status with no body.
+     * 
+     * @param restaurantId The ID of the restaurant.
+     * @param latitude Latitude of the delivery address.
+     * @param longitude Longitude of the delivery address.
+     * @return A ResponseEntity with a 503 status and no body, indicating service unavailability.
+     */
+	@Override
+	public ResponseEntity<ZoneEligibilityResponse> checkEligibility(UUID restaurantId, double latitude, double longitude) {
+		log.error("Fallback triggered for checkEligibility");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(null);
+	}
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import com.example.fooddeliveryapp.OrderService.external.clients.IRestaurantService;
 import com.example.fooddeliveryapp.OrderService.external.models.DishResponse;
+import com.example.fooddeliveryapp.OrderService.external.models.RestaurantResponse;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -34,4 +35,19 @@ public class RestaurantServiceFallback implements IRestaurantService {
 
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(null);
 	}
+	
+	/**
+     * Fallback method for getRestaurantById.
+     * This method is triggered when the Restaurant Service cannot be reached or encounters an error.
+     * It logs the error and returns an HTTP 503 status with no body.
+     * 
+     * @param restaurantId The ID of the restaurant requested.
+     * @return A ResponseEntity with a 503 status and no body, indicating service unavailability.
+     */
+	@Override
+	public ResponseEntity<RestaurantResponse> getRestaurantById(UUID restaurantId) {
+		log.error("Fallback triggered for getRestaurantById");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(null);
+	}
 }
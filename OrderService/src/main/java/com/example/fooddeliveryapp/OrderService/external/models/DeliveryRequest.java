@@ -26,4 +26,14 @@ public class DeliveryRequest {
     
     @NotNull(message = "Restaurant ID cannot be null.")
     private UUID restaurantId;
+    
+    // the restaurant's position; without it no courier is assigned to the delivery
+    private Double pickupLatitude;
+    
+    private Double pickupLongitude;
+    
+    // the position of the delivery address; without it the delivery is not planned into a multi-drop route
+    private Double dropoffLatitude;
+    
+    private Double dropoffLongitude;
 }
@@ -24,4 +24,9 @@ public class DeliveryResponse {
 	private DeliveryStatus deliveryStatus; 
 	private LocalDateTime initiatedAt;
 	private LocalDateTime deliveredAt;
+	private LocalDateTime estimatedDeliveryAt;
+	
+	public DeliveryResponse(UUID deliveryId, DeliveryStatus deliveryStatus, LocalDateTime initiatedAt, LocalDateTime deliveredAt) {
+		this(deliveryId, deliveryStatus, initiatedAt, deliveredAt, null);
+	}
 }
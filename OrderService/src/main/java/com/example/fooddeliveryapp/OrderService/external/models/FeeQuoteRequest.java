@@ -0,0 +1,23 @@
+package com.example.fooddeliveryapp.OrderService.external.models;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a request model for quoting the delivery fee of an order.
+ * This model is used to transfer the restaurant and the delivery address
+ * to the delivery service.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FeeQuoteRequest {
+	private UUID restaurantId;
+	private Double latitude;
+	private Double longitude;
+}
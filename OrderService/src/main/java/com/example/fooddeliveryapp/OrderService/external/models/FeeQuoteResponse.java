@@ -0,0 +1,21 @@
+package com.example.fooddeliveryapp.OrderService.external.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for a delivery fee quote.
+ * This model is used to transfer the fee, including any surge,
+ * from the delivery service.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeeQuoteResponse {
+	private double baseFee;
+	private double surgeMultiplier;
+	private double deliveryFee;
+}
@@ -0,0 +1,26 @@
+package com.example.fooddeliveryapp.OrderService.external.models;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for a restaurant.
+ * This model is used to transfer data from the server
+ * to the client when retrieving restaurant record(s).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RestaurantResponse {
+	private UUID restaurantId;
+	private String name;
+	private String address;
+    private String phoneNumber;
+    private Double latitude;
+    private Double longitude;
+}
@@ -0,0 +1,23 @@
+package com.example.fooddeliveryapp.OrderService.external.models;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for checking whether a restaurant delivers to an address.
+ * This model is used to transfer the result of the check from the delivery service.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ZoneEligibilityResponse {
+	private UUID restaurantId;
+	private boolean eligible;
+	private UUID zoneId;
+	private String zoneName;
+}
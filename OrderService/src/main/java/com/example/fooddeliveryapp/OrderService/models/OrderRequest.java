@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import com.example.fooddeliveryapp.OrderService.external.constants.PaymentMode;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -30,4 +31,12 @@ public class OrderRequest {
 	
 	@NotEmpty(message = "Order items must not be empty")
     private List<@NotNull(message = "Each order item must not be null")OrderItemRequest> items;
+	
+	// optional; when given, the order is only accepted if the restaurant delivers to this position
+	@Valid
+	private DeliveryLocation deliveryLocation;
+	
+	public OrderRequest(UUID restaurantId, PaymentMode paymentMode, List<OrderItemRequest> items) {
+		this(restaurantId, paymentMode, items, null);
+	}
 }
@@ -9,8 +9,6 @@ import com.example.fooddeliveryapp.OrderService.exceptions.OrderNotFoundExceptio
 import com.example.fooddeliveryapp.OrderService.external.constants.DeliveryStatus;
 import com.example.fooddeliveryapp.OrderService.external.events.DeliveryEvent;
 import com.example.fooddeliveryapp.OrderService.repositories.OrderRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -18,42 +16,36 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class DeliveryEventListener {
     private final OrderRepository orderRepository;
-    private final ObjectMapper objectMapper;
    
     @Autowired
-    public DeliveryEventListener(OrderRepository orderRepository, ObjectMapper objectMapper) {
+    public DeliveryEventListener(OrderRepository orderRepository) {
     	this.orderRepository = orderRepository;
-    	this.objectMapper = objectMapper;
     }
 
     /**
      * Kafka listener method that listens for delivery events on the "delivery-topic".
      * The method processes delivery events dispatched from delivery service and updates the status of the corresponding order.
+     * Records are decoded by DeliveryEventDeserializer, which accepts both the binary envelope and legacy JSON;
+     * records that cannot be decoded are handed to the container error handler and never reach this method.
      * 
-     * @param message The raw message containing delivery event details.
+     * @param event The decoded delivery event.
      */
     @KafkaListener(topics = "delivery-topic", groupId = "order-group")
-    public void handleDeliveryEvent(String message) {
-        try {
-            // deserializing message to DeliveryEvent
-            DeliveryEvent event = objectMapper.readValue(message, DeliveryEvent.class);
-            log.info("Received delivery event for order: {}", event.getOrderId());
+    public void handleDeliveryEvent(DeliveryEvent event) {
+        log.info("Received delivery event {} for order: {}", event.getEventId(), event.getOrderId());
 
-            orderRepository.findById(event.getOrderId())
-                .orElseThrow(() -> {
-                    log.error("Order with ID {} not found", event.getOrderId());
-                    return new OrderNotFoundException("Order with an ID of " + event.getOrderId() + " not found");
-                });
+        orderRepository.findById(event.getOrderId())
+            .orElseThrow(() -> {
+                log.error("Order with ID {} not found", event.getOrderId());
+                return new OrderNotFoundException("Order with an ID of " + event.getOrderId() + " not found");
+            });
 
-            if (event.getStatus() == DeliveryStatus.DELIVERED) {
-                orderRepository.updateOrderStatus(event.getOrderId(), OrderStatus.DELIVERED);
-                log.info("Order with ID {} successfully DELIVERED", event.getOrderId());
-            } else if (event.getStatus() == DeliveryStatus.FAILED) {
-                orderRepository.updateOrderStatus(event.getOrderId(), OrderStatus.CANCELED);
-                log.info("Order with ID {} has been CANCELED", event.getOrderId());
-            }
-        } catch (JsonProcessingException e) {
-            log.error("Error deserializing the event: {}", e.getMessage());
+        if (event.getStatus() == DeliveryStatus.DELIVERED) {
+            orderRepository.updateOrderStatus(event.getOrderId(), OrderStatus.DELIVERED);
+            log.info("Order with ID {} successfully DELIVERED", event.getOrderId());
+        } else if (event.getStatus() == DeliveryStatus.FAILED) {
+            orderRepository.updateOrderStatus(event.getOrderId(), OrderStatus.CANCELED);
+            log.info("Order with ID {} has been CANCELED", event.getOrderId());
         }
     }
 }
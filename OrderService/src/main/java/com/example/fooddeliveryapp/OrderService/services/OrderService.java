@@ -6,24 +6,34 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.example.fooddeliveryapp.OrderService.constants.OrderStatus;
 import com.example.fooddeliveryapp.OrderService.entities.Order;
 import com.example.fooddeliveryapp.OrderService.entities.OrderItem;
+import com.example.fooddeliveryapp.OrderService.events.OrderEventPublisher;
 import com.example.fooddeliveryapp.OrderService.exceptions.EmptyOrderException;
 import com.example.fooddeliveryapp.OrderService.exceptions.OrderNotFoundException;
+import com.example.fooddeliveryapp.OrderService.external.clients.IDeliveryFeeService;
 import com.example.fooddeliveryapp.OrderService.external.clients.IDeliveryService;
+import com.example.fooddeliveryapp.OrderService.external.clients.IDeliveryZoneService;
 import com.example.fooddeliveryapp.OrderService.external.clients.IPaymentService;
 import com.example.fooddeliveryapp.OrderService.external.clients.IRestaurantService;
 import com.example.fooddeliveryapp.OrderService.external.exceptions.DishNotAvailableException;
 import com.example.fooddeliveryapp.OrderService.external.exceptions.DishNotFoundException;
+import com.example.fooddeliveryapp.OrderService.external.exceptions.OutsideDeliveryZoneException;
 import com.example.fooddeliveryapp.OrderService.external.models.DeliveryRequest;
 import com.example.fooddeliveryapp.OrderService.external.models.DeliveryResponse;
 import com.example.fooddeliveryapp.OrderService.external.models.DishResponse;
+import com.example.fooddeliveryapp.OrderService.external.models.FeeQuoteRequest;
+import com.example.fooddeliveryapp.OrderService.external.models.FeeQuoteResponse;
 import com.example.fooddeliveryapp.OrderService.external.models.PaymentRequest;
 import com.example.fooddeliveryapp.OrderService.external.models.PaymentResponse;
+import com.example.fooddeliveryapp.OrderService.external.models.RestaurantResponse;
+import com.example.fooddeliveryapp.OrderService.external.models.ZoneEligibilityResponse;
+import com.example.fooddeliveryapp.OrderService.models.DeliveryLocation;
 import com.example.fooddeliveryapp.OrderService.models.OrderRequest;
 import com.example.fooddeliveryapp.OrderService.models.OrderResponse;
 import com.example.fooddeliveryapp.OrderService.repositories.OrderRepository;
@@ -53,6 +63,19 @@ public class OrderService implements IOrderService{
 	@Autowired
 	private IDeliveryService deliveryService;
 	
+	@Autowired
+	private IDeliveryZoneService deliveryZoneService;
+	
+	@Autowired
+	private IDeliveryFeeService deliveryFeeService;
+	
+	@Autowired
+	private OrderEventPublisher orderEventPublisher;
+	
+	// charged when the Delivery service cannot quote a fee
+	@Value("${order.delivery-fee.fallback:0.0}")
+	private double fallbackDeliveryFee;
+	
     /**
      * Retrieves the details of a specific order by its ID.
      * 
@@ -84,6 +107,7 @@ public class OrderService implements IOrderService{
 				.orderId(order.getOrderId())
 				.status(order.getStatus())
 				.amount(order.getTotalPrice())
+				.deliveryFee(order.getDeliveryFee())
 				.createdAt(order.getTimestamp())
 				.madeBy(order.getUserId())
 				.dishes(dishes)
@@ -101,8 +125,10 @@ public class OrderService implements IOrderService{
 	 * This method receives an order request object containing the user's details,
 	 * restaurant information, and items in the order. It performs the following actions:
 	 * 
-	 * 1. Checks if the order contains valid items (at least one item must be included).
-	 * 2. Calculates the total price of the order based on the items and their quantities.
+	 * 1. Checks if the order contains valid items (at least one item must be included)
+	 *    and, if a delivery location is given, that the restaurant delivers there.
+	 * 2. Calculates the total price of the order based on the items and their quantities,
+	 *    plus the delivery fee quoted by the Delivery service (which rises while orders outnumber couriers).
 	 * 3. Processes payment for the order.
 	 * 4. Creates a new order and its associated order items in the database.
 	 * 5. Initiates the delivery process (which will asynchronously update order status to DELIVERED when done).
@@ -110,28 +136,37 @@ public class OrderService implements IOrderService{
 	 * Communication with other services:
 	 * - Checking if the dishes in the order are available in the corresponding restaurant (Restaurant service).
 	 * - Integrate payment processing, including support for different payment methods (Payment service).
-	 * - Upon successful payment, update the order status to "DELIVERING" and initiate the delivery process (Delivery service).
+	 * - Upon successful payment, publish an order event with the ordered dishes, by which the Restaurant service ranks dishes.
+	 * - Upon successful payment, update the order status to "DELIVERING" and initiate the delivery process (Delivery service),
+	 *   with the restaurant's position (Restaurant service) and the delivery location, so a courier near the restaurant
+	 *   is assigned and deliveries of the same restaurant can share a route.
 	 * - If the delivery process is completed, update the order status to "DELIVERED" (Async call from Delivery Service back to Order service).
 	 * 
 	 * @param orderRequest - The data needed to create a new order, including user and restaurant details, 
 	 *                       as well as the items in the order.
 	 * @return The ID of the newly created order.
 	 * @throws EmptyOrderException if the order has no order items.
+	 * @throws OutsideDeliveryZoneException if the restaurant does not deliver to the delivery location.
 	 */
 	@Override
 	public UUID processOrder(@Valid OrderRequest orderRequest, String userEmail) {
 	    log.info("Processing the order...");
 
 	    List<OrderItem> orderItems = validateAndPrepareOrderItems(orderRequest);
+	    
+	    validateDeliveryLocation(orderRequest);
 
-	    double totalPrice = calculateTotalPrice(orderItems);
+	    double deliveryFee = quoteDeliveryFee(orderRequest);
 
-	    Order order = saveOrder(orderRequest, orderItems, totalPrice, userEmail);
+	    double totalPrice = calculateTotalPrice(orderItems, deliveryFee);
+
+	    Order order = saveOrder(orderRequest, orderItems, totalPrice, deliveryFee, userEmail);
 	    
 	    boolean paymentSuccessful = processPayment(order, orderRequest);
 	    
 	    if (paymentSuccessful) {
-	        initiateDelivery(order, userEmail);
+	        orderEventPublisher.publishPaid(order);
+	        initiateDelivery(order, orderRequest.getDeliveryLocation(), userEmail);
 	    }
 
 	    log.info("Order processed and delivered successfully.");
@@ -196,17 +231,60 @@ public class OrderService implements IOrderService{
 	    }).toList();
 	}
 	
-	private double calculateTotalPrice(List<OrderItem> orderItems) {
+	private void validateDeliveryLocation(OrderRequest orderRequest) {
+		DeliveryLocation location = orderRequest.getDeliveryLocation();
+		if (location == null) {
+			return;
+		}
+		
+		ZoneEligibilityResponse eligibility = deliveryZoneService
+				.checkEligibility(orderRequest.getRestaurantId(), location.getLatitude(), location.getLongitude())
+				.getBody();
+		
+		// an unreachable Delivery service must not block ordering; the zone check is skipped then
+		if (eligibility == null) {
+			log.warn("Delivery zone of restaurant {} could not be checked, accepting the order.", orderRequest.getRestaurantId());
+			return;
+		}
+		if (!eligibility.isEligible()) {
+			log.error("Restaurant with an ID of {} does not deliver to the given location.", orderRequest.getRestaurantId());
+			throw new OutsideDeliveryZoneException("Restaurant with ID " + orderRequest.getRestaurantId() + " does not deliver to the given location.");
+		}
+	}
+	
+	private double quoteDeliveryFee(OrderRequest orderRequest) {
+		DeliveryLocation location = orderRequest.getDeliveryLocation();
+		FeeQuoteRequest feeQuoteRequest = FeeQuoteRequest.builder()
+				.restaurantId(orderRequest.getRestaurantId())
+				.latitude(location != null ? location.getLatitude() : null)
+				.longitude(location != null ? location.getLongitude() : null)
+				.build();
+		
+		ResponseEntity<FeeQuoteResponse> response = deliveryFeeService.quoteFee(feeQuoteRequest);
+		FeeQuoteResponse feeQuote = response != null ? response.getBody() : null;
+		if (feeQuote == null) {
+			log.warn("Delivery fee could not be quoted, charging the fallback fee of {}.", fallbackDeliveryFee);
+			return fallbackDeliveryFee;
+		}
+		if (feeQuote.getSurgeMultiplier() > 1.0) {
+			log.info("Surge pricing x{} applies to the delivery fee.", feeQuote.getSurgeMultiplier());
+		}
+		
+		return feeQuote.getDeliveryFee();
+	}
+	
+	private double calculateTotalPrice(List<OrderItem> orderItems, double deliveryFee) {
 	    return orderItems.stream()
 	            .mapToDouble(item -> item.getPrice() * item.getQuantity())
-	            .sum();
+	            .sum() + deliveryFee;
 	}
 	
-	private Order saveOrder(OrderRequest orderRequest, List<OrderItem> orderItems, double totalPrice, String userEmail) {
+	private Order saveOrder(OrderRequest orderRequest, List<OrderItem> orderItems, double totalPrice, double deliveryFee, String userEmail) {
 	    Order order = new Order();
 	    order.setUserId(userEmail);
 	    order.setRestaurantId(orderRequest.getRestaurantId());
 	    order.setTotalPrice(totalPrice);
+	    order.setDeliveryFee(deliveryFee);
 	    order.setStatus(OrderStatus.PLACED);
 	    order.setTimestamp(LocalDateTime.now());
 	    order.setOrderItems(orderItems);
@@ -238,13 +316,18 @@ public class OrderService implements IOrderService{
 	    }
 	}
 	
-	private void initiateDelivery(Order order, String userEmail) {
+	private void initiateDelivery(Order order, DeliveryLocation deliveryLocation, String userEmail) {
 		log.info("Initiating delivery process...");
 		
+		RestaurantResponse restaurant = fetchRestaurantLocation(order.getRestaurantId());
 		DeliveryRequest deliveryRequest = DeliveryRequest.builder()
 		        .orderId(order.getOrderId())
 		        .userId(userEmail)
 		        .restaurantId(order.getRestaurantId())
+		        .pickupLatitude(restaurant != null ? restaurant.getLatitude() : null)
+		        .pickupLongitude(restaurant != null ? restaurant.getLongitude() : null)
+		        .dropoffLatitude(deliveryLocation != null ? deliveryLocation.getLatitude() : null)
+		        .dropoffLongitude(deliveryLocation != null ? deliveryLocation.getLongitude() : null)
 		        .build();
 
 	    try {
@@ -255,6 +338,17 @@ public class OrderService implements IOrderService{
 	    }
 	}
 	
+	// an unreachable Restaurant service must not block the delivery; it is then initiated without a courier
+	private RestaurantResponse fetchRestaurantLocation(UUID restaurantId) {
+		ResponseEntity<RestaurantResponse> response = restaurantService.getRestaurantById(restaurantId);
+		RestaurantResponse restaurant = response != null && response.getStatusCode().is2xxSuccessful() ? response.getBody() : null;
+		if (restaurant == null || restaurant.getLatitude() == null || restaurant.getLongitude() == null) {
+			log.warn("Location of restaurant {} is unknown, the delivery is initiated without a courier.", restaurantId);
+			return null;
+		}
+		return restaurant;
+	}
+	
 	private void updateOrderStatus(UUID orderId, OrderStatus newStatus) {    
 	    log.info("Updating order status for an order with an ID of {}", orderId);
 
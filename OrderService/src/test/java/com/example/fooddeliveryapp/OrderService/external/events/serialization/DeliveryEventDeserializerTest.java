@@ -0,0 +1,44 @@
+package com.example.fooddeliveryapp.OrderService.external.events.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import com.example.fooddeliveryapp.OrderService.external.constants.DeliveryStatus;
+import com.example.fooddeliveryapp.OrderService.external.events.DeliveryEvent;
+
+public class DeliveryEventDeserializerTest {
+
+    private final DeliveryEventDeserializer deserializer = new DeliveryEventDeserializer();
+
+    @DisplayName("Deserialize Binary Delivery Event - Success Scenario")
+    @Test
+    public void test_When_Binary_Event_Deserialized_Success() {
+        DeliveryEvent event = new DeliveryEvent(UUID.randomUUID(), Instant.now().truncatedTo(ChronoUnit.MILLIS),
+                UUID.randomUUID(), DeliveryStatus.DELIVERED);
+
+        DeliveryEvent decoded = deserializer.deserialize("delivery-topic", DeliveryEventCodec.encode(event));
+
+        assertEquals(event, decoded);
+    }
+
+    @DisplayName("Deserialize Legacy JSON Delivery Event - Success Scenario")
+    @Test
+    public void test_When_Legacy_Json_Event_Deserialized_Success() {
+        UUID orderId = UUID.randomUUID();
+        String legacy = "{\"orderId\":\"" + orderId + "\",\"status\":\"DELIVERED\"}";
+
+        DeliveryEvent decoded = deserializer.deserialize("delivery-topic", legacy.getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(orderId, decoded.getOrderId());
+        assertEquals(DeliveryStatus.DELIVERED, decoded.getStatus());
+        assertNull(decoded.getEventTime());
+    }
+}
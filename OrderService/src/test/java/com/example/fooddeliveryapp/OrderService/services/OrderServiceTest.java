@@ -1,8 +1,9 @@
 package com.example.fooddeliveryapp.OrderService.services;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -10,21 +11,25 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.runner.RunWith;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
 import com.example.fooddeliveryapp.OrderService.constants.OrderStatus;
 import com.example.fooddeliveryapp.OrderService.entities.Order;
 import com.example.fooddeliveryapp.OrderService.entities.OrderItem;
+import com.example.fooddeliveryapp.OrderService.events.OrderEventPublisher;
 import com.example.fooddeliveryapp.OrderService.exceptions.EmptyOrderException;
 import com.example.fooddeliveryapp.OrderService.exceptions.OrderNotFoundException;
+import com.example.fooddeliveryapp.OrderService.external.clients.IDeliveryFeeService;
 import com.example.fooddeliveryapp.OrderService.external.clients.IDeliveryService;
+import com.example.fooddeliveryapp.OrderService.external.clients.IDeliveryZoneService;
 import com.example.fooddeliveryapp.OrderService.external.clients.IPaymentService;
 import com.example.fooddeliveryapp.OrderService.external.clients.IRestaurantService;
 import com.example.fooddeliveryapp.OrderService.external.constants.DeliveryStatus;
@@ -32,17 +37,23 @@ import com.example.fooddeliveryapp.OrderService.external.constants.PaymentMode;
 import com.example.fooddeliveryapp.OrderService.external.constants.PaymentStatus;
 import com.example.fooddeliveryapp.OrderService.external.exceptions.DishNotAvailableException;
 import com.example.fooddeliveryapp.OrderService.external.exceptions.DishNotFoundException;
+import com.example.fooddeliveryapp.OrderService.external.exceptions.OutsideDeliveryZoneException;
 import com.example.fooddeliveryapp.OrderService.external.models.DeliveryRequest;
 import com.example.fooddeliveryapp.OrderService.external.models.DeliveryResponse;
 import com.example.fooddeliveryapp.OrderService.external.models.DishResponse;
+import com.example.fooddeliveryapp.OrderService.external.models.FeeQuoteRequest;
+import com.example.fooddeliveryapp.OrderService.external.models.FeeQuoteResponse;
 import com.example.fooddeliveryapp.OrderService.external.models.PaymentRequest;
 import com.example.fooddeliveryapp.OrderService.external.models.PaymentResponse;
+import com.example.fooddeliveryapp.OrderService.external.models.RestaurantResponse;
+import com.example.fooddeliveryapp.OrderService.external.models.ZoneEligibilityResponse;
+import com.example.fooddeliveryapp.OrderService.models.DeliveryLocation;
 import com.example.fooddeliveryapp.OrderService.models.OrderItemRequest;
 import com.example.fooddeliveryapp.OrderService.models.OrderRequest;
 import com.example.fooddeliveryapp.OrderService.models.OrderResponse;
 import com.example.fooddeliveryapp.OrderService.repositories.OrderRepository;
 
-@RunWith(MockitoJUnitRunner.class)
+@ExtendWith(MockitoExtension.class)
 public class OrderServiceTest {
 	@Mock
 	private OrderRepository orderRepository;
@@ -56,6 +67,15 @@ public class OrderServiceTest {
 	@Mock
 	private IDeliveryService deliveryService;
 	
+	@Mock
+	private IDeliveryZoneService deliveryZoneService;
+	
+	@Mock
+	private IDeliveryFeeService deliveryFeeService;
+	
+	@Mock
+	private OrderEventPublisher orderEventPublisher;
+	
 	@InjectMocks
 	IOrderService orderService = new OrderService();
 	
@@ -129,9 +149,15 @@ public class OrderServiceTest {
 
         UUID orderId = UUID.randomUUID();
 
-        // Mocking orderRepository.save to return an order with a valid orderId
+        // Mocking orderRepository.save to assign the orderId to the saved order, as JPA does
         Mockito.when(orderRepository.save(Mockito.any(Order.class)))
-               .thenReturn(new Order(orderId, "user@example.com", orderRequest.getRestaurantId(), 300.0, OrderStatus.PLACED, LocalDateTime.now(), orderItems));
+               .thenAnswer(invocation -> {
+                   Order saved = invocation.getArgument(0);
+                   saved.setOrderId(orderId);
+                   return saved;
+               });
+        Mockito.when(orderRepository.findById(orderId))
+               .thenReturn(Optional.of(new Order(orderId, "user@example.com", orderRequest.getRestaurantId(), 300.0, OrderStatus.PLACED, LocalDateTime.now(), orderItems)));
 
         // Mocking the external service calls
         Mockito.when(restaurantService.getDishById(Mockito.any(UUID.class)))
@@ -150,6 +176,9 @@ public class OrderServiceTest {
         Mockito.verify(restaurantService, Mockito.times(1)).getDishById(Mockito.any(UUID.class)); 
         Mockito.verify(paymentService, Mockito.times(1)).pay(Mockito.any(PaymentRequest.class)); 
         Mockito.verify(deliveryService, Mockito.times(1)).initiateDelivery(Mockito.any(DeliveryRequest.class));
+        Mockito.verify(orderEventPublisher, Mockito.times(1)).publishPaid(Mockito.any(Order.class));
+        Mockito.verify(orderRepository, Mockito.times(1)).updateOrderStatus(orderId, OrderStatus.PAYED);
+        Mockito.verify(orderRepository, Mockito.times(1)).updateOrderStatus(orderId, OrderStatus.DELIVERING);
 
         // Asserting that the returned order ID is correct
         assertEquals(orderId, resultOrderId);
@@ -205,6 +234,108 @@ public class OrderServiceTest {
         assertEquals("Dish with ID " + orderRequest.getItems().get(0).getDishId() + " is not available.", exception.getMessage());
     }
 
+    @DisplayName("Process Order - Failure Scenario - Outside Delivery Zone")
+    @Test
+    public void test_When_Process_Order_Outside_Delivery_Zone_Failure() {
+        // Creating order request for an address the restaurant does not deliver to
+        OrderRequest orderRequest = new OrderRequest(UUID.randomUUID(), PaymentMode.CARD, List.of(new OrderItemRequest(UUID.randomUUID(), 1)),
+        		new DeliveryLocation(44.91, 20.45));
+        
+        Mockito.when(restaurantService.getDishById(Mockito.any(UUID.class)))
+               .thenReturn(ResponseEntity.ok(new DishResponse(UUID.randomUUID(), "Dish Name", 150.0, "Description", true)));
+        Mockito.when(deliveryZoneService.checkEligibility(orderRequest.getRestaurantId(), 44.91, 20.45))
+               .thenReturn(ResponseEntity.ok(new ZoneEligibilityResponse(orderRequest.getRestaurantId(), false, null, null)));
+        
+        // Asserting that an OutsideDeliveryZoneException is thrown
+        OutsideDeliveryZoneException exception = assertThrows(OutsideDeliveryZoneException.class, 
+                () -> orderService.processOrder(orderRequest, "user@example.com"));
+        
+        // Asserting the exception message
+        assertEquals("Restaurant with ID " + orderRequest.getRestaurantId() + " does not deliver to the given location.", exception.getMessage());
+        
+        // Asserting that the order was neither saved nor paid
+        Mockito.verify(orderRepository, Mockito.never()).save(Mockito.any(Order.class));
+        Mockito.verify(paymentService, Mockito.never()).pay(Mockito.any(PaymentRequest.class));
+    }
+
+    @DisplayName("Process Order - Delivery Fee Added To Total")
+    @Test
+    public void test_When_Process_Order_Delivery_Fee_Charged() {
+        // Creating order request for two dishes of 150.0 delivered during a surge
+        OrderRequest orderRequest = new OrderRequest(UUID.randomUUID(), PaymentMode.CARD, List.of(new OrderItemRequest(UUID.randomUUID(), 2)),
+        		new DeliveryLocation(44.81, 20.45));
+        
+        Mockito.when(restaurantService.getDishById(Mockito.any(UUID.class)))
+               .thenReturn(ResponseEntity.ok(new DishResponse(UUID.randomUUID(), "Dish Name", 150.0, "Description", true)));
+        Mockito.when(deliveryZoneService.checkEligibility(orderRequest.getRestaurantId(), 44.81, 20.45))
+               .thenReturn(ResponseEntity.ok(new ZoneEligibilityResponse(orderRequest.getRestaurantId(), true, UUID.randomUUID(), "Center")));
+        Mockito.when(deliveryFeeService.quoteFee(Mockito.any(FeeQuoteRequest.class)))
+               .thenReturn(ResponseEntity.ok(new FeeQuoteResponse(2.5, 1.5, 3.75)));
+        Mockito.when(orderRepository.findById(Mockito.any()))
+               .thenReturn(Optional.of(new Order()));
+        
+        orderService.processOrder(orderRequest, "user@example.com");
+        
+        // Asserting that the fee was stored with the order and included in the payment
+        ArgumentCaptor<Order> savedOrder = ArgumentCaptor.forClass(Order.class);
+        Mockito.verify(orderRepository).save(savedOrder.capture());
+        assertEquals(3.75, savedOrder.getValue().getDeliveryFee(), 0.0);
+        assertEquals(303.75, savedOrder.getValue().getTotalPrice(), 0.0);
+        
+        ArgumentCaptor<PaymentRequest> paymentRequest = ArgumentCaptor.forClass(PaymentRequest.class);
+        Mockito.verify(paymentService).pay(paymentRequest.capture());
+        assertEquals(303.75, paymentRequest.getValue().getAmount(), 0.0);
+    }
+
+    @DisplayName("Process Order - Delivery Initiated With Pickup And Drop-off Locations")
+    @Test
+    public void test_When_Process_Order_Delivery_Request_Carries_Locations() {
+        // Creating order request for an address the restaurant delivers to
+        OrderRequest orderRequest = new OrderRequest(UUID.randomUUID(), PaymentMode.CARD, List.of(new OrderItemRequest(UUID.randomUUID(), 1)),
+        		new DeliveryLocation(44.82, 20.47));
+        
+        Mockito.when(restaurantService.getDishById(Mockito.any(UUID.class)))
+               .thenReturn(ResponseEntity.ok(new DishResponse(UUID.randomUUID(), "Dish Name", 150.0, "Description", true)));
+        Mockito.when(deliveryZoneService.checkEligibility(orderRequest.getRestaurantId(), 44.82, 20.47))
+               .thenReturn(ResponseEntity.ok(new ZoneEligibilityResponse(orderRequest.getRestaurantId(), true, UUID.randomUUID(), "Center")));
+        Mockito.when(restaurantService.getRestaurantById(orderRequest.getRestaurantId()))
+               .thenReturn(ResponseEntity.ok(new RestaurantResponse(orderRequest.getRestaurantId(), "Restaurant A", "123 Main Street",
+            		   "123-456-7890", 44.8125, 20.4612)));
+        Mockito.when(orderRepository.findById(Mockito.any()))
+               .thenReturn(Optional.of(new Order()));
+        
+        orderService.processOrder(orderRequest, "user@example.com");
+        
+        // Asserting that the Delivery service gets what it needs to assign a courier and batch the delivery
+        ArgumentCaptor<DeliveryRequest> deliveryRequest = ArgumentCaptor.forClass(DeliveryRequest.class);
+        Mockito.verify(deliveryService).initiateDelivery(deliveryRequest.capture());
+        assertEquals(44.8125, deliveryRequest.getValue().getPickupLatitude(), 0.0);
+        assertEquals(20.4612, deliveryRequest.getValue().getPickupLongitude(), 0.0);
+        assertEquals(44.82, deliveryRequest.getValue().getDropoffLatitude(), 0.0);
+        assertEquals(20.47, deliveryRequest.getValue().getDropoffLongitude(), 0.0);
+    }
+
+    @DisplayName("Process Order - Delivery Initiated Without Pickup When Restaurant Unreachable")
+    @Test
+    public void test_When_Process_Order_Restaurant_Unreachable_Delivery_Still_Initiated() {
+        OrderRequest orderRequest = new OrderRequest(UUID.randomUUID(), PaymentMode.CARD, List.of(new OrderItemRequest(UUID.randomUUID(), 1)));
+        
+        Mockito.when(restaurantService.getDishById(Mockito.any(UUID.class)))
+               .thenReturn(ResponseEntity.ok(new DishResponse(UUID.randomUUID(), "Dish Name", 150.0, "Description", true)));
+        Mockito.when(restaurantService.getRestaurantById(orderRequest.getRestaurantId()))
+               .thenReturn(ResponseEntity.status(503).build());
+        Mockito.when(orderRepository.findById(Mockito.any()))
+               .thenReturn(Optional.of(new Order()));
+        
+        orderService.processOrder(orderRequest, "user@example.com");
+        
+        ArgumentCaptor<DeliveryRequest> deliveryRequest = ArgumentCaptor.forClass(DeliveryRequest.class);
+        Mockito.verify(deliveryService).initiateDelivery(deliveryRequest.capture());
+        assertEquals(orderRequest.getRestaurantId(), deliveryRequest.getValue().getRestaurantId());
+        assertNull(deliveryRequest.getValue().getPickupLatitude());
+        assertNull(deliveryRequest.getValue().getDropoffLatitude());
+    }
+
 	private Order getMockOrder() {
 		List<OrderItem> orderItems = new ArrayList<>();
 		orderItems.add(getMockOrderItem("04E22B5C-6BCC-4175-B6B7-5113A0A5D218", 2, 150.0));
@@ -2,8 +2,10 @@ package com.fooddeliveryapp.RestaurantService;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // Refreshes the nearby search index.
 public class RestaurantServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,61 @@
+package com.fooddeliveryapp.RestaurantService.caching;
+
+import java.util.Collections;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Publishes the Hibernate statistics, including hits, misses and puts of every second-level cache region,
+ * as metrics, and adds the hit ratio of every catalog region as hibernate.second.level.cache.hit.ratio.
+ */
+@Component
+public class CacheRegionMetrics implements MeterBinder {
+
+	private final SessionFactory sessionFactory;
+
+	@Autowired
+	public CacheRegionMetrics(EntityManagerFactory entityManagerFactory) {
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		new HibernateMetrics(sessionFactory, "restaurant-service", Collections.emptyList()).bindTo(registry);
+
+		for (String region : CacheRegions.ALL) {
+			Gauge.builder("hibernate.second.level.cache.hit.ratio", this, metrics -> metrics.hitRatio(region))
+					.tag("region", region)
+					.register(registry);
+		}
+	}
+
+	/**
+	 * @param region The cache region.
+	 * @return The share of lookups in the region that were hits since startup, or 0 without lookups.
+	 */
+	public double hitRatio(String region) {
+		CacheRegionStatistics statistics = regionStatistics(region);
+		if (statistics == null) {
+			return 0;
+		}
+		long lookups = statistics.getHitCount() + statistics.getMissCount();
+		return lookups == 0 ? 0 : (double) statistics.getHitCount() / lookups;
+	}
+
+	/**
+	 * @param region The cache region.
+	 * @return The statistics of the region, or null if the region is not in use.
+	 */
+	public CacheRegionStatistics regionStatistics(String region) {
+		return sessionFactory.getStatistics().getCacheRegionStatistics(region);
+	}
+}
@@ -0,0 +1,22 @@
+package com.fooddeliveryapp.RestaurantService.caching;
+
+import java.util.List;
+
+/**
+ * Names of the Hibernate second-level cache regions of the catalog.
+ * Each region is configured with its own size and time-to-live in ehcache.xml.
+ */
+public final class CacheRegions {
+
+	public static final String RESTAURANT = "restaurant";
+	public static final String DISH = "dish";
+	// Hibernate's own regions: the default query results, and the last change of every table,
+	// which invalidates cached query results whenever one of their tables is written
+	public static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+	public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+	public static final List<String> ALL = List.of(RESTAURANT, DISH, DEFAULT_QUERY_RESULTS, UPDATE_TIMESTAMPS);
+
+	private CacheRegions() {
+	}
+}
@@ -0,0 +1,47 @@
+package com.fooddeliveryapp.RestaurantService.caching;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the hits, misses and hit ratio of every second-level cache region.
+ */
+@Component
+@Endpoint(id = "cacheregions")
+public class CacheRegionsEndpoint {
+
+	/**
+	 * Usage of one cache region since startup.
+	 */
+	public record RegionUsage(String region, long hits, long misses, long puts, long elementsInMemory, double hitRatio) {
+	}
+
+	private final CacheRegionMetrics cacheRegionMetrics;
+
+	@Autowired
+	public CacheRegionsEndpoint(CacheRegionMetrics cacheRegionMetrics) {
+		this.cacheRegionMetrics = cacheRegionMetrics;
+	}
+
+	/**
+	 * @return The usage of every region that is in use.
+	 */
+	@ReadOperation
+	public List<RegionUsage> regions() {
+		List<RegionUsage> regions = new ArrayList<>();
+		for (String region : CacheRegions.ALL) {
+			CacheRegionStatistics statistics = cacheRegionMetrics.regionStatistics(region);
+			if (statistics != null) {
+				regions.add(new RegionUsage(region, statistics.getHitCount(), statistics.getMissCount(),
+						statistics.getPutCount(), statistics.getElementCountInMemory(), cacheRegionMetrics.hitRatio(region)));
+			}
+		}
+		return regions;
+	}
+}
@@ -0,0 +1,284 @@
+package com.fooddeliveryapp.RestaurantService.caching;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.RestaurantService.entities.Dish;
+import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
+import com.fooddeliveryapp.RestaurantService.repositories.CatalogVersionRepository;
+import com.fooddeliveryapp.RestaurantService.repositories.DishRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Versions of the parts of the catalog that are served with ETags: the restaurant list, every restaurant,
+ * every menu and every dish. Services bump the versions of the parts they write, in the same transaction.
+ *
+ * Versions are kept in the database, so every instance hands out the same ETag for the same content.
+ * An instance that sees a version rise past the one it saw before evicts the second-level cache entries of that
+ * part only, which may still hold the content from before a write made through another instance; the content served
+ * with an ETag is therefore never older than the version in it. The cached dish lists are keyed by the menu version
+ * instead, see {@link MenuCache}. Versions this instance has not seen yet, or no longer remembers, evict nothing:
+ * their cached copies are bounded by the region's time-to-live, as before.
+ *
+ * A version read from the database is reused for a short time-to-live, so a burst of requests for the same part
+ * costs one query. A write made through any instance therefore shows in the ETags of this one within that time.
+ */
+@Component
+public class CatalogVersions {
+
+	// bump when the JSON of the versioned endpoints changes, so clients drop copies in the old format
+	static final int FORMAT = 4;
+
+	private static final String RESTAURANTS = "restaurants";
+	private static final String RESTAURANT = "restaurant:";
+	private static final String MENU = "menu:";
+	private static final String DISH = "dish:";
+	// parts whose last seen version is remembered; beyond that the least recently read ones are forgotten
+	private static final int MAX_SEEN = 100_000;
+
+	private final CatalogVersionRepository catalogVersionRepository;
+	private final DishRepository dishRepository;
+	private final Cache cache;
+	private final MeterRegistry meterRegistry;
+	private final long versionTtlMillis;
+	// the newest version this instance has seen of the recently read parts, and when it was read
+	private final Map<String, SeenVersion> seen = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, SeenVersion> eldest) {
+			return size() > MAX_SEEN;
+		}
+	});
+
+	@Autowired
+	public CatalogVersions(CatalogVersionRepository catalogVersionRepository, DishRepository dishRepository,
+			EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry,
+			@Value("${restaurant.catalog.version-ttl-ms:1000}") long versionTtlMillis) {
+		this.catalogVersionRepository = catalogVersionRepository;
+		this.dishRepository = dishRepository;
+		this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+		this.meterRegistry = meterRegistry;
+		this.versionTtlMillis = versionTtlMillis;
+	}
+
+	/**
+	 * @return The ETag of the restaurant list.
+	 */
+	public String restaurantsETag() {
+		// the pages are read from the database, not from cached restaurants
+		return eTag(RESTAURANTS, () -> { });
+	}
+
+	/**
+	 * @return The version of the restaurant list, which changes whenever any restaurant is added, updated or deleted.
+	 */
+	public long restaurantsVersion() {
+		return catalogVersionRepository.findVersion(RESTAURANTS).orElse(0L);
+	}
+
+	/**
+	 * @param restaurantId - The ID of the restaurant.
+	 * @return The ETag of the restaurant.
+	 */
+	public String restaurantETag(UUID restaurantId) {
+		return eTag(RESTAURANT + restaurantId, () -> cache.evictEntityData(Restaurant.class, restaurantId));
+	}
+
+	/**
+	 * Reads the version of a restaurant's menu, which changes whenever a dish is added to it or updated.
+	 * The menu is served from the cache entries of this version, so callers read it once and build the ETag
+	 * with {@link #eTag(long)}.
+	 * 
+	 * @param restaurantId - The ID of the restaurant.
+	 * @return The version of the restaurant's menu.
+	 */
+	public long menuVersion(UUID restaurantId) {
+		return version(MENU + restaurantId, () -> {
+			for (UUID dishId : dishRepository.findIdsByRestaurantId(restaurantId)) {
+				cache.evictEntityData(Dish.class, dishId);
+			}
+		});
+	}
+
+	/**
+	 * @param dishId - The ID of the dish.
+	 * @return The ETag of the dish.
+	 */
+	public String dishETag(UUID dishId) {
+		return eTag(DISH + dishId, () -> cache.evictEntityData(Dish.class, dishId));
+	}
+
+	/**
+	 * Bumps the versions of a restaurant and of the restaurant list.
+	 * 
+	 * @param restaurantId - The ID of the added, updated or deleted restaurant.
+	 */
+	public void restaurantChanged(UUID restaurantId) {
+		bump(RESTAURANTS);
+		bump(RESTAURANT + restaurantId);
+		bump(MENU + restaurantId);
+	}
+
+	/**
+	 * Bumps the versions of a dish and of the menu it is on.
+	 * 
+	 * @param restaurantId - The ID of the restaurant whose menu changed.
+	 * @param dishId - The ID of the added or updated dish.
+	 */
+	public void dishChanged(UUID restaurantId, UUID dishId) {
+		bump(MENU + restaurantId);
+		bump(DISH + dishId);
+	}
+
+	/**
+	 * Bumps the versions of many dishes of one menu and of the menu itself, with a fixed number of statements
+	 * however many dishes changed, so a bulk update reaches ETag clients and the caches of other instances
+	 * as a single change of the menu.
+	 * 
+	 * @param restaurantId - The ID of the restaurant whose menu changed.
+	 * @param dishIds - The IDs of the updated dishes, without duplicates.
+	 */
+	public void dishesChanged(UUID restaurantId, Collection<UUID> dishIds) {
+		bump(MENU + restaurantId);
+		bumpAll(DISH, dishIds);
+	}
+
+	/**
+	 * Bumps the versions of many menus with a fixed number of statements, e.g. after dishes were added to them in bulk.
+	 * 
+	 * @param restaurantIds - The IDs of the restaurants whose menus changed, without duplicates.
+	 */
+	public void menusChanged(Collection<UUID> restaurantIds) {
+		bumpAll(MENU, restaurantIds);
+	}
+
+	/**
+	 * Checks whether a client's copy is current and counts the outcome per endpoint, so the share of requests
+	 * answered with 304 Not Modified shows in the restaurant.catalog.conditional.requests metric.
+	 * 
+	 * @param endpoint - The name of the endpoint.
+	 * @param ifNoneMatch - The If-None-Match header, may be null.
+	 * @param eTag - The current ETag.
+	 * @return true if the request can be answered with 304 Not Modified.
+	 */
+	public boolean isCurrent(String endpoint, String ifNoneMatch, String eTag) {
+		boolean current = matches(ifNoneMatch, eTag);
+		meterRegistry.counter("restaurant.catalog.conditional.requests", "endpoint", endpoint,
+				"result", current ? "not_modified" : ifNoneMatch == null ? "unconditional" : "modified").increment();
+		return current;
+	}
+
+	/**
+	 * Checks an If-None-Match header against the current ETag, with the weak comparison HTTP prescribes for it.
+	 * 
+	 * @param ifNoneMatch - The If-None-Match header, may be null.
+	 * @param eTag - The current ETag.
+	 * @return true if the client's copy is current.
+	 */
+	public static boolean matches(String ifNoneMatch, String eTag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			candidate = candidate.trim();
+			if (candidate.equals("*")) {
+				return true;
+			}
+			if (candidate.startsWith("W/")) {
+				candidate = candidate.substring(2);
+			}
+			if (candidate.equals(eTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Extends an ETag with a tag of content that is not versioned in the database, such as the popularity ranks on a
+	 * menu, so the ETag changes with that content as well.
+	 * 
+	 * @param eTag - The ETag of the versioned content.
+	 * @param contentTag - The tag of the other content; must be the same on every instance for the same content.
+	 * @return The combined ETag.
+	 */
+	public static String withContent(String eTag, String contentTag) {
+		return eTag.substring(0, eTag.length() - 1) + "." + contentTag + "\"";
+	}
+
+	/**
+	 * @param version - The version of a part of the catalog.
+	 * @return The ETag of that version.
+	 */
+	public static String eTag(long version) {
+		return "\"" + FORMAT + "." + version + "\"";
+	}
+
+	private String eTag(String versionKey, Runnable evictStale) {
+		return eTag(version(versionKey, evictStale));
+	}
+
+	private long version(String versionKey, Runnable evictStale) {
+		long now = System.currentTimeMillis();
+		SeenVersion previous = seen.get(versionKey);
+		if (previous != null && now - previous.readAtMillis() < versionTtlMillis) {
+			return previous.version();
+		}
+
+		long version = catalogVersionRepository.findVersion(versionKey).orElse(0L);
+		seen.put(versionKey, new SeenVersion(version, now));
+		if (previous != null && previous.version() < version) {
+			evictStale.run();
+		}
+		return version;
+	}
+
+	private void bump(String versionKey) {
+		if (catalogVersionRepository.increment(versionKey) == 1) {
+			return;
+		}
+		try {
+			catalogVersionRepository.createIfMissing(versionKey);
+		} catch (DataIntegrityViolationException e) {
+			// another writer created the version at the same time
+		}
+		catalogVersionRepository.increment(versionKey);
+	}
+
+	private void bumpAll(String prefix, Collection<UUID> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		// the keys are UUIDs with a prefix, so they need no escaping in JSON
+		String versionKeys = ids.stream()
+				.map(id -> "\"" + prefix + id + "\"")
+				.collect(Collectors.joining(",", "[", "]"));
+		if (catalogVersionRepository.incrementAll(versionKeys) == ids.size()) {
+			return;
+		}
+		try {
+			catalogVersionRepository.createAllIfMissing(versionKeys);
+		} catch (DataIntegrityViolationException e) {
+			// another writer created some of the versions at the same time; the others are still missing
+			catalogVersionRepository.createAllIfMissing(versionKeys);
+		}
+		// versions only have to change, so incrementing the existing ones twice does no harm
+		catalogVersionRepository.incrementAll(versionKeys);
+	}
+
+	private record SeenVersion(long version, long readAtMillis) {
+	}
+}
@@ -0,0 +1,71 @@
+package com.fooddeliveryapp.RestaurantService.caching;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.RestaurantService.models.DishResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The dish lists of the most recently read menus, keyed by the restaurant and the version of its menu.
+ *
+ * Every write to a menu bumps its version, through whichever instance it is made, so a list cached under the version
+ * a request read is never older than that version and nothing has to be evicted: the lists of old versions are no
+ * longer asked for and make way for newer ones. Hits and misses are counted in restaurant.catalog.menu.cache.
+ */
+@Component
+public class MenuCache {
+
+	private final Map<MenuKey, List<DishResponse>> menus;
+	private final Counter hits;
+	private final Counter misses;
+
+	@Autowired
+	public MenuCache(@Value("${restaurant.catalog.menu-cache-size:10000}") int maxMenus, MeterRegistry meterRegistry) {
+		this.menus = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<MenuKey, List<DishResponse>> eldest) {
+				return size() > maxMenus;
+			}
+		});
+		this.hits = meterRegistry.counter("restaurant.catalog.menu.cache", "result", "hit");
+		this.misses = meterRegistry.counter("restaurant.catalog.menu.cache", "result", "miss");
+	}
+
+	/**
+	 * Returns the cached dish list of a menu version, loading it on a miss.
+	 * The returned list is shared between requests, so neither it nor its dishes may be modified.
+	 * 
+	 * @param restaurantId - The ID of the restaurant.
+	 * @param menuVersion - The version of the restaurant's menu the request read.
+	 * @param loader - Loads the dish list from the database.
+	 * @return The dish list of the menu.
+	 */
+	public List<DishResponse> get(UUID restaurantId, long menuVersion, Supplier<List<DishResponse>> loader) {
+		MenuKey key = new MenuKey(restaurantId, menuVersion);
+		List<DishResponse> dishes = menus.get(key);
+		if (dishes != null) {
+			hits.increment();
+			return dishes;
+		}
+
+		misses.increment();
+		// loaded outside the lock; two requests that miss together both load, and the later one is kept
+		dishes = List.copyOf(loader.get());
+		menus.put(key, dishes);
+		return dishes;
+	}
+
+	private record MenuKey(UUID restaurantId, long menuVersion) {
+	}
+}
@@ -0,0 +1,71 @@
+package com.fooddeliveryapp.RestaurantService.controllers;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fooddeliveryapp.RestaurantService.models.CatalogSearchHit;
+import com.fooddeliveryapp.RestaurantService.models.SearchSuggestion;
+import com.fooddeliveryapp.RestaurantService.services.ICatalogSearchService;
+
+@RestController
+@RequestMapping("/restaurants/search")
+public class CatalogSearchController {
+
+	private final ICatalogSearchService catalogSearchService;
+
+	@Autowired
+	public CatalogSearchController(ICatalogSearchService catalogSearchService) {
+		this.catalogSearchService = catalogSearchService;
+	}
+
+	/**
+	 * Searches dishes and restaurants across all menus, e.g. for "spicy ramen".
+	 * Dish names and descriptions and restaurant names are searched; the most relevant hits come first.
+	 * Users who are either Admin or Customer can search the catalog
+	 *
+	 * @param query - The words to search for.
+	 * @param availableOnly - Whether dishes that cannot be ordered are left out (default true).
+	 * @param limit - The maximum number of hits, from 1 to 50 (default 20).
+	 * @return A response containing the hits (CatalogSearchHit) and an OK status (200).
+	 */
+	@PreAuthorize("hasAuthority('Admin') || hasAuthority('Customer')")
+	@GetMapping
+	public ResponseEntity<List<CatalogSearchHit>> search(@RequestParam("q") @NotBlank @Size(max = 200) String query,
+			@RequestParam(defaultValue = "true") boolean availableOnly,
+			@RequestParam(defaultValue = "20") @Min(1) @Max(50) int limit) {
+		List<CatalogSearchHit> hits = catalogSearchService.search(query, availableOnly, limit);
+
+		return new ResponseEntity<>(hits, HttpStatus.OK);
+	}
+
+	/**
+	 * Suggests dish and restaurant names for what has been typed into the search box, e.g. "Tonkotsu Ramen" for "tonk".
+	 * Typos are allowed: one in 3 to 5 characters, two in longer prefixes. Names are answered from memory.
+	 * Users who are either Admin or Customer can get suggestions
+	 *
+	 * @param prefix - What has been typed so far.
+	 * @param limit - The maximum number of names, from 1 to 10 (default 5).
+	 * @return A response containing the names (SearchSuggestion) and an OK status (200).
+	 */
+	@PreAuthorize("hasAuthority('Admin') || hasAuthority('Customer')")
+	@GetMapping("/suggestions")
+	public ResponseEntity<List<SearchSuggestion>> suggest(@RequestParam @NotBlank @Size(max = 200) String prefix,
+			@RequestParam(defaultValue = "5") @Min(1) @Max(10) int limit) {
+		List<SearchSuggestion> suggestions = catalogSearchService.suggest(prefix, limit);
+
+		return new ResponseEntity<>(suggestions, HttpStatus.OK);
+	}
+}
@@ -0,0 +1,69 @@
+package com.fooddeliveryapp.RestaurantService.controllers;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fooddeliveryapp.RestaurantService.imports.DishImportFormat;
+import com.fooddeliveryapp.RestaurantService.models.DishImportReport;
+import com.fooddeliveryapp.RestaurantService.services.IDishImportService;
+
+@RestController
+@RequestMapping("/restaurants/dishes/imports")
+public class DishImportController {
+
+	private final IDishImportService dishImportService;
+
+	@Autowired
+	public DishImportController(IDishImportService dishImportService) {
+		this.dishImportService = dishImportService;
+	}
+
+	/**
+	 * Imports dishes in bulk, for one or many restaurants, e.g. when a large chain is onboarded.
+	 * The body is NDJSON (application/x-ndjson) or CSV with a header line (text/csv) and is read as it arrives,
+	 * so it can hold millions of dishes. Invalid rows are skipped and listed in the result.
+	 * Only a user with a role of Admin should be able to import dishes
+	 *
+	 * @param contentType - The format of the body.
+	 * @param importId - An ID chosen by the client to follow the progress of the import; generated if omitted.
+	 * @param body - The dishes, one per line.
+	 * @return A response containing the result of the import (DishImportReport) and an OK status (200).
+	 */
+	@PreAuthorize("hasAuthority('Admin')")
+	@PostMapping(consumes = {"application/x-ndjson", "text/csv"})
+	public ResponseEntity<DishImportReport> importDishes(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+			@RequestParam(required = false) UUID importId, InputStream body) {
+		DishImportReport report = dishImportService.importDishes(importId, DishImportFormat.fromContentType(contentType), body);
+
+		return new ResponseEntity<>(report, HttpStatus.OK);
+	}
+
+	/**
+	 * Retrieves the progress of a running import, or the result of one of the last finished imports.
+	 * Imports are followed on the instance running them.
+	 * Only a user with a role of Admin should be able to follow imports
+	 *
+	 * @param importId - The ID of the import.
+	 * @return A response containing the progress of the import (DishImportReport) and an OK status (200).
+	 */
+	@PreAuthorize("hasAuthority('Admin')")
+	@GetMapping("/{importId}")
+	public ResponseEntity<DishImportReport> getImport(@PathVariable UUID importId) {
+		DishImportReport report = dishImportService.getImport(importId);
+
+		return new ResponseEntity<>(report, HttpStatus.OK);
+	}
+}
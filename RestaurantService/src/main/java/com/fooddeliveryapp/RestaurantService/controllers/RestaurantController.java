@@ -4,8 +4,16 @@ import java.util.List;
 import java.util.UUID;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,13 +23,21 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fooddeliveryapp.RestaurantService.caching.CatalogVersions;
+import com.fooddeliveryapp.RestaurantService.geo.RestaurantGeoIndex;
+import com.fooddeliveryapp.RestaurantService.models.DishPatchRequest;
 import com.fooddeliveryapp.RestaurantService.models.DishRequest;
 import com.fooddeliveryapp.RestaurantService.models.DishResponse;
+import com.fooddeliveryapp.RestaurantService.models.NearbyRestaurantResponse;
+import com.fooddeliveryapp.RestaurantService.models.RestaurantPageResponse;
 import com.fooddeliveryapp.RestaurantService.models.RestaurantRequest;
 import com.fooddeliveryapp.RestaurantService.models.RestaurantResponse;
+import com.fooddeliveryapp.RestaurantService.popularity.DishPopularity;
 import com.fooddeliveryapp.RestaurantService.services.IDishService;
 import com.fooddeliveryapp.RestaurantService.services.IRestaurantService;
 
@@ -29,28 +45,75 @@ import com.fooddeliveryapp.RestaurantService.services.IRestaurantService;
 @RequestMapping("/restaurants")
 public class RestaurantController {
 
+	// clients may keep responses, but have to revalidate them with their ETag before every use
+	private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
 	private final IRestaurantService restaurantService;
 	private final IDishService dishService;
+	private final CatalogVersions catalogVersions;
+	private final DishPopularity dishPopularity;
 	
 	@Autowired
-	public RestaurantController(IRestaurantService restaurantService, IDishService dishService) {
+	public RestaurantController(IRestaurantService restaurantService, IDishService dishService, CatalogVersions catalogVersions,
+			DishPopularity dishPopularity) {
 		this.restaurantService = restaurantService;
 		this.dishService = dishService;
+		this.catalogVersions = catalogVersions;
+		this.dishPopularity = dishPopularity;
 	}
 	
 	/**
-	 * Retrieves all restaurants from the database.
-	 * This method retrieves a list of all restaurants and returns them in the response.
+	 * Retrieves one page of restaurants, optionally filtered by a name prefix.
+	 * Pages are requested one after another: the cursor returned with a page requests the next one.
 	 * Users who are either Admin or Customer can view all restaurants
+	 * The response carries an ETag; if the client's copy is still current, nothing is loaded and NOT_MODIFIED (304) is returned.
 	 * 
-	 * @return A response containing a list of RestaurantResponse objects and an OK status (200).
+	 * @param namePrefix - Only restaurants whose name starts with this prefix are listed.
+	 * @param sort - "name" for ascending (default) or "-name" for descending name order.
+	 * @param cursor - The cursor returned with the previous page; omitted for the first page.
+	 * @param limit - The maximum number of restaurants on the page, from 1 to 100 (default 20).
+	 * @param ifNoneMatch - The ETag of the client's copy, if it has one.
+	 * @return A response containing the page (RestaurantPageResponse) and an OK status (200), or a NOT_MODIFIED status (304).
 	 */
 	@PreAuthorize("hasAuthority('Admin') || hasAuthority('Customer')")
 	@GetMapping
-	public ResponseEntity<List<RestaurantResponse>> getAllRestaurants() {
-	    List<RestaurantResponse> restaurantResponses = restaurantService.getAllRestaurants();
+	public ResponseEntity<RestaurantPageResponse> getRestaurants(
+			@RequestParam(required = false) @Size(max = 100) String namePrefix,
+			@RequestParam(defaultValue = "name") String sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		String eTag = catalogVersions.restaurantsETag();
+		if (catalogVersions.isCurrent("restaurants", ifNoneMatch, eTag)) {
+			return notModified(eTag);
+		}
+		
+	    RestaurantPageResponse restaurantPage = restaurantService.getRestaurants(namePrefix, sort, cursor, limit);
 	    
-	    return new ResponseEntity<>(restaurantResponses, HttpStatus.OK);
+	    return new ResponseEntity<>(restaurantPage, versionHeaders(eTag), HttpStatus.OK);
+	}
+	
+	/**
+	 * Retrieves the restaurants near a location, nearest first, e.g. those that deliver to a customer.
+	 * Restaurants without a location are never found.
+	 * Users who are either Admin or Customer can search nearby restaurants
+	 * 
+	 * @param latitude - The latitude of the location.
+	 * @param longitude - The longitude of the location.
+	 * @param radius - The maximum distance in meters, from 1 to 50000 (default 5000).
+	 * @param limit - The maximum number of restaurants, from 1 to 100 (default 20).
+	 * @return A response containing the restaurants with their distances in meters and an OK status (200).
+	 */
+	@PreAuthorize("hasAuthority('Admin') || hasAuthority('Customer')")
+	@GetMapping("/nearby")
+	public ResponseEntity<List<NearbyRestaurantResponse>> getNearbyRestaurants(
+			@RequestParam("lat") @DecimalMin("-90.0") @DecimalMax("90.0") double latitude,
+			@RequestParam("lon") @DecimalMin("-180.0") @DecimalMax("180.0") double longitude,
+			@RequestParam(defaultValue = "5000") @Min(1) @Max(RestaurantGeoIndex.MAX_RADIUS_METERS) int radius,
+			@RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+		List<NearbyRestaurantResponse> restaurants = restaurantService.getNearbyRestaurants(latitude, longitude, radius, limit);
+		
+		return new ResponseEntity<>(restaurants, HttpStatus.OK);
 	}
 	
 	/**
@@ -58,16 +121,25 @@ public class RestaurantController {
 	 * This method accepts a restaurant ID as a path variable, fetches the corresponding restaurant entity,
 	 * and returns the restaurant details in the response body.
 	 * Users who are eaither Admin or Customer can view restaurant details
+	 * The Order service reads the restaurant's location from here when it initiates a delivery.
+	 * The response carries an ETag; if the client's copy is still current, nothing is loaded and NOT_MODIFIED (304) is returned.
 	 *
 	 * @param restaurantId - The ID of the restaurant to retrieve.
-	 * @return A response containing the restaurant details and an OK status (200).
+	 * @param ifNoneMatch - The ETag of the client's copy, if it has one.
+	 * @return A response containing the restaurant details and an OK status (200), or a NOT_MODIFIED status (304).
 	 */
-	@PreAuthorize("hasAuthority('Admin') || hasAuthority('Customer')")
+	@PreAuthorize("hasAuthority('Admin') || hasAuthority('Customer') || hasAuthority('SCOPE_internal')")
 	@GetMapping("/{id}")
-	public ResponseEntity<RestaurantResponse> getRestaurantById(@PathVariable("id") UUID restaurantId) {
+	public ResponseEntity<RestaurantResponse> getRestaurantById(@PathVariable("id") UUID restaurantId,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		String eTag = catalogVersions.restaurantETag(restaurantId);
+		if (catalogVersions.isCurrent("restaurant", ifNoneMatch, eTag)) {
+			return notModified(eTag);
+		}
+		
 		RestaurantResponse restaurantResponse = restaurantService.getRestaurantById(restaurantId);
 		
-		return new ResponseEntity<>(restaurantResponse, HttpStatus.OK);
+		return new ResponseEntity<>(restaurantResponse, versionHeaders(eTag), HttpStatus.OK);
 	}
 	
 	 /**
@@ -126,15 +198,27 @@ public class RestaurantController {
      * Retrieves all dishes for a specific restaurant.
      * This method fetches all dishes that belong to a restaurant identified by the restaurant ID.
      * Users who are either Admin or Customer can view all dishes of a restaurant
+     * The up to ten most ordered dishes carry their popularity rank, 1 for the most ordered.
+     * The response carries an ETag, which also changes with the ranks; if the client's copy is still current, nothing is loaded
+     * and NOT_MODIFIED (304) is returned.
      * 
      * @param restaurantId - The ID of the restaurant for which the dishes are to be fetched.
-     * @return A list of dishes belonging to the specified restaurant.
+     * @param ifNoneMatch - The ETag of the client's copy, if it has one.
+     * @return A list of dishes belonging to the specified restaurant, or a NOT_MODIFIED status (304).
      */
 	@PreAuthorize("hasAuthority('Admin') || hasAuthority('Customer')")
     @GetMapping("/{id}/dishes")
-    public ResponseEntity<List<DishResponse>> getAllDishes(@PathVariable("id") UUID restaurantId) {
-        List<DishResponse> dishes = dishService.getAllDishesForRestaurant(restaurantId);
-        return new ResponseEntity<>(dishes, HttpStatus.OK);
+    public ResponseEntity<List<DishResponse>> getAllDishes(@PathVariable("id") UUID restaurantId,
+    		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		long menuVersion = catalogVersions.menuVersion(restaurantId);
+		String eTag = CatalogVersions.withContent(CatalogVersions.eTag(menuVersion),
+				dishPopularity.ranking(restaurantId).tag());
+		if (catalogVersions.isCurrent("menu", ifNoneMatch, eTag)) {
+			return notModified(eTag);
+		}
+		
+        List<DishResponse> dishes = dishService.getAllDishesForRestaurant(restaurantId, menuVersion);
+        return new ResponseEntity<>(dishes, versionHeaders(eTag), HttpStatus.OK);
     }
     
     /**
@@ -143,16 +227,24 @@ public class RestaurantController {
      * and returns the dish details in the response body.
      * SCOPE_internal indicates that this endpoint should be exposed to another calling service (Order service)
      * Alongise that, users who are either Admin or Customer can get dish details
+     * The response carries an ETag; if the client's copy is still current, nothing is loaded and NOT_MODIFIED (304) is returned.
      *
      * @param dishId - The ID of the dish to retrieve.
-     * @return A response containing the dish details and an OK status (200).
+     * @param ifNoneMatch - The ETag of the client's copy, if it has one.
+     * @return A response containing the dish details and an OK status (200), or a NOT_MODIFIED status (304).
      */
 	@PreAuthorize("hasAuthority('Admin') || hasAuthority('Customer') || hasAuthority('SCOPE_internal')")
     @GetMapping("/dishes/{dishId}")
-    public ResponseEntity<DishResponse> getDishById(@PathVariable UUID dishId) {
+    public ResponseEntity<DishResponse> getDishById(@PathVariable UUID dishId,
+    		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		String eTag = catalogVersions.dishETag(dishId);
+		if (catalogVersions.isCurrent("dish", ifNoneMatch, eTag)) {
+			return notModified(eTag);
+		}
+		
         DishResponse dishResponse = dishService.getDishById(dishId);
         
-        return new ResponseEntity<>(dishResponse, HttpStatus.OK);
+        return new ResponseEntity<>(dishResponse, versionHeaders(eTag), HttpStatus.OK);
     }
 	
 	/**
@@ -191,5 +283,34 @@ public class RestaurantController {
 
         return new ResponseEntity<>(updatedDish, HttpStatus.OK); 
     }
-}
+    
+    /**
+     * Changes the availability and/or the price of many dishes of a restaurant at once,
+     * e.g. when the kitchen runs out of an ingredient.
+     * Every change names a dish and only the fields to change; all changes are applied, or none if a dish is not found.
+     * Only a user with a role of Admin should be able to update dishes' data
+     * 
+     * @param restaurantId The ID of the restaurant where the dishes belong.
+     * @param dishPatchRequests The changes, from 1 to 5000 and at most one per dish.
+     * @return A response with a NO_CONTENT status (204) indicating that the dishes were updated.
+     */
+    @PreAuthorize("hasAuthority('Admin')")
+    @PatchMapping("/{id}/dishes")
+    public ResponseEntity<Void> updateDishes(@PathVariable("id") UUID restaurantId,
+    		@RequestBody @NotEmpty @Size(max = 5000) List<@Valid DishPatchRequest> dishPatchRequests) {
+        dishService.updateDishes(restaurantId, dishPatchRequests);
 
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+    
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+    	return new ResponseEntity<>(versionHeaders(eTag), HttpStatus.NOT_MODIFIED);
+    }
+    
+    private static HttpHeaders versionHeaders(String eTag) {
+    	HttpHeaders headers = new HttpHeaders();
+    	headers.setETag(eTag);
+    	headers.setCacheControl(REVALIDATE);
+    	return headers;
+    }
+}
@@ -0,0 +1,29 @@
+package com.fooddeliveryapp.RestaurantService.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the version of a part of the catalog, e.g. the menu of one restaurant.
+ * The version is incremented in the same transaction as every write to that part,
+ * so clients can tell from it alone whether their copy is still current.
+ */
+@Entity
+@Data // Generates getters, setters, toString(), equals(), and hashCode() methods automatically.
+@AllArgsConstructor // Generates a constructor that accepts all fields as arguments.
+@NoArgsConstructor // Generates a no-argument constructor, which is required by JPA.
+@Builder // Implements the builder pattern, allowing for easy creation of CatalogVersion instances with specified values.
+public class CatalogVersion {
+
+	@Id
+	@Column(name = "version_key", length = 64)
+	private String versionKey;
+
+	@Column(nullable = false)
+	private Long version;
+}
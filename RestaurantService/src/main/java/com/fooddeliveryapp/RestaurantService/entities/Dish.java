@@ -2,6 +2,12 @@ package com.fooddeliveryapp.RestaurantService.entities;
 
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.fooddeliveryapp.RestaurantService.caching.CacheRegions;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,8 +25,11 @@ import lombok.NoArgsConstructor;
  * Represents a Dish entity in the database.
  * This class is mapped to a table in the database where each instance
  * of this class corresponds to a dish record.
+ * Instances are kept in the second-level cache; Hibernate updates or evicts them whenever they are written.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DISH)
 @Data // Generates getters, setters, toString(), equals(), and hashCode() methods automatically.
 @AllArgsConstructor // Generates a constructor that accepts all fields as arguments.
 @NoArgsConstructor // Generates a no-argument constructor, which is required by JPA.
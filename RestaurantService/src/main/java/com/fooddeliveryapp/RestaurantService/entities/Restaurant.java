@@ -2,11 +2,19 @@ package com.fooddeliveryapp.RestaurantService.entities;
 
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.fooddeliveryapp.RestaurantService.caching.CacheRegions;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,8 +24,12 @@ import lombok.NoArgsConstructor;
  * Represents a Restaurant entity in the database.
  * This class is mapped to a table in the database where each instance
  * of this class corresponds to a restaurant record.
+ * Instances are kept in the second-level cache; Hibernate updates or evicts them whenever they are written.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.RESTAURANT)
+@Table(indexes = @Index(name = "ix_restaurant_name", columnList = "name, restaurant_id")) // Serves the restaurant list pages in name order.
 @Data // Generates getters, setters, toString(), equals(), and hashCode() methods automatically.
 @AllArgsConstructor // Generates a constructor that accepts all fields as arguments.
 @NoArgsConstructor // Generates a no-argument constructor, which is required by JPA.
@@ -37,4 +49,9 @@ public class Restaurant {
 
     @Column(nullable = false, length = 15)
     private String phoneNumber;
+
+    // null for restaurants without a known location, which are not found by the nearby search
+    private Double latitude;
+
+    private Double longitude;
 }
@@ -0,0 +1,35 @@
+package com.fooddeliveryapp.RestaurantService.events;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents an event about a paid order, published by the Order service, with the dishes in it.
+ * Only the fields needed here are read; others are ignored.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderEvent {
+	private UUID eventId;
+	private Instant eventTime;
+	private UUID orderId;
+	private UUID restaurantId;
+	private List<Item> items;
+
+	/**
+	 * A dish in the order and how many of it were ordered.
+	 */
+	@Data
+	@AllArgsConstructor
+	@NoArgsConstructor
+	public static class Item {
+		private UUID dishId;
+		private int quantity;
+	}
+}
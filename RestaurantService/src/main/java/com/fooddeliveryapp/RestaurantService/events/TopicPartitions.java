@@ -0,0 +1,164 @@
+package com.fooddeliveryapp.RestaurantService.events;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.PartitionInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Looks up the partitions of a topic, so listeners can be assigned all of them instead of joining a consumer group.
+ *
+ * The lookup is retried with a growing backoff while the application starts; if the partitions are still unknown
+ * after the startup timeout, the application fails to start rather than silently reading only some of them.
+ * Afterwards the partitions are looked up again at an interval, and partitions added to the topic since are read
+ * from the start by a listener container of their own, so the partitions already assigned are not read twice.
+ */
+@Component
+@Log4j2
+public class TopicPartitions {
+	// a single attempt must not hold up the startup or the scheduler for long
+	private static final String LOOKUP_TIMEOUT_MS = "10000";
+	private static final Duration FIRST_BACKOFF = Duration.ofSeconds(1);
+	private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+	private final ConsumerFactory<Object, Object> consumerFactory;
+	private final Duration startupTimeout;
+	// the partitions assigned so far per topic, and who reads the partitions added later
+	private final Map<String, Set<Integer>> assigned = new ConcurrentHashMap<>();
+	private final Map<String, AddedPartitionListener> addedPartitionListeners = new ConcurrentHashMap<>();
+	private final List<ConcurrentMessageListenerContainer<Object, Object>> containers = new CopyOnWriteArrayList<>();
+
+	private record AddedPartitionListener(String groupId, MessageListener<Object, Object> listener) {
+	}
+
+	@Autowired
+	@SuppressWarnings("unchecked")
+	public TopicPartitions(ConsumerFactory<?, ?> consumerFactory,
+			@Value("${restaurant.popularity.partition-lookup-timeout:PT2M}") Duration startupTimeout) {
+		this.consumerFactory = (ConsumerFactory<Object, Object>) consumerFactory;
+		this.startupTimeout = startupTimeout;
+	}
+
+	/**
+	 * Looks up the partitions of a topic, retrying until the startup timeout.
+	 * 
+	 * @param topic - The name of the topic.
+	 * @return The numbers of all partitions of the topic.
+	 * @throws IllegalStateException if the partitions could not be looked up within the startup timeout.
+	 */
+	public String[] of(String topic) {
+		long deadline = System.nanoTime() + startupTimeout.toNanos();
+		Duration backoff = FIRST_BACKOFF;
+		while (true) {
+			List<Integer> partitions = lookUp(topic);
+			if (!partitions.isEmpty()) {
+				assigned.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).addAll(partitions);
+				return partitions.stream().map(String::valueOf).toArray(String[]::new);
+			}
+			if (System.nanoTime() + backoff.toNanos() > deadline) {
+				throw new IllegalStateException("The partitions of topic " + topic + " could not be looked up within " + startupTimeout + ".");
+			}
+
+			log.warn("The partitions of topic {} are not known yet, trying again in {}.", topic, backoff);
+			try {
+				Thread.sleep(backoff.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while looking up the partitions of topic " + topic + ".", e);
+			}
+			backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+		}
+	}
+
+	/**
+	 * Hands the records of partitions added to a topic after it was assigned to a listener, read from the start.
+	 * 
+	 * @param topic - The name of the topic, assigned with {@link #of(String)}.
+	 * @param groupId - The group ID that names the consumers; no group is joined and no offsets are committed.
+	 * @param listener - Receives the records of the added partitions.
+	 */
+	public void onAddedPartitions(String topic, String groupId, MessageListener<Object, Object> listener) {
+		addedPartitionListeners.put(topic, new AddedPartitionListener(groupId, listener));
+	}
+
+	/**
+	 * Looks up the partitions of the assigned topics again and starts reading the partitions added since.
+	 * A failed lookup is tried again at the next refresh.
+	 */
+	@Scheduled(fixedDelayString = "${restaurant.popularity.partition-refresh-interval:PT5M}",
+			initialDelayString = "${restaurant.popularity.partition-refresh-interval:PT5M}")
+	public void refresh() {
+		assigned.forEach((topic, partitions) -> {
+			AddedPartitionListener addedPartitionListener = addedPartitionListeners.get(topic);
+			if (addedPartitionListener == null) {
+				return;
+			}
+
+			List<Integer> added = new ArrayList<>(lookUp(topic));
+			added.removeAll(partitions);
+			if (added.isEmpty()) {
+				return;
+			}
+
+			log.info("Partitions {} were added to topic {}, reading them from the start.", added, topic);
+			ContainerProperties containerProperties = new ContainerProperties(added.stream()
+					.map(partition -> new TopicPartitionOffset(topic, partition, 0L))
+					.toArray(TopicPartitionOffset[]::new));
+			containerProperties.setGroupId(addedPartitionListener.groupId());
+			// like the annotated listeners, the offsets are never committed
+			containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+			containerProperties.setMessageListener((AcknowledgingMessageListener<Object, Object>) (record, acknowledgment) ->
+					addedPartitionListener.listener().onMessage(record));
+
+			ConcurrentMessageListenerContainer<Object, Object> container =
+					new ConcurrentMessageListenerContainer<>(consumerFactory, containerProperties);
+			container.setBeanName(topic + "-added-" + added.stream().map(String::valueOf).collect(Collectors.joining("-")));
+			container.start();
+			containers.add(container);
+			partitions.addAll(added);
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		containers.forEach(ConcurrentMessageListenerContainer::stop);
+	}
+
+	private List<Integer> lookUp(String topic) {
+		Properties overrides = new Properties();
+		overrides.setProperty(ConsumerConfig.DEFAULT_API_TIMEOUT_MS_CONFIG, LOOKUP_TIMEOUT_MS);
+		
+		try (Consumer<?, ?> consumer = consumerFactory.createConsumer(null, null, null, overrides)) {
+			List<PartitionInfo> partitions = consumer.partitionsFor(topic);
+			if (partitions != null) {
+				return partitions.stream().map(PartitionInfo::partition).sorted().toList();
+			}
+		} catch (KafkaException e) {
+			log.warn("Looking up the partitions of topic {} failed: {}", topic, e.getMessage());
+		}
+		return List.of();
+	}
+}
@@ -0,0 +1,12 @@
+package com.fooddeliveryapp.RestaurantService.exceptions;
+
+public class DishImportNotFoundException extends RuntimeException {
+    /**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public DishImportNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -44,6 +44,62 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
     
+    /**
+     * Handles InvalidPageRequestException and returns an appropriate response.
+     * 
+     * @param ex The exception object
+     * @return A ResponseEntity with error message and 400 status code
+     */
+    @ExceptionHandler(InvalidPageRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Map<String, String>> handleInvalidPageRequest(InvalidPageRequestException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+    
+    /**
+     * Handles InvalidDishUpdateException and returns an appropriate response.
+     * 
+     * @param ex The exception object
+     * @return A ResponseEntity with error message and 400 status code
+     */
+    @ExceptionHandler(InvalidDishUpdateException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Map<String, String>> handleInvalidDishUpdate(InvalidDishUpdateException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+    
+    /**
+     * Handles DishImportNotFoundException and returns an appropriate response.
+     * 
+     * @param ex The exception object
+     * @return A ResponseEntity with error message and 404 status code
+     */
+    @ExceptionHandler(DishImportNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<Map<String, String>> handleDishImportNotFound(DishImportNotFoundException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+    
+    /**
+     * Handles InvalidDishImportException and returns an appropriate response.
+     * 
+     * @param ex The exception object
+     * @return A ResponseEntity with error message and 400 status code
+     */
+    @ExceptionHandler(InvalidDishImportException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Map<String, String>> handleInvalidDishImport(InvalidDishImportException ex) {
+        Map<String, String> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+    
     /**
      * Handles validation errors and returns a response with status 400.
      * 
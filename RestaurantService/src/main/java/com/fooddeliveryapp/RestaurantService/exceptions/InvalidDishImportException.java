@@ -0,0 +1,12 @@
+package com.fooddeliveryapp.RestaurantService.exceptions;
+
+public class InvalidDishImportException extends RuntimeException {
+    /**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public InvalidDishImportException(String message) {
+        super(message);
+    }
+}
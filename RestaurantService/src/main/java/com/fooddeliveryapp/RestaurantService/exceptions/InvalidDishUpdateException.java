@@ -0,0 +1,12 @@
+package com.fooddeliveryapp.RestaurantService.exceptions;
+
+public class InvalidDishUpdateException extends RuntimeException {
+    /**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public InvalidDishUpdateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.fooddeliveryapp.RestaurantService.exceptions;
+
+public class InvalidPageRequestException extends RuntimeException {
+    /**
+	 * 
+	 */
+	private static final long serialVersionUID = 1L;
+
+	public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
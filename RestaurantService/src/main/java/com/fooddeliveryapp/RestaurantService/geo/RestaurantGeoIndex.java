@@ -0,0 +1,302 @@
+package com.fooddeliveryapp.RestaurantService.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.RestaurantService.caching.CatalogVersions;
+import com.fooddeliveryapp.RestaurantService.models.NearbyRestaurantResponse;
+import com.fooddeliveryapp.RestaurantService.models.RestaurantResponse;
+import com.fooddeliveryapp.RestaurantService.repositories.RestaurantRepository;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * In-memory index of the restaurants with a location, which answers nearby searches without a database round trip.
+ *
+ * Restaurants are kept in a grid of cells of {@link #CELL_DEGREES} degrees of latitude and longitude, so a search
+ * only looks at the cells that overlap the search circle. Searches read the cells without locking; writes replace
+ * the array of a cell, so a search sees every cell either before or after a write.
+ *
+ * The index is loaded when the application is ready. The restaurant service applies its own writes once they are
+ * committed; writes made through other instances are picked up by a reload, which runs when the version of the
+ * restaurant list has changed since the last load and is checked every restaurant.geo.refresh-interval (1 minute).
+ */
+@Component
+@Log4j2
+public class RestaurantGeoIndex {
+
+	public static final int MAX_RADIUS_METERS = 50_000;
+
+	// about 2.2 km north to south; a 5 km search looks at about 25 cells
+	static final double CELL_DEGREES = 0.02;
+	private static final int ROWS = (int) Math.round(180 / CELL_DEGREES);
+	private static final int COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+
+	// mean Earth radius
+	private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+	private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+
+	private record Entry(RestaurantResponse restaurant, double latitude, double longitude, double cosLatitude, long cell) {
+	}
+
+	private record Hit(Entry entry, double haversine) {
+	}
+
+	private static final Comparator<Hit> NEAREST_FIRST = Comparator.comparingDouble(Hit::haversine)
+			.thenComparing(hit -> hit.entry().restaurant().getRestaurantId());
+
+	private final RestaurantRepository restaurantRepository;
+	private final CatalogVersions catalogVersions;
+
+	// read by searches without locking; replaced as a whole by a reload
+	private volatile Map<Long, Entry[]> cells = new ConcurrentHashMap<>();
+	// the rest is guarded by this
+	private Map<UUID, Entry> entries = new HashMap<>();
+	// writes applied while a reload reads the restaurants, replayed onto the reloaded index; a null value is a deletion
+	private Map<UUID, RestaurantResponse> writesDuringLoad;
+	private volatile long loadedVersion = -1;
+	// a reload started at startup may still run when the first refresh is due
+	private final Object reloadLock = new Object();
+
+	@Autowired
+	public RestaurantGeoIndex(RestaurantRepository restaurantRepository, CatalogVersions catalogVersions) {
+		this.restaurantRepository = restaurantRepository;
+		this.catalogVersions = catalogVersions;
+	}
+
+	/**
+	 * Finds the restaurants within a distance of a location, nearest first.
+	 *
+	 * @param latitude - The latitude of the location, from -90 to 90.
+	 * @param longitude - The longitude of the location, from -180 to 180.
+	 * @param radiusMeters - The maximum distance, up to {@link #MAX_RADIUS_METERS}.
+	 * @param limit - The maximum number of restaurants.
+	 * @return The nearest restaurants within the distance, with their distances.
+	 */
+	public List<NearbyRestaurantResponse> findNearby(double latitude, double longitude, int radiusMeters, int limit) {
+		if (Double.isNaN(latitude) || Double.isNaN(longitude)) {
+			return List.of();
+		}
+		Map<Long, Entry[]> cells = this.cells;
+		double radiusDegrees = radiusMeters / METERS_PER_DEGREE;
+		int firstRow = row(Math.max(-90, latitude - radiusDegrees));
+		int lastRow = row(Math.min(90, latitude + radiusDegrees));
+
+		// a degree of longitude is shortest at the row nearest to a pole, so that row needs the most columns
+		double cosine = Math.cos(Math.toRadians(Math.min(90, Math.abs(latitude) + radiusDegrees)));
+		double longitudeDegrees = cosine > 1e-9 ? radiusDegrees / cosine : 360;
+		int columnSpan = (int) Math.ceil(longitudeDegrees / CELL_DEGREES);
+		int centerColumn = column(longitude);
+		int firstColumn = centerColumn - columnSpan;
+		int lastColumn = centerColumn + columnSpan;
+		if (lastColumn - firstColumn + 1 >= COLUMNS) {
+			firstColumn = 0;
+			lastColumn = COLUMNS - 1;
+		}
+
+		// hits are compared by the haversine term of their distance, which grows with it and needs no inverse sine
+		double maxHaversine = haversine(radiusMeters / EARTH_RADIUS_METERS);
+		double cosLatitude = Math.cos(Math.toRadians(latitude));
+		// the nearest hits so far, farthest on top
+		PriorityQueue<Hit> nearest = new PriorityQueue<>(limit + 1, NEAREST_FIRST.reversed());
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				Entry[] cell = cells.get(cell(row, Math.floorMod(column, COLUMNS)));
+				if (cell == null) {
+					continue;
+				}
+				for (Entry entry : cell) {
+					// cheap bounding box test before the distance
+					double latitudeDelta = entry.latitude() - latitude;
+					double longitudeDelta = Math.abs(entry.longitude() - longitude);
+					longitudeDelta = Math.min(longitudeDelta, 360 - longitudeDelta);
+					if (Math.abs(latitudeDelta) > radiusDegrees || longitudeDelta > longitudeDegrees) {
+						continue;
+					}
+					double latitudeSine = halfSine(latitudeDelta);
+					double longitudeSine = halfSine(longitudeDelta);
+					double haversine = latitudeSine * latitudeSine + cosLatitude * entry.cosLatitude() * longitudeSine * longitudeSine;
+					if (haversine > maxHaversine) {
+						continue;
+					}
+					if (nearest.size() == limit) {
+						Hit farthest = nearest.peek();
+						if (haversine > farthest.haversine()) {
+							continue;
+						}
+						Hit hit = new Hit(entry, haversine);
+						if (NEAREST_FIRST.compare(hit, farthest) >= 0) {
+							continue;
+						}
+						nearest.poll();
+						nearest.add(hit);
+					} else {
+						nearest.add(new Hit(entry, haversine));
+					}
+				}
+			}
+		}
+
+		List<Hit> hits = new ArrayList<>(nearest);
+		hits.sort(NEAREST_FIRST);
+		List<NearbyRestaurantResponse> restaurants = new ArrayList<>(hits.size());
+		for (Hit hit : hits) {
+			double distance = 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(hit.haversine())));
+			restaurants.add(new NearbyRestaurantResponse(hit.entry().restaurant(), Math.round(distance)));
+		}
+		return restaurants;
+	}
+
+	/**
+	 * Adds or updates a restaurant; a restaurant without a location is removed.
+	 * Call once the write is committed.
+	 *
+	 * @param restaurant - The restaurant as it is stored.
+	 */
+	public synchronized void put(RestaurantResponse restaurant) {
+		if (writesDuringLoad != null) {
+			writesDuringLoad.put(restaurant.getRestaurantId(), restaurant);
+		}
+		apply(restaurant.getRestaurantId(), restaurant);
+	}
+
+	/**
+	 * Removes a restaurant. Call once the deletion is committed.
+	 *
+	 * @param restaurantId - The ID of the deleted restaurant.
+	 */
+	public synchronized void remove(UUID restaurantId) {
+		if (writesDuringLoad != null) {
+			writesDuringLoad.put(restaurantId, null);
+		}
+		apply(restaurantId, null);
+	}
+
+	/**
+	 * Loads the index from the database once the application is ready. If that fails, the next refresh retries.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		try {
+			reload();
+		} catch (DataAccessException e) {
+			log.error("The nearby search index could not be loaded; retrying with the next refresh", e);
+		}
+	}
+
+	/**
+	 * Reloads the index if restaurants have been added, updated or deleted since it was loaded.
+	 */
+	@Scheduled(fixedDelayString = "${restaurant.geo.refresh-interval:PT1M}", initialDelayString = "${restaurant.geo.refresh-interval:PT1M}")
+	public void refresh() {
+		if (catalogVersions.restaurantsVersion() != loadedVersion) {
+			reload();
+		}
+	}
+
+	private void reload() {
+		synchronized (reloadLock) {
+			reloadOnce();
+		}
+	}
+
+	private void reloadOnce() {
+		synchronized (this) {
+			writesDuringLoad = new HashMap<>();
+		}
+		try {
+			// read the version first: a write committed after this is picked up by the next refresh at the latest
+			long version = catalogVersions.restaurantsVersion();
+			List<RestaurantResponse> restaurants = restaurantRepository.findAllLocated();
+
+			Map<UUID, Entry> loadedEntries = new HashMap<>(restaurants.size() * 4 / 3 + 1);
+			Map<Long, List<Entry>> loadedCells = new HashMap<>();
+			for (RestaurantResponse restaurant : restaurants) {
+				Entry entry = entry(restaurant);
+				loadedEntries.put(restaurant.getRestaurantId(), entry);
+				loadedCells.computeIfAbsent(entry.cell(), cell -> new ArrayList<>()).add(entry);
+			}
+			Map<Long, Entry[]> cells = new ConcurrentHashMap<>(loadedCells.size() * 4 / 3 + 1);
+			loadedCells.forEach((cell, cellEntries) -> cells.put(cell, cellEntries.toArray(Entry[]::new)));
+
+			synchronized (this) {
+				this.cells = cells;
+				this.entries = loadedEntries;
+				writesDuringLoad.forEach(this::apply);
+				loadedVersion = version;
+			}
+			log.info("Nearby search index loaded with {} restaurants in {} cells.", restaurants.size(), cells.size());
+		} finally {
+			synchronized (this) {
+				writesDuringLoad = null;
+			}
+		}
+	}
+
+	// guarded by this; restaurant is null for a deletion
+	private void apply(UUID restaurantId, RestaurantResponse restaurant) {
+		Entry previous = entries.remove(restaurantId);
+		if (previous != null) {
+			cells.computeIfPresent(previous.cell(), (cell, cellEntries) -> {
+				Entry[] remaining = Arrays.stream(cellEntries)
+						.filter(entry -> entry != previous)
+						.toArray(Entry[]::new);
+				return remaining.length > 0 ? remaining : null;
+			});
+		}
+
+		if (restaurant != null && restaurant.getLatitude() != null && restaurant.getLongitude() != null) {
+			Entry entry = entry(restaurant);
+			entries.put(restaurantId, entry);
+			cells.merge(entry.cell(), new Entry[] {entry}, (cellEntries, added) -> {
+				Entry[] merged = Arrays.copyOf(cellEntries, cellEntries.length + 1);
+				merged[cellEntries.length] = entry;
+				return merged;
+			});
+		}
+	}
+
+	private static Entry entry(RestaurantResponse restaurant) {
+		double latitude = restaurant.getLatitude();
+		double longitude = restaurant.getLongitude();
+		return new Entry(restaurant, latitude, longitude, Math.cos(Math.toRadians(latitude)), cell(row(latitude), column(longitude)));
+	}
+
+	private static int row(double latitude) {
+		return Math.min(ROWS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+	}
+
+	private static int column(double longitude) {
+		return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLUMNS);
+	}
+
+	private static long cell(int row, int column) {
+		return (long) row * COLUMNS + column;
+	}
+
+	// haversine of a central angle in radians
+	private static double haversine(double angle) {
+		double sine = Math.sin(angle / 2);
+		return sine * sine;
+	}
+
+	// sine of half an angle in degrees; within a hundredth of a radian it is the half angle itself, to 0.002 %
+	private static double halfSine(double degrees) {
+		double half = Math.toRadians(degrees) / 2;
+		return Math.abs(half) < 0.01 ? half : Math.sin(half);
+	}
+}
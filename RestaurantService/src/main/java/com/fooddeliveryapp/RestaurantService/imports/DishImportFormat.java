@@ -0,0 +1,49 @@
+package com.fooddeliveryapp.RestaurantService.imports;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import com.fooddeliveryapp.RestaurantService.exceptions.InvalidDishImportException;
+
+/**
+ * Formats of a bulk menu import body, both read one line at a time.
+ */
+public enum DishImportFormat {
+	/**
+	 * One JSON object per line.
+	 */
+	NDJSON("application/x-ndjson"),
+	/**
+	 * A header line naming the columns, then one dish per line.
+	 */
+	CSV("text/csv");
+
+	private final MediaType mediaType;
+
+	DishImportFormat(String mediaType) {
+		this.mediaType = MediaType.parseMediaType(mediaType);
+	}
+
+	public MediaType mediaType() {
+		return mediaType;
+	}
+
+	/**
+	 * @param contentType - The Content-Type header of the import request.
+	 * @return The format of the body.
+	 * @throws InvalidDishImportException if the content type is not a supported format.
+	 */
+	public static DishImportFormat fromContentType(String contentType) {
+		try {
+			MediaType mediaType = MediaType.parseMediaType(contentType);
+			for (DishImportFormat format : values()) {
+				if (format.mediaType.isCompatibleWith(mediaType) && !mediaType.isWildcardSubtype()) {
+					return format;
+				}
+			}
+		} catch (InvalidMediaTypeException e) {
+			// reported below
+		}
+		throw new InvalidDishImportException("Unsupported import format: " + contentType + ". Use application/x-ndjson or text/csv.");
+	}
+}
@@ -0,0 +1,242 @@
+package com.fooddeliveryapp.RestaurantService.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fooddeliveryapp.RestaurantService.exceptions.InvalidDishImportException;
+import com.fooddeliveryapp.RestaurantService.models.DishImportRow;
+import com.fooddeliveryapp.RestaurantService.models.DishRequest;
+
+/**
+ * Reads the rows of a bulk menu import one line at a time, so the body is never held in memory.
+ * A line that cannot be parsed is returned as an error and reading continues with the next line;
+ * lines longer than {@link #MAX_LINE_LENGTH} characters are skipped the same way.
+ *
+ * CSV bodies start with a header naming the columns restaurantId, name, price, availability and,
+ * optionally, description, in any order. Fields may be quoted, but a quoted field cannot span lines.
+ */
+public final class DishImportParser {
+
+	static final int MAX_LINE_LENGTH = 8192;
+
+	private static final String[] CSV_COLUMNS = {"restaurantId", "name", "price", "description", "availability"};
+	private static final int RESTAURANT_ID = 0, NAME = 1, PRICE = 2, DESCRIPTION = 3, AVAILABILITY = 4;
+
+	/**
+	 * A row read from the body, or the reason it could not be read.
+	 */
+	public record ParsedRow(long line, DishImportRow row, String error) {
+	}
+
+	private final Reader reader;
+	private final char[] buffer = new char[8192];
+	private int bufferPosition;
+	private int bufferLimit;
+	private final DishImportFormat format;
+	private final ObjectReader rowReader;
+	private final StringBuilder lineBuffer = new StringBuilder();
+	private long lineNumber;
+	private boolean lineTooLong;
+	// CSV only: for every column, the index of its field in a row, or -1
+	private int[] columnIndexes;
+
+	/**
+	 * @param body - The body of the import request, read as UTF-8.
+	 * @param format - The format of the body.
+	 * @param rowReader - Reads a DishImportRow from a line of NDJSON.
+	 */
+	public DishImportParser(InputStream body, DishImportFormat format, ObjectReader rowReader) {
+		this.reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+		this.format = format;
+		this.rowReader = rowReader;
+	}
+
+	/**
+	 * Reads the next row. Blank lines are skipped.
+	 *
+	 * @return The next row, or null at the end of the body.
+	 * @throws IOException if the body cannot be read.
+	 * @throws InvalidDishImportException if the CSV header is missing a column.
+	 */
+	public ParsedRow next() throws IOException {
+		String line;
+		while ((line = readLine()) != null) {
+			lineNumber++;
+			if (lineTooLong) {
+				return new ParsedRow(lineNumber, null, "Line is longer than " + MAX_LINE_LENGTH + " characters.");
+			}
+			if (line.isBlank()) {
+				continue;
+			}
+			if (format == DishImportFormat.CSV && columnIndexes == null) {
+				readHeader(line);
+				continue;
+			}
+
+			try {
+				DishImportRow row = format == DishImportFormat.NDJSON ? rowReader.readValue(line) : parseCsvRow(line);
+				return row != null ? new ParsedRow(lineNumber, row, null) : new ParsedRow(lineNumber, null, "Row is empty.");
+			} catch (JsonProcessingException e) {
+				return new ParsedRow(lineNumber, null, "Invalid JSON: " + e.getOriginalMessage());
+			} catch (IllegalArgumentException e) {
+				return new ParsedRow(lineNumber, null, e.getMessage());
+			}
+		}
+		return null;
+	}
+
+	// reads up to MAX_LINE_LENGTH characters of the next line and skips the rest
+	private String readLine() throws IOException {
+		lineBuffer.setLength(0);
+		lineTooLong = false;
+
+		int c;
+		while ((c = read()) != -1 && c != '\n') {
+			if (lineBuffer.length() < MAX_LINE_LENGTH) {
+				lineBuffer.append((char) c);
+			} else {
+				lineTooLong = true;
+			}
+		}
+		if (c == -1 && lineBuffer.length() == 0 && !lineTooLong) {
+			return null;
+		}
+
+		int end = lineBuffer.length();
+		if (end > 0 && lineBuffer.charAt(end - 1) == '\r') {
+			end--;
+		}
+		// a byte order mark written by spreadsheet programs
+		int start = lineNumber == 0 && end > 0 && lineBuffer.charAt(0) == '\uFEFF' ? 1 : 0;
+		return lineBuffer.substring(start, end);
+	}
+
+	// reads one character; buffered here rather than with a BufferedReader, whose read() is synchronized
+	private int read() throws IOException {
+		if (bufferPosition == bufferLimit) {
+			int read = reader.read(buffer);
+			if (read <= 0) {
+				return -1;
+			}
+			bufferPosition = 0;
+			bufferLimit = read;
+		}
+		return buffer[bufferPosition++];
+	}
+
+	private void readHeader(String line) {
+		List<String> names = splitCsv(line);
+		columnIndexes = new int[CSV_COLUMNS.length];
+		Arrays.fill(columnIndexes, -1);
+
+		for (int i = 0; i < names.size(); i++) {
+			String name = names.get(i).trim();
+			for (int column = 0; column < CSV_COLUMNS.length; column++) {
+				if (CSV_COLUMNS[column].equalsIgnoreCase(name)) {
+					columnIndexes[column] = i;
+				}
+			}
+		}
+		for (int column = 0; column < CSV_COLUMNS.length; column++) {
+			if (columnIndexes[column] < 0 && column != DESCRIPTION) {
+				throw new InvalidDishImportException("The CSV header has no " + CSV_COLUMNS[column] + " column.");
+			}
+		}
+	}
+
+	private DishImportRow parseCsvRow(String line) {
+		List<String> fields = splitCsv(line);
+
+		String restaurantId = field(fields, RESTAURANT_ID);
+		String price = field(fields, PRICE);
+		String availability = field(fields, AVAILABILITY);
+
+		DishRequest dish = DishRequest.builder()
+				.name(field(fields, NAME))
+				.price(price != null ? parsePrice(price) : null)
+				.description(field(fields, DESCRIPTION))
+				.availability(availability != null ? parseAvailability(availability) : null)
+				.build();
+		return new DishImportRow(restaurantId != null ? parseUuid(restaurantId) : null, dish);
+	}
+
+	// the field of a column, or null if it is empty or missing
+	private String field(List<String> fields, int column) {
+		int index = columnIndexes[column];
+		if (index < 0 || index >= fields.size() || fields.get(index).isBlank()) {
+			return null;
+		}
+		return fields.get(index);
+	}
+
+	private static UUID parseUuid(String value) {
+		try {
+			return UUID.fromString(value.trim());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid restaurant ID: " + value);
+		}
+	}
+
+	private static Double parsePrice(String value) {
+		try {
+			double price = Double.parseDouble(value.trim());
+			if (!Double.isFinite(price)) {
+				throw new NumberFormatException();
+			}
+			return price;
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid price: " + value);
+		}
+	}
+
+	private static Boolean parseAvailability(String value) {
+		return switch (value.trim().toLowerCase(Locale.ROOT)) {
+			case "true" -> true;
+			case "false" -> false;
+			default -> throw new IllegalArgumentException("Invalid availability: " + value + ". Use true or false.");
+		};
+	}
+
+	// splits a line at commas outside of quotes; a doubled quote inside quotes is a literal quote
+	static List<String> splitCsv(String line) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c != '"') {
+					field.append(c);
+				} else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					field.append('"');
+					i++;
+				} else {
+					quoted = false;
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append(c);
+			}
+		}
+		if (quoted) {
+			throw new IllegalArgumentException("Quoted field is not closed; fields cannot span lines.");
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+}
@@ -0,0 +1,90 @@
+package com.fooddeliveryapp.RestaurantService.imports;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fooddeliveryapp.RestaurantService.models.DishImportError;
+import com.fooddeliveryapp.RestaurantService.models.DishImportReport;
+
+/**
+ * Progress of one bulk menu import. Updated by the request thread running the import and read by progress requests,
+ * so the counters are atomic. Only the first {@link #MAX_ERRORS} rejected rows are kept, which bounds the memory
+ * an import needs however many rows it rejects.
+ */
+public final class DishImportProgress {
+
+	static final int MAX_ERRORS = 1000;
+
+	public enum Status {
+		RUNNING, COMPLETED, FAILED
+	}
+
+	private final UUID importId;
+	private final Instant startedAt = Instant.now();
+	private final AtomicLong rowsRead = new AtomicLong();
+	private final AtomicLong rowsImported = new AtomicLong();
+	private final AtomicLong rowsRejected = new AtomicLong();
+	private final List<DishImportError> errors = new ArrayList<>();
+	private volatile Status status = Status.RUNNING;
+	private volatile Instant finishedAt;
+
+	DishImportProgress(UUID importId) {
+		this.importId = importId;
+	}
+
+	public UUID importId() {
+		return importId;
+	}
+
+	public Status status() {
+		return status;
+	}
+
+	public void rowRead() {
+		rowsRead.incrementAndGet();
+	}
+
+	public void imported(int rows) {
+		rowsImported.addAndGet(rows);
+	}
+
+	/**
+	 * @param line - The line of the rejected row.
+	 * @param message - Why it was rejected.
+	 */
+	public void rejected(long line, String message) {
+		if (rowsRejected.incrementAndGet() <= MAX_ERRORS) {
+			synchronized (errors) {
+				errors.add(new DishImportError(line, message));
+			}
+		}
+	}
+
+	void finish(Status status) {
+		this.finishedAt = Instant.now();
+		this.status = status;
+	}
+
+	/**
+	 * @return The progress so far, or the result once the import has finished.
+	 */
+	public DishImportReport toReport() {
+		List<DishImportError> errorsSoFar;
+		synchronized (errors) {
+			errorsSoFar = List.copyOf(errors);
+		}
+		return DishImportReport.builder()
+				.importId(importId)
+				.status(status.name())
+				.rowsRead(rowsRead.get())
+				.rowsImported(rowsImported.get())
+				.rowsRejected(rowsRejected.get())
+				.startedAt(startedAt)
+				.finishedAt(finishedAt)
+				.errors(errorsSoFar)
+				.build();
+	}
+}
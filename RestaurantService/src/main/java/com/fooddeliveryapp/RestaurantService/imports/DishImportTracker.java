@@ -0,0 +1,63 @@
+package com.fooddeliveryapp.RestaurantService.imports;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.stereotype.Component;
+
+import com.fooddeliveryapp.RestaurantService.exceptions.InvalidDishImportException;
+
+/**
+ * Keeps the progress of the running bulk menu imports of this instance, and of the last
+ * {@link #MAX_FINISHED} finished ones, so clients can follow a long import with its ID.
+ */
+@Component
+public class DishImportTracker {
+
+	static final int MAX_FINISHED = 100;
+
+	private final Map<UUID, DishImportProgress> imports = new ConcurrentHashMap<>();
+	private final Queue<UUID> finished = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * @param importId - The ID of the new import.
+	 * @return The progress of the new import.
+	 * @throws InvalidDishImportException if an import with the same ID is running or was kept.
+	 */
+	public DishImportProgress start(UUID importId) {
+		DishImportProgress progress = new DishImportProgress(importId);
+		if (imports.putIfAbsent(importId, progress) != null) {
+			throw new InvalidDishImportException("An import with the given ID exists already. ID: " + importId);
+		}
+		return progress;
+	}
+
+	/**
+	 * Marks an import as finished; the oldest finished imports are forgotten.
+	 *
+	 * @param progress - The progress of the import.
+	 * @param status - COMPLETED or FAILED.
+	 */
+	public void finish(DishImportProgress progress, DishImportProgress.Status status) {
+		progress.finish(status);
+		finished.add(progress.importId());
+		while (finished.size() > MAX_FINISHED) {
+			UUID oldest = finished.poll();
+			if (oldest != null) {
+				imports.remove(oldest);
+			}
+		}
+	}
+
+	/**
+	 * @param importId - The ID of an import.
+	 * @return Its progress, if it is running or among the last finished imports of this instance.
+	 */
+	public Optional<DishImportProgress> find(UUID importId) {
+		return Optional.ofNullable(imports.get(importId));
+	}
+}
@@ -0,0 +1,14 @@
+package com.fooddeliveryapp.RestaurantService.mappers;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared configuration of the catalog mappers.
+ * The mappers are Spring beans, and a property of a target that no source property maps to fails the build,
+ * so a field added to an entity or model cannot be silently left out of the mapping.
+ */
+@MapperConfig(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface CatalogMapperConfig {
+}
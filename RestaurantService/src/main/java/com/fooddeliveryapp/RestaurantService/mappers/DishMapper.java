@@ -0,0 +1,57 @@
+package com.fooddeliveryapp.RestaurantService.mappers;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import com.fooddeliveryapp.RestaurantService.entities.Dish;
+import com.fooddeliveryapp.RestaurantService.models.DishRequest;
+import com.fooddeliveryapp.RestaurantService.models.DishResponse;
+
+/**
+ * Maps between Dish entities and the dish models.
+ * The implementation is generated at compile time and copies the properties with plain getter and setter calls.
+ * The restaurant of a dish is not part of the models and is set by the caller.
+ */
+@Mapper(config = CatalogMapperConfig.class)
+public interface DishMapper {
+
+	/**
+	 * @param dish - The dish entity.
+	 * @return The response model of the dish.
+	 */
+	@Mapping(target = "popularityRank", ignore = true)
+	DishResponse toResponse(Dish dish);
+
+	/**
+	 * @param dishes - The dish entities.
+	 * @return The response models of the dishes, in the same order.
+	 */
+	List<DishResponse> toResponses(List<Dish> dishes);
+
+	/**
+	 * @param dishResponse - A dish response, e.g. one shared through the menu cache.
+	 * @return A copy of the dish response that can be modified.
+	 */
+	DishResponse copy(DishResponse dishResponse);
+
+	/**
+	 * @param dishRequest - The data of a new dish.
+	 * @return A dish entity without an ID and a restaurant.
+	 */
+	@Mapping(target = "dishId", ignore = true)
+	@Mapping(target = "restaurant", ignore = true)
+	Dish toEntity(DishRequest dishRequest);
+
+	/**
+	 * Overwrites the data of a dish entity; its ID and restaurant are kept.
+	 *
+	 * @param dishRequest - The new data of the dish.
+	 * @param dish - The dish entity to update.
+	 */
+	@Mapping(target = "dishId", ignore = true)
+	@Mapping(target = "restaurant", ignore = true)
+	void update(DishRequest dishRequest, @MappingTarget Dish dish);
+}
@@ -0,0 +1,43 @@
+package com.fooddeliveryapp.RestaurantService.mappers;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
+import com.fooddeliveryapp.RestaurantService.models.RestaurantRequest;
+import com.fooddeliveryapp.RestaurantService.models.RestaurantResponse;
+
+/**
+ * Maps between Restaurant entities and the restaurant models.
+ * The implementation is generated at compile time and copies the properties with plain getter and setter calls.
+ */
+@Mapper(config = CatalogMapperConfig.class)
+public interface RestaurantMapper {
+
+	/**
+	 * @param restaurant - The restaurant entity.
+	 * @return The response model of the restaurant.
+	 */
+	RestaurantResponse toResponse(Restaurant restaurant);
+
+	/**
+	 * @param restaurantRequest - The data of a new restaurant.
+	 * @return A restaurant entity without an ID.
+	 */
+	@Mapping(target = "restaurantId", ignore = true)
+	Restaurant toEntity(RestaurantRequest restaurantRequest);
+
+	/**
+	 * Overwrites the data of a restaurant entity; its ID is kept, and so is its location if the request has none,
+	 * so an update that leaves out the coordinates does not drop the restaurant from the nearby search.
+	 *
+	 * @param restaurantRequest - The new data of the restaurant.
+	 * @param restaurant - The restaurant entity to update.
+	 */
+	@Mapping(target = "restaurantId", ignore = true)
+	@Mapping(target = "latitude", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+	@Mapping(target = "longitude", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+	void update(RestaurantRequest restaurantRequest, @MappingTarget Restaurant restaurant);
+}
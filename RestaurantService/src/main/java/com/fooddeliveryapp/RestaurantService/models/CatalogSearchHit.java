@@ -0,0 +1,22 @@
+package com.fooddeliveryapp.RestaurantService.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a dish or a restaurant found by the catalog search.
+ * Every hit has the restaurant it belongs to; dish hits have the dish as well.
+ * The score is the relevance of the hit to the query; hits are ordered by it, highest first.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogSearchHit {
+	private SearchHitType type;
+	private double score;
+	private RestaurantResponse restaurant;
+	private DishResponse dish;
+}
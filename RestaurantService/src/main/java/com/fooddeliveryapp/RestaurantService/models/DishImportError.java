@@ -0,0 +1,18 @@
+package com.fooddeliveryapp.RestaurantService.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a row of a bulk menu import that was not imported, and why.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DishImportError {
+	private long line;
+	private String message;
+}
@@ -0,0 +1,29 @@
+package com.fooddeliveryapp.RestaurantService.models;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the progress of a bulk menu import, or its result once it has finished.
+ * Only the first rejected rows are listed; rowsRejected counts all of them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DishImportReport {
+	private UUID importId;
+	private String status;
+	private long rowsRead;
+	private long rowsImported;
+	private long rowsRejected;
+	private Instant startedAt;
+	private Instant finishedAt;
+	private List<DishImportError> errors;
+}
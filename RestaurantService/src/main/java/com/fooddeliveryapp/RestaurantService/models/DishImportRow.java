@@ -0,0 +1,30 @@
+package com.fooddeliveryapp.RestaurantService.models;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents one dish of a bulk menu import: the restaurant it is added to and the same data as a single new dish.
+ * In NDJSON the dish fields sit next to the restaurant ID, e.g.
+ * {"restaurantId": "...", "name": "...", "price": 9.5, "description": "...", "availability": true}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DishImportRow {
+	@NotNull(message = "Restaurant ID is required.")
+	private UUID restaurantId;
+
+	@Valid
+	@JsonUnwrapped
+	private DishRequest dish;
+}
@@ -0,0 +1,28 @@
+package com.fooddeliveryapp.RestaurantService.models;
+
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a partial change of one dish in a bulk update of a restaurant's dishes.
+ * Only the fields that are set are changed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DishPatchRequest {
+	@NotNull(message = "Dish ID is required.")
+	private UUID dishId;
+
+	private Boolean availability;
+
+	@PositiveOrZero(message = "Dish price should not be negative.")
+	private Double price;
+}
@@ -16,4 +16,6 @@ public class DishResponse {
     private Double price;
     private String description;
     private Boolean availability;
+    // 1 for the most ordered dish of the restaurant, null for dishes that are not among the most ordered
+    private Integer popularityRank;
 }
@@ -0,0 +1,23 @@
+package com.fooddeliveryapp.RestaurantService.models;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a restaurant found by the nearby search, with its distance from the searched location.
+ * The restaurant's fields are serialized at the top level, next to the distance.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NearbyRestaurantResponse {
+	@JsonUnwrapped
+	private RestaurantResponse restaurant;
+
+	private long distanceMeters;
+}
@@ -0,0 +1,21 @@
+package com.fooddeliveryapp.RestaurantService.models;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a response model for one page of the restaurant list.
+ * The next page is requested with the returned cursor; there are no more pages if it is null.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RestaurantPageResponse {
+	private List<RestaurantResponse> restaurants;
+	private String nextCursor;
+}
@@ -4,9 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * Represents a request to create a new restaurant.
  * This model is used to transfer data from the client
@@ -28,4 +33,18 @@ public class RestaurantRequest {
     @NotEmpty(message = "Restaurant phone number is required.")
     @Size(max = 15, message = "Restaurant phone number should not exceed 15 characters.")
     private String phoneNumber;
+
+    @DecimalMin(value = "-90.0", message = "Restaurant latitude should be between -90 and 90.")
+    @DecimalMax(value = "90.0", message = "Restaurant latitude should be between -90 and 90.")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Restaurant longitude should be between -180 and 180.")
+    @DecimalMax(value = "180.0", message = "Restaurant longitude should be between -180 and 180.")
+    private Double longitude;
+
+    @JsonIgnore
+    @AssertTrue(message = "Restaurant latitude and longitude should be given together.")
+    public boolean isLocationComplete() {
+        return (latitude == null) == (longitude == null);
+    }
 }
@@ -21,4 +21,6 @@ public class RestaurantResponse {
 	private String name;
 	private String address;
     private String phoneNumber;
+    private Double latitude;
+    private Double longitude;
 }
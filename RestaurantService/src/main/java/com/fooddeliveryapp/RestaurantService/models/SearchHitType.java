@@ -0,0 +1,8 @@
+package com.fooddeliveryapp.RestaurantService.models;
+
+/**
+ * The kinds of catalog entries found by the catalog search.
+ */
+public enum SearchHitType {
+	DISH, RESTAURANT
+}
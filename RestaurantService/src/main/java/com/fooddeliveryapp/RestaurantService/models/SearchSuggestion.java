@@ -0,0 +1,19 @@
+package com.fooddeliveryapp.RestaurantService.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents a dish or restaurant name that completes what has been typed into the search box.
+ * Corrected is true if the name only matches with typos in what has been typed.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchSuggestion {
+	private String text;
+	private boolean corrected;
+}
@@ -0,0 +1,66 @@
+package com.fooddeliveryapp.RestaurantService.popularity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The most ordered dishes of every restaurant, counted from the order events of the Order service.
+ *
+ * Every restaurant gets a fixed number of counters, however many dishes it has and however many orders it gets, so
+ * memory grows only with the number of restaurants. Orders count less the older they are, halving every
+ * restaurant.popularity.half-life (7 days). The counts are kept in memory; every instance reads all order events
+ * still kept by the broker when it starts, so it ranks the same as the others after a restart.
+ */
+@Component
+public class DishPopularity {
+
+	// the counters per restaurant; enough to keep the ranked dishes apart from the rest of a large menu
+	static final int COUNTERS = 32;
+	static final int RANKED_DISHES = 10;
+
+	private final Map<UUID, TopDishes> restaurants = new ConcurrentHashMap<>();
+	private final double decayRate;
+
+	@Autowired
+	public DishPopularity(@Value("${restaurant.popularity.half-life:P7D}") Duration halfLife) {
+		this.decayRate = Math.log(2) / halfLife.toSeconds();
+	}
+
+	/**
+	 * Counts an ordered dish.
+	 *
+	 * @param restaurantId - The ID of the restaurant.
+	 * @param dishId - The ID of the dish.
+	 * @param quantity - How many of it were ordered.
+	 * @param time - When it was ordered.
+	 */
+	public void record(UUID restaurantId, UUID dishId, int quantity, Instant time) {
+		restaurants.computeIfAbsent(restaurantId, id -> new TopDishes(COUNTERS, RANKED_DISHES, decayRate))
+				.add(dishId, quantity, time.getEpochSecond());
+	}
+
+	/**
+	 * @param restaurantId - The ID of the restaurant.
+	 * @return The up to ten most ordered dishes of the restaurant, most ordered first.
+	 */
+	public DishRanking ranking(UUID restaurantId) {
+		TopDishes topDishes = restaurants.get(restaurantId);
+		return topDishes != null ? topDishes.ranking() : DishRanking.EMPTY;
+	}
+
+	/**
+	 * Forgets a deleted restaurant.
+	 *
+	 * @param restaurantId - The ID of the restaurant.
+	 */
+	public void remove(UUID restaurantId) {
+		restaurants.remove(restaurantId);
+	}
+}
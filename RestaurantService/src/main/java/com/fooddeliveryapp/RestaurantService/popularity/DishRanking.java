@@ -0,0 +1,19 @@
+package com.fooddeliveryapp.RestaurantService.popularity;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The most ordered dishes of a restaurant, most ordered first.
+ *
+ * @param dishIds - The IDs of the dishes; may include dishes that have since been deleted.
+ * @param tag - A tag that changes with the ranking and is the same on every instance for the same ranking.
+ */
+public record DishRanking(List<UUID> dishIds, String tag) {
+
+	public static final DishRanking EMPTY = of(List.of());
+
+	static DishRanking of(List<UUID> dishIds) {
+		return new DishRanking(List.copyOf(dishIds), Integer.toHexString(dishIds.hashCode()));
+	}
+}
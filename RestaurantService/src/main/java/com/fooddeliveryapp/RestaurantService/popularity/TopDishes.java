@@ -0,0 +1,152 @@
+package com.fooddeliveryapp.RestaurantService.popularity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The most ordered dishes of one restaurant, counted with the Space-Saving algorithm in a fixed number of counters.
+ *
+ * A dish that is not counted yet takes over the counter with the lowest count, and the count it inherits is kept as
+ * the counter's error. Every dish ordered more often than the total count divided by the number of counters is
+ * guaranteed a counter; dishes are ranked by the part of their count that is certain, their count minus its error.
+ *
+ * Orders count less the older they are, halving with every half-life, so the ranking follows what is ordered now.
+ * Rather than shrinking every count as time passes, a new order counts more the later it is placed (forward decay);
+ * this ranks the same and is exact however late or out of order events arrive. Counts are scaled down again before
+ * they grow too large for a double.
+ */
+final class TopDishes {
+
+	// the largest exponent an order's weight may reach before the counts are scaled down; e^40 is about 2.4e17
+	private static final double MAX_EXPONENT = 40;
+
+	private final int rankedDishes;
+	private final double decayRate;
+	private final long[] mostSignificantBits;
+	private final long[] leastSignificantBits;
+	private final double[] counts;
+	private final double[] errors;
+	private int size;
+	// the epoch second at which an order has a weight of one per dish
+	private long landmark;
+	private volatile DishRanking ranking = DishRanking.EMPTY;
+
+	/**
+	 * @param capacity - The number of counters.
+	 * @param rankedDishes - The number of dishes ranked, at most the number of counters.
+	 * @param decayRate - The rate at which the weight of an order decays, per second.
+	 */
+	TopDishes(int capacity, int rankedDishes, double decayRate) {
+		this.rankedDishes = rankedDishes;
+		this.decayRate = decayRate;
+		this.mostSignificantBits = new long[capacity];
+		this.leastSignificantBits = new long[capacity];
+		this.counts = new double[capacity];
+		this.errors = new double[capacity];
+	}
+
+	/**
+	 * @return The current ranking; never blocks.
+	 */
+	DishRanking ranking() {
+		return ranking;
+	}
+
+	/**
+	 * Counts an ordered dish.
+	 *
+	 * @param dishId - The ID of the dish.
+	 * @param quantity - How many of it were ordered.
+	 * @param time - The epoch second of the order.
+	 */
+	synchronized void add(UUID dishId, int quantity, long time) {
+		if (size == 0) {
+			landmark = time;
+		}
+		double exponent = decayRate * (time - landmark);
+		if (exponent > MAX_EXPONENT) {
+			double scale = Math.exp(-exponent);
+			for (int i = 0; i < size; i++) {
+				counts[i] *= scale;
+				errors[i] *= scale;
+			}
+			landmark = time;
+			exponent = 0;
+		}
+
+		int counter = counterOf(dishId);
+		if (counter < 0) {
+			counter = size < counts.length ? size++ : lowestCounter();
+			mostSignificantBits[counter] = dishId.getMostSignificantBits();
+			leastSignificantBits[counter] = dishId.getLeastSignificantBits();
+			// an empty counter has a count of 0; a taken-over one passes its count on as the error
+			errors[counter] = counts[counter];
+		}
+		counts[counter] += quantity * Math.exp(exponent);
+
+		updateRanking();
+	}
+
+	private int counterOf(UUID dishId) {
+		long most = dishId.getMostSignificantBits();
+		long least = dishId.getLeastSignificantBits();
+		for (int i = 0; i < size; i++) {
+			if (mostSignificantBits[i] == most && leastSignificantBits[i] == least) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int lowestCounter() {
+		int lowest = 0;
+		for (int i = 1; i < size; i++) {
+			if (counts[i] < counts[lowest]) {
+				lowest = i;
+			}
+		}
+		return lowest;
+	}
+
+	// publishes a new ranking only when the order of the ranked dishes changed, which most orders do not change
+	private void updateRanking() {
+		int ranked = Math.min(rankedDishes, size);
+		int[] best = new int[ranked];
+		int found = 0;
+		for (int i = 0; i < size; i++) {
+			int position = found < ranked ? found++ : ranked;
+			while (position > 0 && isAhead(i, best[position - 1])) {
+				if (position < ranked) {
+					best[position] = best[position - 1];
+				}
+				position--;
+			}
+			if (position < ranked) {
+				best[position] = i;
+			}
+		}
+
+		List<UUID> current = ranking.dishIds();
+		boolean changed = current.size() != ranked;
+		for (int i = 0; i < ranked && !changed; i++) {
+			UUID dishId = current.get(i);
+			changed = dishId.getMostSignificantBits() != mostSignificantBits[best[i]]
+					|| dishId.getLeastSignificantBits() != leastSignificantBits[best[i]];
+		}
+		if (changed) {
+			List<UUID> dishIds = new ArrayList<>(ranked);
+			for (int i = 0; i < ranked; i++) {
+				dishIds.add(new UUID(mostSignificantBits[best[i]], leastSignificantBits[best[i]]));
+			}
+			ranking = DishRanking.of(dishIds);
+		}
+	}
+
+	// by the certain part of the count, then by the count
+	private boolean isAhead(int counter, int other) {
+		double certain = counts[counter] - errors[counter];
+		double otherCertain = counts[other] - errors[other];
+		return certain > otherCertain || (certain == otherCertain && counts[counter] > counts[other]);
+	}
+}
@@ -0,0 +1,89 @@
+package com.fooddeliveryapp.RestaurantService.repositories;
+
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fooddeliveryapp.RestaurantService.entities.CatalogVersion;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository interface for managing the persistence of CatalogVersion entities.
+ * Versions are read and incremented with single statements, without loading the entities.
+ * Native statements declare the catalog_version table as their query space, so Hibernate does not evict
+ * the cached restaurants and dishes when they run. Many versions at once are passed as a JSON array of keys,
+ * which SQL Server expands with OPENJSON.
+ */
+@Repository
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, String> {
+	/**
+	 * Finds the current version of a part of the catalog.
+	 * 
+	 * @param versionKey - The part of the catalog.
+	 * @return The version, or empty if the part was never written.
+	 */
+	@Query("SELECT v.version FROM CatalogVersion v WHERE v.versionKey = :versionKey")
+	Optional<Long> findVersion(@Param("versionKey") String versionKey);
+
+	/**
+	 * Increments the version of a part of the catalog. Joins the caller's transaction,
+	 * so the new version becomes visible together with the write it belongs to.
+	 * 
+	 * @param versionKey - The part of the catalog.
+	 * @return 1 if the version was incremented, 0 if the part has no version yet.
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE CatalogVersion v SET v.version = v.version + 1 WHERE v.versionKey = :versionKey")
+	int increment(@Param("versionKey") String versionKey);
+
+	/**
+	 * Creates the version of a part of the catalog as 0, unless it already exists.
+	 * Runs in its own transaction, so a concurrent insert of the same version cannot fail the caller's transaction.
+	 * 
+	 * @param versionKey - The part of the catalog.
+	 * @return 1 if the version was created, 0 if it already existed.
+	 */
+	@Modifying
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "catalog_version"))
+	@Query(value = "INSERT INTO catalog_version (version_key, version) SELECT :versionKey, 0 "
+			+ "WHERE NOT EXISTS (SELECT 1 FROM catalog_version WHERE version_key = :versionKey)", nativeQuery = true)
+	int createIfMissing(@Param("versionKey") String versionKey);
+
+	/**
+	 * Increments the versions of many parts of the catalog. Joins the caller's transaction.
+	 * 
+	 * @param versionKeys - A JSON array of the parts of the catalog.
+	 * @return The number of versions incremented; parts without a version are skipped.
+	 */
+	@Modifying
+	@Transactional
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "catalog_version"))
+	@Query(value = "UPDATE catalog_version SET version = version + 1 "
+			+ "WHERE version_key IN (SELECT [value] FROM OPENJSON(:versionKeys))", nativeQuery = true)
+	int incrementAll(@Param("versionKeys") String versionKeys);
+
+	/**
+	 * Creates the versions of many parts of the catalog as 0, except those that already exist.
+	 * Runs in its own transaction, like {@link #createIfMissing(String)}.
+	 * 
+	 * @param versionKeys - A JSON array of the parts of the catalog.
+	 * @return The number of versions created.
+	 */
+	@Modifying
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "catalog_version"))
+	@Query(value = "INSERT INTO catalog_version (version_key, version) SELECT DISTINCT k.[value], 0 FROM OPENJSON(:versionKeys) k "
+			+ "WHERE NOT EXISTS (SELECT 1 FROM catalog_version v WHERE v.version_key = k.[value])", nativeQuery = true)
+	int createAllIfMissing(@Param("versionKeys") String versionKeys);
+}
@@ -0,0 +1,57 @@
+package com.fooddeliveryapp.RestaurantService.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fooddeliveryapp.RestaurantService.entities.Dish;
+
+/**
+ * Repository for inserting dishes in batches with plain JDBC.
+ * Dishes carry their ID before they are inserted, so a batch needs no lookups and returns nothing.
+ *
+ * The inserts bypass Hibernate and its second-level cache. New dishes are not in the cache yet, and the cached dish
+ * lists of a menu are dropped when its version is bumped, so callers have to bump the menus they insert into.
+ */
+@Repository
+public class DishBatchRepository {
+
+	private static final String INSERT_DISH =
+			"INSERT INTO dish (dish_id, restaurant_id, name, price, description, availability) VALUES (?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	public DishBatchRepository(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * Inserts dishes as one JDBC batch. Joins the caller's transaction.
+	 * 
+	 * @param dishes The dishes to insert, with their IDs and restaurants set.
+	 */
+	public void insertAll(List<Dish> dishes) {
+		if (dishes.isEmpty()) {
+			return;
+		}
+		
+		jdbcTemplate.batchUpdate(INSERT_DISH, dishes, dishes.size(),
+				(PreparedStatement ps, Dish dish) -> {
+					ps.setString(1, dish.getDishId().toString());
+					ps.setString(2, dish.getRestaurant().getRestaurantId().toString());
+					ps.setString(3, dish.getName());
+					ps.setDouble(4, dish.getPrice());
+					if (dish.getDescription() != null) {
+						ps.setString(5, dish.getDescription());
+					} else {
+						ps.setNull(5, Types.VARCHAR);
+					}
+					ps.setBoolean(6, dish.getAvailability());
+				});
+	}
+}
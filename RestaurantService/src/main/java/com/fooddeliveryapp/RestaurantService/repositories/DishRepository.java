@@ -2,10 +2,20 @@ package com.fooddeliveryapp.RestaurantService.repositories;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.fooddeliveryapp.RestaurantService.caching.MenuCache;
 import com.fooddeliveryapp.RestaurantService.entities.Dish;
+import com.fooddeliveryapp.RestaurantService.search.SearchDocument;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for managing the persistence of Dish entities.
@@ -13,13 +23,67 @@ import com.fooddeliveryapp.RestaurantService.entities.Dish;
  * functionalities for managing Dish entities in the database.
  * 
  * The first type parameter is the entity class (Dish) and the second is the type of the entity's ID (UUID).
+ * 
+ * Bulk changes are applied with one UPDATE per changed column. The changes are passed as a JSON array, which SQL Server
+ * expands with OPENJSON, so a statement takes any number of dishes without hitting the 2100 parameter limit.
+ * The statements declare the dish table as their query space, so Hibernate evicts only the cached dishes
+ * and the cached query results that read dishes.
  */
 public interface DishRepository extends JpaRepository<Dish, UUID> {
 	 /**
      * Finds all dishes that belong to the specified restaurant.
+     * The result is not query-cached: the menus are cached per menu version by {@link MenuCache}.
      * 
      * @param restaurantId - The ID of the restaurant.
      * @return A list of dishes for the specified restaurant.
      */
 	List<Dish> findByRestaurant_RestaurantId(UUID restaurantId);
+
+	/**
+	 * Finds the IDs of the dishes of a restaurant, bypassing the caches.
+	 * 
+	 * @param restaurantId - The ID of the restaurant.
+	 * @return The IDs of the restaurant's dishes.
+	 */
+	@Query("SELECT d.dishId FROM Dish d WHERE d.restaurant.restaurantId = :restaurantId")
+	List<UUID> findIdsByRestaurantId(@Param("restaurantId") UUID restaurantId);
+
+	/**
+	 * Reads the names, descriptions and availability of all dishes for the search index, a batch of rows at a time.
+	 * Has to be called in a transaction, and the stream has to be closed.
+	 * 
+	 * @return The searchable text of every dish.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT new com.fooddeliveryapp.RestaurantService.search.SearchDocument("
+			+ "d.dishId, d.restaurant.restaurantId, d.name, d.description, d.availability) FROM Dish d")
+	Stream<SearchDocument> streamSearchDocuments();
+
+	/**
+	 * Sets the availability of many dishes of a restaurant at once.
+	 * 
+	 * @param restaurantId - The ID of the restaurant; dishes of other restaurants are left untouched.
+	 * @param changes - A JSON array of objects with a dishId and an availability.
+	 * @return The number of dishes updated.
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "dish"))
+	@Query(value = "UPDATE d SET d.availability = c.availability FROM dish d "
+			+ "JOIN OPENJSON(:changes) WITH (dish_id UNIQUEIDENTIFIER '$.dishId', availability BIT '$.availability') c "
+			+ "ON c.dish_id = d.dish_id WHERE d.restaurant_id = :restaurantId", nativeQuery = true)
+	int updateAvailability(@Param("restaurantId") String restaurantId, @Param("changes") String changes);
+
+	/**
+	 * Sets the prices of many dishes of a restaurant at once.
+	 * 
+	 * @param restaurantId - The ID of the restaurant; dishes of other restaurants are left untouched.
+	 * @param changes - A JSON array of objects with a dishId and a price.
+	 * @return The number of dishes updated.
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "dish"))
+	@Query(value = "UPDATE d SET d.price = c.price FROM dish d "
+			+ "JOIN OPENJSON(:changes) WITH (dish_id UNIQUEIDENTIFIER '$.dishId', price FLOAT '$.price') c "
+			+ "ON c.dish_id = d.dish_id WHERE d.restaurant_id = :restaurantId", nativeQuery = true)
+	int updatePrices(@Param("restaurantId") String restaurantId, @Param("changes") String changes);
 }
@@ -1,11 +1,24 @@
 package com.fooddeliveryapp.RestaurantService.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
+import com.fooddeliveryapp.RestaurantService.models.RestaurantResponse;
+import com.fooddeliveryapp.RestaurantService.search.SearchDocument;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for managing the persistence of Restaurant entities.
@@ -13,8 +26,91 @@ import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
  * functionalities for managing Restaurant entities in the database.
  * 
  * The first type parameter is the entity class (Restaurant) and the second is the type of the entity's ID (UUID).
+ * 
+ * The page queries select the response columns only and continue after the last restaurant of the previous page
+ * (keyset pagination) in (name, ID) order, so every page is a range scan of the name index, however deep it is.
+ * Name prefixes are LIKE patterns and have to be escaped with '\'.
  */
 @Repository
 public interface RestaurantRepository extends JpaRepository<Restaurant, UUID>{
 
+	String PAGE_SELECT = "SELECT new com.fooddeliveryapp.RestaurantService.models.RestaurantResponse("
+			+ "r.restaurantId, r.name, r.address, r.phoneNumber, r.latitude, r.longitude) FROM Restaurant r WHERE r.name LIKE :namePattern ESCAPE '\\' ";
+
+	/**
+	 * Finds the first page of restaurants in ascending name order.
+	 * 
+	 * @param namePattern - The escaped name prefix followed by '%'.
+	 * @param limit - The maximum number of restaurants.
+	 * @return The restaurants of the page.
+	 */
+	@Query(PAGE_SELECT + "ORDER BY r.name ASC, r.restaurantId ASC")
+	List<RestaurantResponse> findPageByName(@Param("namePattern") String namePattern, Limit limit);
+
+	/**
+	 * Finds the page of restaurants that follows a restaurant in ascending name order.
+	 * 
+	 * @param namePattern - The escaped name prefix followed by '%'.
+	 * @param afterName - The name of the last restaurant of the previous page.
+	 * @param afterId - The ID of the last restaurant of the previous page.
+	 * @param limit - The maximum number of restaurants.
+	 * @return The restaurants of the page.
+	 */
+	@Query(PAGE_SELECT + "AND (r.name > :afterName OR (r.name = :afterName AND r.restaurantId > :afterId)) "
+			+ "ORDER BY r.name ASC, r.restaurantId ASC")
+	List<RestaurantResponse> findPageByNameAfter(@Param("namePattern") String namePattern,
+			@Param("afterName") String afterName, @Param("afterId") UUID afterId, Limit limit);
+
+	/**
+	 * Finds the first page of restaurants in descending name order.
+	 * 
+	 * @param namePattern - The escaped name prefix followed by '%'.
+	 * @param limit - The maximum number of restaurants.
+	 * @return The restaurants of the page.
+	 */
+	@Query(PAGE_SELECT + "ORDER BY r.name DESC, r.restaurantId DESC")
+	List<RestaurantResponse> findPageByNameDesc(@Param("namePattern") String namePattern, Limit limit);
+
+	/**
+	 * Finds the page of restaurants that follows a restaurant in descending name order.
+	 * 
+	 * @param namePattern - The escaped name prefix followed by '%'.
+	 * @param beforeName - The name of the last restaurant of the previous page.
+	 * @param beforeId - The ID of the last restaurant of the previous page.
+	 * @param limit - The maximum number of restaurants.
+	 * @return The restaurants of the page.
+	 */
+	@Query(PAGE_SELECT + "AND (r.name < :beforeName OR (r.name = :beforeName AND r.restaurantId < :beforeId)) "
+			+ "ORDER BY r.name DESC, r.restaurantId DESC")
+	List<RestaurantResponse> findPageByNameDescBefore(@Param("namePattern") String namePattern,
+			@Param("beforeName") String beforeName, @Param("beforeId") UUID beforeId, Limit limit);
+
+	/**
+	 * Finds all restaurants with a location, for the nearby search index.
+	 * 
+	 * @return The restaurants with a latitude and a longitude.
+	 */
+	@Query("SELECT new com.fooddeliveryapp.RestaurantService.models.RestaurantResponse("
+			+ "r.restaurantId, r.name, r.address, r.phoneNumber, r.latitude, r.longitude) FROM Restaurant r "
+			+ "WHERE r.latitude IS NOT NULL AND r.longitude IS NOT NULL")
+	List<RestaurantResponse> findAllLocated();
+
+	/**
+	 * Reads the names of all restaurants for the search index, a batch of rows at a time.
+	 * Has to be called in a transaction, and the stream has to be closed.
+	 * 
+	 * @return The searchable text of every restaurant.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT new com.fooddeliveryapp.RestaurantService.search.SearchDocument(r.restaurantId, r.name) FROM Restaurant r")
+	Stream<SearchDocument> streamSearchDocuments();
+
+	/**
+	 * Finds which of the given restaurants exist, without loading them.
+	 * 
+	 * @param restaurantIds - The IDs to look up, at most 2000 so the statement stays within SQL Server's parameter limit.
+	 * @return The IDs of the restaurants that exist.
+	 */
+	@Query("SELECT r.restaurantId FROM Restaurant r WHERE r.restaurantId IN :restaurantIds")
+	List<UUID> findExistingIds(@Param("restaurantIds") Collection<UUID> restaurantIds);
 }
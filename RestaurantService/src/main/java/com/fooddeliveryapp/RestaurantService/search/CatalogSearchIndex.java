@@ -0,0 +1,180 @@
+package com.fooddeliveryapp.RestaurantService.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fooddeliveryapp.RestaurantService.entities.Dish;
+import com.fooddeliveryapp.RestaurantService.models.SearchSuggestion;
+import com.fooddeliveryapp.RestaurantService.repositories.DishRepository;
+import com.fooddeliveryapp.RestaurantService.repositories.RestaurantRepository;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Full-text search over the names and descriptions of all dishes and the names of all restaurants, kept in memory
+ * so a search reads no tables.
+ *
+ * The services apply their writes to the index once they are committed. The index is rebuilt from the database in the
+ * background when the application starts and every restaurant.search.rebuild-interval (15 minutes), which picks up
+ * writes made through other instances and drops deleted documents. Writes applied during a rebuild are applied to the
+ * rebuilt index as well. Until the first rebuild has finished, searches find only what was written since the start.
+ *
+ * Each rebuild also builds the trie of names that complete what is typed into the search box, and swaps it in with the
+ * index. Unlike the index, the trie is not changed by writes, so new names are suggested after the next rebuild.
+ */
+@Component
+@Log4j2
+public class CatalogSearchIndex {
+
+	// the longest query that is searched; longer ones are cut
+	static final int MAX_QUERY_TERMS = 10;
+	// the most names suggested at once
+	static final int MAX_SUGGESTIONS = 10;
+
+	private final RestaurantRepository restaurantRepository;
+	private final DishRepository dishRepository;
+	private final TransactionTemplate readOnlyTransaction;
+
+	private volatile InvertedIndex index = new InvertedIndex();
+	private volatile SuggestionTrie suggestions = SuggestionTrie.EMPTY;
+	// guarded by this; null unless a rebuild is running
+	private List<Consumer<InvertedIndex>> writesDuringRebuild;
+	// a rebuild may still run when the next one is due
+	private final Object rebuildLock = new Object();
+
+	@Autowired
+	public CatalogSearchIndex(RestaurantRepository restaurantRepository, DishRepository dishRepository,
+			PlatformTransactionManager transactionManager) {
+		this.restaurantRepository = restaurantRepository;
+		this.dishRepository = dishRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	/**
+	 * Finds the dishes and restaurants that contain any of the words of a query, most relevant first.
+	 *
+	 * @param query - The words to search for.
+	 * @param availableOnly - Whether dishes that cannot be ordered are left out.
+	 * @param limit - The maximum number of matches.
+	 * @return The best matches; none if the query has no searchable words.
+	 */
+	public List<SearchMatch> search(String query, boolean availableOnly, int limit) {
+		List<String> terms = SearchTokenizer.tokenize(query);
+		if (terms.isEmpty()) {
+			return List.of();
+		}
+		return index.search(terms.subList(0, Math.min(terms.size(), MAX_QUERY_TERMS)), availableOnly, limit);
+	}
+
+	/**
+	 * Completes what has been typed into the search box with the names of dishes and restaurants, allowing for typos.
+	 *
+	 * @param prefix - What has been typed so far.
+	 * @param limit - The maximum number of names, at most {@link #MAX_SUGGESTIONS}.
+	 * @return The names, those that match without typos first, then those of the most dishes and restaurants.
+	 */
+	public List<SearchSuggestion> suggest(String prefix, int limit) {
+		return suggestions.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+	}
+
+	/**
+	 * Adds or updates a restaurant. Call once the write is committed.
+	 *
+	 * @param restaurantId - The ID of the restaurant.
+	 * @param name - The name of the restaurant.
+	 */
+	public void putRestaurant(UUID restaurantId, String name) {
+		SearchDocument document = new SearchDocument(restaurantId, name);
+		write(index -> index.put(document));
+	}
+
+	/**
+	 * Adds or updates dishes. Call once the write is committed.
+	 *
+	 * @param dishes - The dish entities, with their restaurants.
+	 */
+	public void putDishes(Collection<Dish> dishes) {
+		List<SearchDocument> documents = dishes.stream().map(SearchDocument::of).toList();
+		write(index -> documents.forEach(index::put));
+	}
+
+	/**
+	 * Changes whether dishes can be ordered. Call once the write is committed.
+	 *
+	 * @param availabilities - The new availability of every changed dish, by dish ID.
+	 */
+	public void setAvailability(Map<UUID, Boolean> availabilities) {
+		Map<UUID, Boolean> changes = Map.copyOf(availabilities);
+		write(index -> changes.forEach(index::setAvailability));
+	}
+
+	/**
+	 * Removes a dish or a restaurant. Call once the deletion is committed.
+	 *
+	 * @param id - The ID of the dish or the restaurant.
+	 */
+	public void remove(UUID id) {
+		write(index -> index.remove(id));
+	}
+
+	/**
+	 * Builds a new index and a new trie of names from the database and replaces the current ones with them.
+	 */
+	@Scheduled(fixedDelayString = "${restaurant.search.rebuild-interval:PT15M}")
+	public void rebuild() {
+		synchronized (rebuildLock) {
+			long start = System.nanoTime();
+			synchronized (this) {
+				writesDuringRebuild = new ArrayList<>();
+			}
+			try {
+				InvertedIndex rebuilt = new InvertedIndex();
+				SuggestionTrie.Builder names = new SuggestionTrie.Builder();
+				Consumer<SearchDocument> add = document -> {
+					rebuilt.put(document);
+					names.add(document.name(), 1);
+				};
+				readOnlyTransaction.executeWithoutResult(status -> {
+					try (Stream<SearchDocument> restaurants = restaurantRepository.streamSearchDocuments()) {
+						restaurants.forEach(add);
+					}
+					try (Stream<SearchDocument> dishes = dishRepository.streamSearchDocuments()) {
+						dishes.forEach(add);
+					}
+				});
+				SuggestionTrie rebuiltSuggestions = names.build();
+
+				synchronized (this) {
+					writesDuringRebuild.forEach(write -> write.accept(rebuilt));
+					index = rebuilt;
+					suggestions = rebuiltSuggestions;
+				}
+				log.info("Catalog search index rebuilt with {} dishes and restaurants and {} names in {} ms.", rebuilt.size(),
+						rebuiltSuggestions.size(), (System.nanoTime() - start) / 1_000_000);
+			} finally {
+				synchronized (this) {
+					writesDuringRebuild = null;
+				}
+			}
+		}
+	}
+
+	private synchronized void write(Consumer<InvertedIndex> write) {
+		if (writesDuringRebuild != null) {
+			writesDuringRebuild.add(write);
+		}
+		write.accept(index);
+	}
+}
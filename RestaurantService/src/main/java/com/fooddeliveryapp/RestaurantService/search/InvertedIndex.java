@@ -0,0 +1,317 @@
+package com.fooddeliveryapp.RestaurantService.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.fooddeliveryapp.RestaurantService.models.SearchHitType;
+
+/**
+ * An inverted index of dishes and restaurants, ranked with Okapi BM25.
+ *
+ * Every document gets the next number when it is added, so every posting list is sorted by document number and a query
+ * walks the lists of its terms side by side, without a score array over all documents. Name terms count
+ * {@link #NAME_WEIGHT} times, so a dish called "Ramen" ranks above one that mentions ramen in its description.
+ *
+ * An updated document is added again under a new number and the old one is marked deleted; deleted documents are
+ * skipped by queries and dropped when the index is rebuilt. Queries share a read lock and writes take the write lock.
+ */
+final class InvertedIndex {
+
+	static final int NAME_WEIGHT = 2;
+
+	// the usual BM25 parameters: term frequency saturation and document length normalization
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+
+	private static final class Postings {
+		private int[] documents = new int[2];
+		private int[] frequencies = new int[2];
+		private int size;
+		// documents in the list that are not deleted, for the inverse document frequency
+		private int liveDocuments;
+
+		private void add(int document, int frequency) {
+			if (size == documents.length) {
+				documents = Arrays.copyOf(documents, size * 2);
+				frequencies = Arrays.copyOf(frequencies, size * 2);
+			}
+			documents[size] = document;
+			frequencies[size] = frequency;
+			size++;
+			liveDocuments++;
+		}
+	}
+
+	// the text is not kept, only what a query needs
+	private static final class Document {
+		private final DocumentKey key;
+		private final int length;
+		private final Postings[] postings;
+		private boolean available;
+		private boolean deleted;
+
+		private Document(DocumentKey key, int length, Postings[] postings, boolean available) {
+			this.key = key;
+			this.length = length;
+			this.postings = postings;
+			this.available = available;
+		}
+	}
+
+	private record DocumentKey(SearchHitType type, UUID id, UUID restaurantId) {
+	}
+
+	private record Scored(int document, double score) {
+	}
+
+	// lowest score first, so the worst of the best hits is evicted; the later document loses a tie
+	private static final Comparator<Scored> WORST_FIRST = Comparator.comparingDouble(Scored::score)
+			.thenComparing(Comparator.comparingInt(Scored::document).reversed());
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, Postings> postings = new HashMap<>();
+	private final Map<UUID, Integer> documentNumbers = new HashMap<>();
+	private Document[] documents = new Document[1024];
+	private int documentCount;
+	private int liveDocuments;
+	private long liveLength;
+
+	/**
+	 * Adds a document, or replaces the document with the same ID.
+	 *
+	 * @param source - The document.
+	 */
+	void put(SearchDocument source) {
+		// term frequencies, weighted by field
+		Map<String, Integer> frequencies = new LinkedHashMap<>();
+		for (String term : SearchTokenizer.tokenize(source.name())) {
+			frequencies.merge(term, NAME_WEIGHT, Integer::sum);
+		}
+		for (String term : SearchTokenizer.tokenize(source.description())) {
+			frequencies.merge(term, 1, Integer::sum);
+		}
+		int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+		lock.writeLock().lock();
+		try {
+			delete(source.id());
+
+			int number = documentCount++;
+			if (number == documents.length) {
+				documents = Arrays.copyOf(documents, number * 2);
+			}
+			Postings[] documentPostings = new Postings[frequencies.size()];
+			int i = 0;
+			for (Map.Entry<String, Integer> frequency : frequencies.entrySet()) {
+				Postings termPostings = postings.computeIfAbsent(frequency.getKey(), term -> new Postings());
+				termPostings.add(number, frequency.getValue());
+				documentPostings[i++] = termPostings;
+			}
+			documents[number] = new Document(new DocumentKey(source.type(), source.id(), source.restaurantId()), length,
+					documentPostings, source.available());
+			documentNumbers.put(source.id(), number);
+			liveDocuments++;
+			liveLength += length;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @param id - The ID of a dish or a restaurant; unknown IDs are ignored.
+	 */
+	void remove(UUID id) {
+		lock.writeLock().lock();
+		try {
+			delete(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Changes whether a dish can be ordered, without indexing it again.
+	 *
+	 * @param dishId - The ID of the dish; unknown IDs are ignored.
+	 * @param available - Whether it can be ordered.
+	 */
+	void setAvailability(UUID dishId, boolean available) {
+		lock.writeLock().lock();
+		try {
+			Integer number = documentNumbers.get(dishId);
+			if (number != null) {
+				documents[number].available = available;
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * @return The number of documents that are not deleted.
+	 */
+	int size() {
+		lock.readLock().lock();
+		try {
+			return liveDocuments;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Finds the documents that contain any of the terms, most relevant first.
+	 *
+	 * @param terms - The terms of the query, as returned by the tokenizer.
+	 * @param availableOnly - Whether dishes that cannot be ordered are left out.
+	 * @param limit - The maximum number of matches.
+	 * @return The best matches.
+	 */
+	List<SearchMatch> search(List<String> terms, boolean availableOnly, int limit) {
+		lock.readLock().lock();
+		try {
+			if (liveDocuments == 0) {
+				return List.of();
+			}
+			List<Postings> lists = new ArrayList<>();
+			List<Double> weights = new ArrayList<>();
+			for (String term : terms.stream().distinct().toList()) {
+				Postings termPostings = postings.get(term);
+				if (termPostings != null && termPostings.liveDocuments > 0) {
+					lists.add(termPostings);
+					weights.add(inverseDocumentFrequency(termPostings.liveDocuments));
+				}
+			}
+
+			PriorityQueue<Scored> best = collect(lists.toArray(Postings[]::new), weights.stream().mapToDouble(Double::doubleValue).toArray(),
+					availableOnly, limit);
+
+			List<Scored> ranked = new ArrayList<>(best);
+			ranked.sort(WORST_FIRST.reversed());
+			List<SearchMatch> matches = new ArrayList<>(ranked.size());
+			for (Scored scored : ranked) {
+				DocumentKey key = documents[scored.document()].key;
+				matches.add(new SearchMatch(key.type(), key.id(), key.restaurantId(), scored.score()));
+			}
+			return matches;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/*
+	 * Walks the posting lists side by side, one document at a time, and keeps the best scores. Once the best scores
+	 * are known well enough, the lists of the common terms cannot lift a document into them on their own (MaxScore):
+	 * only documents from the other lists are scored, and the common lists are searched for just those documents.
+	 */
+	private PriorityQueue<Scored> collect(Postings[] lists, double[] weights, boolean availableOnly, int limit) {
+		PriorityQueue<Scored> best = new PriorityQueue<>(limit + 1, WORST_FIRST);
+		double averageLength = (double) liveLength / liveDocuments;
+
+		// the lists by the most a term can add to a score, lowest first, and the running totals of those maxima
+		Integer[] order = new Integer[lists.length];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparingDouble(i -> weights[i]));
+		Postings[] sorted = new Postings[lists.length];
+		double[] sortedWeights = new double[lists.length];
+		double[] maxScores = new double[lists.length];
+		for (int i = 0; i < order.length; i++) {
+			sorted[i] = lists[order[i]];
+			sortedWeights[i] = weights[order[i]];
+			maxScores[i] = (i == 0 ? 0 : maxScores[i - 1]) + sortedWeights[i] * (K1 + 1);
+		}
+		int[] positions = new int[lists.length];
+		// the lists before this one can only add to documents found in the others
+		int firstEssential = 0;
+		double threshold = Double.NEGATIVE_INFINITY;
+
+		while (true) {
+			int document = Integer.MAX_VALUE;
+			for (int i = firstEssential; i < sorted.length; i++) {
+				if (positions[i] < sorted[i].size) {
+					document = Math.min(document, sorted[i].documents[positions[i]]);
+				}
+			}
+			if (document == Integer.MAX_VALUE) {
+				return best;
+			}
+
+			Document candidate = documents[document];
+			boolean skipped = candidate.deleted || (availableOnly && !candidate.available);
+			double score = 0;
+			for (int i = firstEssential; i < sorted.length; i++) {
+				if (positions[i] < sorted[i].size && sorted[i].documents[positions[i]] == document) {
+					if (!skipped) {
+						score += termScore(sorted[i], positions[i], sortedWeights[i], candidate, averageLength);
+					}
+					positions[i]++;
+				}
+			}
+			if (skipped) {
+				continue;
+			}
+			for (int i = firstEssential - 1; i >= 0 && score + maxScores[i] > threshold; i--) {
+				int position = Arrays.binarySearch(sorted[i].documents, positions[i], sorted[i].size, document);
+				if (position >= 0) {
+					score += termScore(sorted[i], position, sortedWeights[i], candidate, averageLength);
+					positions[i] = position + 1;
+				} else {
+					positions[i] = -position - 1;
+				}
+			}
+
+			// a tie goes to the earlier document, so a document has to beat the worst of the best scores
+			if (best.size() < limit) {
+				best.add(new Scored(document, score));
+			} else if (score > threshold) {
+				best.poll();
+				best.add(new Scored(document, score));
+			} else {
+				continue;
+			}
+			if (best.size() == limit) {
+				threshold = best.peek().score();
+				while (firstEssential < sorted.length && maxScores[firstEssential] <= threshold) {
+					firstEssential++;
+				}
+			}
+		}
+	}
+
+	private static double termScore(Postings postings, int position, double weight, Document document, double averageLength) {
+		double frequency = postings.frequencies[position];
+		double normalization = K1 * (1 - B + B * document.length / averageLength);
+		return weight * frequency * (K1 + 1) / (frequency + normalization);
+	}
+
+	// the BM25 weight of a term, which never goes negative, even for a term in most documents
+	private double inverseDocumentFrequency(int documentFrequency) {
+		return Math.log(1 + (liveDocuments - documentFrequency + 0.5) / (documentFrequency + 0.5));
+	}
+
+	// guarded by the write lock
+	private void delete(UUID id) {
+		Integer number = documentNumbers.remove(id);
+		if (number == null) {
+			return;
+		}
+		Document document = documents[number];
+		document.deleted = true;
+		for (Postings termPostings : document.postings) {
+			termPostings.liveDocuments--;
+		}
+		liveDocuments--;
+		liveLength -= document.length;
+	}
+}
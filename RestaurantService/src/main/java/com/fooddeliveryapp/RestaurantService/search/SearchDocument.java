@@ -0,0 +1,42 @@
+package com.fooddeliveryapp.RestaurantService.search;
+
+import java.util.UUID;
+
+import com.fooddeliveryapp.RestaurantService.entities.Dish;
+import com.fooddeliveryapp.RestaurantService.models.SearchHitType;
+
+/**
+ * The searchable text of a dish or a restaurant. Also selected by the repositories when the index is rebuilt.
+ *
+ * @param type - Whether this is a dish or a restaurant.
+ * @param id - The ID of the dish or the restaurant.
+ * @param restaurantId - The ID of the restaurant, or of the dish's restaurant.
+ * @param name - The name.
+ * @param description - The description of a dish, null for a restaurant.
+ * @param available - Whether a dish can be ordered; always true for a restaurant.
+ */
+public record SearchDocument(SearchHitType type, UUID id, UUID restaurantId, String name, String description, boolean available) {
+
+	/**
+	 * A dish.
+	 */
+	public SearchDocument(UUID dishId, UUID restaurantId, String name, String description, Boolean availability) {
+		this(SearchHitType.DISH, dishId, restaurantId, name, description, Boolean.TRUE.equals(availability));
+	}
+
+	/**
+	 * A restaurant.
+	 */
+	public SearchDocument(UUID restaurantId, String name) {
+		this(SearchHitType.RESTAURANT, restaurantId, restaurantId, name, null, true);
+	}
+
+	/**
+	 * @param dish - A dish entity with its restaurant.
+	 * @return The searchable text of the dish.
+	 */
+	public static SearchDocument of(Dish dish) {
+		return new SearchDocument(dish.getDishId(), dish.getRestaurant().getRestaurantId(), dish.getName(), dish.getDescription(),
+				dish.getAvailability());
+	}
+}
@@ -0,0 +1,11 @@
+package com.fooddeliveryapp.RestaurantService.search;
+
+import java.util.UUID;
+
+import com.fooddeliveryapp.RestaurantService.models.SearchHitType;
+
+/**
+ * A dish or a restaurant found in the search index, with its BM25 relevance score.
+ */
+public record SearchMatch(SearchHitType type, UUID id, UUID restaurantId, double score) {
+}
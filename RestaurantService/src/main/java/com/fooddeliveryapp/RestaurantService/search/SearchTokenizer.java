@@ -0,0 +1,82 @@
+package com.fooddeliveryapp.RestaurantService.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits dish and restaurant names and descriptions into search terms.
+ * Terms are lower-cased runs of letters and digits without accents, so "Crème Brûlée" and "creme brulee" match,
+ * and English plural endings are removed, so "noodles" matches "noodle" and "dishes" matches "dish".
+ * A few very common words are dropped.
+ */
+final class SearchTokenizer {
+
+	static final int MAX_TERM_LENGTH = 40;
+
+	private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+	private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "in", "of", "on", "or", "the", "to", "with");
+
+	private SearchTokenizer() {
+	}
+
+	/**
+	 * @param text - The text to split, may be null.
+	 * @return The terms of the text in their order, with repetitions.
+	 */
+	static List<String> tokenize(String text) {
+		List<String> terms = new ArrayList<>();
+		if (text == null || text.isEmpty()) {
+			return terms;
+		}
+
+		String folded = fold(text);
+		int start = -1;
+		for (int i = 0; i <= folded.length(); i++) {
+			boolean wordCharacter = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+			if (wordCharacter && start < 0) {
+				start = i;
+			} else if (!wordCharacter && start >= 0) {
+				String term = folded.substring(start, Math.min(i, start + MAX_TERM_LENGTH));
+				if (!STOP_WORDS.contains(term)) {
+					terms.add(stem(term));
+				}
+				start = -1;
+			}
+		}
+		return terms;
+	}
+
+	/**
+	 * @param text - Any text.
+	 * @return The text in lower case and without accents.
+	 */
+	static String fold(String text) {
+		String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+		return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+	}
+
+	// removes English plural endings: "fries" to "fry", "dishes" to "dish", "tomatoes" to "tomato", "noodles" to "noodle"
+	static String stem(String term) {
+		if (term.length() <= 3) {
+			return term;
+		}
+		if (term.endsWith("ies") && !term.endsWith("eies") && !term.endsWith("aies")) {
+			return term.substring(0, term.length() - 3) + "y";
+		}
+		if (term.endsWith("es")) {
+			String base = term.substring(0, term.length() - 2);
+			if (base.endsWith("sh") || base.endsWith("ch") || base.endsWith("ss") || base.endsWith("x") || base.endsWith("z")
+					|| base.endsWith("o")) {
+				return base;
+			}
+		}
+		if (term.endsWith("s") && !term.endsWith("us") && !term.endsWith("ss")) {
+			return term.substring(0, term.length() - 1);
+		}
+		return term;
+	}
+}
@@ -0,0 +1,527 @@
+package com.fooddeliveryapp.RestaurantService.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fooddeliveryapp.RestaurantService.models.SearchSuggestion;
+
+/**
+ * The dish and restaurant names to complete a search box with, in a compressed trie (radix tree).
+ *
+ * Every name is added under its own key and under every word it contains, so "ram" completes "Tonkotsu Ramen" too.
+ * Keys are folded like search terms, with one space between words. Every name has a weight, the number of dishes and
+ * restaurants that carry it, and the heaviest completions are found first: every node knows the heaviest weight below
+ * it, and a search expands the heaviest node next until it has enough names.
+ *
+ * A prefix matches with up to {@link #MAX_EDITS} typos (insertions, deletions, substitutions or swaps of neighbouring
+ * characters) depending on its length, but never in its first character; completions with fewer typos come first.
+ * Typos are only looked for when there are not enough completions without. The trie is then walked with one
+ * Damerau-Levenshtein row per character. The rows, the heap and the other buffers of a search are kept per thread, so
+ * a search allocates only the names it returns.
+ *
+ * The trie cannot be changed once built; it is flattened breadth first into arrays, so the children of a node are
+ * consecutive, the heaviest first.
+ */
+final class SuggestionTrie {
+
+	static final int MAX_EDITS = 2;
+	// longer prefixes are cut; a name is usually clear long before
+	static final int MAX_PREFIX_LENGTH = 50;
+	private static final int MAX_KEY_LENGTH = 255;
+
+	static final SuggestionTrie EMPTY = new Builder().build();
+
+	// heap entries: the weight, then the index of the node or name counted down from the top, then the kind of entry
+	private static final int KIND_BITS = 2;
+	private static final int INDEX_MASK = (1 << (32 - KIND_BITS)) - 1;
+	private static final int MATCHED_NODE = 0;
+	private static final int CHILD_NODE = 1;
+	private static final int NAME = 2;
+
+	private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+	// the labels of the edges into the nodes, in node order; node n has labels[labelStarts[n]] to labels[labelStarts[n + 1]]
+	private final char[] labels;
+	private final int[] labelStarts;
+	// the children of node n are the nodes firstChildren[n] to firstChildren[n + 1]
+	private final int[] firstChildren;
+	private final BitSet lastChildren;
+	// the heaviest name below a node, including its own
+	private final int[] maxWeights;
+	// the names whose key ends at node n are nameIds[nameStarts[n]] to nameIds[nameStarts[n + 1]], the heaviest first
+	private final int[] nameStarts;
+	private final int[] nameIds;
+	private final BitSet lastNames;
+	private final String[] names;
+	private final int[] weights;
+
+	private SuggestionTrie(char[] labels, int[] labelStarts, int[] firstChildren, BitSet lastChildren, int[] maxWeights,
+			int[] nameStarts, int[] nameIds, BitSet lastNames, String[] names, int[] weights) {
+		this.labels = labels;
+		this.labelStarts = labelStarts;
+		this.firstChildren = firstChildren;
+		this.lastChildren = lastChildren;
+		this.maxWeights = maxWeights;
+		this.nameStarts = nameStarts;
+		this.nameIds = nameIds;
+		this.lastNames = lastNames;
+		this.names = names;
+		this.weights = weights;
+	}
+
+	// the buffers of the searches of one thread
+	private static final class Scratch {
+		private final char[] prefix = new char[MAX_PREFIX_LENGTH];
+		// row d holds the edit distances between the first d characters of a key and every length of the prefix
+		private final int[][] rows = new int[MAX_PREFIX_LENGTH + MAX_EDITS + 2][MAX_PREFIX_LENGTH + 1];
+		private int[] matchedNodes = new int[64];
+		private int[] matchedEdits = new int[64];
+		private int matchCount;
+		private long[] heap = new long[256];
+		private int heapSize;
+		private final int[] found = new int[CatalogSearchIndex.MAX_SUGGESTIONS];
+	}
+
+	/**
+	 * @return The number of distinct names.
+	 */
+	int size() {
+		return names.length;
+	}
+
+	/**
+	 * Completes the beginning of a name.
+	 *
+	 * @param text - What has been typed so far.
+	 * @param limit - The maximum number of names, at most {@link CatalogSearchIndex#MAX_SUGGESTIONS}.
+	 * @return The names, those with the fewest typos first, then the heaviest.
+	 */
+	List<SearchSuggestion> suggest(CharSequence text, int limit) {
+		Scratch scratch = SCRATCH.get();
+		int length = normalize(text, scratch.prefix, true);
+		if (length == 0 || names.length == 0) {
+			return List.of();
+		}
+		int maxEdits = length < 3 ? 0 : length < 6 ? 1 : MAX_EDITS;
+		List<SearchSuggestion> suggestions = new ArrayList<>(limit);
+
+		// most prefixes have enough completions without typos, and those are found by walking down the trie once
+		scratch.matchCount = 0;
+		int node = exactMatch(scratch.prefix, length);
+		if (node >= 0) {
+			addMatch(scratch, node, 0);
+		}
+		int count = collect(scratch, 0, suggestions, 0, limit);
+		if (count == limit || maxEdits == 0) {
+			return suggestions;
+		}
+
+		int[] first = scratch.rows[0];
+		for (int j = 0; j <= length; j++) {
+			first[j] = j;
+		}
+		scratch.matchCount = 0;
+		match(scratch, length, maxEdits, 0, 0, maxEdits + 1);
+		for (int edits = 1; edits <= maxEdits && count < limit; edits++) {
+			count = collect(scratch, edits, suggestions, count, limit);
+		}
+		return suggestions;
+	}
+
+	// the node below which every key starts with the prefix, or -1
+	private int exactMatch(char[] prefix, int length) {
+		int node = 0;
+		int depth = 0;
+		while (depth < length) {
+			int next = -1;
+			for (int child = firstChildren[node]; child < firstChildren[node + 1]; child++) {
+				if (labels[labelStarts[child]] == prefix[depth]) {
+					next = child;
+					break;
+				}
+			}
+			if (next < 0) {
+				return -1;
+			}
+			for (int i = labelStarts[next]; i < labelStarts[next + 1] && depth < length; i++, depth++) {
+				if (labels[i] != prefix[depth]) {
+					return -1;
+				}
+			}
+			node = next;
+		}
+		return node;
+	}
+
+	// adds the heaviest names below the nodes that matched with the given number of typos, best first
+	private int collect(Scratch scratch, int edits, List<SearchSuggestion> suggestions, int count, int limit) {
+		scratch.heapSize = 0;
+		for (int i = 0; i < scratch.matchCount; i++) {
+			if (scratch.matchedEdits[i] == edits) {
+				push(scratch, maxWeights[scratch.matchedNodes[i]], scratch.matchedNodes[i], MATCHED_NODE);
+			}
+		}
+		while (scratch.heapSize > 0 && count < limit) {
+			long entry = pop(scratch);
+			int index = INDEX_MASK - (int) ((entry >>> KIND_BITS) & INDEX_MASK);
+			int kind = (int) (entry & ((1 << KIND_BITS) - 1));
+			if (kind == NAME) {
+				int name = nameIds[index];
+				if (!contains(scratch.found, count, name)) {
+					scratch.found[count++] = name;
+					suggestions.add(new SearchSuggestion(names[name], edits > 0));
+				}
+				if (!lastNames.get(index)) {
+					push(scratch, weights[nameIds[index + 1]], index + 1, NAME);
+				}
+				continue;
+			}
+			if (nameStarts[index] < nameStarts[index + 1]) {
+				push(scratch, weights[nameIds[nameStarts[index]]], nameStarts[index], NAME);
+			}
+			if (firstChildren[index] < firstChildren[index + 1]) {
+				push(scratch, maxWeights[firstChildren[index]], firstChildren[index], CHILD_NODE);
+			}
+			if (kind == CHILD_NODE && !lastChildren.get(index)) {
+				push(scratch, maxWeights[index + 1], index + 1, CHILD_NODE);
+			}
+		}
+		return count;
+	}
+
+	/*
+	 * Finds the nodes below which every key starts with the prefix, give or take the allowed typos. A node is kept when
+	 * it matches with fewer typos than any node above it, and the walk stops where no row value is below that count.
+	 * Only the band of each row within maxEdits of the diagonal is computed; the values around it are capped at one
+	 * more than allowed, which is all the next row needs to know of them.
+	 */
+	private void match(Scratch scratch, int length, int maxEdits, int node, int depth, int best) {
+		char[] prefix = scratch.prefix;
+		int[][] rows = scratch.rows;
+		int cap = maxEdits + 1;
+		for (int child = firstChildren[node]; child < firstChildren[node + 1]; child++) {
+			// the first character is taken as typed, which keeps the walk close to the prefix
+			if (depth == 0 && labels[labelStarts[child]] != prefix[0]) {
+				continue;
+			}
+			int d = depth;
+			int childBest = best;
+			boolean open = true;
+			char previous = d == 0 ? 0 : labels[labelStarts[node + 1] - 1];
+			for (int i = labelStarts[child]; i < labelStarts[child + 1] && open; i++) {
+				char c = labels[i];
+				int[] above = rows[d];
+				int[] row = rows[d + 1];
+				int low = Math.max(1, d + 1 - maxEdits);
+				int high = Math.min(length, d + 1 + maxEdits);
+				row[0] = Math.min(d + 1, cap);
+				row[low - 1] = low == 1 ? row[0] : cap;
+				int min = row[low - 1];
+				for (int j = low; j <= high; j++) {
+					int edits = Math.min(Math.min(row[j - 1], above[j]) + 1, above[j - 1] + (prefix[j - 1] == c ? 0 : 1));
+					if (j > 1 && d > 0 && prefix[j - 1] == previous && prefix[j - 2] == c) {
+						edits = Math.min(edits, rows[d - 1][j - 2] + 1);
+					}
+					row[j] = Math.min(edits, cap);
+					min = Math.min(min, row[j]);
+				}
+				if (high < length) {
+					row[high + 1] = cap;
+				}
+				d++;
+				previous = c;
+				int edits = high == length ? row[length] : cap;
+				if (edits < childBest) {
+					childBest = edits;
+					addMatch(scratch, child, childBest);
+				}
+				open = min < childBest;
+			}
+			if (open) {
+				match(scratch, length, maxEdits, child, d, childBest);
+			}
+		}
+	}
+
+	private static void addMatch(Scratch scratch, int node, int edits) {
+		if (scratch.matchCount == scratch.matchedNodes.length) {
+			scratch.matchedNodes = Arrays.copyOf(scratch.matchedNodes, scratch.matchCount * 2);
+			scratch.matchedEdits = Arrays.copyOf(scratch.matchedEdits, scratch.matchCount * 2);
+		}
+		scratch.matchedNodes[scratch.matchCount] = node;
+		scratch.matchedEdits[scratch.matchCount] = edits;
+		scratch.matchCount++;
+	}
+
+	// a binary max-heap of entries; a tie goes to the lower index, which is the name or node that sorts first
+	private static void push(Scratch scratch, int weight, int index, int kind) {
+		if (scratch.heapSize == scratch.heap.length) {
+			scratch.heap = Arrays.copyOf(scratch.heap, scratch.heapSize * 2);
+		}
+		long[] heap = scratch.heap;
+		long entry = ((long) weight << 32) | ((long) (INDEX_MASK - index) << KIND_BITS) | kind;
+		int i = scratch.heapSize++;
+		while (i > 0 && heap[(i - 1) / 2] < entry) {
+			heap[i] = heap[(i - 1) / 2];
+			i = (i - 1) / 2;
+		}
+		heap[i] = entry;
+	}
+
+	private static long pop(Scratch scratch) {
+		long[] heap = scratch.heap;
+		long top = heap[0];
+		long last = heap[--scratch.heapSize];
+		int i = 0;
+		while (2 * i + 1 < scratch.heapSize) {
+			int child = 2 * i + 1;
+			if (child + 1 < scratch.heapSize && heap[child + 1] > heap[child]) {
+				child++;
+			}
+			if (heap[child] <= last) {
+				break;
+			}
+			heap[i] = heap[child];
+			i = child;
+		}
+		heap[i] = last;
+		return top;
+	}
+
+	private static boolean contains(int[] values, int count, int value) {
+		for (int i = 0; i < count; i++) {
+			if (values[i] == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * Folds text into a key: letters and digits in lower case and without accents, one space between words. Only
+	 * characters outside ASCII are folded through the tokenizer. A space typed after the last word is kept, as it
+	 * says the word is complete.
+	 */
+	private static int normalize(CharSequence text, char[] key, boolean keepTrailingSpace) {
+		int length = 0;
+		boolean space = false;
+		for (int i = 0; i < text.length() && length < key.length; i++) {
+			char c = text.charAt(i);
+			if (c < 128) {
+				if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+					length = append(key, length, c, space);
+					space = false;
+				} else if (c >= 'A' && c <= 'Z') {
+					length = append(key, length, (char) (c + ('a' - 'A')), space);
+					space = false;
+				} else {
+					space = true;
+				}
+				continue;
+			}
+			String folded = SearchTokenizer.fold(String.valueOf(c));
+			for (int j = 0; j < folded.length() && length < key.length; j++) {
+				if (Character.isLetterOrDigit(folded.charAt(j))) {
+					length = append(key, length, folded.charAt(j), space);
+					space = false;
+				} else {
+					space = true;
+				}
+			}
+		}
+		if (keepTrailingSpace && space && length > 0 && length < key.length) {
+			key[length++] = ' ';
+		}
+		return length;
+	}
+
+	private static int append(char[] key, int length, char c, boolean space) {
+		if (space && length > 0) {
+			key[length++] = ' ';
+			if (length == key.length) {
+				return length;
+			}
+		}
+		key[length++] = c;
+		return length;
+	}
+
+	/**
+	 * Collects names, then builds a trie of them. Not thread-safe.
+	 */
+	static final class Builder {
+
+		private static final class Name {
+			private final String text;
+			private int weight;
+
+			private Name(String text) {
+				this.text = text;
+			}
+		}
+
+		// a node of the trie while it is built; the label is key[start] to key[end] of its first key
+		private static final class Node {
+			private final String key;
+			private final int start;
+			private final int end;
+			private final List<Node> children = new ArrayList<>();
+			private final List<Integer> names = new ArrayList<>();
+			private int maxWeight;
+
+			private Node(String key, int start, int end) {
+				this.key = key;
+				this.start = start;
+				this.end = end;
+			}
+		}
+
+		private final char[] buffer = new char[MAX_KEY_LENGTH];
+		private final Map<String, Name> names = new HashMap<>();
+
+		/**
+		 * Adds a name, or adds weight to a name that has already been added; names that fold the same are one name,
+		 * spelled as it was added first.
+		 *
+		 * @param name - A dish or restaurant name, may be null.
+		 * @param weight - The weight to add.
+		 */
+		void add(String name, int weight) {
+			if (name == null) {
+				return;
+			}
+			int length = normalize(name, buffer, false);
+			if (length == 0) {
+				return;
+			}
+			names.computeIfAbsent(new String(buffer, 0, length), key -> new Name(name.strip())).weight += weight;
+		}
+
+		SuggestionTrie build() {
+			List<String> nameKeys = new ArrayList<>(names.keySet());
+			nameKeys.sort(null);
+			String[] texts = new String[nameKeys.size()];
+			int[] weights = new int[nameKeys.size()];
+			for (int i = 0; i < texts.length; i++) {
+				Name name = names.get(nameKeys.get(i));
+				texts[i] = name.text;
+				weights[i] = name.weight;
+			}
+
+			// every name under its key and under every later word of it
+			List<String> keys = new ArrayList<>();
+			List<Integer> keyNames = new ArrayList<>();
+			for (int i = 0; i < texts.length; i++) {
+				String key = nameKeys.get(i);
+				int start = 0;
+				while (true) {
+					keys.add(key.substring(start));
+					keyNames.add(i);
+					int space = key.indexOf(' ', start);
+					if (space < 0) {
+						break;
+					}
+					start = space + 1;
+				}
+			}
+			Integer[] order = new Integer[keys.size()];
+			for (int i = 0; i < order.length; i++) {
+				order[i] = i;
+			}
+			Arrays.sort(order, Comparator.comparing(keys::get));
+			String[] sortedKeys = new String[order.length];
+			int[] sortedNames = new int[order.length];
+			for (int i = 0; i < order.length; i++) {
+				sortedKeys[i] = keys.get(order[i]);
+				sortedNames[i] = keyNames.get(order[i]);
+			}
+
+			Node root = new Node("", 0, 0);
+			addChildren(root, sortedKeys, sortedNames, weights, 0, sortedKeys.length, 0);
+			return flatten(root, texts, weights);
+		}
+
+		// the keys from lo to hi are sorted and share their first depth characters
+		private static void addChildren(Node parent, String[] keys, int[] keyNames, int[] weights, int lo, int hi, int depth) {
+			int i = lo;
+			while (i < hi && keys[i].length() == depth) {
+				parent.names.add(keyNames[i]);
+				parent.maxWeight = Math.max(parent.maxWeight, weights[keyNames[i]]);
+				i++;
+			}
+			while (i < hi) {
+				char c = keys[i].charAt(depth);
+				int j = i + 1;
+				while (j < hi && keys[j].charAt(depth) == c) {
+					j++;
+				}
+				// the keys of a child share the characters that its first and last keys share
+				String first = keys[i];
+				String last = keys[j - 1];
+				int end = depth + 1;
+				while (end < first.length() && end < last.length() && first.charAt(end) == last.charAt(end)) {
+					end++;
+				}
+				Node child = new Node(first, depth, end);
+				addChildren(child, keys, keyNames, weights, i, j, end);
+				parent.children.add(child);
+				parent.maxWeight = Math.max(parent.maxWeight, child.maxWeight);
+				i = j;
+			}
+		}
+
+		private static SuggestionTrie flatten(Node root, String[] texts, int[] weights) {
+			List<Node> nodes = new ArrayList<>();
+			ArrayDeque<Node> queue = new ArrayDeque<>();
+			queue.add(root);
+			while (!queue.isEmpty()) {
+				Node node = queue.poll();
+				nodes.add(node);
+				node.children.sort(Comparator.comparingInt((Node child) -> child.maxWeight).reversed());
+				queue.addAll(node.children);
+			}
+
+			int count = nodes.size();
+			int[] labelStarts = new int[count + 1];
+			int[] firstChildren = new int[count + 1];
+			BitSet lastChildren = new BitSet(count);
+			int[] maxWeights = new int[count];
+			int[] nameStarts = new int[count + 1];
+			List<Integer> nameIds = new ArrayList<>();
+			BitSet lastNames = new BitSet();
+			StringBuilder labels = new StringBuilder();
+			int nextChild = 1;
+			for (int n = 0; n < count; n++) {
+				Node node = nodes.get(n);
+				labelStarts[n] = labels.length();
+				labels.append(node.key, node.start, node.end);
+				firstChildren[n] = nextChild;
+				nextChild += node.children.size();
+				if (!node.children.isEmpty()) {
+					lastChildren.set(nextChild - 1);
+				}
+				maxWeights[n] = node.maxWeight;
+				nameStarts[n] = nameIds.size();
+				node.names.sort(Comparator.comparingInt((Integer name) -> weights[name]).reversed().thenComparing(name -> name));
+				nameIds.addAll(node.names);
+				if (!node.names.isEmpty()) {
+					lastNames.set(nameIds.size() - 1);
+				}
+			}
+			labelStarts[count] = labels.length();
+			firstChildren[count] = nextChild;
+			nameStarts[count] = nameIds.size();
+
+			char[] labelChars = new char[labels.length()];
+			labels.getChars(0, labels.length(), labelChars, 0);
+			return new SuggestionTrie(labelChars, labelStarts, firstChildren, lastChildren, maxWeights, nameStarts,
+					nameIds.stream().mapToInt(Integer::intValue).toArray(), lastNames, texts, weights);
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.fooddeliveryapp.RestaurantService.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.fooddeliveryapp.RestaurantService.entities.Dish;
+import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
+import com.fooddeliveryapp.RestaurantService.mappers.DishMapper;
+import com.fooddeliveryapp.RestaurantService.mappers.RestaurantMapper;
+import com.fooddeliveryapp.RestaurantService.models.CatalogSearchHit;
+import com.fooddeliveryapp.RestaurantService.models.SearchHitType;
+import com.fooddeliveryapp.RestaurantService.models.SearchSuggestion;
+import com.fooddeliveryapp.RestaurantService.repositories.DishRepository;
+import com.fooddeliveryapp.RestaurantService.repositories.RestaurantRepository;
+import com.fooddeliveryapp.RestaurantService.search.CatalogSearchIndex;
+import com.fooddeliveryapp.RestaurantService.search.SearchMatch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Service class responsible for searching dishes and restaurants.
+ * Matches are ranked in the in-memory search index; only the dishes and restaurants of the returned page are loaded,
+ * so the hits show their current prices and availability.
+ */
+@Service
+@Log4j2// Enables logging using Log4j2
+public class CatalogSearchService implements ICatalogSearchService {
+
+	@Autowired
+	private CatalogSearchIndex catalogSearchIndex;
+
+	@Autowired
+	private DishRepository dishRepository;
+
+	@Autowired
+	private RestaurantRepository restaurantRepository;
+
+	@Autowired
+	private DishMapper dishMapper;
+
+	@Autowired
+	private RestaurantMapper restaurantMapper;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * Searches the names and descriptions of all dishes and the names of all restaurants.
+	 * Hits that contain more of the words, and rarer words, rank higher; words in a name count more than in a description.
+	 *
+	 * @param query - The words to search for.
+	 * @param availableOnly - Whether dishes that cannot be ordered are left out.
+	 * @param limit - The maximum number of hits.
+	 * @return The hits, most relevant first.
+	 */
+	@Override
+	public List<CatalogSearchHit> search(String query, boolean availableOnly, int limit) {
+		log.info("Searching the catalog...");
+
+		List<CatalogSearchHit> hits = meterRegistry.timer("restaurant.catalog.search")
+				.record(() -> toHits(catalogSearchIndex.search(query, availableOnly, limit), availableOnly));
+
+		log.info("{} catalog search hits retrieved successfully.", hits.size());
+
+		return hits;
+	}
+
+	/**
+	 * Completes what has been typed into the search box with dish and restaurant names, from memory only.
+	 * Not logged, as it is called on every keystroke.
+	 *
+	 * @param prefix - What has been typed so far.
+	 * @param limit - The maximum number of names.
+	 * @return The names, those that match without typos first, then the most common ones.
+	 */
+	@Override
+	public List<SearchSuggestion> suggest(String prefix, int limit) {
+		return meterRegistry.timer("restaurant.catalog.suggest").record(() -> catalogSearchIndex.suggest(prefix, limit));
+	}
+
+	private List<CatalogSearchHit> toHits(List<SearchMatch> matches, boolean availableOnly) {
+		Map<UUID, Dish> dishes = dishRepository.findAllById(idsOf(matches, SearchHitType.DISH)).stream()
+				.collect(Collectors.toMap(Dish::getDishId, Function.identity()));
+		Set<UUID> restaurantIds = idsOf(matches, SearchHitType.RESTAURANT);
+		Map<UUID, Restaurant> restaurants = restaurantIds.isEmpty() ? Map.of()
+				: restaurantRepository.findAllById(restaurantIds).stream()
+						.collect(Collectors.toMap(Restaurant::getRestaurantId, Function.identity()));
+
+		// the index may be a little behind the database: deleted entries are left out, and so are dishes no longer available
+		List<CatalogSearchHit> hits = new ArrayList<>(matches.size());
+		for (SearchMatch match : matches) {
+			if (match.type() == SearchHitType.DISH) {
+				Dish dish = dishes.get(match.id());
+				if (dish != null && (!availableOnly || Boolean.TRUE.equals(dish.getAvailability()))) {
+					hits.add(new CatalogSearchHit(SearchHitType.DISH, match.score(), restaurantMapper.toResponse(dish.getRestaurant()),
+							dishMapper.toResponse(dish)));
+				}
+			} else {
+				Restaurant restaurant = restaurants.get(match.id());
+				if (restaurant != null) {
+					hits.add(new CatalogSearchHit(SearchHitType.RESTAURANT, match.score(), restaurantMapper.toResponse(restaurant), null));
+				}
+			}
+		}
+		return hits;
+	}
+
+	private static Set<UUID> idsOf(List<SearchMatch> matches, SearchHitType type) {
+		return matches.stream()
+				.filter(match -> match.type() == type)
+				.map(SearchMatch::id)
+				.collect(Collectors.toSet());
+	}
+}
@@ -0,0 +1,235 @@
+package com.fooddeliveryapp.RestaurantService.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fooddeliveryapp.RestaurantService.caching.CatalogVersions;
+import com.fooddeliveryapp.RestaurantService.entities.Dish;
+import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
+import com.fooddeliveryapp.RestaurantService.exceptions.DishImportNotFoundException;
+import com.fooddeliveryapp.RestaurantService.exceptions.InvalidDishImportException;
+import com.fooddeliveryapp.RestaurantService.imports.DishImportFormat;
+import com.fooddeliveryapp.RestaurantService.imports.DishImportParser;
+import com.fooddeliveryapp.RestaurantService.imports.DishImportParser.ParsedRow;
+import com.fooddeliveryapp.RestaurantService.imports.DishImportProgress;
+import com.fooddeliveryapp.RestaurantService.imports.DishImportTracker;
+import com.fooddeliveryapp.RestaurantService.mappers.DishMapper;
+import com.fooddeliveryapp.RestaurantService.models.DishImportReport;
+import com.fooddeliveryapp.RestaurantService.models.DishImportRow;
+import com.fooddeliveryapp.RestaurantService.repositories.DishBatchRepository;
+import com.fooddeliveryapp.RestaurantService.repositories.RestaurantRepository;
+import com.fooddeliveryapp.RestaurantService.search.CatalogSearchIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Service class responsible for importing dishes in bulk.
+ * The body is read one row at a time and valid rows are written in JDBC batches of {@link #BATCH_SIZE},
+ * each in its own transaction, so an import needs the same memory and holds locks as briefly
+ * however many rows it has. Rows that are invalid or name an unknown restaurant are reported and skipped;
+ * the other rows are imported.
+ */
+@Service
+@Log4j2// Enables logging using Log4j2
+public class DishImportService implements IDishImportService {
+
+	static final int BATCH_SIZE = 1000;
+	// restaurants known to exist are looked up once per import; the set is cleared when it grows beyond this
+	private static final int MAX_KNOWN_RESTAURANTS = 10_000;
+
+	@Autowired
+	private DishBatchRepository dishBatchRepository;
+
+	@Autowired
+	private RestaurantRepository restaurantRepository;
+
+	@Autowired
+	private CatalogVersions catalogVersions;
+
+	@Autowired
+	private DishMapper dishMapper;
+
+	@Autowired
+	private DishImportTracker dishImportTracker;
+
+	@Autowired
+	private Validator validator;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private CatalogSearchIndex catalogSearchIndex;
+
+	/**
+	 * Imports the dishes of a request body, one or many restaurants at a time.
+	 *
+	 * @param importId - The ID under which the progress of the import can be followed; a new one if null.
+	 * @param format - The format of the body.
+	 * @param body - The body, read to its end.
+	 * @return The result of the import, with the rows that were not imported.
+	 * @throws InvalidDishImportException if the ID is in use or the CSV header is invalid.
+	 */
+	@Override
+	public DishImportReport importDishes(UUID importId, DishImportFormat format, InputStream body) {
+		DishImportProgress progress = dishImportTracker.start(importId != null ? importId : UUID.randomUUID());
+		log.info("Importing dishes as {} with import ID {}...", format, progress.importId());
+
+		ObjectReader rowReader = objectMapper.readerFor(DishImportRow.class);
+		Set<UUID> knownRestaurants = new HashSet<>();
+		List<ParsedRow> batch = new ArrayList<>(BATCH_SIZE);
+
+		try {
+			DishImportParser parser = new DishImportParser(body, format, rowReader);
+			ParsedRow parsedRow;
+			while ((parsedRow = parser.next()) != null) {
+				progress.rowRead();
+
+				String error = parsedRow.error() != null ? parsedRow.error() : validate(parsedRow.row());
+				if (error != null) {
+					reject(progress, parsedRow.line(), error);
+					continue;
+				}
+
+				batch.add(parsedRow);
+				if (batch.size() == BATCH_SIZE) {
+					writeBatch(batch, knownRestaurants, progress);
+					batch.clear();
+				}
+			}
+			writeBatch(batch, knownRestaurants, progress);
+		} catch (IOException e) {
+			dishImportTracker.finish(progress, DishImportProgress.Status.FAILED);
+			log.error("Import {} failed reading the body", progress.importId(), e);
+			throw new UncheckedIOException("The import body could not be read.", e);
+		} catch (RuntimeException e) {
+			dishImportTracker.finish(progress, DishImportProgress.Status.FAILED);
+			log.error("Import {} failed", progress.importId(), e);
+			throw e;
+		}
+
+		dishImportTracker.finish(progress, DishImportProgress.Status.COMPLETED);
+		DishImportReport report = progress.toReport();
+		log.info("Import {} completed: {} dishes imported, {} rows rejected.", report.getImportId(),
+				report.getRowsImported(), report.getRowsRejected());
+
+		return report;
+	}
+
+	/**
+	 * Retrieves the progress of a running import, or the result of a finished one.
+	 *
+	 * @param importId - The ID of the import.
+	 * @return The progress of the import.
+	 * @throws DishImportNotFoundException if the import is not known to this instance.
+	 */
+	@Override
+	public DishImportReport getImport(UUID importId) {
+		return dishImportTracker.find(importId)
+				.map(DishImportProgress::toReport)
+				.orElseThrow(() -> {
+					log.error("Dish import with the given ID {} not found", importId);
+					return new DishImportNotFoundException("Dish import with the given ID not found. ID: " + importId);
+				});
+	}
+
+	private String validate(DishImportRow row) {
+		if (row.getDish() == null) {
+			return "Dish data is required.";
+		}
+		Set<ConstraintViolation<DishImportRow>> violations = validator.validate(row);
+		if (violations.isEmpty()) {
+			return null;
+		}
+		return violations.stream()
+				.map(ConstraintViolation::getMessage)
+				.sorted()
+				.collect(Collectors.joining(" "));
+	}
+
+	private void writeBatch(List<ParsedRow> batch, Set<UUID> knownRestaurants, DishImportProgress progress) {
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		// restaurants not seen before in this import are looked up with one query per batch
+		Set<UUID> batchRestaurants = batch.stream().map(parsedRow -> parsedRow.row().getRestaurantId()).collect(Collectors.toSet());
+		Set<UUID> unknownRestaurants = new HashSet<>(batchRestaurants);
+		unknownRestaurants.removeAll(knownRestaurants);
+		if (knownRestaurants.size() + unknownRestaurants.size() > MAX_KNOWN_RESTAURANTS) {
+			knownRestaurants.clear();
+			unknownRestaurants = batchRestaurants;
+		}
+		if (!unknownRestaurants.isEmpty()) {
+			knownRestaurants.addAll(restaurantRepository.findExistingIds(unknownRestaurants));
+		}
+
+		List<Dish> dishes = new ArrayList<>(batch.size());
+		List<Long> lines = new ArrayList<>(batch.size());
+		Set<UUID> restaurantIds = new HashSet<>();
+		for (ParsedRow parsedRow : batch) {
+			UUID restaurantId = parsedRow.row().getRestaurantId();
+			if (!knownRestaurants.contains(restaurantId)) {
+				reject(progress, parsedRow.line(), "Restaurant with the given ID not found. ID: " + restaurantId);
+				continue;
+			}
+
+			Dish dish = dishMapper.toEntity(parsedRow.row().getDish());
+			dish.setDishId(UUID.randomUUID());
+			dish.setRestaurant(Restaurant.builder().restaurantId(restaurantId).build());
+			dishes.add(dish);
+			lines.add(parsedRow.line());
+			restaurantIds.add(restaurantId);
+		}
+		if (dishes.isEmpty()) {
+			return;
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				dishBatchRepository.insertAll(dishes);
+				catalogVersions.menusChanged(restaurantIds);
+			});
+		} catch (DataAccessException e) {
+			// e.g. a restaurant deleted since it was looked up; the batch was rolled back as a whole
+			log.error("Import {} could not write a batch of {} dishes", progress.importId(), dishes.size(), e);
+			knownRestaurants.clear();
+			for (long line : lines) {
+				reject(progress, line, "The batch of this row could not be written: " + e.getMostSpecificCause().getMessage());
+			}
+			return;
+		}
+
+		catalogSearchIndex.putDishes(dishes);
+		progress.imported(dishes.size());
+		meterRegistry.counter("restaurant.dish.import.rows", "result", "imported").increment(dishes.size());
+	}
+
+	private void reject(DishImportProgress progress, long line, String error) {
+		progress.rejected(line, error);
+		meterRegistry.counter("restaurant.dish.import.rows", "result", "rejected").increment();
+	}
+}
@@ -1,22 +1,37 @@
 package com.fooddeliveryapp.RestaurantService.services;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fooddeliveryapp.RestaurantService.caching.CatalogVersions;
+import com.fooddeliveryapp.RestaurantService.caching.MenuCache;
 import com.fooddeliveryapp.RestaurantService.entities.Dish;
 import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
 import com.fooddeliveryapp.RestaurantService.exceptions.DishNotFoundException;
+import com.fooddeliveryapp.RestaurantService.exceptions.InvalidDishUpdateException;
 import com.fooddeliveryapp.RestaurantService.exceptions.RestaurantNotFoundException;
+import com.fooddeliveryapp.RestaurantService.mappers.DishMapper;
+import com.fooddeliveryapp.RestaurantService.models.DishPatchRequest;
 import com.fooddeliveryapp.RestaurantService.models.DishRequest;
 import com.fooddeliveryapp.RestaurantService.models.DishResponse;
+import com.fooddeliveryapp.RestaurantService.popularity.DishPopularity;
 import com.fooddeliveryapp.RestaurantService.repositories.DishRepository;
 import com.fooddeliveryapp.RestaurantService.repositories.RestaurantRepository;
+import com.fooddeliveryapp.RestaurantService.search.CatalogSearchIndex;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -33,30 +48,54 @@ public class DishService implements IDishService {
 	
 	@Autowired
     private RestaurantRepository restaurantRepository;
+	
+	@Autowired
+	private CatalogVersions catalogVersions;
+	
+	@Autowired
+	private DishMapper dishMapper;
+	
+	@Autowired
+	private ObjectMapper objectMapper;
+	
+	@Autowired
+	private CatalogSearchIndex catalogSearchIndex;
+	
+	@Autowired
+	private DishPopularity dishPopularity;
+	
+	@Autowired
+	private MenuCache menuCache;
     
     /**
      * Retrieves all dishes for the specified restaurant.
+     * The most ordered dishes get their popularity rank; ranked dishes that are no longer on the menu are skipped,
+     * so the ranks on the menu always run from 1 without gaps.
+     * 
+     * The dishes are read from the menu cache, which is keyed by the menu version.
      * 
      * @param restaurantId - The ID of the restaurant whose dishes are to be fetched.
+     * @param menuVersion - The version of the restaurant's menu, as read for the ETag of the response.
      * @return A list of DishResponse objects for the given restaurant.
      */
     @Override
-    public List<DishResponse> getAllDishesForRestaurant(UUID restaurantId) {
+    public List<DishResponse> getAllDishesForRestaurant(UUID restaurantId, long menuVersion) {
     	log.info("Retrieving all dishes of a restaurant...");
     	
-        List<Dish> dishes = dishRepository.findByRestaurant_RestaurantId(restaurantId);
-
-        List<DishResponse> dishResponses = new ArrayList<>();
+        List<DishResponse> dishResponses = menuCache.get(restaurantId, menuVersion,
+        		() -> dishMapper.toResponses(dishRepository.findByRestaurant_RestaurantId(restaurantId)))
+        		.stream()
+        		.map(dishMapper::copy)
+        		.collect(Collectors.toList());
         
-        for (Dish dish : dishes) {
-            DishResponse dishResponse = new DishResponse();
-            dishResponse.setDishId(dish.getDishId());
-            dishResponse.setName(dish.getName());
-            dishResponse.setPrice(dish.getPrice());
-            dishResponse.setDescription(dish.getDescription());
-            dishResponse.setAvailability(dish.getAvailability());
-
-            dishResponses.add(dishResponse);
+        Map<UUID, DishResponse> dishesById = dishResponses.stream()
+        		.collect(Collectors.toMap(DishResponse::getDishId, dishResponse -> dishResponse));
+        int rank = 1;
+        for (UUID dishId : dishPopularity.ranking(restaurantId).dishIds()) {
+        	DishResponse dishResponse = dishesById.get(dishId);
+        	if (dishResponse != null) {
+        		dishResponse.setPopularityRank(rank++);
+        	}
         }
         
     	log.info("All dishes of a restaurant retrieved successfully.");
@@ -83,12 +122,7 @@ public class DishService implements IDishService {
 	            	return new DishNotFoundException("Dish with a given ID not found. ID: " + dishId);
 	            });
 		 
-		 DishResponse dishResponse = new DishResponse();
-		 dishResponse.setDishId(dish.getDishId());
-		 dishResponse.setName(dish.getName());
-		 dishResponse.setPrice(dish.getPrice());
-		 dishResponse.setDescription(dish.getDescription());
-		 dishResponse.setAvailability(dish.getAvailability());
+		 DishResponse dishResponse = dishMapper.toResponse(dish);
 		 
 		 log.info("Dish with an ID of {} successfully retrieved.", dishId);
 		 
@@ -104,6 +138,7 @@ public class DishService implements IDishService {
      * @throws RestaurantNotFoundException if no restaurant is found with the given ID.
      */
     @Override
+    @Transactional
     public UUID addDishToRestaurant(UUID restaurantId, @Valid DishRequest dishRequest) {
     	log.info("Adding dish to a restaurant...");
     	
@@ -113,15 +148,12 @@ public class DishService implements IDishService {
     		        return new RestaurantNotFoundException("Restaurant with the given ID not found. ID: " + restaurantId);
     		    });
 
-        Dish dish = Dish.builder()
-                .name(dishRequest.getName())
-                .price(dishRequest.getPrice())
-                .description(dishRequest.getDescription())
-                .availability(dishRequest.getAvailability())
-                .restaurant(restaurant)
-                .build();
+        Dish dish = dishMapper.toEntity(dishRequest);
+        dish.setRestaurant(restaurant);
 
         Dish savedDish = dishRepository.save(dish);
+        catalogVersions.dishChanged(restaurantId, savedDish.getDishId());
+        TransactionCallbacks.afterCommit(() -> catalogSearchIndex.putDishes(List.of(savedDish)));
         
         log.info("Dish successfully added to a restaurant.");
 
@@ -140,6 +172,7 @@ public class DishService implements IDishService {
      * @throws DishNotFoundException if no dish is found with the given ID.
      */
     @Override
+    @Transactional
     public DishResponse updateDish(UUID restaurantId, UUID dishId, @Valid DishRequest dishUpdateRequest) {
     	log.info("Updating dish of a restaurant...");
     	
@@ -155,21 +188,97 @@ public class DishService implements IDishService {
     		        return new DishNotFoundException("Dish with the given ID not found. ID: " + dishId);
     		    });
 
-        dish.setName(dishUpdateRequest.getName());
-        dish.setPrice(dishUpdateRequest.getPrice());
-        dish.setDescription(dishUpdateRequest.getDescription());
-        dish.setAvailability(dishUpdateRequest.getAvailability());
+        // the dish may move to another restaurant, whose menu changes as well
+        UUID previousRestaurantId = dish.getRestaurant() != null ? dish.getRestaurant().getRestaurantId() : null;
+
+        dishMapper.update(dishUpdateRequest, dish);
         dish.setRestaurant(restaurant);
 
         Dish updatedDish = dishRepository.save(dish);
+        catalogVersions.dishChanged(restaurantId, dishId);
+        if (previousRestaurantId != null && !previousRestaurantId.equals(restaurantId)) {
+        	catalogVersions.dishChanged(previousRestaurantId, dishId);
+        }
+        TransactionCallbacks.afterCommit(() -> catalogSearchIndex.putDishes(List.of(updatedDish)));
 
-        DishResponse dishResponse = new DishResponse();
-        dishResponse.setDishId(updatedDish.getDishId());
-        dishResponse.setName(updatedDish.getName());
-        dishResponse.setPrice(updatedDish.getPrice());
-        dishResponse.setDescription(updatedDish.getDescription());
-        dishResponse.setAvailability(updatedDish.getAvailability());
+        return dishMapper.toResponse(updatedDish);
+    }
 
-        return dishResponse;
+    /**
+     * Changes the availability and/or the price of many dishes of a restaurant at once.
+     * The dishes are not loaded: every changed field is written with one UPDATE for all dishes,
+     * and the catalog versions are bumped once for the whole batch.
+     * Either all changes are applied or, if a dish does not belong to the restaurant, none.
+     *
+     * @param restaurantId - The ID of the restaurant whose dishes are changed.
+     * @param dishPatchRequests - The changes, at most one per dish.
+     * @throws RestaurantNotFoundException if no restaurant is found with the given ID.
+     * @throws DishNotFoundException if a dish does not exist or belongs to another restaurant.
+     * @throws InvalidDishUpdateException if a dish is changed more than once or a change is empty.
+     */
+    @Override
+    @Transactional
+    public void updateDishes(UUID restaurantId, List<@Valid DishPatchRequest> dishPatchRequests) {
+    	log.info("Updating {} dishes of a restaurant...", dishPatchRequests.size());
+    	
+    	if (!restaurantRepository.existsById(restaurantId)) {
+    		log.error("Restaurant with the given ID {} not found", restaurantId);
+    		throw new RestaurantNotFoundException("Restaurant with the given ID not found. ID: " + restaurantId);
+    	}
+    	
+    	Set<UUID> dishIds = new HashSet<>();
+    	List<DishPatchRequest> availabilityChanges = new ArrayList<>();
+    	List<DishPatchRequest> priceChanges = new ArrayList<>();
+    	for (DishPatchRequest dishPatchRequest : dishPatchRequests) {
+    		if (!dishIds.add(dishPatchRequest.getDishId())) {
+    			throw new InvalidDishUpdateException("Dish is changed more than once. ID: " + dishPatchRequest.getDishId());
+    		}
+    		if (dishPatchRequest.getAvailability() == null && dishPatchRequest.getPrice() == null) {
+    			throw new InvalidDishUpdateException("Dish change has neither availability nor price. ID: " + dishPatchRequest.getDishId());
+    		}
+    		if (dishPatchRequest.getAvailability() != null) {
+    			availabilityChanges.add(dishPatchRequest);
+    		}
+    		if (dishPatchRequest.getPrice() != null) {
+    			priceChanges.add(dishPatchRequest);
+    		}
+    	}
+    	
+    	// every dish is in at least one of the updates, so the update counts show whether all of them were found
+    	if (!availabilityChanges.isEmpty()) {
+    		int updated = dishRepository.updateAvailability(restaurantId.toString(), toJson(availabilityChanges));
+    		requireAllUpdated(restaurantId, updated, availabilityChanges.size());
+    	}
+    	if (!priceChanges.isEmpty()) {
+    		int updated = dishRepository.updatePrices(restaurantId.toString(), toJson(priceChanges));
+    		requireAllUpdated(restaurantId, updated, priceChanges.size());
+    	}
+    	
+    	if (!dishIds.isEmpty()) {
+    		catalogVersions.dishesChanged(restaurantId, dishIds);
+    	}
+    	if (!availabilityChanges.isEmpty()) {
+    		Map<UUID, Boolean> availabilities = availabilityChanges.stream()
+    				.collect(Collectors.toMap(DishPatchRequest::getDishId, DishPatchRequest::getAvailability));
+    		TransactionCallbacks.afterCommit(() -> catalogSearchIndex.setAvailability(availabilities));
+    	}
+    	
+    	log.info("{} dishes of a restaurant updated successfully.", dishIds.size());
+    }
+    
+    private String toJson(List<DishPatchRequest> changes) {
+    	try {
+    		return objectMapper.writeValueAsString(changes);
+    	} catch (JsonProcessingException e) {
+    		throw new IllegalStateException("Dish changes could not be written as JSON.", e);
+    	}
+    }
+    
+    // rolls back the changes of the whole batch if some dishes were not updated
+    private static void requireAllUpdated(UUID restaurantId, int updated, int expected) {
+    	if (updated < expected) {
+    		log.error("{} of {} dishes not found in restaurant {}", expected - updated, expected, restaurantId);
+    		throw new DishNotFoundException((expected - updated) + " of the dishes were not found in the restaurant. ID: " + restaurantId);
+    	}
     }
 }
@@ -0,0 +1,15 @@
+package com.fooddeliveryapp.RestaurantService.services;
+
+import java.util.List;
+
+import com.fooddeliveryapp.RestaurantService.models.CatalogSearchHit;
+import com.fooddeliveryapp.RestaurantService.models.SearchSuggestion;
+
+/**
+ * Interface for the service that searches dishes and restaurants by their names and descriptions.
+ */
+public interface ICatalogSearchService {
+	List<CatalogSearchHit> search(String query, boolean availableOnly, int limit);
+
+	List<SearchSuggestion> suggest(String prefix, int limit);
+}
@@ -0,0 +1,16 @@
+package com.fooddeliveryapp.RestaurantService.services;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+import com.fooddeliveryapp.RestaurantService.imports.DishImportFormat;
+import com.fooddeliveryapp.RestaurantService.models.DishImportReport;
+
+/**
+ * Interface for the service that imports dishes in bulk, e.g. the menus of a large chain.
+ */
+public interface IDishImportService {
+	DishImportReport importDishes(UUID importId, DishImportFormat format, InputStream body);
+
+	DishImportReport getImport(UUID importId);
+}
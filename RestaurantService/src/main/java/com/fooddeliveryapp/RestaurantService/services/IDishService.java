@@ -3,6 +3,7 @@ package com.fooddeliveryapp.RestaurantService.services;
 import java.util.List;
 import java.util.UUID;
 
+import com.fooddeliveryapp.RestaurantService.models.DishPatchRequest;
 import com.fooddeliveryapp.RestaurantService.models.DishRequest;
 import com.fooddeliveryapp.RestaurantService.models.DishResponse;
 
@@ -16,9 +17,11 @@ import jakarta.validation.Valid;
 public interface IDishService {
 	UUID addDishToRestaurant(UUID restaurantId, @Valid DishRequest dishRequest);
 
-	List<DishResponse> getAllDishesForRestaurant(UUID restaurantId);
+	List<DishResponse> getAllDishesForRestaurant(UUID restaurantId, long menuVersion);
 
 	DishResponse updateDish(UUID restaurantId, UUID dishId, @Valid DishRequest dishRequest);
 
 	DishResponse getDishById(UUID dishId);
+
+	void updateDishes(UUID restaurantId, List<@Valid DishPatchRequest> dishPatchRequests);
 }
@@ -3,6 +3,8 @@ package com.fooddeliveryapp.RestaurantService.services;
 import java.util.List;
 import java.util.UUID;
 
+import com.fooddeliveryapp.RestaurantService.models.NearbyRestaurantResponse;
+import com.fooddeliveryapp.RestaurantService.models.RestaurantPageResponse;
 import com.fooddeliveryapp.RestaurantService.models.RestaurantRequest;
 import com.fooddeliveryapp.RestaurantService.models.RestaurantResponse;
 
@@ -14,7 +16,9 @@ import jakarta.validation.Valid;
  * for the implementation of restaurant-related business logic.
  */
 public interface IRestaurantService {
-	List<RestaurantResponse> getAllRestaurants();
+	RestaurantPageResponse getRestaurants(String namePrefix, String sort, String cursor, int limit);
+	
+	List<NearbyRestaurantResponse> getNearbyRestaurants(double latitude, double longitude, int radiusMeters, int limit);
 	
 	RestaurantResponse getRestaurantById(UUID restaurantId);
 	
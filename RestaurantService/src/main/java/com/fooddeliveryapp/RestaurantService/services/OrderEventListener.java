@@ -0,0 +1,61 @@
+package com.fooddeliveryapp.RestaurantService.services;
+
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.PartitionOffset;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Service;
+
+import com.fooddeliveryapp.RestaurantService.events.OrderEvent;
+import com.fooddeliveryapp.RestaurantService.events.TopicPartitions;
+import com.fooddeliveryapp.RestaurantService.popularity.DishPopularity;
+
+import lombok.extern.log4j.Log4j2;
+
+@Service
+@Log4j2
+public class OrderEventListener {
+	private final DishPopularity dishPopularity;
+
+	@Autowired
+	public OrderEventListener(DishPopularity dishPopularity, TopicPartitions topicPartitions,
+			@Value("${restaurant.popularity.group-id}") String groupId) {
+		this.dishPopularity = dishPopularity;
+		// partitions added to the topic later are read by a listener of their own
+		topicPartitions.onAddedPartitions("order-topic", groupId, record -> {
+			if (record.value() instanceof OrderEvent event) {
+				handleOrderEvent(event);
+			}
+		});
+	}
+
+	/**
+	 * Kafka listener method that listens for order events on the "order-topic".
+	 * Every paid order is counted towards the most ordered dishes of its restaurant.
+	 * Every instance serves the ranking from memory, so every instance is assigned all partitions of the topic
+	 * and reads them from the start whenever it starts. No consumer group is joined and no offsets are committed.
+	 * Partitions added to the topic while the instance runs are picked up by {@link TopicPartitions#refresh()}.
+	 *
+	 * @param event The order event.
+	 */
+	@KafkaListener(groupId = "${restaurant.popularity.group-id}", topicPartitions = @TopicPartition(topic = "order-topic",
+			partitions = "#{@topicPartitions.of('order-topic')}",
+			partitionOffsets = @PartitionOffset(partition = "*", initialOffset = "0")))
+	public void handleOrderEvent(OrderEvent event) {
+		if (event.getRestaurantId() == null || event.getItems() == null) {
+			log.warn("Ignoring order event {} without a restaurant or items.", event.getEventId());
+			return;
+		}
+		log.debug("Received order event {} for restaurant: {}", event.getEventId(), event.getRestaurantId());
+
+		Instant time = event.getEventTime() != null ? event.getEventTime() : Instant.now();
+		for (OrderEvent.Item item : event.getItems()) {
+			if (item.getDishId() != null && item.getQuantity() > 0) {
+				dishPopularity.record(event.getRestaurantId(), item.getDishId(), item.getQuantity(), time);
+			}
+		}
+	}
+}
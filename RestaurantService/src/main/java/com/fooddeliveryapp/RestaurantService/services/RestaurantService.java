@@ -1,20 +1,30 @@
 package com.fooddeliveryapp.RestaurantService.services;
 
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 
 import jakarta.validation.Valid;
 
-import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fooddeliveryapp.RestaurantService.caching.CatalogVersions;
 import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
+import com.fooddeliveryapp.RestaurantService.exceptions.InvalidPageRequestException;
 import com.fooddeliveryapp.RestaurantService.exceptions.RestaurantNotFoundException;
+import com.fooddeliveryapp.RestaurantService.geo.RestaurantGeoIndex;
+import com.fooddeliveryapp.RestaurantService.mappers.RestaurantMapper;
+import com.fooddeliveryapp.RestaurantService.models.NearbyRestaurantResponse;
+import com.fooddeliveryapp.RestaurantService.models.RestaurantPageResponse;
 import com.fooddeliveryapp.RestaurantService.models.RestaurantRequest;
 import com.fooddeliveryapp.RestaurantService.models.RestaurantResponse;
+import com.fooddeliveryapp.RestaurantService.popularity.DishPopularity;
 import com.fooddeliveryapp.RestaurantService.repositories.RestaurantRepository;
+import com.fooddeliveryapp.RestaurantService.search.CatalogSearchIndex;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -30,29 +40,84 @@ public class RestaurantService implements IRestaurantService {
 	@Autowired
 	private RestaurantRepository restaurantRepository;
 	
+	@Autowired
+	private CatalogVersions catalogVersions;
+	
+	@Autowired
+	private RestaurantMapper restaurantMapper;
+	
+	@Autowired
+	private RestaurantGeoIndex restaurantGeoIndex;
+	
+	@Autowired
+	private CatalogSearchIndex catalogSearchIndex;
+	
+	@Autowired
+	private DishPopularity dishPopularity;
+	
 	/**
-	* Retrieves all restaurants from the database.
-	* This method fetches all restaurant entities and maps them to RestaurantResponse objects.
+	* Retrieves one page of restaurants, optionally only those whose name starts with a prefix.
+	* Only the response columns are selected, and every page continues after the last restaurant of the previous one,
+	* so the cost of a page depends on its size only, not on its position or the number of restaurants.
 	* 
-	* @return A list of RestaurantResponse objects containing details of all restaurants.
+	* @param namePrefix - Only restaurants whose name starts with this prefix are listed; null or empty lists all.
+	* @param sort - "name" for ascending or "-name" for descending name order.
+	* @param cursor - The cursor returned with the previous page, or null for the first page.
+	* @param limit - The maximum number of restaurants on the page.
+	* @return The restaurants of the page and the cursor of the next page, which is null on the last page.
+	* @throws InvalidPageRequestException if the sort order or the cursor is invalid.
 	*/
 	@Override
-	public List<RestaurantResponse> getAllRestaurants() {
-		log.info("Getting all restaurants...");
-	
-	    List<Restaurant> restaurants = restaurantRepository.findAll();
-	
-	    List<RestaurantResponse> restaurantResponses = new ArrayList<>();
-	    
-	    for (Restaurant restaurant : restaurants) {
-	        RestaurantResponse restaurantResponse = new RestaurantResponse();
-	        BeanUtils.copyProperties(restaurant, restaurantResponse);
-	        restaurantResponses.add(restaurantResponse);
-	    }
-	    
-	    log.info("Restaurants retrieved successfully.");
+	public RestaurantPageResponse getRestaurants(String namePrefix, String sort, String cursor, int limit) {
+		log.info("Getting a page of restaurants...");
+		
+		boolean descending = parseSort(sort);
+		String namePattern = escapeLikePattern(namePrefix == null ? "" : namePrefix) + "%";
+		// one more than requested tells whether there is a next page
+		Limit fetchLimit = Limit.of(limit + 1);
+		
+		List<RestaurantResponse> restaurants;
+		if (cursor == null || cursor.isEmpty()) {
+			restaurants = descending
+					? restaurantRepository.findPageByNameDesc(namePattern, fetchLimit)
+					: restaurantRepository.findPageByName(namePattern, fetchLimit);
+		} else {
+			RestaurantResponse last = decodeCursor(cursor);
+			restaurants = descending
+					? restaurantRepository.findPageByNameDescBefore(namePattern, last.getName(), last.getRestaurantId(), fetchLimit)
+					: restaurantRepository.findPageByNameAfter(namePattern, last.getName(), last.getRestaurantId(), fetchLimit);
+		}
+		
+		String nextCursor = null;
+		if (restaurants.size() > limit) {
+			restaurants = restaurants.subList(0, limit);
+			nextCursor = encodeCursor(restaurants.get(limit - 1));
+		}
+		
+		log.info("Page of {} restaurants retrieved successfully.", restaurants.size());
+		
+		return new RestaurantPageResponse(restaurants, nextCursor);
+	}
 	
-	    return restaurantResponses;
+	/**
+	* Retrieves the restaurants near a location, nearest first.
+	* They are found in the in-memory nearby search index, without a database round trip.
+	* 
+	* @param latitude - The latitude of the location.
+	* @param longitude - The longitude of the location.
+	* @param radiusMeters - The maximum distance of a restaurant from the location.
+	* @param limit - The maximum number of restaurants.
+	* @return The nearest restaurants within the distance, with their distances.
+	*/
+	@Override
+	public List<NearbyRestaurantResponse> getNearbyRestaurants(double latitude, double longitude, int radiusMeters, int limit) {
+		log.info("Getting the restaurants within {} m of {}, {}...", radiusMeters, latitude, longitude);
+		
+		List<NearbyRestaurantResponse> restaurants = restaurantGeoIndex.findNearby(latitude, longitude, radiusMeters, limit);
+		
+		log.info("{} nearby restaurants retrieved successfully.", restaurants.size());
+		
+		return restaurants;
 	}
 	
 	/**
@@ -74,8 +139,7 @@ public class RestaurantService implements IRestaurantService {
 			        throw new RestaurantNotFoundException("Restaurant with the given ID not found. ID: " + restaurantId);
 			    });
 		
-		RestaurantResponse restaurantResponse = new RestaurantResponse();
-		BeanUtils.copyProperties(restaurant, restaurantResponse);
+		RestaurantResponse restaurantResponse = restaurantMapper.toResponse(restaurant);
 		
 		log.info("Restaurant with an ID of {} successfully retrieved.", restaurantId);
 		
@@ -91,17 +155,19 @@ public class RestaurantService implements IRestaurantService {
 	 * @return The ID of the newly created restaurant.
 	 */
 	 @Override
+	 @Transactional
 	 public UUID addRestaurant(@Valid RestaurantRequest restaurantRequest) {
 		log.info("Adding a new restaurant...");
 		
-		Restaurant restaurant 
-				= Restaurant.builder()
-				.name(restaurantRequest.getName())
-				.address(restaurantRequest.getAddress())
-				.phoneNumber(restaurantRequest.getPhoneNumber())
-				.build();
+		Restaurant restaurant = restaurantMapper.toEntity(restaurantRequest);
 		
 		restaurantRepository.save(restaurant);
+		catalogVersions.restaurantChanged(restaurant.getRestaurantId());
+		RestaurantResponse restaurantResponse = restaurantMapper.toResponse(restaurant);
+		TransactionCallbacks.afterCommit(() -> {
+			restaurantGeoIndex.put(restaurantResponse);
+			catalogSearchIndex.putRestaurant(restaurantResponse.getRestaurantId(), restaurantResponse.getName());
+		});
 		
 		log.info("Restaurant added successfully.");
 		
@@ -119,6 +185,7 @@ public class RestaurantService implements IRestaurantService {
 	 * @throws RestaurantNotFoundException if no restaurant is found with the given ID.
 	 */
 	 @Override
+	 @Transactional
 	 public RestaurantResponse updateRestaurant(UUID restaurantId, @Valid RestaurantRequest restaurantRequest) {
 	    log.info("Updating the restaurant with ID: {}", restaurantId);
 
@@ -128,14 +195,16 @@ public class RestaurantService implements IRestaurantService {
 	    	        throw new RestaurantNotFoundException("Restaurant with the given ID not found. ID: " + restaurantId);
 	    	    });
 
-	    restaurant.setName(restaurantRequest.getName());
-	    restaurant.setAddress(restaurantRequest.getAddress());
-	    restaurant.setPhoneNumber(restaurantRequest.getPhoneNumber());
+	    restaurantMapper.update(restaurantRequest, restaurant);
 
 	    restaurantRepository.save(restaurant);
+	    catalogVersions.restaurantChanged(restaurantId);
 
-	    RestaurantResponse restaurantResponse = new RestaurantResponse();
-	    BeanUtils.copyProperties(restaurant, restaurantResponse);
+	    RestaurantResponse restaurantResponse = restaurantMapper.toResponse(restaurant);
+	    TransactionCallbacks.afterCommit(() -> {
+	    	restaurantGeoIndex.put(restaurantResponse);
+	    	catalogSearchIndex.putRestaurant(restaurantId, restaurantResponse.getName());
+	    });
 
 	    log.info("Restaurant with ID {} updated successfully.", restaurantId);
 
@@ -151,15 +220,59 @@ public class RestaurantService implements IRestaurantService {
 	  * @throws RestaurantNotFoundException if no restaurant is found with the given ID.
 	  */
 	 @Override
+	 @Transactional
 	 public void deleteRestaurant(UUID restaurantId) {
 	     log.info("Deleting the restaurant with ID: {}", restaurantId);
 	     
 	     if (restaurantRepository.existsById(restaurantId)) {
 	         restaurantRepository.deleteById(restaurantId);
+	         catalogVersions.restaurantChanged(restaurantId);
+	         TransactionCallbacks.afterCommit(() -> {
+	        	 restaurantGeoIndex.remove(restaurantId);
+	        	 catalogSearchIndex.remove(restaurantId);
+	        	 dishPopularity.remove(restaurantId);
+	         });
 	         log.info("Restaurant with ID {} deleted successfully.", restaurantId);
 	     } else {
 	         log.error("Restaurant with ID {} does not exist.", restaurantId);
 	         throw new RestaurantNotFoundException("Restaurant with the given ID not found. ID: " + restaurantId);
 	     }
 	 }
+
+	 
+	 private static boolean parseSort(String sort) {
+		 if (sort == null || sort.equals("name")) {
+			 return false;
+		 }
+		 if (sort.equals("-name")) {
+			 return true;
+		 }
+		 throw new InvalidPageRequestException("Unsupported sort order: " + sort + ". Use name or -name.");
+	 }
+	 
+	 private static String escapeLikePattern(String text) {
+		 return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_").replace("[", "\\[");
+	 }
+	 
+	 // the cursor is the sort key of the last restaurant of a page: its ID followed by its name
+	 private static String encodeCursor(RestaurantResponse last) {
+		 String key = last.getRestaurantId() + ":" + last.getName();
+		 return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+	 }
+	 
+	 private static RestaurantResponse decodeCursor(String cursor) {
+		 try {
+			 String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			 if (key.length() < 37 || key.charAt(36) != ':') {
+				 throw new IllegalArgumentException("Malformed cursor.");
+			 }
+			 
+			 RestaurantResponse last = new RestaurantResponse();
+			 last.setRestaurantId(UUID.fromString(key.substring(0, 36)));
+			 last.setName(key.substring(37));
+			 return last;
+		 } catch (IllegalArgumentException e) {
+			 throw new InvalidPageRequestException("Invalid cursor: " + cursor);
+		 }
+	 }
 }
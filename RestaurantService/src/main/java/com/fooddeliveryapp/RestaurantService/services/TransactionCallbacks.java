@@ -0,0 +1,27 @@
+package com.fooddeliveryapp.RestaurantService.services;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs work once the current transaction has committed, e.g. updating the in-memory indexes,
+ * which must not show writes that are rolled back. Without a transaction the work runs at once.
+ */
+final class TransactionCallbacks {
+
+	private TransactionCallbacks() {
+	}
+
+	static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,151 @@
+package com.fooddeliveryapp.RestaurantService.caching;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.mockito.Mockito;
+
+import com.fooddeliveryapp.RestaurantService.entities.Dish;
+import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
+import com.fooddeliveryapp.RestaurantService.repositories.CatalogVersionRepository;
+import com.fooddeliveryapp.RestaurantService.repositories.DishRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+public class CatalogVersionsTest {
+
+    private CatalogVersionRepository catalogVersionRepository;
+    private DishRepository dishRepository;
+    private Cache cache;
+    private EntityManagerFactory entityManagerFactory;
+    private SimpleMeterRegistry meterRegistry;
+    private CatalogVersions catalogVersions;
+
+    @BeforeEach
+    public void setUp() {
+        catalogVersionRepository = Mockito.mock(CatalogVersionRepository.class);
+        dishRepository = Mockito.mock(DishRepository.class);
+        cache = Mockito.mock(Cache.class);
+        SessionFactory sessionFactory = Mockito.mock(SessionFactory.class);
+        Mockito.when(sessionFactory.getCache()).thenReturn(cache);
+        entityManagerFactory = Mockito.mock(EntityManagerFactory.class);
+        Mockito.when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+
+        meterRegistry = new SimpleMeterRegistry();
+        catalogVersions = new CatalogVersions(catalogVersionRepository, dishRepository, entityManagerFactory, meterRegistry, 0);
+    }
+
+    @DisplayName("ETag - Changes With Version And Evicts Stale Cache Entries")
+    @Test
+    public void test_When_Version_Changes_ETag_Changes_And_Cache_Evicted() {
+        UUID restaurantId = UUID.randomUUID();
+        String versionKey = "restaurant:" + restaurantId;
+
+        Mockito.when(catalogVersionRepository.findVersion(versionKey)).thenReturn(Optional.of(3L));
+        String eTag = catalogVersions.restaurantETag(restaurantId);
+        assertEquals(eTag, catalogVersions.restaurantETag(restaurantId));
+        // nothing is evicted for a version seen for the first time
+        Mockito.verify(cache, Mockito.never()).evictEntityData(Restaurant.class, restaurantId);
+
+        // written through another instance
+        Mockito.when(catalogVersionRepository.findVersion(versionKey)).thenReturn(Optional.of(4L));
+        String newETag = catalogVersions.restaurantETag(restaurantId);
+        assertNotEquals(eTag, newETag);
+        assertTrue(newETag.startsWith("\"") && newETag.endsWith("\""));
+        Mockito.verify(cache, Mockito.times(1)).evictEntityData(Restaurant.class, restaurantId);
+    }
+
+    @DisplayName("Menu Version - Evicts Only The Restaurant's Dishes")
+    @Test
+    public void test_When_Menu_Version_Changes_Only_Its_Dishes_Evicted() {
+        UUID restaurantId = UUID.randomUUID();
+        List<UUID> dishIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        Mockito.when(dishRepository.findIdsByRestaurantId(restaurantId)).thenReturn(dishIds);
+        Mockito.when(catalogVersionRepository.findVersion("menu:" + restaurantId)).thenReturn(Optional.of(1L), Optional.of(1L), Optional.of(2L));
+
+        catalogVersions.menuVersion(restaurantId);
+        catalogVersions.menuVersion(restaurantId);
+        Mockito.verifyNoInteractions(cache);
+
+        // written through another instance
+        catalogVersions.menuVersion(restaurantId);
+        for (UUID dishId : dishIds) {
+            Mockito.verify(cache, Mockito.times(1)).evictEntityData(Dish.class, dishId);
+        }
+        Mockito.verify(cache, Mockito.never()).evictEntityData(Dish.class);
+        Mockito.verify(cache, Mockito.never()).evictQueryRegion(Mockito.anyString());
+    }
+
+    @DisplayName("Version - Reused Within Time-To-Live")
+    @Test
+    public void test_When_Version_Read_Recently_Not_Read_Again() {
+        UUID dishId = UUID.randomUUID();
+        CatalogVersions cachingVersions = new CatalogVersions(catalogVersionRepository, dishRepository,
+                entityManagerFactory, meterRegistry, 60_000);
+        Mockito.when(catalogVersionRepository.findVersion("dish:" + dishId)).thenReturn(Optional.of(5L), Optional.of(6L));
+
+        assertEquals(CatalogVersions.eTag(5L), cachingVersions.dishETag(dishId));
+        assertEquals(CatalogVersions.eTag(5L), cachingVersions.dishETag(dishId));
+
+        Mockito.verify(catalogVersionRepository, Mockito.times(1)).findVersion("dish:" + dishId);
+    }
+
+    @DisplayName("If-None-Match - Matching Rules")
+    @Test
+    public void test_When_If_None_Match_Compared_Matches_Current_ETag() {
+        String eTag = "\"1.7\"";
+
+        assertTrue(CatalogVersions.matches("\"1.7\"", eTag));
+        assertTrue(CatalogVersions.matches("\"1.5\", W/\"1.7\"", eTag));
+        assertTrue(CatalogVersions.matches("*", eTag));
+        assertFalse(CatalogVersions.matches("\"1.6\"", eTag));
+        assertFalse(CatalogVersions.matches(null, eTag));
+
+        assertTrue(catalogVersions.isCurrent("menu", "\"1.7\"", eTag));
+        assertFalse(catalogVersions.isCurrent("menu", null, eTag));
+        assertEquals(1.0, meterRegistry.counter("restaurant.catalog.conditional.requests",
+                "endpoint", "menu", "result", "not_modified").count());
+    }
+
+    @DisplayName("Bump - Creates Missing Versions")
+    @Test
+    public void test_When_Dish_Changed_Missing_Versions_Created() {
+        UUID restaurantId = UUID.randomUUID();
+        UUID dishId = UUID.randomUUID();
+        Mockito.when(catalogVersionRepository.increment("menu:" + restaurantId)).thenReturn(1);
+        Mockito.when(catalogVersionRepository.increment("dish:" + dishId)).thenReturn(0, 1);
+
+        catalogVersions.dishChanged(restaurantId, dishId);
+
+        Mockito.verify(catalogVersionRepository, Mockito.never()).createIfMissing("menu:" + restaurantId);
+        Mockito.verify(catalogVersionRepository).createIfMissing("dish:" + dishId);
+        Mockito.verify(catalogVersionRepository, Mockito.times(2)).increment("dish:" + dishId);
+    }
+
+    @DisplayName("Bulk Bump - Bumps Menu Once And All Dishes Together")
+    @Test
+    public void test_When_Dishes_Changed_Versions_Bumped_Together() {
+        UUID restaurantId = UUID.randomUUID();
+        List<UUID> dishIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        Mockito.when(catalogVersionRepository.increment("menu:" + restaurantId)).thenReturn(1);
+        // one of the dishes has no version yet
+        Mockito.when(catalogVersionRepository.incrementAll(Mockito.anyString())).thenReturn(2, 3);
+
+        catalogVersions.dishesChanged(restaurantId, dishIds);
+
+        Mockito.verify(catalogVersionRepository, Mockito.times(1)).increment("menu:" + restaurantId);
+        Mockito.verify(catalogVersionRepository, Mockito.never()).increment(Mockito.startsWith("dish:"));
+        Mockito.verify(catalogVersionRepository, Mockito.times(1)).createAllIfMissing(
+                "[\"dish:" + dishIds.get(0) + "\",\"dish:" + dishIds.get(1) + "\",\"dish:" + dishIds.get(2) + "\"]");
+        Mockito.verify(catalogVersionRepository, Mockito.times(2)).incrementAll(Mockito.anyString());
+    }
+}
@@ -0,0 +1,57 @@
+package com.fooddeliveryapp.RestaurantService.events;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.kafka.core.ConsumerFactory;
+
+public class TopicPartitionsTest {
+
+    private ConsumerFactory<Object, Object> consumerFactory;
+    private Consumer<Object, Object> consumer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        consumerFactory = Mockito.mock(ConsumerFactory.class);
+        consumer = Mockito.mock(Consumer.class);
+        Mockito.when(consumerFactory.createConsumer(Mockito.isNull(), Mockito.isNull(), Mockito.isNull(), Mockito.any()))
+                .thenReturn(consumer);
+    }
+
+    @DisplayName("Look Up Partitions - Retried Until The Broker Answers")
+    @Test
+    public void test_When_Broker_Unavailable_Lookup_Retried() {
+        Mockito.when(consumer.partitionsFor("order-topic"))
+                .thenThrow(new TimeoutException("broker unavailable"))
+                .thenReturn(List.of(partition(1), partition(0), partition(2)));
+
+        String[] partitions = new TopicPartitions(consumerFactory, Duration.ofSeconds(30)).of("order-topic");
+
+        assertArrayEquals(new String[] { "0", "1", "2" }, partitions);
+        Mockito.verify(consumer, Mockito.times(2)).partitionsFor("order-topic");
+    }
+
+    @DisplayName("Look Up Partitions - Start Fails After Timeout")
+    @Test
+    public void test_When_Partitions_Unknown_After_Timeout_Start_Fails() {
+        Mockito.when(consumer.partitionsFor("order-topic")).thenThrow(new TimeoutException("broker unavailable"));
+
+        TopicPartitions topicPartitions = new TopicPartitions(consumerFactory, Duration.ZERO);
+
+        assertThrows(IllegalStateException.class, () -> topicPartitions.of("order-topic"));
+    }
+
+    private static PartitionInfo partition(int partition) {
+        return new PartitionInfo("order-topic", partition, null, null, null);
+    }
+}
@@ -0,0 +1,118 @@
+package com.fooddeliveryapp.RestaurantService.geo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fooddeliveryapp.RestaurantService.caching.CatalogVersions;
+import com.fooddeliveryapp.RestaurantService.models.NearbyRestaurantResponse;
+import com.fooddeliveryapp.RestaurantService.models.RestaurantResponse;
+import com.fooddeliveryapp.RestaurantService.repositories.RestaurantRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class RestaurantGeoIndexTest {
+
+    // Alexanderplatz, Berlin
+    private static final double LATITUDE = 52.5219;
+    private static final double LONGITUDE = 13.4132;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private CatalogVersions catalogVersions;
+
+    @InjectMocks
+    private RestaurantGeoIndex restaurantGeoIndex;
+
+    @DisplayName("Find Nearby - Nearest First Within Radius")
+    @Test
+    public void test_When_Find_Nearby_Nearest_Within_Radius_Returned() {
+        RestaurantResponse brandenburgGate = restaurant("Brandenburg Gate", 52.5163, 13.3777);
+        RestaurantResponse alexanderplatz = restaurant("Alexanderplatz", 52.5215, 13.4110);
+        RestaurantResponse potsdam = restaurant("Potsdam", 52.3906, 13.0645);
+        restaurantGeoIndex.put(brandenburgGate);
+        restaurantGeoIndex.put(alexanderplatz);
+        restaurantGeoIndex.put(potsdam);
+        restaurantGeoIndex.put(restaurant("No Location", null, null));
+
+        List<NearbyRestaurantResponse> nearby = restaurantGeoIndex.findNearby(LATITUDE, LONGITUDE, 5000, 20);
+
+        assertEquals(List.of(alexanderplatz, brandenburgGate), nearby.stream().map(NearbyRestaurantResponse::getRestaurant).toList());
+        assertEquals(156, nearby.get(0).getDistanceMeters(), 2);
+        assertEquals(2481, nearby.get(1).getDistanceMeters(), 2);
+
+        assertEquals(List.of(alexanderplatz), restaurantGeoIndex.findNearby(LATITUDE, LONGITUDE, 50_000, 1).stream()
+                .map(NearbyRestaurantResponse::getRestaurant).toList());
+        assertEquals(3, restaurantGeoIndex.findNearby(LATITUDE, LONGITUDE, 50_000, 20).size());
+    }
+
+    @DisplayName("Find Nearby - Updated And Removed Restaurants")
+    @Test
+    public void test_When_Restaurant_Moved_Or_Removed_Index_Updated() {
+        RestaurantResponse restaurant = restaurant("Restaurant A", 52.5163, 13.3777);
+        restaurantGeoIndex.put(restaurant);
+
+        RestaurantResponse moved = restaurant(restaurant.getRestaurantId(), "Restaurant A", 48.1374, 11.5755);
+        restaurantGeoIndex.put(moved);
+
+        assertTrue(restaurantGeoIndex.findNearby(LATITUDE, LONGITUDE, 5000, 20).isEmpty());
+        assertEquals(moved, restaurantGeoIndex.findNearby(48.1371, 11.5754, 1000, 20).get(0).getRestaurant());
+
+        restaurantGeoIndex.remove(restaurant.getRestaurantId());
+
+        assertTrue(restaurantGeoIndex.findNearby(48.1371, 11.5754, 1000, 20).isEmpty());
+    }
+
+    @DisplayName("Find Nearby - Across The 180th Meridian")
+    @Test
+    public void test_When_Find_Nearby_Across_Antimeridian_Found() {
+        RestaurantResponse east = restaurant("East", -16.5, 179.99);
+        RestaurantResponse west = restaurant("West", -16.5, -179.99);
+        restaurantGeoIndex.put(east);
+        restaurantGeoIndex.put(west);
+
+        List<NearbyRestaurantResponse> nearby = restaurantGeoIndex.findNearby(-16.5, -179.999, 5000, 20);
+
+        assertEquals(List.of(west, east), nearby.stream().map(NearbyRestaurantResponse::getRestaurant).toList());
+    }
+
+    @DisplayName("Load - Reloaded Only When Restaurants Changed")
+    @Test
+    public void test_When_Refresh_Reloaded_Only_When_Version_Changed() {
+        RestaurantResponse restaurant = restaurant("Restaurant A", 52.5163, 13.3777);
+        Mockito.when(catalogVersions.restaurantsVersion()).thenReturn(7L);
+        Mockito.when(restaurantRepository.findAllLocated()).thenReturn(List.of(restaurant));
+
+        restaurantGeoIndex.load();
+        restaurantGeoIndex.refresh();
+
+        Mockito.verify(restaurantRepository, Mockito.times(1)).findAllLocated();
+        assertEquals(restaurant, restaurantGeoIndex.findNearby(LATITUDE, LONGITUDE, 5000, 20).get(0).getRestaurant());
+
+        Mockito.when(catalogVersions.restaurantsVersion()).thenReturn(8L);
+        Mockito.when(restaurantRepository.findAllLocated()).thenReturn(List.of());
+
+        restaurantGeoIndex.refresh();
+
+        Mockito.verify(restaurantRepository, Mockito.times(2)).findAllLocated();
+        assertTrue(restaurantGeoIndex.findNearby(LATITUDE, LONGITUDE, 5000, 20).isEmpty());
+    }
+
+    private static RestaurantResponse restaurant(String name, Double latitude, Double longitude) {
+        return restaurant(UUID.randomUUID(), name, latitude, longitude);
+    }
+
+    private static RestaurantResponse restaurant(UUID restaurantId, String name, Double latitude, Double longitude) {
+        return new RestaurantResponse(restaurantId, name, "123 Main Street", "123-456-7890", latitude, longitude);
+    }
+}
@@ -0,0 +1,109 @@
+package com.fooddeliveryapp.RestaurantService.mappers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import com.fooddeliveryapp.RestaurantService.entities.Dish;
+import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
+import com.fooddeliveryapp.RestaurantService.models.DishRequest;
+import com.fooddeliveryapp.RestaurantService.models.DishResponse;
+import com.fooddeliveryapp.RestaurantService.models.RestaurantRequest;
+import com.fooddeliveryapp.RestaurantService.models.RestaurantResponse;
+
+public class CatalogMappersTest {
+
+    private final RestaurantMapper restaurantMapper = new RestaurantMapperImpl();
+
+    private final DishMapper dishMapper = new DishMapperImpl();
+
+    @DisplayName("Catalog Models - Cover Every Entity Field")
+    @Test
+    public void test_When_Entity_Field_Added_Models_Cover_It() {
+        // a new entity field has to be added to the response and request models, or excluded here on purpose;
+        // the generated mappers then fail to compile until they map it
+        assertEquals(fieldsOf(Restaurant.class), fieldsOf(RestaurantResponse.class));
+        assertEquals(without(fieldsOf(Restaurant.class), "restaurantId"), fieldsOf(RestaurantRequest.class));
+
+        // the popularity rank is not stored with the dish, it is set from the order counts
+        assertEquals(without(fieldsOf(Dish.class), "restaurant"), without(fieldsOf(DishResponse.class), "popularityRank"));
+        assertEquals(without(fieldsOf(Dish.class), "restaurant", "dishId"), fieldsOf(DishRequest.class));
+    }
+
+    @DisplayName("Restaurant Mapper - Map Every Field")
+    @Test
+    public void test_When_Restaurant_Mapped_All_Fields_Copied() {
+        Restaurant restaurant = new Restaurant(UUID.randomUUID(), "Restaurant A", "123 Main Street", "123-456-7890", 52.52, 13.405);
+
+        RestaurantResponse restaurantResponse = restaurantMapper.toResponse(restaurant);
+
+        assertEquals(new RestaurantResponse(restaurant.getRestaurantId(), "Restaurant A", "123 Main Street", "123-456-7890", 52.52, 13.405),
+                restaurantResponse);
+
+        RestaurantRequest restaurantRequest = new RestaurantRequest("Restaurant B", "456 Another Street", "987-654-3210", 48.137, 11.575);
+        restaurantMapper.update(restaurantRequest, restaurant);
+        Restaurant newRestaurant = restaurantMapper.toEntity(restaurantRequest);
+
+        assertEquals(new Restaurant(restaurant.getRestaurantId(), "Restaurant B", "456 Another Street", "987-654-3210", 48.137, 11.575),
+                restaurant);
+        assertEquals(new Restaurant(null, "Restaurant B", "456 Another Street", "987-654-3210", 48.137, 11.575), newRestaurant);
+    }
+
+    @DisplayName("Restaurant Mapper - Update Without Location Keeps It")
+    @Test
+    public void test_When_Restaurant_Updated_Without_Location_Location_Kept() {
+        Restaurant restaurant = new Restaurant(UUID.randomUUID(), "Restaurant A", "123 Main Street", "123-456-7890", 52.52, 13.405);
+
+        restaurantMapper.update(new RestaurantRequest("Restaurant B", "456 Another Street", "987-654-3210", null, null), restaurant);
+
+        assertEquals(new Restaurant(restaurant.getRestaurantId(), "Restaurant B", "456 Another Street", "987-654-3210", 52.52, 13.405),
+                restaurant);
+    }
+
+    @DisplayName("Dish Mapper - Map Every Field")
+    @Test
+    public void test_When_Dish_Mapped_All_Fields_Copied() {
+        Restaurant restaurant = new Restaurant(UUID.randomUUID(), "Restaurant A", "123 Main Street", "123-456-7890", 52.52, 13.405);
+        Dish dish = new Dish(UUID.randomUUID(), restaurant, "Dish 1", 10.0, "Description 1", true);
+
+        List<DishResponse> dishResponses = dishMapper.toResponses(List.of(dish));
+
+        assertEquals(1, dishResponses.size());
+        DishResponse dishResponse = dishResponses.get(0);
+        assertEquals(dish.getDishId(), dishResponse.getDishId());
+        assertEquals("Dish 1", dishResponse.getName());
+        assertEquals(10.0, dishResponse.getPrice());
+        assertEquals("Description 1", dishResponse.getDescription());
+        assertTrue(dishResponse.getAvailability());
+        assertNull(dishResponse.getPopularityRank());
+
+        DishRequest dishRequest = new DishRequest("Dish 2", 12.5, "Description 2", false);
+        dishMapper.update(dishRequest, dish);
+        Dish newDish = dishMapper.toEntity(dishRequest);
+
+        assertEquals(new Dish(dish.getDishId(), restaurant, "Dish 2", 12.5, "Description 2", false), dish);
+        assertEquals(new Dish(null, null, "Dish 2", 12.5, "Description 2", false), newDish);
+    }
+
+    private static Set<String> fieldsOf(Class<?> type) {
+        return Arrays.stream(type.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> without(Set<String> fields, String... excluded) {
+        return fields.stream()
+                .filter(field -> !Arrays.asList(excluded).contains(field))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,89 @@
+package com.fooddeliveryapp.RestaurantService.popularity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+public class DishPopularityTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-01T12:00:00Z");
+
+    private final UUID restaurantId = UUID.randomUUID();
+    private final UUID pizza = UUID.randomUUID();
+    private final UUID pasta = UUID.randomUUID();
+    private final UUID salad = UUID.randomUUID();
+
+    @DisplayName("Ranking - Most Ordered Dishes First")
+    @Test
+    public void test_When_Dishes_Ordered_Most_Ordered_First() {
+        DishPopularity dishPopularity = new DishPopularity(Duration.ofDays(7));
+        dishPopularity.record(restaurantId, pizza, 5, NOW);
+        dishPopularity.record(restaurantId, pasta, 3, NOW);
+        dishPopularity.record(restaurantId, salad, 2, NOW);
+        dishPopularity.record(restaurantId, salad, 6, NOW);
+
+        DishRanking ranking = dishPopularity.ranking(restaurantId);
+        assertEquals(List.of(salad, pizza, pasta), ranking.dishIds());
+        assertSame(DishRanking.EMPTY, dishPopularity.ranking(UUID.randomUUID()));
+
+        // another instance that counted the same orders tags the ranking the same
+        DishPopularity other = new DishPopularity(Duration.ofDays(7));
+        other.record(restaurantId, pasta, 3, NOW);
+        other.record(restaurantId, salad, 8, NOW);
+        other.record(restaurantId, pizza, 5, NOW);
+        assertEquals(ranking, other.ranking(restaurantId));
+        assertNotEquals(DishRanking.EMPTY.tag(), ranking.tag());
+    }
+
+    @DisplayName("Ranking - Recent Orders Count More")
+    @Test
+    public void test_When_Orders_Age_Recent_Dishes_Overtake() {
+        DishPopularity dishPopularity = new DishPopularity(Duration.ofDays(1));
+        dishPopularity.record(restaurantId, pizza, 10, NOW);
+        // two half-lives later, 3 orders count 12 of the old ones
+        dishPopularity.record(restaurantId, pasta, 3, NOW.plus(Duration.ofDays(2)));
+        assertEquals(List.of(pasta, pizza), dishPopularity.ranking(restaurantId).dishIds());
+
+        // late events count by when they were ordered, not when they arrive
+        dishPopularity.record(restaurantId, pizza, 4, NOW.plus(Duration.ofDays(1)));
+        assertEquals(List.of(pizza, pasta), dishPopularity.ranking(restaurantId).dishIds());
+
+        // a year of orders, far more half-lives than a double can count forward
+        for (int day = 3; day < 365; day++) {
+            dishPopularity.record(restaurantId, salad, 1, NOW.plus(Duration.ofDays(day)));
+        }
+        assertEquals(salad, dishPopularity.ranking(restaurantId).dishIds().get(0));
+    }
+
+    @DisplayName("Ranking - More Dishes Than Counters")
+    @Test
+    public void test_When_More_Dishes_Than_Counters_Frequent_Dishes_Ranked() {
+        DishPopularity dishPopularity = new DishPopularity(Duration.ofDays(7));
+        for (int i = 0; i < 20 * DishPopularity.COUNTERS; i++) {
+            // one order of a dish nobody orders again, between orders of the two favourites
+            dishPopularity.record(restaurantId, UUID.randomUUID(), 1, NOW);
+            dishPopularity.record(restaurantId, i % 3 == 0 ? pasta : pizza, 1, NOW);
+        }
+
+        List<UUID> dishIds = dishPopularity.ranking(restaurantId).dishIds();
+        assertEquals(DishPopularity.RANKED_DISHES, dishIds.size());
+        assertEquals(List.of(pizza, pasta), dishIds.subList(0, 2));
+    }
+
+    @DisplayName("Remove - Restaurant Forgotten")
+    @Test
+    public void test_When_Remove_Restaurant_Ranking_Empty() {
+        DishPopularity dishPopularity = new DishPopularity(Duration.ofDays(7));
+        dishPopularity.record(restaurantId, pizza, 1, NOW);
+
+        dishPopularity.remove(restaurantId);
+
+        assertSame(DishRanking.EMPTY, dishPopularity.ranking(restaurantId));
+    }
+}
@@ -0,0 +1,120 @@
+package com.fooddeliveryapp.RestaurantService.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fooddeliveryapp.RestaurantService.entities.Dish;
+import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
+import com.fooddeliveryapp.RestaurantService.models.SearchHitType;
+import com.fooddeliveryapp.RestaurantService.models.SearchSuggestion;
+import com.fooddeliveryapp.RestaurantService.repositories.DishRepository;
+import com.fooddeliveryapp.RestaurantService.repositories.RestaurantRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogSearchIndexTest {
+
+    private static final Restaurant RESTAURANT = new Restaurant(UUID.randomUUID(), "Ramen House", "123 Main Street", "123-456-7890", null, null);
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private DishRepository dishRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @DisplayName("Search - Names Rank Above Descriptions")
+    @Test
+    public void test_When_Search_Name_Match_Ranked_First() {
+        Dish tonkotsu = dish("Tonkotsu Ramen", "Pork broth, noodles and a soft egg", true);
+        Dish gyoza = dish("Gyoza", "Dumplings, great with a bowl of ramen", true);
+        Dish curry = dish("Katsu Curry", "Breaded pork with rice", true);
+        catalogSearchIndex.putDishes(List.of(tonkotsu, gyoza, curry));
+
+        List<SearchMatch> matches = catalogSearchIndex.search("ramen", true, 20);
+
+        assertEquals(List.of(tonkotsu.getDishId(), gyoza.getDishId()), matches.stream().map(SearchMatch::id).toList());
+        assertTrue(matches.get(0).score() > matches.get(1).score());
+        assertEquals(RESTAURANT.getRestaurantId(), matches.get(0).restaurantId());
+    }
+
+    @DisplayName("Search - More Query Words Rank Higher, Plurals And Accents Match")
+    @Test
+    public void test_When_Search_Several_Words_Best_Match_First() {
+        Dish spicyRamen = dish("Spicy Miso Ramen", null, true);
+        Dish ramen = dish("Shoyu Ramen", null, true);
+        Dish crepes = dish("Crêpes", "With strawberries", true);
+        catalogSearchIndex.putDishes(List.of(ramen, spicyRamen, crepes));
+
+        assertEquals(List.of(spicyRamen.getDishId(), ramen.getDishId()),
+                catalogSearchIndex.search("spicy ramen", true, 20).stream().map(SearchMatch::id).toList());
+        assertEquals(List.of(spicyRamen.getDishId()), catalogSearchIndex.search("spicy ramen", true, 1).stream().map(SearchMatch::id).toList());
+        assertEquals(List.of(crepes.getDishId()), catalogSearchIndex.search("crepe with a strawberry", true, 20).stream().map(SearchMatch::id).toList());
+        assertTrue(catalogSearchIndex.search("the and of", true, 20).isEmpty());
+    }
+
+    @DisplayName("Search - Unavailable, Updated And Removed Dishes")
+    @Test
+    public void test_When_Dish_Changed_Search_Updated() {
+        Dish ramen = dish("Shoyu Ramen", null, true);
+        catalogSearchIndex.putDishes(List.of(ramen));
+        catalogSearchIndex.putRestaurant(RESTAURANT.getRestaurantId(), RESTAURANT.getName());
+
+        catalogSearchIndex.setAvailability(Map.of(ramen.getDishId(), false));
+
+        assertEquals(List.of(SearchHitType.RESTAURANT), catalogSearchIndex.search("ramen", true, 20).stream().map(SearchMatch::type).toList());
+        assertEquals(2, catalogSearchIndex.search("ramen", false, 20).size());
+
+        ramen.setName("Shoyu Udon");
+        ramen.setAvailability(true);
+        catalogSearchIndex.putDishes(List.of(ramen));
+
+        assertEquals(List.of(ramen.getDishId()), catalogSearchIndex.search("udon", true, 20).stream().map(SearchMatch::id).toList());
+        assertEquals(List.of(SearchHitType.RESTAURANT), catalogSearchIndex.search("ramen", true, 20).stream().map(SearchMatch::type).toList());
+
+        catalogSearchIndex.remove(ramen.getDishId());
+
+        assertTrue(catalogSearchIndex.search("udon", false, 20).isEmpty());
+    }
+
+    @DisplayName("Rebuild - Replaced By The Database Contents")
+    @Test
+    public void test_When_Rebuild_Index_Replaced() {
+        Dish stale = dish("Shoyu Ramen", null, true);
+        catalogSearchIndex.putDishes(List.of(stale));
+        UUID dishId = UUID.randomUUID();
+        Mockito.when(restaurantRepository.streamSearchDocuments())
+                .thenReturn(Stream.of(new SearchDocument(RESTAURANT.getRestaurantId(), RESTAURANT.getName())));
+        Mockito.when(dishRepository.streamSearchDocuments())
+                .thenReturn(Stream.of(new SearchDocument(dishId, RESTAURANT.getRestaurantId(), "Miso Ramen", null, true)));
+
+        catalogSearchIndex.rebuild();
+
+        assertEquals(List.of(dishId, RESTAURANT.getRestaurantId()),
+                catalogSearchIndex.search("miso ramen", true, 20).stream().map(SearchMatch::id).toList());
+        assertTrue(catalogSearchIndex.search("shoyu", true, 20).isEmpty());
+        assertEquals(List.of(new SearchSuggestion("Miso Ramen", false)), catalogSearchIndex.suggest("mis", 5));
+        assertEquals(List.of("Miso Ramen", "Ramen House"), catalogSearchIndex.suggest("ram", 5).stream().map(SearchSuggestion::getText).toList());
+    }
+
+    private static Dish dish(String name, String description, boolean availability) {
+        return new Dish(UUID.randomUUID(), RESTAURANT, name, 9.5, description, availability);
+    }
+}
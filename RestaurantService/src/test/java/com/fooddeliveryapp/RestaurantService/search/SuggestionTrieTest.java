@@ -0,0 +1,64 @@
+package com.fooddeliveryapp.RestaurantService.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import com.fooddeliveryapp.RestaurantService.models.SearchSuggestion;
+
+public class SuggestionTrieTest {
+
+    @DisplayName("Suggest - Heaviest Completions First")
+    @Test
+    public void test_When_Suggest_Prefix_Heaviest_Names_First() {
+        SuggestionTrie trie = trie();
+
+        assertEquals(List.of("Margherita Pizza", "Margarita", "Marinara Pizza"), texts(trie.suggest("mar", 5)));
+        assertEquals(List.of("Margherita Pizza"), texts(trie.suggest("MARG", 1)));
+        assertEquals(List.of("Pizza Hut", "Margherita Pizza", "Marinara Pizza"), texts(trie.suggest("pizza", 5)));
+        assertEquals(List.of("Crème Brûlée"), texts(trie.suggest("creme  b", 5)));
+        assertTrue(trie.suggest("sushi", 5).isEmpty());
+        assertTrue(trie.suggest("  ", 5).isEmpty());
+    }
+
+    @DisplayName("Suggest - Typos Corrected After Exact Matches")
+    @Test
+    public void test_When_Suggest_With_Typos_Corrected_Names_Returned() {
+        SuggestionTrie trie = trie();
+
+        List<SearchSuggestion> suggestions = trie.suggest("tonkostu", 5);
+        assertEquals(List.of(new SearchSuggestion("Tonkotsu Ramen", true)), suggestions);
+
+        assertEquals(List.of("Margherita Pizza"), texts(trie.suggest("margerita p", 5)));
+        assertEquals(List.of(new SearchSuggestion("Pizza Hut", false), new SearchSuggestion("Margherita Pizza", false),
+                new SearchSuggestion("Marinara Pizza", false)), trie.suggest("pizz", 5).subList(0, 3));
+        // too short to guess at
+        assertTrue(trie.suggest("xa", 5).isEmpty());
+    }
+
+    @DisplayName("Suggest - Empty Trie")
+    @Test
+    public void test_When_Suggest_Empty_Trie_Nothing_Returned() {
+        assertTrue(SuggestionTrie.EMPTY.suggest("pizza", 5).isEmpty());
+    }
+
+    private static SuggestionTrie trie() {
+        SuggestionTrie.Builder builder = new SuggestionTrie.Builder();
+        builder.add("Margherita Pizza", 5);
+        builder.add("margherita  pizza", 3);
+        builder.add("Marinara Pizza", 2);
+        builder.add("Margarita", 4);
+        builder.add("Pizza Hut", 10);
+        builder.add("Tonkotsu Ramen", 1);
+        builder.add("Crème Brûlée", 1);
+        builder.add(null, 1);
+        return builder.build();
+    }
+
+    private static List<String> texts(List<SearchSuggestion> suggestions) {
+        return suggestions.stream().map(SearchSuggestion::getText).toList();
+    }
+}
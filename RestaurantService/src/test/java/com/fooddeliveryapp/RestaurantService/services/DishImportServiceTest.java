@@ -0,0 +1,158 @@
+package com.fooddeliveryapp.RestaurantService.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fooddeliveryapp.RestaurantService.caching.CatalogVersions;
+import com.fooddeliveryapp.RestaurantService.entities.Dish;
+import com.fooddeliveryapp.RestaurantService.exceptions.InvalidDishImportException;
+import com.fooddeliveryapp.RestaurantService.imports.DishImportFormat;
+import com.fooddeliveryapp.RestaurantService.imports.DishImportTracker;
+import com.fooddeliveryapp.RestaurantService.mappers.DishMapper;
+import com.fooddeliveryapp.RestaurantService.mappers.DishMapperImpl;
+import com.fooddeliveryapp.RestaurantService.models.DishImportReport;
+import com.fooddeliveryapp.RestaurantService.repositories.DishBatchRepository;
+import com.fooddeliveryapp.RestaurantService.repositories.RestaurantRepository;
+import com.fooddeliveryapp.RestaurantService.search.CatalogSearchIndex;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+@ExtendWith(MockitoExtension.class)
+public class DishImportServiceTest {
+
+    @Mock
+    private DishBatchRepository dishBatchRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private CatalogVersions catalogVersions;
+
+    @Mock
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @Spy
+    private DishMapper dishMapper = new DishMapperImpl();
+
+    @Spy
+    private DishImportTracker dishImportTracker = new DishImportTracker();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private DishImportService dishImportService = new DishImportService();
+
+    @DisplayName("Import Dishes - CSV Success Scenario")
+    @Test
+    public void test_When_Import_Csv_Valid_Rows_Imported_Invalid_Rows_Reported() {
+        UUID restaurantId = UUID.randomUUID();
+        UUID unknownRestaurantId = UUID.randomUUID();
+        String csv = "name,restaurantId,price,availability,description\r\n"
+                + "Soup," + restaurantId + ",4.5,true,\"Hot, \"\"fresh\"\" soup\"\r\n"
+                + "Pasta," + restaurantId + ",abc,true,\n"
+                + "," + restaurantId + ",3,true,\n"
+                + "\n"
+                + "Salad," + unknownRestaurantId + ",5,false,\n"
+                + "Cake," + restaurantId + ",3.5,FALSE,\n";
+
+        Mockito.when(restaurantRepository.findExistingIds(Set.of(restaurantId, unknownRestaurantId))).thenReturn(List.of(restaurantId));
+
+        DishImportReport report = dishImportService.importDishes(null, DishImportFormat.CSV, body(csv));
+
+        assertEquals("COMPLETED", report.getStatus());
+        assertEquals(5, report.getRowsRead());
+        assertEquals(2, report.getRowsImported());
+        assertEquals(3, report.getRowsRejected());
+        assertEquals(List.of(3L, 4L, 6L), report.getErrors().stream().map(error -> error.getLine()).toList());
+        assertEquals("Invalid price: abc", report.getErrors().get(0).getMessage());
+        assertEquals("Dish name is required.", report.getErrors().get(1).getMessage());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Dish>> dishes = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(dishBatchRepository, Mockito.times(1)).insertAll(dishes.capture());
+        assertEquals(2, dishes.getValue().size());
+        assertEquals("Hot, \"fresh\" soup", dishes.getValue().get(0).getDescription());
+        assertEquals(restaurantId, dishes.getValue().get(0).getRestaurant().getRestaurantId());
+        assertNotNull(dishes.getValue().get(0).getDishId());
+        assertFalse(dishes.getValue().get(1).getAvailability());
+        Mockito.verify(catalogVersions, Mockito.times(1)).menusChanged(Set.of(restaurantId));
+    }
+
+    @DisplayName("Import Dishes - NDJSON Written In Batches")
+    @Test
+    public void test_When_Import_Ndjson_Rows_Written_In_Batches() {
+        UUID restaurantId = UUID.randomUUID();
+        UUID importId = UUID.randomUUID();
+        StringBuilder ndjson = new StringBuilder();
+        int rows = DishImportService.BATCH_SIZE * 2 + 500;
+        for (int i = 0; i < rows; i++) {
+            ndjson.append("{\"restaurantId\":\"").append(restaurantId).append("\",\"name\":\"Dish ").append(i)
+                    .append("\",\"price\":9.5,\"availability\":true}\n");
+        }
+        ndjson.append("not json\n");
+
+        Mockito.when(restaurantRepository.findExistingIds(Set.of(restaurantId))).thenReturn(List.of(restaurantId));
+
+        DishImportReport report = dishImportService.importDishes(importId, DishImportFormat.NDJSON, body(ndjson.toString()));
+
+        assertEquals(importId, report.getImportId());
+        assertEquals(rows, report.getRowsImported());
+        assertEquals(1, report.getRowsRejected());
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Invalid JSON"));
+        Mockito.verify(dishBatchRepository, Mockito.times(3)).insertAll(Mockito.anyList());
+        Mockito.verify(catalogVersions, Mockito.times(3)).menusChanged(Set.of(restaurantId));
+        // the restaurant is looked up once per import, not once per batch
+        Mockito.verify(restaurantRepository, Mockito.times(1)).findExistingIds(Mockito.anyCollection());
+        assertEquals("COMPLETED", dishImportService.getImport(importId).getStatus());
+    }
+
+    @DisplayName("Import Dishes - Invalid CSV Header Failure Scenario")
+    @Test
+    public void test_When_Import_Csv_Header_Missing_Column_Fail() {
+        UUID importId = UUID.randomUUID();
+
+        assertThrows(InvalidDishImportException.class,
+                () -> dishImportService.importDishes(importId, DishImportFormat.CSV, body("name,price,availability\nSoup,4.5,true\n")));
+
+        assertEquals("FAILED", dishImportService.getImport(importId).getStatus());
+        Mockito.verify(dishBatchRepository, Mockito.never()).insertAll(Mockito.anyList());
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,25 +5,40 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.runner.RunWith;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.fooddeliveryapp.RestaurantService.caching.CatalogVersions;
+import com.fooddeliveryapp.RestaurantService.caching.MenuCache;
 import com.fooddeliveryapp.RestaurantService.entities.Dish;
 import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
 import com.fooddeliveryapp.RestaurantService.exceptions.DishNotFoundException;
+import com.fooddeliveryapp.RestaurantService.exceptions.InvalidDishUpdateException;
+import com.fooddeliveryapp.RestaurantService.mappers.DishMapper;
+import com.fooddeliveryapp.RestaurantService.mappers.DishMapperImpl;
+import com.fooddeliveryapp.RestaurantService.models.DishPatchRequest;
 import com.fooddeliveryapp.RestaurantService.models.DishRequest;
 import com.fooddeliveryapp.RestaurantService.models.DishResponse;
+import com.fooddeliveryapp.RestaurantService.popularity.DishPopularity;
+import com.fooddeliveryapp.RestaurantService.popularity.DishRanking;
 import com.fooddeliveryapp.RestaurantService.repositories.DishRepository;
 import com.fooddeliveryapp.RestaurantService.repositories.RestaurantRepository;
+import com.fooddeliveryapp.RestaurantService.search.CatalogSearchIndex;
 
-@RunWith(MockitoJUnitRunner.class)
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
 public class DishServiceTest {
 
     @Mock
@@ -32,6 +47,24 @@ public class DishServiceTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private CatalogVersions catalogVersions;
+
+    @Mock
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @Mock
+    private DishPopularity dishPopularity;
+
+    @Spy
+    private MenuCache menuCache = new MenuCache(16, new SimpleMeterRegistry());
+
+    @Spy
+    private DishMapper dishMapper = new DishMapperImpl();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private DishService dishService = new DishService();
 
@@ -43,15 +76,24 @@ public class DishServiceTest {
     	List<Dish> dishes = prepareMockData(restaurantId);
 
         Mockito.when(dishRepository.findByRestaurant_RestaurantId(restaurantId)).thenReturn(dishes);
+        // the most ordered dish has been deleted since, so the second dish on the menu is ranked first
+        Mockito.when(dishPopularity.ranking(restaurantId)).thenReturn(
+        		new DishRanking(List.of(UUID.randomUUID(), dishes.get(1).getDishId()), "1"));
 
-        List<DishResponse> dishResponses = dishService.getAllDishesForRestaurant(restaurantId);
+        List<DishResponse> dishResponses = dishService.getAllDishesForRestaurant(restaurantId, 3L);
+        // the same menu version is served from the cache, and every request ranks its own copies
+        List<DishResponse> cachedResponses = dishService.getAllDishesForRestaurant(restaurantId, 3L);
 
         Mockito.verify(dishRepository, Mockito.times(1)).findByRestaurant_RestaurantId(restaurantId);
+        assertEquals(dishResponses, cachedResponses);
+        assertNotSame(dishResponses.get(1), cachedResponses.get(1));
 
         assertNotNull(dishResponses);
         assertEquals(2, dishResponses.size());
         assertEquals("Dish 1", dishResponses.get(0).getName());
         assertEquals("Dish 2", dishResponses.get(1).getName());
+        assertNull(dishResponses.get(0).getPopularityRank());
+        assertEquals(1, dishResponses.get(1).getPopularityRank());
     }
 
     @DisplayName("Get Dish by ID - Success Scenario")
@@ -63,7 +105,7 @@ public class DishServiceTest {
         	    UUID.randomUUID(),  
         	    "Restaurant A",     
         	    "123 Main Street",  
-        	    "123-456-7890"      
+        	    "123-456-7890", null, null      
         	);
         
         Dish dish = new Dish(dishId, restaurant, "Dish 1", 10.0, "Delicious dish 1", true);
@@ -98,7 +140,7 @@ public class DishServiceTest {
     public void test_When_Add_Dish_ToRestaurant_Success() {
         UUID restaurantId = UUID.randomUUID();
         DishRequest dishRequest = new DishRequest("Dish 1", 10.0, "Delicious dish 1", true);
-        Restaurant restaurant = new Restaurant(restaurantId, "Restaurant A", "123 Main Street", "123-456-7890");
+        Restaurant restaurant = new Restaurant(restaurantId, "Restaurant A", "123 Main Street", "123-456-7890", null, null);
 
         Dish savedDish = Dish.builder()
                 .dishId(UUID.randomUUID())
@@ -128,7 +170,7 @@ public class DishServiceTest {
         
         DishRequest dishUpdateRequest = new DishRequest("Updated Dish", 15.0, "Updated description", false);
 
-        Restaurant restaurant = new Restaurant(restaurantId, "Restaurant A", "123 Main Street", "123-456-7890");
+        Restaurant restaurant = new Restaurant(restaurantId, "Restaurant A", "123 Main Street", "123-456-7890", null, null);
         
         Dish existingDish = Dish.builder()
                 .dishId(dishId)
@@ -153,14 +195,73 @@ public class DishServiceTest {
         Mockito.verify(restaurantRepository).findById(restaurantId);
         Mockito.verify(dishRepository).findById(dishId);
         Mockito.verify(dishRepository).save(Mockito.any(Dish.class));
+        Mockito.verify(catalogVersions).dishChanged(restaurantId, dishId);
     }
     
+    @DisplayName("Update Dishes - Success Scenario")
+    @Test
+    public void test_When_Update_Dishes_Successful() {
+        UUID restaurantId = UUID.randomUUID();
+        UUID firstDishId = UUID.randomUUID();
+        UUID secondDishId = UUID.randomUUID();
+        List<DishPatchRequest> dishPatchRequests = List.of(
+                DishPatchRequest.builder().dishId(firstDishId).availability(false).build(),
+                DishPatchRequest.builder().dishId(secondDishId).availability(false).price(9.5).build());
+
+        Mockito.when(restaurantRepository.existsById(restaurantId)).thenReturn(true);
+        Mockito.when(dishRepository.updateAvailability(Mockito.eq(restaurantId.toString()), Mockito.anyString())).thenReturn(2);
+        Mockito.when(dishRepository.updatePrices(Mockito.eq(restaurantId.toString()), Mockito.anyString())).thenReturn(1);
+
+        dishService.updateDishes(restaurantId, dishPatchRequests);
+
+        // one statement per changed field, whatever the number of dishes
+        Mockito.verify(dishRepository, Mockito.times(1)).updateAvailability(Mockito.eq(restaurantId.toString()),
+                Mockito.contains(firstDishId.toString()));
+        Mockito.verify(dishRepository, Mockito.times(1)).updatePrices(Mockito.eq(restaurantId.toString()),
+                Mockito.argThat(changes -> changes.contains(secondDishId.toString()) && !changes.contains(firstDishId.toString())));
+        Mockito.verify(dishRepository, Mockito.never()).findById(Mockito.any());
+        Mockito.verify(dishRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(catalogVersions, Mockito.times(1)).dishesChanged(restaurantId, Set.of(firstDishId, secondDishId));
+    }
+
+    @DisplayName("Update Dishes - Dish Not Found Failure Scenario")
+    @Test
+    public void test_When_Update_Dishes_Fail_Dish_Not_Found() {
+        UUID restaurantId = UUID.randomUUID();
+        List<DishPatchRequest> dishPatchRequests = List.of(
+                DishPatchRequest.builder().dishId(UUID.randomUUID()).price(9.5).build(),
+                DishPatchRequest.builder().dishId(UUID.randomUUID()).price(11.0).build());
+
+        Mockito.when(restaurantRepository.existsById(restaurantId)).thenReturn(true);
+        Mockito.when(dishRepository.updatePrices(Mockito.eq(restaurantId.toString()), Mockito.anyString())).thenReturn(1);
+
+        assertThrows(DishNotFoundException.class, () -> dishService.updateDishes(restaurantId, dishPatchRequests));
+
+        Mockito.verify(catalogVersions, Mockito.never()).dishesChanged(Mockito.any(), Mockito.any());
+    }
+
+    @DisplayName("Update Dishes - Duplicate Dish Failure Scenario")
+    @Test
+    public void test_When_Update_Dishes_Fail_Duplicate_Dish() {
+        UUID restaurantId = UUID.randomUUID();
+        UUID dishId = UUID.randomUUID();
+        List<DishPatchRequest> dishPatchRequests = List.of(
+                DishPatchRequest.builder().dishId(dishId).availability(false).build(),
+                DishPatchRequest.builder().dishId(dishId).price(11.0).build());
+
+        Mockito.when(restaurantRepository.existsById(restaurantId)).thenReturn(true);
+
+        assertThrows(InvalidDishUpdateException.class, () -> dishService.updateDishes(restaurantId, dishPatchRequests));
+
+        Mockito.verify(dishRepository, Mockito.never()).updateAvailability(Mockito.anyString(), Mockito.anyString());
+    }
+
     private List<Dish> prepareMockData(UUID restaurantId) {
         Restaurant restaurant = new Restaurant(
             restaurantId, 
             "Restaurant A",     
             "123 Main Street", 
-            "123-456-7890"      
+            "123-456-7890", null, null      
         );
 
         Dish dish1 = new Dish(
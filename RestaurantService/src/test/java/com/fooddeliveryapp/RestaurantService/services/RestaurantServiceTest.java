@@ -7,51 +7,105 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
-import org.junit.runner.RunWith;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import com.fooddeliveryapp.RestaurantService.caching.CatalogVersions;
 import com.fooddeliveryapp.RestaurantService.entities.Restaurant;
+import com.fooddeliveryapp.RestaurantService.exceptions.InvalidPageRequestException;
 import com.fooddeliveryapp.RestaurantService.exceptions.RestaurantNotFoundException;
+import com.fooddeliveryapp.RestaurantService.geo.RestaurantGeoIndex;
+import com.fooddeliveryapp.RestaurantService.mappers.RestaurantMapper;
+import com.fooddeliveryapp.RestaurantService.mappers.RestaurantMapperImpl;
+import com.fooddeliveryapp.RestaurantService.models.RestaurantPageResponse;
 import com.fooddeliveryapp.RestaurantService.models.RestaurantRequest;
 import com.fooddeliveryapp.RestaurantService.models.RestaurantResponse;
+import com.fooddeliveryapp.RestaurantService.popularity.DishPopularity;
 import com.fooddeliveryapp.RestaurantService.repositories.RestaurantRepository;
+import com.fooddeliveryapp.RestaurantService.search.CatalogSearchIndex;
 
-@RunWith(MockitoJUnitRunner.class)
+@ExtendWith(MockitoExtension.class)
 public class RestaurantServiceTest {
 
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private CatalogVersions catalogVersions;
+
+    @Mock
+    private CatalogSearchIndex catalogSearchIndex;
+
+    @Mock
+    private RestaurantGeoIndex restaurantGeoIndex;
+
+    @Mock
+    private DishPopularity dishPopularity;
+
+    @Spy
+    private RestaurantMapper restaurantMapper = new RestaurantMapperImpl();
+
     @InjectMocks
     private RestaurantService restaurantService = new RestaurantService();
 
-    @DisplayName("Get All Restaurants - Success Scenario")
+    @DisplayName("Get Restaurants - First Page Success Scenario")
     @Test
-    public void test_When_Get_All_Restaurants_Success() {
-        List<Restaurant> restaurants = prepareMockRestaurants();
+    public void test_When_Get_Restaurants_First_Page_Success() {
+        List<RestaurantResponse> restaurants = prepareMockRestaurantResponses();
 
-        Mockito.when(restaurantRepository.findAll()).thenReturn(restaurants);
+        Mockito.when(restaurantRepository.findPageByName(Mockito.eq("Rest%"), Mockito.any(Limit.class))).thenReturn(restaurants);
 
-        List<RestaurantResponse> restaurantResponses = restaurantService.getAllRestaurants();
+        RestaurantPageResponse restaurantPage = restaurantService.getRestaurants("Rest", "name", null, 2);
 
-        Mockito.verify(restaurantRepository, Mockito.times(1)).findAll();
+        // one more than the page size is fetched to tell whether there is a next page
+        Mockito.verify(restaurantRepository, Mockito.times(1)).findPageByName("Rest%", Limit.of(3));
+        Mockito.verify(restaurantRepository, Mockito.never()).findAll();
 
-        assertNotNull(restaurantResponses);
-        assertEquals(2, restaurantResponses.size());
-        assertEquals("Restaurant A", restaurantResponses.get(0).getName());
-        assertEquals("Restaurant B", restaurantResponses.get(1).getName());
+        assertNotNull(restaurantPage);
+        assertEquals(2, restaurantPage.getRestaurants().size());
+        assertEquals("Restaurant A", restaurantPage.getRestaurants().get(0).getName());
+        assertEquals("Restaurant B", restaurantPage.getRestaurants().get(1).getName());
+        assertNotNull(restaurantPage.getNextCursor());
+    }
+
+    @DisplayName("Get Restaurants - Next Page Success Scenario")
+    @Test
+    public void test_When_Get_Restaurants_Next_Page_Success() {
+        List<RestaurantResponse> restaurants = prepareMockRestaurantResponses();
+        RestaurantResponse last = restaurants.get(1);
+
+        Mockito.when(restaurantRepository.findPageByName(Mockito.anyString(), Mockito.any(Limit.class))).thenReturn(restaurants);
+        String cursor = restaurantService.getRestaurants(null, "name", null, 2).getNextCursor();
+
+        Mockito.when(restaurantRepository.findPageByNameAfter(Mockito.anyString(), Mockito.anyString(), Mockito.any(UUID.class), Mockito.any(Limit.class)))
+                .thenReturn(List.of(restaurants.get(2)));
+        RestaurantPageResponse restaurantPage = restaurantService.getRestaurants(null, "name", cursor, 2);
+
+        Mockito.verify(restaurantRepository, Mockito.times(1)).findPageByNameAfter("%", last.getName(), last.getRestaurantId(), Limit.of(3));
+
+        assertEquals(1, restaurantPage.getRestaurants().size());
+        assertNull(restaurantPage.getNextCursor());
+    }
+
+    @DisplayName("Get Restaurants - Invalid Cursor Failure Scenario")
+    @Test
+    public void test_When_Get_Restaurants_Invalid_Cursor_Fail() {
+        assertThrows(InvalidPageRequestException.class, () -> restaurantService.getRestaurants(null, "name", "not-a-cursor", 20));
+        assertThrows(InvalidPageRequestException.class, () -> restaurantService.getRestaurants(null, "address", null, 20));
     }
 
     @DisplayName("Get Restaurant by ID - Success Scenario")
     @Test
     public void test_When_Get_Restaurant_By_Id_Success() {
         UUID restaurantId = UUID.randomUUID();
-        Restaurant restaurant = new Restaurant(restaurantId, "Restaurant A", "123 Main Street", "123-456-7890");
+        Restaurant restaurant = new Restaurant(restaurantId, "Restaurant A", "123 Main Street", "123-456-7890", null, null);
 
         Mockito.when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurant));
 
@@ -80,7 +134,7 @@ public class RestaurantServiceTest {
     @DisplayName("Add Restaurant - Success Scenario")
     @Test
     public void test_When_Add_Restaurant_Success() {
-        RestaurantRequest restaurantRequest = new RestaurantRequest("Restaurant A", "123 Main Street", "123-456-7890");
+        RestaurantRequest restaurantRequest = new RestaurantRequest("Restaurant A", "123 Main Street", "123-456-7890", null, null);
         Restaurant restaurant = Restaurant.builder()
                 .restaurantId(UUID.randomUUID())
                 .name(restaurantRequest.getName())
@@ -101,8 +155,8 @@ public class RestaurantServiceTest {
     @Test
     public void test_When_Update_Restaurant_Success() {
         UUID restaurantId = UUID.randomUUID();
-        RestaurantRequest restaurantRequest = new RestaurantRequest("Updated Restaurant", "456 Another Street", "987-654-3210");
-        Restaurant existingRestaurant = new Restaurant(restaurantId, "Restaurant A", "123 Main Street", "123-456-7890");
+        RestaurantRequest restaurantRequest = new RestaurantRequest("Updated Restaurant", "456 Another Street", "987-654-3210", 52.52, 13.405);
+        Restaurant existingRestaurant = new Restaurant(restaurantId, "Restaurant A", "123 Main Street", "123-456-7890", null, null);
 
         Mockito.when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(existingRestaurant));
         Mockito.when(restaurantRepository.save(Mockito.any(Restaurant.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -113,9 +167,14 @@ public class RestaurantServiceTest {
         assertEquals("Updated Restaurant", restaurantResponse.getName());
         assertEquals("456 Another Street", restaurantResponse.getAddress());
         assertEquals("987-654-3210", restaurantResponse.getPhoneNumber());
+        assertEquals(52.52, restaurantResponse.getLatitude());
+        assertEquals(13.405, restaurantResponse.getLongitude());
 
         Mockito.verify(restaurantRepository, Mockito.times(1)).findById(restaurantId);
         Mockito.verify(restaurantRepository, Mockito.times(1)).save(Mockito.any(Restaurant.class));
+        Mockito.verify(catalogVersions, Mockito.times(1)).restaurantChanged(restaurantId);
+        Mockito.verify(restaurantGeoIndex, Mockito.times(1)).put(restaurantResponse);
+        Mockito.verify(catalogSearchIndex, Mockito.times(1)).putRestaurant(restaurantId, "Updated Restaurant");
     }
 
     @DisplayName("Delete Restaurant - Success Scenario")
@@ -129,6 +188,10 @@ public class RestaurantServiceTest {
 
         Mockito.verify(restaurantRepository, Mockito.times(1)).existsById(restaurantId);
         Mockito.verify(restaurantRepository, Mockito.times(1)).deleteById(restaurantId);
+        Mockito.verify(catalogVersions, Mockito.times(1)).restaurantChanged(restaurantId);
+        Mockito.verify(restaurantGeoIndex, Mockito.times(1)).remove(restaurantId);
+        Mockito.verify(catalogSearchIndex, Mockito.times(1)).remove(restaurantId);
+        Mockito.verify(dishPopularity, Mockito.times(1)).remove(restaurantId);
     }
 
     @DisplayName("Delete Restaurant - Failure Scenario")
@@ -145,12 +208,15 @@ public class RestaurantServiceTest {
 
         Mockito.verify(restaurantRepository, Mockito.times(1)).existsById(restaurantId);
         Mockito.verify(restaurantRepository, Mockito.never()).deleteById(Mockito.any(UUID.class));
+        Mockito.verify(catalogVersions, Mockito.never()).restaurantChanged(Mockito.any(UUID.class));
+        Mockito.verify(restaurantGeoIndex, Mockito.never()).remove(Mockito.any(UUID.class));
     }
 
-    private List<Restaurant> prepareMockRestaurants() {
-        List<Restaurant> restaurants = new ArrayList<>();
-        restaurants.add(new Restaurant(UUID.randomUUID(), "Restaurant A", "123 Main Street", "123-456-7890"));
-        restaurants.add(new Restaurant(UUID.randomUUID(), "Restaurant B", "456 Another Street", "987-654-3210"));
+    private List<RestaurantResponse> prepareMockRestaurantResponses() {
+        List<RestaurantResponse> restaurants = new ArrayList<>();
+        restaurants.add(new RestaurantResponse(UUID.randomUUID(), "Restaurant A", "123 Main Street", "123-456-7890", null, null));
+        restaurants.add(new RestaurantResponse(UUID.randomUUID(), "Restaurant B", "456 Another Street", "987-654-3210", null, null));
+        restaurants.add(new RestaurantResponse(UUID.randomUUID(), "Restaurant C", "789 Third Street", "555-123-4567", null, null));
         return restaurants;
     }
 }